@@ -0,0 +1,74 @@
+package com.comp2042.benchmarks;
+
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic board fixtures shared by the benchmarks.
+ *
+ * <p>Boards are described by a {@code "<width>x<height>"} size string and a
+ * fill density in {@code [0, 1]}: the fraction of rows, counted from the
+ * bottom, that hold stacked cells. Every stacked row keeps exactly one hole so
+ * a fixture never starts with completed lines, and a few rows at the top are
+ * always left empty so pieces can still spawn.
+ */
+final class BoardFixtures {
+
+    /** Rows kept free at the top of every fixture so a spawn never collides. */
+    static final int SPAWN_ROWS = 5;
+
+    private static final long SEED = 2042L;
+
+    // We don't want to instantiate this utility class
+    private BoardFixtures() {
+    }
+
+    /** Width part of a {@code "<width>x<height>"} size string. */
+    static int width(String size) {
+        return Integer.parseInt(size.substring(0, size.indexOf('x')));
+    }
+
+    /** Height part of a {@code "<width>x<height>"} size string. */
+    static int height(String size) {
+        return Integer.parseInt(size.substring(size.indexOf('x') + 1));
+    }
+
+    /** Number of stacked rows a board of {@code height} gets at {@code fill}. */
+    static int stackedRows(int height, double fill) {
+        int rows = (int) Math.round(height * fill);
+        return Math.max(0, Math.min(rows, height - SPAWN_ROWS));
+    }
+
+    /**
+     * Build a {@code height x width} matrix whose bottom rows are stacked with
+     * colour codes 1..7, one hole per row.
+     */
+    static int[][] stacked(int width, int height, double fill) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        int[][] matrix = new int[height][width];
+        int rows = stackedRows(height, fill);
+        for (int i = height - rows; i < height; i++) {
+            int hole = random.nextInt(width);
+            for (int j = 0; j < width; j++) {
+                if (j != hole) matrix[i][j] = 1 + random.nextInt(7);
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Copy of {@code matrix} with the holes of the bottom {@code lines} stacked
+     * rows plugged, so {@code checkRemoving} has complete rows to clear.
+     */
+    static int[][] withCompleteLines(int[][] matrix, int lines) {
+        int[][] copy = new int[matrix.length][];
+        for (int i = 0; i < matrix.length; i++) copy[i] = matrix[i].clone();
+        for (int i = copy.length - 1, done = 0; i >= 0 && done < lines; i--) {
+            boolean stacked = false;
+            for (int v : copy[i]) if (v != 0) { stacked = true; break; }
+            if (!stacked) break;
+            for (int j = 0; j < copy[i].length; j++) if (copy[i][j] == 0) copy[i][j] = 8;
+            done++;
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,70 @@
+package com.comp2042.benchmarks;
+
+import com.comp2042.controller.cooperateBattle.coopController.CoopPlayerState;
+import com.comp2042.controller.cooperateBattle.coopController.CoopScore;
+import com.comp2042.controller.cooperateBattle.coopController.CoopTickHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One co-op gravity tick through {@link CoopTickHandler#processTick}.
+ *
+ * <p>The board itself is held fixed at the requested density: when a tick
+ * merges, both players respawn at the top of the unchanged fixture instead of
+ * keeping the merged board, so every measurement sees the same stack.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CoopTickBenchmark {
+
+    /** Co-op boards are wider than the single-player ones. */
+    @Param({"20x25", "20x40", "30x50"})
+    public String size;
+
+    @Param({"0.0", "0.3", "0.6"})
+    public double fill;
+
+    private int width;
+    private int[][] matrix;
+    private CoopPlayerState left;
+    private CoopPlayerState right;
+    private CoopScore score;
+
+    @Setup
+    public void setUp() {
+        width = BoardFixtures.width(size);
+        matrix = BoardFixtures.stacked(width, BoardFixtures.height(size), fill);
+        left = new CoopPlayerState();
+        right = new CoopPlayerState();
+        score = new CoopScore();
+        respawn();
+    }
+
+    private void respawn() {
+        int quarter = width / 4;
+        left.spawn(width, matrix, null, -quarter);
+        right.spawn(width, matrix, left, quarter);
+    }
+
+    @Benchmark
+    public CoopTickHandler.TickOutcome processTick() {
+        CoopTickHandler.TickOutcome outcome = CoopTickHandler.processTick(matrix, left, right, score, false);
+        if (outcome.merged) respawn();
+        return outcome;
+    }
+}
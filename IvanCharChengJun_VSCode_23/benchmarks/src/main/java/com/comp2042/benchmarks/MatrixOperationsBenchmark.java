@@ -0,0 +1,78 @@
+package com.comp2042.benchmarks;
+
+import com.comp2042.logic.BrickShape;
+import com.comp2042.logic.PieceTable;
+import com.comp2042.model.ClearRow;
+import com.comp2042.utils.MatrixOperations;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collision, merge and line-scan costs of {@link MatrixOperations} across
+ * board sizes and stack heights.
+ *
+ * <p>The probe piece is a T placed just above the stack, which is where
+ * collision checks are issued most often during play.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MatrixOperationsBenchmark {
+
+    @Param({"10x25", "10x40", "20x50"})
+    public String size;
+
+    @Param({"0.0", "0.3", "0.6"})
+    public double fill;
+
+    private int[][] matrix;
+    private int[][] withLines;
+    private int[][] shape;
+    private int x;
+    private int y;
+
+    @Setup
+    public void setUp() {
+        int width = BoardFixtures.width(size);
+        int height = BoardFixtures.height(size);
+        matrix = BoardFixtures.stacked(width, height, fill);
+        withLines = BoardFixtures.withCompleteLines(matrix, 2);
+        shape = PieceTable.get(BrickShape.T).matrix(0);
+        x = (width - shape[0].length) / 2;
+        y = Math.max(0, height - BoardFixtures.stackedRows(height, fill) - shape.length);
+    }
+
+    @Benchmark
+    public boolean intersect() {
+        return MatrixOperations.intersect(matrix, shape, x, y);
+    }
+
+    @Benchmark
+    public int[][] merge() {
+        return MatrixOperations.merge(matrix, shape, x, y);
+    }
+
+    @Benchmark
+    public ClearRow checkRemovingNoLines() {
+        return MatrixOperations.checkRemoving(matrix);
+    }
+
+    @Benchmark
+    public ClearRow checkRemovingWithLines() {
+        return MatrixOperations.checkRemoving(withLines);
+    }
+}
@@ -0,0 +1,76 @@
+package com.comp2042.benchmarks;
+
+import com.comp2042.logic.BagBrickGenerator;
+import com.comp2042.logic.Brick;
+import com.comp2042.logic.BrickGenerator;
+import com.comp2042.logic.RandomBrickGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Draw, preview and swap costs of {@link RandomBrickGenerator} against the
+ * ring-buffered {@link BagBrickGenerator}, including the periodic bag refill
+ * folded into {@code getBrick}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RandomBrickGeneratorBenchmark {
+
+    @Param({"RandomBrickGenerator", "BagBrickGenerator"})
+    public String generatorType;
+
+    /** How many upcoming bricks a preview asks for. */
+    @Param({"1", "3", "7"})
+    public int previewCount;
+
+    private BrickGenerator generator;
+    private Brick held;
+
+    @Setup
+    public void setUp() {
+        generator = "BagBrickGenerator".equals(generatorType)
+                ? new BagBrickGenerator(2042L)
+                : new RandomBrickGenerator(2042L);
+        held = generator.getBrick();
+    }
+
+    @Benchmark
+    public Brick getBrick() {
+        return generator.getBrick();
+    }
+
+    @Benchmark
+    public List<Brick> getUpcomingBricks() {
+        return generator.getUpcomingBricks(previewCount);
+    }
+
+    @Benchmark
+    public Brick peekBrick() {
+        return generator.peekBrick(previewCount - 1);
+    }
+
+    /** Swap the held brick with the queue head, as the hold/swap feature does. */
+    @Benchmark
+    public boolean replaceNext() {
+        Brick next = generator.getNextBrick();
+        boolean replaced = generator.replaceNext(held);
+        held = next;
+        return replaced;
+    }
+}
@@ -0,0 +1,96 @@
+package com.comp2042.benchmarks;
+
+import com.comp2042.logic.RandomBrickGenerator;
+import com.comp2042.model.BitBoard;
+import com.comp2042.model.Board;
+import com.comp2042.model.ClearRow;
+import com.comp2042.model.SimpleBoard;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Move, rotate and lock cycles on a {@link Board}, run against both
+ * {@link SimpleBoard} and {@link BitBoard} so the two stay comparable.
+ *
+ * <p>The stack is pre-filled with garbage rows to the requested density. The
+ * lock cycle lets the stack grow until a spawn collides, then starts a new game
+ * and re-fills it; that reset is amortised into the measured time.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimpleBoardBenchmark {
+
+    @Param({"SimpleBoard", "BitBoard"})
+    public String board;
+
+    @Param({"10x25", "10x40", "20x50"})
+    public String size;
+
+    @Param({"0.0", "0.3", "0.6"})
+    public double fill;
+
+    private Board target;
+    private int garbageRows;
+    private int holeColumn;
+
+    @Setup
+    public void setUp() {
+        int width = BoardFixtures.width(size);
+        int height = BoardFixtures.height(size);
+        target = "BitBoard".equals(board)
+                ? new BitBoard(width, height, new RandomBrickGenerator())
+                : new SimpleBoard(width, height, new RandomBrickGenerator());
+        garbageRows = BoardFixtures.stackedRows(height, fill);
+        holeColumn = width / 3;
+        restart();
+    }
+
+    private void restart() {
+        target.newGame();
+        target.addGarbageRows(garbageRows, holeColumn);
+    }
+
+    /** One left shift, one rotation and one right shift of the active piece. */
+    @Benchmark
+    public int moveAndRotate() {
+        int moved = 0;
+        if (target.moveBrickLeft()) moved++;
+        if (target.rotateLeftBrick()) moved++;
+        if (target.moveBrickRight()) moved++;
+        return moved;
+    }
+
+    /** A single gravity step; the piece is locked and respawned when it lands. */
+    @Benchmark
+    public boolean moveDown() {
+        if (target.moveBrickDown()) return true;
+        target.mergeBrickToBackground();
+        target.clearRows();
+        if (target.createNewBrick()) restart();
+        return false;
+    }
+
+    /** Drop, merge, clear and spawn: the full cost of locking one piece. */
+    @Benchmark
+    public ClearRow lockCycle() {
+        target.hardDrop();
+        ClearRow cleared = target.clearRows();
+        if (target.createNewBrick()) restart();
+        return cleared;
+    }
+}
@@ -0,0 +1,67 @@
+package com.comp2042.benchmarks;
+
+import com.comp2042.logic.BrickShape;
+import com.comp2042.logic.PieceTable;
+import com.comp2042.logic.RandomBrickGenerator;
+import com.comp2042.model.Board;
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.model.ViewData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of producing a {@link ViewData} snapshot: the copying public
+ * constructor against the shared-matrix snapshot a board hands out per frame.
+ * The board variant also pays for the landing-row lookup, so it is run over
+ * the usual sizes and stack densities.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ViewDataBenchmark {
+
+    @Param({"10x25", "10x40", "20x50"})
+    public String size;
+
+    @Param({"0.0", "0.3", "0.6"})
+    public double fill;
+
+    private int[][] shape;
+    private int[][] next;
+    private Board board;
+
+    @Setup
+    public void setUp() {
+        shape = PieceTable.get(BrickShape.T).matrix(0);
+        next = PieceTable.get(BrickShape.I).matrix(0);
+        int width = BoardFixtures.width(size);
+        int height = BoardFixtures.height(size);
+        board = new SimpleBoard(width, height, new RandomBrickGenerator());
+        board.newGame();
+        board.addGarbageRows(BoardFixtures.stackedRows(height, fill), width / 3);
+    }
+
+    @Benchmark
+    public ViewData copyingConstructor() {
+        return new ViewData(shape, 3, 2, next);
+    }
+
+    @Benchmark
+    public ViewData boardSnapshot() {
+        return board.getViewData();
+    }
+}
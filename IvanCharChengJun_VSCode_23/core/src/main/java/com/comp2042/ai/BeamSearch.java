@@ -0,0 +1,236 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.Brick;
+import com.comp2042.logic.BrickShape;
+import com.comp2042.logic.PieceTable;
+import com.comp2042.model.Board;
+import com.comp2042.model.ViewData;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Chooses a placement for the current piece by looking ahead through the
+ * preview queue.
+ *
+ * <p>Every reachable placement of the current piece becomes one
+ * {@link RecursiveTask} on the pool. Each task runs its own beam search over
+ * the preview pieces: at every depth all placements of the next piece are
+ * expanded from every board in the beam, scored by the {@link Evaluator},
+ * and only the best {@code beamWidth} boards are kept. A first placement is
+ * worth the best score its beam reaches. Ties go to the placement found
+ * first by {@link MoveGenerator}, so results do not depend on thread timing.
+ *
+ * <p>Without a pool the same tasks run one after another on the calling
+ * thread, which suits callers that already run one search per core (batch
+ * simulation, tournaments). Hold/swap is not considered. Instances are
+ * immutable and may be shared.
+ */
+public final class BeamSearch {
+    /** Deadline value meaning "search the full lookahead, however long it takes". */
+    public static final long NO_DEADLINE = Long.MIN_VALUE;
+
+    private static final Comparator<Node> BEST_FIRST = (a, b) -> Double.compare(b.score, a.score);
+
+    private final Evaluator evaluator;
+    private final int beamWidth;
+    private final int lookahead;
+    private final ForkJoinPool pool;
+
+    /**
+     * @param evaluator scores positions
+     * @param beamWidth boards kept per depth, at least 1
+     * @param lookahead preview pieces searched after the current one, at least 0
+     * @param pool      pool the per-placement tasks run on, or {@code null}
+     *                  to search on the calling thread
+     */
+    public BeamSearch(Evaluator evaluator, int beamWidth, int lookahead, ForkJoinPool pool) {
+        if (beamWidth < 1) throw new IllegalArgumentException("beamWidth must be at least 1");
+        if (lookahead < 0) throw new IllegalArgumentException("lookahead must not be negative");
+        this.evaluator = evaluator;
+        this.beamWidth = beamWidth;
+        this.lookahead = lookahead;
+        this.pool = pool;
+    }
+
+    /** Search on the common pool. */
+    public BeamSearch(Evaluator evaluator, int beamWidth, int lookahead) {
+        this(evaluator, beamWidth, lookahead, ForkJoinPool.commonPool());
+    }
+
+    /** @return preview pieces searched after the current one */
+    public int getLookahead() {
+        return lookahead;
+    }
+
+    /**
+     * Search from the live state of {@code board}: its background matrix,
+     * active piece position and preview queue. The board is only read.
+     *
+     * @return the best placement with its path from the piece's current
+     *         position, or {@code null} when the active piece is not a
+     *         standard piece or cannot be placed
+     */
+    public Placement findBest(Board board) {
+        return findBest(board, NO_DEADLINE);
+    }
+
+    /**
+     * Time-budgeted variant of {@link #findBest(Board)}; see
+     * {@link #findBest(SearchBoard, BrickShape, int, int, int, List, long)}.
+     */
+    public Placement findBest(Board board, long deadlineNanos) {
+        ViewData view = board.getViewData();
+        PieceTable.Piece piece = view.getPiece();
+        if (piece == null) return null;
+        List<BrickShape> preview = new ArrayList<>(lookahead);
+        for (Brick brick : board.getUpcomingBricks(lookahead)) {
+            BrickShape shape = brick.getBrickShape();
+            if (shape == null) break;
+            preview.add(shape);
+        }
+        return findBest(SearchBoard.of(board.getBoardMatrix()), piece.shape(),
+                view.getxPosition(), view.getyPosition(), view.getRotation(), preview, deadlineNanos);
+    }
+
+    /**
+     * Search from an explicit state.
+     *
+     * @param board    background without the active piece
+     * @param current  active piece
+     * @param x        active piece column offset
+     * @param y        active piece row offset
+     * @param rotation active piece rotation index
+     * @param preview  upcoming pieces; only the first {@link #getLookahead()} are used
+     * @return the best placement of {@code current}, or {@code null} when it has none
+     */
+    public Placement findBest(SearchBoard board, BrickShape current, int x, int y, int rotation,
+                              List<BrickShape> preview) {
+        return findBest(board, current, x, y, rotation, preview, NO_DEADLINE);
+    }
+
+    /**
+     * Search from an explicit state within a time budget. The search deepens
+     * one preview piece at a time, starting with the current piece alone,
+     * and answers with the deepest level that finished before
+     * {@code deadlineNanos} (a {@link System#nanoTime()} value). The current
+     * piece alone is always searched to completion, so a late deadline
+     * still yields a placement.
+     *
+     * @param deadlineNanos time to stop deepening, or {@link #NO_DEADLINE}
+     *                      to search the full lookahead once
+     * @return the best placement of {@code current}, or {@code null} when it has none
+     */
+    public Placement findBest(SearchBoard board, BrickShape current, int x, int y, int rotation,
+                              List<BrickShape> preview, long deadlineNanos) {
+        List<Placement> first = new MoveGenerator(board.getWidth(), board.getHeight())
+                .generate(board, current, x, y, rotation);
+        if (first.isEmpty()) return null;
+        int depth = Math.min(lookahead, preview.size());
+        if (deadlineNanos == NO_DEADLINE) return search(board, first, preview.subList(0, depth), NO_DEADLINE);
+
+        Placement best = search(board, first, Collections.emptyList(), NO_DEADLINE);
+        for (int d = 1; d <= depth && System.nanoTime() - deadlineNanos < 0; d++) {
+            Placement deeper = search(board, first, preview.subList(0, d), deadlineNanos);
+            if (deeper == null) break;
+            best = deeper;
+        }
+        return best;
+    }
+
+    // best first placement over the given preview, or null when the deadline cut the search short
+    private Placement search(SearchBoard board, List<Placement> first, List<BrickShape> queue, long deadlineNanos) {
+        List<PlacementTask> tasks = new ArrayList<>(first.size());
+        for (Placement placement : first) {
+            tasks.add(new PlacementTask(board, placement, queue, deadlineNanos));
+        }
+        if (pool == null) {
+            for (PlacementTask task : tasks) task.invoke();
+        } else {
+            pool.invoke(new RecursiveAction() {
+                @Override
+                protected void compute() {
+                    invokeAll(tasks);
+                }
+            });
+        }
+
+        Placement best = null;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (PlacementTask task : tasks) {
+            double score = task.join();
+            if (Double.isNaN(score)) return null;
+            if (best == null || score > bestScore) {
+                best = task.placement;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    private final class PlacementTask extends RecursiveTask<Double> {
+        private static final long serialVersionUID = 1L;
+
+        // fork/join tasks are never serialized
+        private final transient SearchBoard board;
+        private final transient Placement placement;
+        private final transient List<BrickShape> queue;
+        private final long deadlineNanos;
+
+        PlacementTask(SearchBoard board, Placement placement, List<BrickShape> queue, long deadlineNanos) {
+            this.board = board;
+            this.placement = placement;
+            this.queue = queue;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        // NaN when the deadline passed before the beam finished
+        @Override
+        protected Double compute() {
+            SearchBoard next = board.lock(placement.getShape(), placement.getRotation(),
+                    placement.getX(), placement.getY());
+            List<Node> beam = new ArrayList<>();
+            beam.add(new Node(next, next.getLinesCleared(), evaluator.evaluate(next, next.getLinesCleared())));
+            if (queue.isEmpty()) return beam.get(0).score;
+
+            MoveGenerator generator = new MoveGenerator(board.getWidth(), board.getHeight());
+            for (BrickShape shape : queue) {
+                List<Node> children = new ArrayList<>();
+                SearchPiece piece = SearchPiece.of(shape);
+                for (Node node : beam) {
+                    if (deadlineNanos != NO_DEADLINE && System.nanoTime() - deadlineNanos >= 0) return Double.NaN;
+                    int count = generator.generateStates(node.board, piece);
+                    for (int i = 0; i < count; i++) {
+                        int state = generator.resting[i];
+                        SearchBoard child = node.board.lock(piece, generator.stateRotation(state),
+                                generator.stateX(state), generator.stateY(state));
+                        int lines = node.lines + child.getLinesCleared();
+                        children.add(new Node(child, lines, evaluator.evaluate(child, lines)));
+                    }
+                }
+                // every line of play tops out
+                if (children.isEmpty()) return Double.NEGATIVE_INFINITY;
+                children.sort(BEST_FIRST);
+                beam = (children.size() > beamWidth) ? children.subList(0, beamWidth) : children;
+            }
+            return beam.get(0).score;
+        }
+    }
+
+    private static final class Node {
+        final SearchBoard board;
+        final int lines;
+        final double score;
+
+        Node(SearchBoard board, int lines, double score) {
+            this.board = board;
+            this.lines = lines;
+            this.score = score;
+        }
+    }
+}
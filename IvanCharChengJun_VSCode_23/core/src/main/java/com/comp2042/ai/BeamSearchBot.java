@@ -0,0 +1,36 @@
+package com.comp2042.ai;
+
+import com.comp2042.input.EventType;
+import com.comp2042.model.Board;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link Bot} that follows the path of the placement chosen by a
+ * {@link BeamSearch}.
+ */
+public final class BeamSearchBot implements Bot {
+    private final String name;
+    private final BeamSearch search;
+
+    /**
+     * @param name   name used in reports
+     * @param search search used for every piece
+     */
+    public BeamSearchBot(String name, BeamSearch search) {
+        this.name = name;
+        this.search = search;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public List<EventType> plan(Board board) {
+        Placement best = search.findBest(board);
+        return (best == null) ? Collections.emptyList() : best.getPath();
+    }
+}
@@ -0,0 +1,28 @@
+package com.comp2042.ai;
+
+import com.comp2042.input.EventType;
+import com.comp2042.model.Board;
+
+import java.util.List;
+
+/**
+ * A computer player. Once per piece the driver asks the bot for the moves to
+ * apply to the active piece, applies them, then locks the piece with a hard
+ * drop.
+ *
+ * <p>A bot instance plays one game at a time and need not be thread-safe;
+ * drivers that run games in parallel create one bot per game.
+ */
+public interface Bot {
+
+    /** @return short name used in reports */
+    String getName();
+
+    /**
+     * Decide how to place the active piece. The board must only be read.
+     *
+     * @return moves to apply before the hard drop; an empty list drops the
+     *         piece where it is
+     */
+    List<EventType> plan(Board board);
+}
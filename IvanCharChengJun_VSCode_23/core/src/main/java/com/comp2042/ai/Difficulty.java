@@ -0,0 +1,70 @@
+package com.comp2042.ai;
+
+/**
+ * Strength settings of a CPU opponent. Each level scales the time the bot
+ * may think about a piece, how far into the preview it looks, how quickly
+ * it enters moves, and how often it deliberately picks a random placement
+ * instead of the best one.
+ */
+public enum Difficulty {
+    /** Slow hands, no lookahead and frequent mistakes. */
+    EASY(15, 0, 2, 260, 0.25),
+
+    /** Looks one piece ahead and rarely slips. */
+    NORMAL(50, 1, 4, 130, 0.06),
+
+    /** Deep, quick and exact. */
+    HARD(150, 3, 8, 45, 0.0);
+
+    private final int thinkMillis;
+    private final int lookahead;
+    private final int beamWidth;
+    private final int inputIntervalMillis;
+    private final double mistakeRate;
+
+    Difficulty(int thinkMillis, int lookahead, int beamWidth, int inputIntervalMillis, double mistakeRate) {
+        this.thinkMillis = thinkMillis;
+        this.lookahead = lookahead;
+        this.beamWidth = beamWidth;
+        this.inputIntervalMillis = inputIntervalMillis;
+        this.mistakeRate = mistakeRate;
+    }
+
+    /** @return search time budget per piece in milliseconds */
+    public int getThinkMillis() {
+        return thinkMillis;
+    }
+
+    /** @return preview pieces the search may look at */
+    public int getLookahead() {
+        return lookahead;
+    }
+
+    /** @return beam width of the search */
+    public int getBeamWidth() {
+        return beamWidth;
+    }
+
+    /** @return delay between two inputs in milliseconds */
+    public int getInputIntervalMillis() {
+        return inputIntervalMillis;
+    }
+
+    /** @return probability of playing a random placement for a piece */
+    public double getMistakeRate() {
+        return mistakeRate;
+    }
+
+    /**
+     * Parse a difficulty from a case-insensitive name. Returns {@code null}
+     * for unknown or null inputs.
+     */
+    public static Difficulty fromName(String name) {
+        if (name == null) return null;
+        try {
+            return valueOf(name.trim().toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+}
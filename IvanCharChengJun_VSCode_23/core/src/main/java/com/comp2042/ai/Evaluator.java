@@ -0,0 +1,17 @@
+package com.comp2042.ai;
+
+/**
+ * Scores a board position reached by the search; higher is better.
+ * Implementations must be thread-safe because {@link BeamSearch} calls them
+ * from several worker threads at once.
+ */
+@FunctionalInterface
+public interface Evaluator {
+
+    /**
+     * @param board        position after locking the pieces searched so far
+     * @param linesCleared total rows cleared on the way to {@code board}
+     * @return the position's score
+     */
+    double evaluate(SearchBoard board, int linesCleared);
+}
@@ -0,0 +1,210 @@
+package com.comp2042.ai;
+
+import com.comp2042.input.EventType;
+import com.comp2042.logic.BrickShape;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Enumerates every final placement a piece can reach, by breadth-first
+ * search over (column, row, rotation) states.
+ *
+ * <p>Moves follow {@link com.comp2042.model.SimpleBoard}: one-cell shifts,
+ * one-row drops, and counter-clockwise rotation with the same wall-kick
+ * order. Because every reachable state is explored, the result includes
+ * tucks under overhangs and kicked spins that a straight drop cannot reach.
+ * A placement is any reachable state whose move down is blocked; each comes
+ * with the shortest input path to it.
+ *
+ * <p>An instance keeps scratch arrays sized for one board size and is not
+ * thread-safe; give each search thread its own.
+ */
+public final class MoveGenerator {
+    /** Row a freshly spawned piece starts at. */
+    public static final int SPAWN_Y = 2;
+
+    /** Same vertical kick order as {@code SimpleBoard}. */
+    private static final int[] KICK_DY = {0, -1, 1, -2};
+    // shapes can sit a few cells past the edges when their outer columns/rows are empty
+    private static final int PAD = 4;
+    private static final int MAX_ROTATIONS = 4;
+
+    private static final byte START = -1;
+    private static final EventType[] MOVES = {EventType.LEFT, EventType.RIGHT, EventType.DOWN, EventType.ROTATE};
+
+    private final int width;
+    private final int height;
+    private final int paddedWidth;
+    private final int paddedHeight;
+    private final int[] stamp;
+    private final int[] parent;
+    private final byte[] move;
+    private final int[] queue;
+    /** Resting states found by the last search, in breadth-first order. */
+    final int[] resting;
+    private int generation;
+
+    /**
+     * @param width  board width the generator will be used with
+     * @param height board height the generator will be used with
+     */
+    public MoveGenerator(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.paddedWidth = width + 2 * PAD;
+        this.paddedHeight = height + 2 * PAD;
+        int states = paddedWidth * paddedHeight * MAX_ROTATIONS;
+        this.stamp = new int[states];
+        this.parent = new int[states];
+        this.move = new byte[states];
+        this.queue = new int[states];
+        this.resting = new int[states];
+    }
+
+    /**
+     * Column a freshly spawned piece starts at, matching
+     * {@code SimpleBoard.createNewBrick()}.
+     */
+    public static int spawnX(BrickShape shape, int boardWidth) {
+        SearchPiece piece = SearchPiece.of(shape);
+        return Math.max(0, (boardWidth - piece.shapeWidth[0]) / 2);
+    }
+
+    /**
+     * Placements reachable by a freshly spawned piece.
+     *
+     * @return placements in breadth-first order; empty if the spawn collides
+     */
+    public List<Placement> generate(SearchBoard board, BrickShape shape) {
+        return generate(board, shape, spawnX(shape, board.getWidth()), SPAWN_Y, 0);
+    }
+
+    /**
+     * Placements reachable from the given piece state.
+     *
+     * @return placements in breadth-first order; empty if the start collides
+     */
+    public List<Placement> generate(SearchBoard board, BrickShape shape, int x, int y, int rotation) {
+        SearchPiece piece = SearchPiece.of(shape);
+        int count = search(board, piece, x, y, rotation);
+        List<Placement> placements = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) placements.add(placement(piece, resting[i]));
+        return placements;
+    }
+
+    /**
+     * Path-free variant for the inner loops of the search: runs the same
+     * breadth-first search from spawn and leaves the resting states in
+     * {@link #resting}, readable with {@link #stateX}, {@link #stateY} and
+     * {@link #stateRotation} until the next call.
+     *
+     * @return number of resting states
+     */
+    int generateStates(SearchBoard board, SearchPiece piece) {
+        return search(board, piece, Math.max(0, (width - piece.shapeWidth[0]) / 2), SPAWN_Y, 0);
+    }
+
+    private int search(SearchBoard board, SearchPiece piece, int x, int y, int rotation) {
+        if (board.getWidth() != width || board.getHeight() != height) {
+            throw new IllegalArgumentException("generator is sized for " + width + "x" + height);
+        }
+        int found = 0;
+        int rot = Math.floorMod(rotation, piece.rotations);
+        if (board.collides(piece, rot, x, y)) return 0;
+
+        if (++generation == 0) {
+            java.util.Arrays.fill(stamp, 0);
+            generation = 1;
+        }
+        int head = 0;
+        int tail = 0;
+        int start = index(x, y, rot);
+        visit(start, -1, START);
+        queue[tail++] = start;
+
+        while (head < tail) {
+            int state = queue[head++];
+            int sx = stateX(state);
+            int sy = stateY(state);
+            int sr = stateRotation(state);
+
+            // LEFT, RIGHT, DOWN
+            for (int m = 0; m < 3; m++) {
+                int nx = sx + (m == 0 ? -1 : m == 1 ? 1 : 0);
+                int ny = sy + (m == 2 ? 1 : 0);
+                if (board.collides(piece, sr, nx, ny)) {
+                    if (m == 2) resting[found++] = state;
+                    continue;
+                }
+                int next = index(nx, ny, sr);
+                if (stamp[next] != generation) {
+                    visit(next, state, (byte) m);
+                    queue[tail++] = next;
+                }
+            }
+
+            int next = rotate(board, piece, sx, sy, sr);
+            if (next >= 0 && stamp[next] != generation) {
+                visit(next, state, (byte) 3);
+                queue[tail++] = next;
+            }
+        }
+        return found;
+    }
+
+    // state reached by rotating, or -1 when every kick is blocked
+    private int rotate(SearchBoard board, SearchPiece piece, int x, int y, int rotation) {
+        if (piece.rotations < 2) return -1;
+        int next = (rotation + 1) % piece.rotations;
+        if (!board.collides(piece, next, x, y)) return index(x, y, next);
+        int shapeWidth = piece.shapeWidth[next];
+        int maxKick = Math.max(3, shapeWidth);
+        for (int dy : KICK_DY) {
+            for (int k = 1; k <= maxKick; k++) {
+                for (int dx = k; dx >= -k; dx -= 2 * k) {
+                    int tryX = x + dx;
+                    if (tryX < -shapeWidth || tryX > width + shapeWidth) continue;
+                    if (!board.collides(piece, next, tryX, y + dy)) return index(tryX, y + dy, next);
+                }
+            }
+        }
+        return -1;
+    }
+
+    private void visit(int state, int from, byte how) {
+        stamp[state] = generation;
+        parent[state] = from;
+        move[state] = how;
+    }
+
+    private Placement placement(SearchPiece piece, int state) {
+        int length = 0;
+        for (int s = state; move[s] != START; s = parent[s]) length++;
+        EventType[] path = new EventType[length];
+        int[] steps = new int[3 * length];
+        for (int s = state, i = length - 1; move[s] != START; s = parent[s], i--) {
+            path[i] = MOVES[move[s]];
+            steps[3 * i] = stateX(s);
+            steps[3 * i + 1] = stateY(s);
+            steps[3 * i + 2] = stateRotation(s);
+        }
+        return new Placement(piece.shape, stateRotation(state), stateX(state), stateY(state), path, steps);
+    }
+
+    private int index(int x, int y, int rotation) {
+        return (rotation * paddedHeight + (y + PAD)) * paddedWidth + (x + PAD);
+    }
+
+    int stateX(int state) {
+        return state % paddedWidth - PAD;
+    }
+
+    int stateY(int state) {
+        return (state / paddedWidth) % paddedHeight - PAD;
+    }
+
+    int stateRotation(int state) {
+        return state / (paddedWidth * paddedHeight);
+    }
+}
@@ -0,0 +1,90 @@
+package com.comp2042.ai;
+
+import com.comp2042.input.EventType;
+
+import java.util.List;
+
+/**
+ * Feeds a {@link Placement}'s path to a live board one input at a time while
+ * gravity keeps running.
+ *
+ * <p>Before every input the follower compares the piece's actual position
+ * with where the path says it should be. Down moves that gravity has
+ * already made are skipped; once only down moves remain the piece is hard
+ * dropped, which lands it on the same cells. Any other difference (the
+ * piece fell during a sideways move, or was blocked) means the path no
+ * longer fits and the caller should plan again.
+ */
+public final class PathFollower {
+
+    /** What the caller should do next. */
+    public enum Action {
+        LEFT, RIGHT, ROTATE,
+        /** Move down one row; the path continues underneath an overhang. */
+        SOFT_DROP,
+        /** Only falling is left: drop and lock the piece. */
+        HARD_DROP,
+        /** The piece is not where the path expects it. */
+        REPLAN
+    }
+
+    private final Placement placement;
+    private final int startX;
+    private final int startY;
+    private final int startRotation;
+    private int index;
+
+    /**
+     * @param placement     plan to follow
+     * @param startX        column of the piece when the plan was made
+     * @param startY        row of the piece when the plan was made
+     * @param startRotation rotation of the piece when the plan was made
+     */
+    public PathFollower(Placement placement, int startX, int startY, int startRotation) {
+        this.placement = placement;
+        this.startX = startX;
+        this.startY = startY;
+        this.startRotation = startRotation;
+    }
+
+    /** @return the placement being followed */
+    public Placement getPlacement() {
+        return placement;
+    }
+
+    /**
+     * Decide the next input from the piece's current position. Inputs other
+     * than {@link Action#REPLAN} and {@link Action#HARD_DROP} are counted as
+     * done, so the caller must apply them.
+     */
+    public Action next(int x, int y, int rotation) {
+        List<EventType> path = placement.getPath();
+        // gravity may already have made some of the down moves
+        while (index < path.size() && path.get(index) == EventType.DOWN
+                && y >= placement.getStepY(index) && x == placement.getStepX(index)
+                && rotation == placement.getStepRotation(index)) {
+            index++;
+        }
+        if (onlyDownLeft(path)) return Action.HARD_DROP;
+
+        int expectedX = (index == 0) ? startX : placement.getStepX(index - 1);
+        int expectedY = (index == 0) ? startY : placement.getStepY(index - 1);
+        int expectedRotation = (index == 0) ? startRotation : placement.getStepRotation(index - 1);
+        if (x != expectedX || y != expectedY || rotation != expectedRotation) return Action.REPLAN;
+
+        EventType move = path.get(index++);
+        switch (move) {
+            case LEFT: return Action.LEFT;
+            case RIGHT: return Action.RIGHT;
+            case ROTATE: return Action.ROTATE;
+            default: return Action.SOFT_DROP;
+        }
+    }
+
+    private boolean onlyDownLeft(List<EventType> path) {
+        for (int i = index; i < path.size(); i++) {
+            if (path.get(i) != EventType.DOWN) return false;
+        }
+        return true;
+    }
+}
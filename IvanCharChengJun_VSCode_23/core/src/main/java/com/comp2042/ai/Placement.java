@@ -0,0 +1,101 @@
+package com.comp2042.ai;
+
+import com.comp2042.input.EventType;
+import com.comp2042.logic.BrickShape;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A final resting position of a piece together with the shortest input
+ * sequence that reaches it from where the search started.
+ *
+ * <p>The path uses the board's own moves ({@code LEFT}, {@code RIGHT},
+ * {@code ROTATE}, {@code DOWN}), so feeding it through an
+ * {@link com.comp2042.input.InputEventListener} moves the piece exactly as
+ * the search predicted; the piece then locks on the next move down. The
+ * position after every step is kept too, so a caller feeding the path over
+ * time can tell when gravity has already made one of its moves. Two
+ * placements are equal when shape, rotation and offset match.
+ */
+public final class Placement {
+    private final BrickShape shape;
+    private final int rotation;
+    private final int x;
+    private final int y;
+    private final List<EventType> path;
+    // x, y, rotation after each step of the path
+    private final int[] steps;
+
+    Placement(BrickShape shape, int rotation, int x, int y, EventType[] path, int[] steps) {
+        this.shape = shape;
+        this.rotation = rotation;
+        this.x = x;
+        this.y = y;
+        this.path = Collections.unmodifiableList(Arrays.asList(path));
+        this.steps = steps;
+    }
+
+    /** @return the piece shape */
+    public BrickShape getShape() {
+        return shape;
+    }
+
+    /** @return rotation index into the piece's matrices */
+    public int getRotation() {
+        return rotation;
+    }
+
+    /** @return column offset of the shape matrix */
+    public int getX() {
+        return x;
+    }
+
+    /** @return row offset of the shape matrix */
+    public int getY() {
+        return y;
+    }
+
+    /** @return moves leading from the start position to this placement */
+    public List<EventType> getPath() {
+        return path;
+    }
+
+    /** @return column offset of the piece after path step {@code step} */
+    public int getStepX(int step) {
+        return steps[3 * step];
+    }
+
+    /** @return row offset of the piece after path step {@code step} */
+    public int getStepY(int step) {
+        return steps[3 * step + 1];
+    }
+
+    /** @return rotation of the piece after path step {@code step} */
+    public int getStepRotation(int step) {
+        return steps[3 * step + 2];
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Placement other = (Placement) o;
+        return shape == other.shape && rotation == other.rotation && x == other.x && y == other.y;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = shape.hashCode();
+        result = 31 * result + rotation;
+        result = 31 * result + x;
+        result = 31 * result + y;
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "Placement{" + shape + " rot=" + rotation + " x=" + x + " y=" + y + " path=" + path + '}';
+    }
+}
@@ -0,0 +1,39 @@
+package com.comp2042.ai;
+
+import com.comp2042.input.EventType;
+import com.comp2042.model.Board;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Scripted baseline {@link Bot}: rotates a random number of times, shifts a
+ * random distance and drops, without looking at the board. Useful for
+ * measuring raw engine throughput and as the floor in tournaments.
+ */
+public final class RandomBot implements Bot {
+    private final Random random;
+
+    /** @param seed seed of the move choices, so games can be reproduced */
+    public RandomBot(long seed) {
+        this.random = new Random(seed);
+    }
+
+    @Override
+    public String getName() {
+        return "random";
+    }
+
+    @Override
+    public List<EventType> plan(Board board) {
+        int width = board.getBoardMatrix()[0].length;
+        List<EventType> moves = new ArrayList<>();
+        int rotations = random.nextInt(4);
+        for (int i = 0; i < rotations; i++) moves.add(EventType.ROTATE);
+        int shift = random.nextInt(width) - width / 2;
+        EventType step = (shift < 0) ? EventType.LEFT : EventType.RIGHT;
+        for (int i = 0; i < Math.abs(shift); i++) moves.add(step);
+        return moves;
+    }
+}
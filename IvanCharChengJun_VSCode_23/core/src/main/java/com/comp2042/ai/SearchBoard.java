@@ -0,0 +1,125 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.BrickShape;
+
+import java.util.Arrays;
+
+/**
+ * Immutable occupancy-only board used by the search: one {@code long} per
+ * row with bit {@code c} set when column {@code c} is filled. Locking a piece
+ * returns a new board with full rows already removed, so thousands of
+ * candidate positions can be explored without touching the live
+ * {@link com.comp2042.model.Board}.
+ */
+public final class SearchBoard {
+    private static final int MAX_WIDTH = Long.SIZE;
+
+    private final long[] rows;
+    private final int width;
+    private final int height;
+    private final long fullRow;
+    private final int linesCleared;
+
+    private SearchBoard(long[] rows, int width, int linesCleared) {
+        this.rows = rows;
+        this.width = width;
+        this.height = rows.length;
+        this.fullRow = (width == MAX_WIDTH) ? -1L : (1L << width) - 1;
+        this.linesCleared = linesCleared;
+    }
+
+    /**
+     * Build a search board from a board matrix ({@code matrix[row][col]},
+     * non-zero cells are filled).
+     *
+     * @throws IllegalArgumentException if the matrix is empty or wider than 64
+     */
+    public static SearchBoard of(int[][] matrix) {
+        if (matrix == null || matrix.length == 0 || matrix[0].length == 0) {
+            throw new IllegalArgumentException("matrix must not be empty");
+        }
+        int width = matrix[0].length;
+        if (width > MAX_WIDTH) throw new IllegalArgumentException("width must be at most " + MAX_WIDTH);
+        long[] rows = new long[matrix.length];
+        for (int r = 0; r < matrix.length; r++) {
+            long bits = 0L;
+            for (int c = 0; c < width; c++) {
+                if (matrix[r][c] != 0) bits |= 1L << c;
+            }
+            rows[r] = bits;
+        }
+        return new SearchBoard(rows, width, 0);
+    }
+
+    /** @return board width */
+    public int getWidth() {
+        return width;
+    }
+
+    /** @return board height */
+    public int getHeight() {
+        return height;
+    }
+
+    /** @return occupancy bits of {@code row} */
+    public long getRow(int row) {
+        return rows[row];
+    }
+
+    /** @return {@code true} when cell ({@code column}, {@code row}) is filled */
+    public boolean isFilled(int column, int row) {
+        return (rows[row] & (1L << column)) != 0;
+    }
+
+    /** @return rows cleared by the lock that produced this board */
+    public int getLinesCleared() {
+        return linesCleared;
+    }
+
+    /**
+     * @return {@code true} when {@code shape} in {@code rotation} at offset
+     *         ({@code x}, {@code y}) leaves the board or overlaps a filled cell,
+     *         with the same rules as {@link com.comp2042.utils.MatrixOperations#intersect}
+     */
+    public boolean collides(BrickShape shape, int rotation, int x, int y) {
+        return collides(SearchPiece.of(shape), rotation, x, y);
+    }
+
+    boolean collides(SearchPiece piece, int rotation, int x, int y) {
+        if (x + piece.minX[rotation] < 0 || x + piece.maxX[rotation] >= width) return true;
+        if (y + piece.minY[rotation] < 0 || y + piece.maxY[rotation] >= height) return true;
+        long[] masks = piece.masks[rotation];
+        for (int i = piece.minY[rotation]; i <= piece.maxY[rotation]; i++) {
+            if ((rows[y + i] & SearchPiece.shift(masks[i], x)) != 0) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Lock {@code shape} at the given position and remove any rows it
+     * completes. The position must not collide.
+     *
+     * @return the resulting board; {@link #getLinesCleared()} reports the rows removed
+     */
+    public SearchBoard lock(BrickShape shape, int rotation, int x, int y) {
+        return lock(SearchPiece.of(shape), rotation, x, y);
+    }
+
+    SearchBoard lock(SearchPiece piece, int rotation, int x, int y) {
+        long[] next = Arrays.copyOf(rows, height);
+        long[] masks = piece.masks[rotation];
+        int full = 0;
+        for (int i = piece.minY[rotation]; i <= piece.maxY[rotation]; i++) {
+            next[y + i] |= SearchPiece.shift(masks[i], x);
+            if (next[y + i] == fullRow) full++;
+        }
+        if (full == 0) return new SearchBoard(next, width, 0);
+        // compact from the bottom, dropping full rows
+        int write = height - 1;
+        for (int read = height - 1; read >= 0; read--) {
+            if (next[read] != fullRow) next[write--] = next[read];
+        }
+        while (write >= 0) next[write--] = 0L;
+        return new SearchBoard(next, width, full);
+    }
+}
@@ -0,0 +1,65 @@
+package com.comp2042.ai;
+
+import com.comp2042.logic.BrickShape;
+import com.comp2042.logic.PieceTable;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Per-rotation row masks of a standard piece, derived once from the
+ * {@link PieceTable}. Bit {@code j} of {@code masks[r][i]} is set when cell
+ * {@code (i, j)} of rotation {@code r} is filled.
+ */
+final class SearchPiece {
+    private static final Map<BrickShape, SearchPiece> PIECES = new EnumMap<>(BrickShape.class);
+
+    static {
+        for (BrickShape shape : BrickShape.values()) {
+            PIECES.put(shape, new SearchPiece(PieceTable.get(shape)));
+        }
+    }
+
+    final BrickShape shape;
+    final int rotations;
+    final long[][] masks;
+    final int[] shapeWidth;
+    final int[] minX;
+    final int[] maxX;
+    final int[] minY;
+    final int[] maxY;
+
+    private SearchPiece(PieceTable.Piece piece) {
+        this.shape = piece.shape();
+        this.rotations = piece.matrices().size();
+        this.masks = new long[rotations][];
+        this.shapeWidth = new int[rotations];
+        this.minX = new int[rotations];
+        this.maxX = new int[rotations];
+        this.minY = new int[rotations];
+        this.maxY = new int[rotations];
+        for (int r = 0; r < rotations; r++) {
+            int[][] m = piece.matrix(r);
+            masks[r] = new long[m.length];
+            for (int i = 0; i < m.length; i++) {
+                for (int j = 0; j < m[i].length; j++) {
+                    if (m[i][j] != 0) masks[r][i] |= 1L << j;
+                }
+            }
+            shapeWidth[r] = m[0].length;
+            minX[r] = piece.minX(r);
+            maxX[r] = piece.maxX(r);
+            minY[r] = piece.minY(r);
+            maxY[r] = piece.maxY(r);
+        }
+    }
+
+    static SearchPiece of(BrickShape shape) {
+        return PIECES.get(shape);
+    }
+
+    /** Mask of piece row {@code i} shifted to column offset {@code x}. */
+    static long shift(long mask, int x) {
+        return (x >= 0) ? mask << x : mask >>> -x;
+    }
+}
@@ -0,0 +1,88 @@
+package com.comp2042.ai;
+
+/**
+ * Linear evaluator over the classic hand-tuned stacking features: aggregate
+ * column height, covered holes, bumpiness between neighbouring columns,
+ * well depth, and rows cleared.
+ *
+ * <p>Immutable and therefore safe to share between search threads.
+ */
+public final class WeightedEvaluator implements Evaluator {
+
+    /** Well-known weights that keep the stack low and flat. */
+    public static final WeightedEvaluator DEFAULT = new WeightedEvaluator(-0.51, -0.36, -0.18, -0.10, 0.76);
+
+    private final double heightWeight;
+    private final double holeWeight;
+    private final double bumpinessWeight;
+    private final double wellWeight;
+    private final double lineWeight;
+
+    /**
+     * @param heightWeight    weight of the summed column heights
+     * @param holeWeight      weight of the number of empty cells under a filled one
+     * @param bumpinessWeight weight of the summed height difference between neighbours
+     * @param wellWeight      weight of the summed well depths
+     * @param lineWeight      weight of the rows cleared
+     */
+    public WeightedEvaluator(double heightWeight, double holeWeight, double bumpinessWeight,
+                             double wellWeight, double lineWeight) {
+        this.heightWeight = heightWeight;
+        this.holeWeight = holeWeight;
+        this.bumpinessWeight = bumpinessWeight;
+        this.wellWeight = wellWeight;
+        this.lineWeight = lineWeight;
+    }
+
+    @Override
+    public double evaluate(SearchBoard board, int linesCleared) {
+        int width = board.getWidth();
+        int[] heights = columnHeights(board);
+        int aggregate = 0;
+        int bumpiness = 0;
+        int wells = 0;
+        for (int c = 0; c < width; c++) {
+            aggregate += heights[c];
+            if (c > 0) bumpiness += Math.abs(heights[c] - heights[c - 1]);
+            int left = (c == 0) ? board.getHeight() : heights[c - 1];
+            int right = (c == width - 1) ? board.getHeight() : heights[c + 1];
+            int depth = Math.min(left, right) - heights[c];
+            if (depth > 0) wells += depth;
+        }
+        return heightWeight * aggregate
+                + holeWeight * holes(board)
+                + bumpinessWeight * bumpiness
+                + wellWeight * wells
+                + lineWeight * linesCleared;
+    }
+
+    /** @return height of each column measured from the floor to its top filled cell */
+    static int[] columnHeights(SearchBoard board) {
+        int width = board.getWidth();
+        int height = board.getHeight();
+        int[] heights = new int[width];
+        long seen = 0L;
+        for (int r = 0; r < height; r++) {
+            long fresh = board.getRow(r) & ~seen;
+            while (fresh != 0) {
+                int c = Long.numberOfTrailingZeros(fresh);
+                heights[c] = height - r;
+                fresh &= fresh - 1;
+            }
+            seen |= board.getRow(r);
+        }
+        return heights;
+    }
+
+    /** @return empty cells that have a filled cell somewhere above them */
+    static int holes(SearchBoard board) {
+        int holes = 0;
+        long covered = 0L;
+        for (int r = 0; r < board.getHeight(); r++) {
+            long row = board.getRow(r);
+            holes += Long.bitCount(covered & ~row);
+            covered |= row;
+        }
+        return holes;
+    }
+}
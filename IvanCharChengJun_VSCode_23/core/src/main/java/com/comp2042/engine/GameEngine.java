@@ -0,0 +1,435 @@
+package com.comp2042.engine;
+
+import com.comp2042.input.EventSource;
+import com.comp2042.jfr.LinesClearedEvent;
+import com.comp2042.jfr.PieceLockedEvent;
+import com.comp2042.model.Board;
+import com.comp2042.model.ClearRow;
+import com.comp2042.model.ViewData;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Encapsulates core game rules and board operations.
+ *
+ * <p>This class is UI-agnostic and has no JavaFX dependency, so the rules
+ * can run headless (tests, simulations, bots). It operates on the provided
+ * {@link com.comp2042.model.Board} instance and exposes pure-ish methods used
+ * by UI adapters such as the FX module's {@code GameController}.
+ *
+ * <p>Every lock commits a {@link PieceLockedEvent} and every clear a
+ * {@link LinesClearedEvent} to Java Flight Recorder, tagged with
+ * {@link #getBoardId()}; both cost nothing unless a recording enables them.
+ */
+public class GameEngine {
+    private static final Logger LOGGER = Logger.getLogger(GameEngine.class.getName());
+    private static final AtomicInteger BOARD_IDS = new AtomicInteger();
+    private final Board board;
+    private final int boardId = BOARD_IDS.incrementAndGet();
+    // reused by moveDown so the non-locking path does not allocate
+    private final MoveDownResult moveDownResult = new MoveDownResult();
+
+    // gravity state driven by applyGravity
+    private int startLevel = 1;
+    private int linesCleared;
+    private int piecesLocked;
+    private double fallCredit;
+    private long groundedNanos;
+    private long lockDelayNanos = GravityCurve.DEFAULT_LOCK_DELAY_NANOS;
+
+    public GameEngine(Board board) {
+        this.board = Objects.requireNonNull(board, "Board must not be null");
+    }
+
+    /**
+     * Attempt to move the current falling brick down by one row.
+     *
+     * <p>If the brick cannot move down it is merged into the background, row
+     * clears are computed and the next brick is created. The returned
+     * {@link MoveDownResult} describes any cleared rows, the resulting view
+     * data and whether a spawn collision (game over) occurred.
+     *
+     * @param source event source (USER or SYSTEM) used to decide whether to
+     *               award a soft-drop point
+     * @return result object describing what happened during the move; the
+     *         instance is reused and overwritten by the next call
+     */
+    public MoveDownResult moveDown(EventSource source) {
+        boolean canMove = board.moveBrickDown();
+        if (!canMove) {
+            return lock(true, 0);
+        }
+        try {
+            if (source == EventSource.USER) {
+                board.getScore().add(1);
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Error while processing moveDown", e);
+        }
+        moveDownResult.update(null, board, 0, false, 1);
+        return moveDownResult;
+    }
+
+    /**
+     * Advance gravity by {@code elapsedNanos} of game time.
+     *
+     * <p>The current level's gravity ({@link GravityCurve#cellsPerFrame})
+     * accrues fractional rows; whole rows are applied in one board step that
+     * stops at the landing row, so 20G costs the same as 1G. While the piece
+     * rests on the stack the lock delay runs, and the piece locks once it
+     * has been grounded for {@link #getLockDelayNanos()}. Falling resets the
+     * lock delay.</p>
+     *
+     * @param elapsedNanos game time since the previous call
+     * @return the shared result when the piece fell or locked, or
+     *         {@code null} when nothing changed
+     */
+    public MoveDownResult applyGravity(long elapsedNanos) {
+        if (elapsedNanos <= 0) return null;
+        try {
+            double gravity = GravityCurve.cellsPerFrame(getLevel());
+            fallCredit += gravity * elapsedNanos / GravityCurve.FRAME_NANOS;
+            // 20G lands the piece on its first frame however high it spawned
+            int rows = (gravity >= GravityCurve.TWENTY_G) ? Integer.MAX_VALUE : (int) fallCredit;
+            if (rows > 0) {
+                fallCredit = (rows == Integer.MAX_VALUE) ? 0 : fallCredit - rows;
+                int fell = board.moveBrickDownBy(rows);
+                if (fell > 0) {
+                    groundedNanos = 0;
+                    moveDownResult.update(null, board, 0, false, fell);
+                    return moveDownResult;
+                }
+            }
+            if (!board.isBrickGrounded()) {
+                groundedNanos = 0;
+                return null;
+            }
+            // a resting piece does not bank rows for after it is moved off a ledge
+            fallCredit = 0;
+            groundedNanos += elapsedNanos;
+            if (groundedNanos < lockDelayNanos) return null;
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Error while applying gravity", e);
+            return null;
+        }
+        return lock(true, 0);
+    }
+
+    /**
+     * Level the game starts at; the level rises every
+     * {@link GravityCurve#LINES_PER_LEVEL} cleared lines from here.
+     */
+    public void setStartLevel(int startLevel) {
+        this.startLevel = Math.max(1, startLevel);
+    }
+
+    /**
+     * @return current level derived from the start level and lines cleared
+     */
+    public int getLevel() {
+        return GravityCurve.levelForLines(startLevel, linesCleared);
+    }
+
+    /**
+     * @return lines cleared since the last {@link #newGame()}
+     */
+    public int getLinesCleared() {
+        return linesCleared;
+    }
+
+    /**
+     * Id of this engine's board, unique within the process. Flight recorder
+     * events and the JMX session carry it so the boards of a match can be
+     * told apart.
+     */
+    public int getBoardId() {
+        return boardId;
+    }
+
+    /**
+     * @return pieces locked since the last {@link #newGame()}
+     */
+    public int getPiecesLocked() {
+        return piecesLocked;
+    }
+
+    /**
+     * Set how long a grounded piece may rest before
+     * {@link #applyGravity(long)} locks it.
+     */
+    public void setLockDelayNanos(long lockDelayNanos) {
+        this.lockDelayNanos = Math.max(0, lockDelayNanos);
+    }
+
+    public long getLockDelayNanos() {
+        return lockDelayNanos;
+    }
+
+    /**
+     * Drop the current brick straight to its landing row and lock it in one
+     * step. Awards two points per row dropped, then clears rows and spawns
+     * the next brick exactly as a locking {@link #moveDown} does.
+     *
+     * @return result describing the lock; the instance is shared with
+     *         {@link #moveDown} and overwritten by the next call
+     */
+    public MoveDownResult hardDrop() {
+        int distance;
+        try {
+            distance = board.hardDrop();
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Error while processing hardDrop", e);
+            moveDownResult.update(null, board, 0, false);
+            return moveDownResult;
+        }
+        if (distance > 0) board.getScore().add(2 * distance);
+        return lock(false, distance);
+    }
+
+    /**
+     * Move the current brick straight down to its landing row without
+     * locking it. User-initiated drops score like the equivalent soft drop
+     * (one point per row).
+     *
+     * @param source event source used to decide whether to award points
+     * @return updated view data
+     */
+    public ViewData sonicDrop(EventSource source) {
+        try {
+            int distance = board.sonicDrop();
+            if (distance > 0 && source == EventSource.USER) board.getScore().add(distance);
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Error while processing sonicDrop", e);
+        }
+        return board.getViewData();
+    }
+
+    // shared tail of every lock: merge (unless the board already did), clear
+    // and score full rows, then spawn the next brick
+    private MoveDownResult lock(boolean merge, int rowsDropped) {
+        PieceLockedEvent lockEvent = new PieceLockedEvent();
+        lockEvent.begin();
+        ClearRow clearRow = null;
+        int forwardCount = 0;
+        boolean gameOver = false;
+        fallCredit = 0;
+        groundedNanos = 0;
+        piecesLocked++;
+        try {
+            if (merge) board.mergeBrickToBackground();
+            LinesClearedEvent clearEvent = new LinesClearedEvent();
+            clearEvent.begin();
+            clearRow = board.clearRows();
+            clearEvent.end();
+
+            if (clearRow != null && clearRow.getLinesRemoved() > 0) {
+                linesCleared += clearRow.getLinesRemoved();
+                board.getScore().add(clearRow.getScoreBonus());
+                // rows that held garbage (code 8) are not forwarded as attacks
+                forwardCount = Math.max(0, clearRow.getLinesRemoved() - clearRow.getGarbageLinesRemoved());
+                if (clearEvent.shouldCommit()) {
+                    clearEvent.boardId = boardId;
+                    clearEvent.lines = clearRow.getLinesRemoved();
+                    clearEvent.garbageLines = clearRow.getGarbageLinesRemoved();
+                    clearEvent.scoreBonus = clearRow.getScoreBonus();
+                    clearEvent.level = getLevel();
+                    clearEvent.commit();
+                }
+            }
+
+            if (board.createNewBrick()) {
+                gameOver = true;
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Error while processing moveDown", e);
+        }
+
+        moveDownResult.update(clearRow, board, forwardCount, gameOver, rowsDropped);
+        lockEvent.end();
+        if (lockEvent.shouldCommit()) {
+            lockEvent.boardId = boardId;
+            lockEvent.rowsDropped = rowsDropped;
+            lockEvent.linesCleared = (clearRow != null) ? clearRow.getLinesRemoved() : 0;
+            lockEvent.gameOver = gameOver;
+            lockEvent.commit();
+        }
+        return moveDownResult;
+    }
+
+    /**
+     * Shift the current brick horizontally by up to {@code columns} cells in
+     * one step, stopping at the first blocked cell. Used by auto-repeat, where
+     * a 0 ms ARR moves straight to the wall.
+     *
+     * @param columns signed cell count; negative moves left
+     * @return number of cells the brick moved
+     */
+    public int shift(int columns) {
+        int moved = 0;
+        if (columns < 0) {
+            while (moved < -(long) columns && board.moveBrickLeft()) moved++;
+        } else {
+            while (moved < columns && board.moveBrickRight()) moved++;
+        }
+        return moved;
+    }
+
+    /**
+     * Soft drop the current brick by up to {@code rows} rows in one step
+     * without locking it; a grounded brick is left to the lock delay of
+     * {@link #applyGravity(long)}. User drops score one point per row.
+     *
+     * @param rows   maximum rows to move
+     * @param source event source used to decide whether to award points
+     * @return number of rows the brick moved
+     */
+    public int softDrop(int rows, EventSource source) {
+        int distance = 0;
+        try {
+            distance = board.moveBrickDownBy(rows);
+            if (distance > 0) {
+                groundedNanos = 0;
+                if (source == EventSource.USER) board.getScore().add(distance);
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Error while processing softDrop", e);
+        }
+        return distance;
+    }
+
+    /**
+     * Move the current brick one cell to the left and return the updated view data.
+     */
+    public ViewData moveLeft() {
+        board.moveBrickLeft();
+        return board.getViewData();
+    }
+
+    /**
+     * Move the current brick one cell to the right and return the updated view data.
+     */
+    public ViewData moveRight() {
+        board.moveBrickRight();
+        return board.getViewData();
+    }
+
+    /**
+     * Rotate the current brick (left rotation) and return updated view data.
+     */
+    public ViewData rotate() {
+        board.rotateLeftBrick();
+        return board.getViewData();
+    }
+
+    /**
+     * Swap the current brick with the next brick (if supported by the board).
+     *
+     * @return {@code true} if the swap succeeded
+     */
+    public boolean swap() {
+        try {
+            return board.swapCurrentWithNext();
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Error during swap", e);
+            return false;
+        }
+    }
+
+    /**
+     * Reset the board and start a new game.
+     */
+    public void newGame() {
+        linesCleared = 0;
+        piecesLocked = 0;
+        fallCredit = 0;
+        groundedNanos = 0;
+        board.newGame();
+    }
+
+    /**
+     * Add garbage rows to the bottom of the board. Existing rows are shifted
+     * upwards and the bottom rows are filled with garbage (value 8) except for
+     * the specified hole column.
+     *
+     * @param count number of garbage rows to add
+     * @param holeColumn column index to leave empty in garbage rows
+     * @return the board matrix after modification
+     */
+    public int[][] addGarbageRows(int count, int holeColumn) {
+        if (count > 0) board.addGarbageRows(count, holeColumn);
+        return board.getBoardMatrix();
+    }
+
+    /**
+     * Return a list of upcoming bricks from the board's generator for preview.
+     *
+     * @param count how many bricks to request
+     * @return list of upcoming bricks or an empty list on error
+     */
+    public List<com.comp2042.logic.Brick> getUpcoming(int count) {
+        try {
+            return board.getUpcomingBricks(count);
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Failed to get upcoming bricks", e);
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Expose the board's score. UI code observes it through
+     * {@link com.comp2042.model.Score#addListener}.
+     */
+    public com.comp2042.model.Score getScore() {
+        return board.getScore();
+    }
+
+    /**
+     * Return a defensive copy of the board matrix used for rendering.
+     */
+    public int[][] getBoardMatrix() {
+        return board.getBoardMatrix();
+    }
+
+    /**
+     * Version of the board background; unchanged while only the active piece
+     * moves. See {@link Board#getBoardVersion()}.
+     */
+    public long getBoardVersion() {
+        return board.getBoardVersion();
+    }
+
+    /**
+     * Add to {@code rows} the background rows changed after version
+     * {@code since}. See {@link Board#collectChangedRows(long, BitSet)}.
+     */
+    public void collectChangedRows(long since, BitSet rows) {
+        board.collectChangedRows(since, rows);
+    }
+
+    /**
+     * Return current view data describing the falling piece and its position.
+     */
+    public ViewData getViewData() {
+        return board.getViewData();
+    }
+
+    /**
+     * Create a new brick via the board and return whether the creation succeeded
+     * (note: some boards return {@code true} to signal that a spawn collision
+     * occurred and the game should end).
+     */
+    public boolean createNewBrick() {
+        try {
+            return board.createNewBrick();
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Failed to create new brick", e);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.comp2042.engine;
+
+/**
+ * Level-to-gravity table used by {@link GameEngine#applyGravity(long)}.
+ *
+ * <p>Gravity is expressed in cells per frame at 60 frames per second
+ * ("G"): 1/60 G drops one row per second, 1 G one row per frame and
+ * {@link #TWENTY_G} drops the piece to its landing row on the frame it
+ * spawns. The curve follows the common guideline formula
+ * {@code secondsPerRow = (0.8 - (level - 1) * 0.007) ^ (level - 1)}, which
+ * reaches 20G at level 20. The level rises by one every
+ * {@link #LINES_PER_LEVEL} cleared lines.</p>
+ */
+public final class GravityCurve {
+
+    /** Reference frame rate gravity is expressed in. */
+    public static final int FRAMES_PER_SECOND = 60;
+
+    /** Nanoseconds in one reference frame. */
+    public static final long FRAME_NANOS = 1_000_000_000L / FRAMES_PER_SECOND;
+
+    /** Gravity cap: enough to cross the whole visible board in one frame. */
+    public static final double TWENTY_G = 20.0;
+
+    /** Lines needed to advance one level. */
+    public static final int LINES_PER_LEVEL = 10;
+
+    /** Highest level the curve distinguishes; later levels stay at 20G. */
+    public static final int MAX_LEVEL = 20;
+
+    /** Default lock delay: time a grounded piece may rest before it locks. */
+    public static final long DEFAULT_LOCK_DELAY_NANOS = 500_000_000L;
+
+    private static final double[] TABLE = new double[MAX_LEVEL + 1];
+
+    static {
+        for (int level = 1; level <= MAX_LEVEL; level++) {
+            double secondsPerRow = Math.pow(0.8 - (level - 1) * 0.007, level - 1);
+            TABLE[level] = Math.min(TWENTY_G, 1.0 / (FRAMES_PER_SECOND * secondsPerRow));
+        }
+        TABLE[MAX_LEVEL] = TWENTY_G;
+    }
+
+    private GravityCurve() {
+    }
+
+    /**
+     * Gravity for {@code level} in cells per frame. Levels below 1 are
+     * treated as level 1 and levels above {@link #MAX_LEVEL} as 20G.
+     */
+    public static double cellsPerFrame(int level) {
+        if (level < 1) level = 1;
+        if (level > MAX_LEVEL) level = MAX_LEVEL;
+        return TABLE[level];
+    }
+
+    /**
+     * Milliseconds per row at {@code level}; the inverse of
+     * {@link #cellsPerFrame(int)}.
+     */
+    public static double millisPerRow(int level) {
+        return 1000.0 / (FRAMES_PER_SECOND * cellsPerFrame(level));
+    }
+
+    /**
+     * Level reached after clearing {@code lines} lines when starting at
+     * {@code startLevel}.
+     */
+    public static int levelForLines(int startLevel, int lines) {
+        return Math.max(1, startLevel) + Math.max(0, lines) / LINES_PER_LEVEL;
+    }
+}
@@ -0,0 +1,91 @@
+package com.comp2042.engine;
+
+import com.comp2042.model.Board;
+import com.comp2042.model.ClearRow;
+import com.comp2042.model.ViewData;
+
+/**
+ * Data transfer object returned by {@link GameEngine#moveDown(com.comp2042.input.EventSource)}.
+ *
+ * <p>Contains the cleared-row information (if any), the view data for the
+ * falling piece after the move, a snapshot of the board matrix, the number
+ * of forward cleared rows (used by scoring/attack logic), and a boolean
+ * flag indicating whether a spawn-collision (game over) occurred. Results
+ * of {@link GameEngine#applyGravity(long)} also carry the number of rows
+ * the piece fell in that step.</p>
+ *
+ * <p>{@link GameEngine} reuses a single instance per engine so the move path
+ * does not allocate: the view data is only built when {@link #getViewData()}
+ * is first called, and the contents are overwritten by the next
+ * {@code moveDown}. Callers that need the values afterwards must copy them out.</p>
+ */
+public class MoveDownResult {
+    private ClearRow clearRow;
+    private ViewData viewData;
+    private Board viewSource;
+    private int[][] boardMatrix;
+    private int forwardCount;
+    private boolean gameOver;
+    private int rowsDropped;
+
+    public MoveDownResult(ClearRow clearRow, ViewData viewData, int[][] boardMatrix, int forwardCount, boolean gameOver) {
+        this.clearRow = clearRow;
+        this.viewData = viewData;
+        this.boardMatrix = boardMatrix;
+        this.forwardCount = forwardCount;
+        this.gameOver = gameOver;
+    }
+
+    // reusable instance owned by GameEngine
+    MoveDownResult() {
+    }
+
+    /**
+     * Overwrite this result in place. The view data is resolved lazily from
+     * {@code board} on first access.
+     */
+    void update(ClearRow clearRow, Board board, int forwardCount, boolean gameOver) {
+        update(clearRow, board, forwardCount, gameOver, 0);
+    }
+
+    void update(ClearRow clearRow, Board board, int forwardCount, boolean gameOver, int rowsDropped) {
+        this.rowsDropped = rowsDropped;
+        this.clearRow = clearRow;
+        this.viewData = null;
+        this.viewSource = board;
+        this.boardMatrix = board.getBoardMatrix();
+        this.forwardCount = forwardCount;
+        this.gameOver = gameOver;
+    }
+
+    public ClearRow getClearRow() {
+        return clearRow;
+    }
+
+    public ViewData getViewData() {
+        if (viewData == null && viewSource != null) {
+            viewData = viewSource.getViewData();
+        }
+        return viewData;
+    }
+
+    public int[][] getBoardMatrix() {
+        return boardMatrix;
+    }
+
+    public int getForwardCount() {
+        return forwardCount;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * @return rows the piece fell before this result (before locking, when
+     *         it locked); gravity steps may move several rows at once
+     */
+    public int getRowsDropped() {
+        return rowsDropped;
+    }
+}
@@ -0,0 +1,212 @@
+package com.comp2042.input;
+
+import java.util.Objects;
+
+/**
+ * Key-repeat engine for held movement keys: delayed auto-shift (DAS),
+ * auto-repeat rate (ARR), DAS cut delay (DCD) and soft-drop factor (SDF).
+ *
+ * <p>Held keys are tracked as a bitset with the time each was pressed, and
+ * the view samples the engine once per frame with {@link #update(long)}.
+ * Repeats are counted from the press timestamps rather than from frames,
+ * so a 33 ms ARR moves the same number of cells after one second at 60 or
+ * 144 Hz, and several repeats that fall inside one frame are issued as a
+ * single multi-cell move. OS key-repeat events are ignored: a press of a key
+ * already held does nothing.</p>
+ *
+ * <p>Timestamps are caller-supplied nanoseconds from one monotonic clock
+ * (the view uses {@link System#nanoTime()}), which keeps the engine free of
+ * JavaFX and deterministic in tests. Not thread-safe; drive it from the
+ * thread that handles key events.</p>
+ */
+public final class HandlingEngine {
+
+    /** Key bit: shift left. */
+    public static final int LEFT = 1;
+    /** Key bit: shift right. */
+    public static final int RIGHT = 1 << 1;
+    /** Key bit: soft drop. */
+    public static final int SOFT_DROP = 1 << 2;
+
+    /** Soft-drop speed at factor 1.0, in rows per second. */
+    public static final double SOFT_DROP_ROWS_PER_SECOND = 20.0;
+
+    /** Cell count meaning "as far as possible" (0 ms ARR). */
+    public static final int TO_WALL = Integer.MAX_VALUE;
+
+    private static final long NANOS_PER_MS = 1_000_000L;
+
+    /**
+     * Receiver of the moves the engine decides on.
+     */
+    public interface Actions {
+        /**
+         * Shift the active piece horizontally.
+         *
+         * @param direction {@code -1} for left, {@code 1} for right
+         * @param cells     cells to move, or {@link #TO_WALL}
+         */
+        void shift(int direction, int cells);
+
+        /**
+         * Soft drop the active piece by {@code rows} rows.
+         */
+        void softDrop(int rows);
+    }
+
+    private final Actions actions;
+
+    private long dasNanos;
+    private long arrNanos;
+    private long dcdNanos;
+    private double softDropRowsPerNano;
+
+    private int keys;
+    // direction currently auto-shifting (last pressed wins) and its timing
+    private int direction;
+    private long repeatStart;
+    private long repeatsDone;
+    private long softDropStart;
+    private long softDropRowsDone;
+
+    /**
+     * Create an engine with the defaults of the handling settings screen
+     * (ARR 50 ms, DAS 120 ms, DCD 20 ms, SDF 1.0).
+     */
+    public HandlingEngine(Actions actions) {
+        this.actions = Objects.requireNonNull(actions, "actions must not be null");
+        configure(50, 120, 20, 1.0);
+    }
+
+    /**
+     * Apply handling settings. Takes effect from the next press.
+     *
+     * @param arrMs auto-repeat interval; {@code 0} shifts straight to the wall
+     * @param dasMs delay before auto-repeat starts
+     * @param dcdMs pause of a charged auto-shift after a rotation or hard drop
+     * @param sdf   soft-drop factor: multiples of
+     *              {@link #SOFT_DROP_ROWS_PER_SECOND}
+     */
+    public void configure(int arrMs, int dasMs, int dcdMs, double sdf) {
+        this.arrNanos = Math.max(0, arrMs) * NANOS_PER_MS;
+        this.dasNanos = Math.max(0, dasMs) * NANOS_PER_MS;
+        this.dcdNanos = Math.max(0, dcdMs) * NANOS_PER_MS;
+        this.softDropRowsPerNano = Math.max(0.0, sdf) * SOFT_DROP_ROWS_PER_SECOND / 1e9;
+    }
+
+    /**
+     * Record a key press. Shift keys move the piece one cell at once and
+     * start charging DAS; soft drop moves one row at once and then repeats at
+     * the SDF speed. Presses of a key that is already down are ignored.
+     *
+     * @param key      one of {@link #LEFT}, {@link #RIGHT}, {@link #SOFT_DROP}
+     * @param nowNanos time of the press
+     */
+    public void press(int key, long nowNanos) {
+        if ((keys & key) != 0) return;
+        keys |= key;
+        switch (key) {
+            case LEFT:
+                startShift(-1, nowNanos);
+                break;
+            case RIGHT:
+                startShift(1, nowNanos);
+                break;
+            case SOFT_DROP:
+                softDropStart = nowNanos;
+                softDropRowsDone = 1;
+                actions.softDrop(1);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Record a key release. Releasing the active shift key while the other
+     * one is still held hands auto-shift over to it, with a fresh DAS.
+     *
+     * @param key      released key bit
+     * @param nowNanos time of the release
+     */
+    public void release(int key, long nowNanos) {
+        if ((keys & key) == 0) return;
+        keys &= ~key;
+        if (key == LEFT || key == RIGHT) {
+            int released = (key == LEFT) ? -1 : 1;
+            if (direction == released) {
+                direction = 0;
+                int other = (key == LEFT) ? RIGHT : LEFT;
+                if ((keys & other) != 0) startShift(-released, nowNanos);
+            }
+        }
+    }
+
+    /**
+     * Pause a charged auto-shift for the DCD after a rotation or hard drop,
+     * so the new piece is not carried into the wall by a held key.
+     */
+    public void cut(long nowNanos) {
+        if (direction == 0 || dcdNanos == 0) return;
+        long resume = nowNanos + dcdNanos;
+        if (resume > repeatStart) {
+            repeatStart = resume;
+            repeatsDone = 0;
+        }
+    }
+
+    /**
+     * Issue every repeat that has fallen due by {@code nowNanos}.
+     */
+    public void update(long nowNanos) {
+        if (direction != 0 && nowNanos >= repeatStart) {
+            if (arrNanos == 0) {
+                actions.shift(direction, TO_WALL);
+            } else {
+                long due = 1 + (nowNanos - repeatStart) / arrNanos;
+                if (due > repeatsDone) {
+                    int cells = (int) Math.min(Integer.MAX_VALUE - 1, due - repeatsDone);
+                    repeatsDone = due;
+                    actions.shift(direction, cells);
+                }
+            }
+        }
+        if ((keys & SOFT_DROP) != 0 && softDropRowsPerNano > 0) {
+            long due = 1 + (long) ((nowNanos - softDropStart) * softDropRowsPerNano);
+            if (due > softDropRowsDone) {
+                int rows = (int) Math.min(Integer.MAX_VALUE, due - softDropRowsDone);
+                softDropRowsDone = due;
+                actions.softDrop(rows);
+            }
+        }
+    }
+
+    /**
+     * Forget all held keys, e.g. when the game pauses or loses focus.
+     */
+    public void reset() {
+        keys = 0;
+        direction = 0;
+    }
+
+    /**
+     * @return {@code true} while {@code key} is held
+     */
+    public boolean isHeld(int key) {
+        return (keys & key) != 0;
+    }
+
+    /**
+     * @return the held-key bitset
+     */
+    public int getHeldKeys() {
+        return keys;
+    }
+
+    private void startShift(int dir, long nowNanos) {
+        direction = dir;
+        repeatStart = nowNanos + dasNanos;
+        repeatsDone = 0;
+        actions.shift(dir, 1);
+    }
+}
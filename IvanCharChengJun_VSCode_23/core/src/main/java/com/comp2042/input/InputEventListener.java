@@ -0,0 +1,134 @@
+package com.comp2042.input;
+
+import com.comp2042.model.DownData;
+import com.comp2042.model.ViewData;
+
+/**
+ * Listener interface for input events produced by the input subsystem.
+ *
+ * <p>Implementations (typically controllers or game model adapters) receive
+ * higher-level move events encapsulated in {@link MoveEvent} and return
+ * model/view updates as required. Implementations should be resilient to
+ * {@code null} fields inside {@link MoveEvent}.
+ */
+public interface InputEventListener {
+
+    /**
+     * Handle a down-type input (soft/hard drop or repeated down).
+     *
+     * @param event details about the input; event may be non-null
+     * @return a {@link DownData} instance describing the down action results
+     *         (may be {@code null} if not applicable)
+     */
+    DownData onDownEvent(MoveEvent event);
+
+    /**
+     * Handle a hard drop: the piece drops to its landing row and locks in a
+     * single step, producing one result. The default implementation repeats
+     * {@link #onDownEvent} until the piece locks, for listeners without a
+     * native drop.
+     *
+     * @param event details about the input request
+     * @return the {@link DownData} of the lock (may be {@code null})
+     */
+    default DownData onHardDropEvent(MoveEvent event) {
+        DownData last = null;
+        for (int safety = 0; safety < 1000; safety++) {
+            DownData d = onDownEvent(event);
+            if (d == null) break;
+            last = d;
+            if (d.getClearRow() != null) break;
+        }
+        return last;
+    }
+
+    /**
+     * Advance gravity by {@code elapsedNanos} of game time. Gravity may move
+     * the piece several rows, or lock it after its lock delay, in one call.
+     * The default implementation does nothing, for listeners driven only by
+     * {@link #onDownEvent}.
+     *
+     * @param elapsedNanos game time since the previous tick
+     * @return a {@link DownData} when the piece fell or locked, or
+     *         {@code null} when nothing changed
+     */
+    default DownData onGravityTick(long elapsedNanos) { return null; }
+
+    /**
+     * Handle a sonic drop: the piece moves to its landing row without
+     * locking. Default implementation does nothing and returns {@code null}.
+     *
+     * @param event details about the input request
+     * @return a {@link ViewData} describing view updates (may be {@code null})
+     */
+    default ViewData onSonicDropEvent(MoveEvent event) { return null; }
+
+    /**
+     * Handle an auto-repeated move of several cells at once: {@code LEFT} and
+     * {@code RIGHT} shift up to {@code cells} columns (stopping at the first
+     * blocked cell), {@code DOWN} soft drops up to {@code cells} rows without
+     * locking. The default implementation repeats the single-cell handlers
+     * until the view stops changing, so its soft drop may lock the piece.
+     *
+     * @param event direction and source of the move
+     * @param cells cells to move; {@code Integer.MAX_VALUE} moves as far as
+     *              possible
+     * @return updated view data, or {@code null} when the piece did not move
+     */
+    default ViewData onRepeatEvent(MoveEvent event, int cells) {
+        ViewData last = null;
+        ViewData before = null;
+        for (int i = 0; i < Math.min(cells, 1000); i++) {
+            ViewData v;
+            switch (event.getEventType()) {
+                case LEFT: v = onLeftEvent(event); break;
+                case RIGHT: v = onRightEvent(event); break;
+                case DOWN: {
+                    DownData d = onDownEvent(event);
+                    v = (d != null) ? d.getViewData() : null;
+                    break;
+                }
+                default: v = null; break;
+            }
+            if (v == null || v.equals(before)) break;
+            before = v;
+            last = v;
+        }
+        return last;
+    }
+
+    /**
+     * Handle a left move request.
+     *
+     * @param event details about the input request
+     * @return a {@link ViewData} describing view updates (may be {@code null})
+     */
+    ViewData onLeftEvent(MoveEvent event);
+
+    /**
+     * Handle a right move request.
+     *
+     * @param event details about the input request
+     * @return a {@link ViewData} describing view updates (may be {@code null})
+     */
+    ViewData onRightEvent(MoveEvent event);
+
+    /**
+     * Handle a rotation request.
+     *
+     * @param event details about the input request
+     * @return a {@link ViewData} describing view updates (may be {@code null})
+     */
+    ViewData onRotateEvent(MoveEvent event);
+
+    /**
+     * Signal to the listener that a new game should be created/initialized.
+     */
+    void createNewGame();
+
+    /**
+     * Optional callback triggered when a swap piece action is requested.
+     * Default implementation does nothing.
+     */
+    default void onSwapEvent() {}
+}
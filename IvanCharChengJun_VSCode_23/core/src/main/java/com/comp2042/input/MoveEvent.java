@@ -5,10 +5,14 @@ package com.comp2042.input;
  *
  * <p>Contains the {@link EventType} and the {@link EventSource}. This class
  * is safe to use as a map key (implements {@code equals}/{@code hashCode}).
+ * Events created from a key press may also carry the {@link System#nanoTime()}
+ * of the press, used to trace input latency; the stamp is not part of
+ * equality.
  */
 public final class MoveEvent {
     private final EventType eventType;
     private final EventSource eventSource;
+    private final long timestampNanos;
 
     /**
      * Create a new MoveEvent.
@@ -17,8 +21,21 @@ public final class MoveEvent {
      * @param eventSource origin of the event (may be null)
      */
     public MoveEvent(EventType eventType, EventSource eventSource) {
+        this(eventType, eventSource, 0L);
+    }
+
+    /**
+     * Create a MoveEvent stamped with the time of the input that caused it.
+     *
+     * @param eventType      type of the event
+     * @param eventSource    origin of the event
+     * @param timestampNanos {@link System#nanoTime()} of the key press, or
+     *                       {@code 0} when unknown
+     */
+    public MoveEvent(EventType eventType, EventSource eventSource, long timestampNanos) {
         this.eventType = eventType;
         this.eventSource = eventSource;
+        this.timestampNanos = timestampNanos;
     }
 
     /**
@@ -38,6 +55,16 @@ public final class MoveEvent {
         return eventSource;
     }
 
+    /** @return {@link System#nanoTime()} of the originating key press, or {@code 0} when unstamped. */
+    public long getTimestampNanos() {
+        return timestampNanos;
+    }
+
+    /** @return {@code true} when the event carries an input timestamp. */
+    public boolean isStamped() {
+        return timestampNanos != 0L;
+    }
+
     /** @return {@code true} when the event originated from a user interaction. */
     public boolean isFromUser() {
         return eventSource != null && eventSource.isUser();
@@ -0,0 +1,36 @@
+package com.comp2042.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Full rows were removed from the board. The duration covers the row scan
+ * and the collapse of the rows above.
+ */
+@Name("com.comp2042.LinesCleared")
+@Label("Lines Cleared")
+@Category({"Tetris Nexus", "Engine"})
+@Description("Full rows were removed after a piece locked")
+@StackTrace(false)
+public class LinesClearedEvent extends jdk.jfr.Event {
+
+    @Label("Board")
+    public int boardId;
+
+    @Label("Lines")
+    public int lines;
+
+    @Label("Garbage Lines")
+    @Description("Cleared rows that held garbage and are not sent as attacks")
+    public int garbageLines;
+
+    @Label("Score Bonus")
+    public int scoreBonus;
+
+    @Label("Level")
+    @Description("Level after the clear")
+    public int level;
+}
@@ -0,0 +1,32 @@
+package com.comp2042.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A piece was locked into the stack. The duration covers merging, clearing
+ * rows and spawning the next piece.
+ */
+@Name("com.comp2042.PieceLocked")
+@Label("Piece Locked")
+@Category({"Tetris Nexus", "Engine"})
+@Description("A piece was merged into the stack and the next piece spawned")
+@StackTrace(false)
+public class PieceLockedEvent extends jdk.jfr.Event {
+
+    @Label("Board")
+    public int boardId;
+
+    @Label("Rows Dropped")
+    @Description("Rows the piece fell in the step that locked it")
+    public int rowsDropped;
+
+    @Label("Lines Cleared")
+    public int linesCleared;
+
+    @Label("Game Over")
+    public boolean gameOver;
+}
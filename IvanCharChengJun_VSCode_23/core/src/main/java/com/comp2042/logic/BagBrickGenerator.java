@@ -0,0 +1,255 @@
+package com.comp2042.logic;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import com.comp2042.logic.bricks.IBrick;
+import com.comp2042.logic.bricks.JBrick;
+import com.comp2042.logic.bricks.LBrick;
+import com.comp2042.logic.bricks.OBrick;
+import com.comp2042.logic.bricks.SBrick;
+import com.comp2042.logic.bricks.TBrick;
+import com.comp2042.logic.bricks.ZBrick;
+
+/**
+ * Seeded 7-bag brick generator built for reproducible play.
+ *
+ * <p>Each bag is one permutation of the seven tetrominoes, shuffled by a
+ * {@link SplitMix64} source, so a seed fixes the whole sequence on every
+ * machine. Upcoming bricks sit in a power-of-two ring buffer:
+ * <ul>
+ *   <li>{@link #getBrick()} and {@link #replaceNext(Brick)} are O(1); the
+ *       hold/swap path overwrites the head slot instead of rebuilding the
+ *       queue;</li>
+ *   <li>{@link #peekBrick(int)} reads any queued position without
+ *       allocating, refilling whole bags as needed;</li>
+ *   <li>{@link #getUpcomingBricks(int)} returns a cached read-only view over
+ *       the ring rather than a new list on every preview poll.</li>
+ * </ul>
+ * Steady-state play does not allocate; the ring only grows when a peek looks
+ * further ahead than it has ever done.
+ *
+ * <p>{@link #split()} derives an independent generator whose sequence is
+ * still fully determined by this generator's seed, and {@link #copy()} clones
+ * the current position. Two players given generators with the same seed, or
+ * copies of one generator, receive identical sequences.
+ *
+ * <p>Threading: not synchronized; use from a single game thread.
+ */
+public final class BagBrickGenerator implements BrickGenerator {
+
+    /** Brick per shape, shared by every generator: bricks are immutable. */
+    private static final Brick[] BRICKS = {
+            new IBrick(), new JBrick(), new LBrick(), new OBrick(), new SBrick(), new TBrick(), new ZBrick()
+    };
+    private static final int BAG_SIZE = BRICKS.length;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final long seed;
+    private final SplitMix64 random;
+    // scratch permutation for the bag being dealt
+    private final int[] bag = new int[BAG_SIZE];
+    private Brick[] ring;
+    private int mask;
+    private int head;
+    private int size;
+    // view handed out by getUpcomingBricks, reused while the requested count is unchanged
+    private UpcomingView upcoming;
+
+    /**
+     * Build a generator whose sequence is fully determined by {@code seed}.
+     *
+     * @param seed seed of the bag shuffles
+     */
+    public BagBrickGenerator(long seed) {
+        this(seed, new SplitMix64(seed), INITIAL_CAPACITY);
+    }
+
+    private BagBrickGenerator(long seed, SplitMix64 random, int capacity) {
+        this.seed = seed;
+        this.random = random;
+        this.ring = new Brick[capacity];
+        this.mask = capacity - 1;
+    }
+
+    /** @return the seed this generator was built from */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Derive a new generator seeded from this one's random source. The child
+     * produces a different sequence from this generator, but the same parent
+     * seed always yields the same children in the same order, so matched
+     * games can hand each player a derived stream. Advances this generator's
+     * random source by one draw.
+     *
+     * @return a fresh, independent generator
+     */
+    public BagBrickGenerator split() {
+        return new BagBrickGenerator(random.nextLong());
+    }
+
+    /**
+     * @return a generator at exactly this generator's position; both produce
+     *         the same bricks from here on and evolve independently
+     */
+    public BagBrickGenerator copy() {
+        BagBrickGenerator copy = new BagBrickGenerator(seed, new SplitMix64(random.state()), ring.length);
+        for (int i = 0; i < size; i++) copy.ring[i] = ring[(head + i) & mask];
+        copy.size = size;
+        return copy;
+    }
+
+    @Override
+    public Brick getBrick() {
+        ensure(1);
+        Brick brick = ring[head];
+        ring[head] = null;
+        head = (head + 1) & mask;
+        size--;
+        return brick;
+    }
+
+    @Override
+    public Brick getNextBrick() {
+        return peekBrick(0);
+    }
+
+    /**
+     * Return the brick {@code index} places ahead without consuming it;
+     * {@code 0} is the next brick. Does not allocate unless the ring has to
+     * grow to reach {@code index}.
+     *
+     * @param index non-negative look-ahead index
+     * @return the brick at that position
+     */
+    @Override
+    public Brick peekBrick(int index) {
+        if (index < 0) throw new IndexOutOfBoundsException("index " + index);
+        ensure(index + 1);
+        return ring[(head + index) & mask];
+    }
+
+    /**
+     * Return a read-only view of the next {@code count} bricks. The view is
+     * live and reused between calls with the same count: it reflects the
+     * queue at the time it is read, so callers that keep it across
+     * {@link #getBrick()} calls must copy it.
+     */
+    @Override
+    public List<Brick> getUpcomingBricks(int count) {
+        int n = Math.max(0, count);
+        ensure(n);
+        UpcomingView view = upcoming;
+        if (view == null || view.count != n) {
+            view = new UpcomingView(n);
+            upcoming = view;
+        }
+        return view;
+    }
+
+    /** Overwrite the head slot in place; the rest of the queue is untouched. */
+    @Override
+    public boolean replaceNext(Brick replacement) {
+        if (replacement == null) return false;
+        ensure(1);
+        ring[head] = replacement;
+        return true;
+    }
+
+    /**
+     * Capture the random source and the queued bricks.
+     *
+     * @return an immutable state that {@link #restoreState} accepts
+     */
+    public State saveState() {
+        Brick[] queue = new Brick[size];
+        for (int i = 0; i < size; i++) queue[i] = ring[(head + i) & mask];
+        return new State(random.state(), queue);
+    }
+
+    /**
+     * Resume from a state captured by {@link #saveState()}, possibly on
+     * another generator.
+     *
+     * @param state previously captured state
+     */
+    public void restoreState(State state) {
+        Objects.requireNonNull(state, "state");
+        random.setState(state.randomState);
+        Arrays.fill(ring, null);
+        head = 0;
+        size = 0;
+        grow(state.queue.length);
+        System.arraycopy(state.queue, 0, ring, 0, state.queue.length);
+        size = state.queue.length;
+    }
+
+    // append whole bags until at least `needed` bricks are queued
+    private void ensure(int needed) {
+        while (size < needed) {
+            grow(size + BAG_SIZE);
+            // start every bag from shape order so the random source is the only state
+            for (int i = 0; i < BAG_SIZE; i++) bag[i] = i;
+            for (int i = BAG_SIZE - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int t = bag[i];
+                bag[i] = bag[j];
+                bag[j] = t;
+            }
+            for (int i = 0; i < BAG_SIZE; i++) {
+                ring[(head + size) & mask] = BRICKS[bag[i]];
+                size++;
+            }
+        }
+    }
+
+    // make room for `capacity` bricks, keeping the queue order
+    private void grow(int capacity) {
+        if (capacity <= ring.length) return;
+        int length = ring.length;
+        while (length < capacity) length <<= 1;
+        Brick[] larger = new Brick[length];
+        for (int i = 0; i < size; i++) larger[i] = ring[(head + i) & mask];
+        ring = larger;
+        mask = length - 1;
+        head = 0;
+    }
+
+    /**
+     * Opaque snapshot of a generator's position.
+     */
+    public static final class State {
+        private final long randomState;
+        private final Brick[] queue;
+
+        private State(long randomState, Brick[] queue) {
+            this.randomState = randomState;
+            this.queue = queue;
+        }
+    }
+
+    // read-only window over the first `count` queued bricks
+    private final class UpcomingView extends AbstractList<Brick> implements RandomAccess {
+        private final int count;
+
+        UpcomingView(int count) {
+            this.count = count;
+        }
+
+        @Override
+        public Brick get(int index) {
+            if (index < 0 || index >= count) throw new IndexOutOfBoundsException("index " + index);
+            return peekBrick(index);
+        }
+
+        @Override
+        public int size() {
+            return count;
+        }
+    }
+}
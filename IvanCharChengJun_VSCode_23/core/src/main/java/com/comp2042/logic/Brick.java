@@ -26,4 +26,15 @@ public interface Brick {
      *         may mutate the returned arrays without affecting the provider.
      */
     List<int[][]> getShapeMatrix();
+
+    /**
+     * Identity of this brick, used to look up shared precomputed data in
+     * {@link PieceTable}. Non-standard bricks (e.g. test doubles) may keep
+     * the default.
+     *
+     * @return the {@link BrickShape}, or {@code null} when not a standard piece
+     */
+    default BrickShape getBrickShape() {
+        return null;
+    }
 }
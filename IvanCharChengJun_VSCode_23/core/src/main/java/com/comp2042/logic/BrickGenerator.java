@@ -45,6 +45,22 @@ public interface BrickGenerator {
         return java.util.Collections.emptyList();
     }
 
+    /**
+     * Return the brick {@code index} places ahead without consuming it, where
+     * {@code 0} is the brick {@link #getNextBrick()} returns. The default
+     * implementation goes through {@link #getUpcomingBricks(int)};
+     * implementations with an indexed queue answer without allocating.
+     *
+     * @param index non-negative look-ahead index
+     * @return the brick at that position, or {@code null} if the generator
+     *         cannot see that far
+     */
+    default Brick peekBrick(int index) {
+        if (index < 0) throw new IndexOutOfBoundsException("index " + index);
+        List<Brick> upcoming = getUpcomingBricks(index + 1);
+        return (upcoming != null && upcoming.size() > index) ? upcoming.get(index) : null;
+    }
+
     /**
      * Replace the head 'next' brick with the provided {@code replacement}
      * without altering the remainder of the queue.
@@ -0,0 +1,17 @@
+package com.comp2042.logic;
+
+/**
+ * Enum of brick identities.
+ *
+ * <p>Kept free of UI types so the core runs without JavaFX; the FX module
+ * maps each shape to its display colour ({@code com.comp2042.view.BrickColors}).
+ */
+public enum BrickShape {
+    I,
+    J,
+    L,
+    O,
+    S,
+    T,
+    Z
+}
@@ -0,0 +1,188 @@
+package com.comp2042.logic;
+
+import com.comp2042.logic.bricks.IBrick;
+import com.comp2042.logic.bricks.JBrick;
+import com.comp2042.logic.bricks.LBrick;
+import com.comp2042.logic.bricks.OBrick;
+import com.comp2042.logic.bricks.SBrick;
+import com.comp2042.logic.bricks.TBrick;
+import com.comp2042.logic.bricks.ZBrick;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Flyweight table of precomputed data for every {@link BrickShape} and each
+ * of its rotations, built once when the class is loaded.
+ *
+ * <p>Each {@link Piece} holds the rotation matrices, cell-offset arrays,
+ * bounding boxes, the lowest occupied row per column (the piece's bottom
+ * profile) and its colour code. The data is shared by every board, renderer
+ * and preview so hot paths read it without copying.
+ *
+ * <p>The matrices exposed by {@link Piece#matrix(int)} are shared instances:
+ * callers MUST NOT mutate them. Code that needs a private copy should use
+ * {@link Brick#getShapeMatrix()} instead. The table is immutable after class
+ * initialisation and safe for concurrent read-only use.
+ */
+public final class PieceTable {
+
+    private static final Map<BrickShape, Piece> PIECES = new EnumMap<>(BrickShape.class);
+
+    static {
+        register(new IBrick());
+        register(new JBrick());
+        register(new LBrick());
+        register(new OBrick());
+        register(new SBrick());
+        register(new TBrick());
+        register(new ZBrick());
+    }
+
+    // We don't want to instantiate this utility class
+    private PieceTable() {
+    }
+
+    private static void register(Brick brick) {
+        BrickShape shape = brick.getBrickShape();
+        PIECES.put(shape, new Piece(shape, brick.getShapeMatrix()));
+    }
+
+    /**
+     * @param shape the brick identity
+     * @return the precomputed piece data for {@code shape}
+     */
+    public static Piece get(BrickShape shape) {
+        return PIECES.get(shape);
+    }
+
+    /**
+     * Look up the table entry for a brick instance.
+     *
+     * @param brick a brick (may be {@code null})
+     * @return the shared piece data, or {@code null} when the brick is
+     *         {@code null} or does not report a standard {@link BrickShape}
+     */
+    public static Piece of(Brick brick) {
+        if (brick == null) return null;
+        BrickShape shape = brick.getBrickShape();
+        return (shape == null) ? null : PIECES.get(shape);
+    }
+
+    /**
+     * Precomputed, read-only data for one brick shape across all rotations.
+     */
+    public static final class Piece {
+        private final BrickShape shape;
+        private final int colour;
+        private final int[][][] matrices;
+        private final List<int[][]> matrixList;
+        private final int[][] cellX;
+        private final int[][] cellY;
+        private final int[] minX;
+        private final int[] maxX;
+        private final int[] minY;
+        private final int[] maxY;
+        private final int[][] bottom;
+
+        private Piece(BrickShape shape, List<int[][]> rotations) {
+            this.shape = shape;
+            int n = rotations.size();
+            this.matrices = rotations.toArray(new int[n][][]);
+            this.matrixList = Collections.unmodifiableList(Arrays.asList(matrices));
+            this.cellX = new int[n][];
+            this.cellY = new int[n][];
+            this.minX = new int[n];
+            this.maxX = new int[n];
+            this.minY = new int[n];
+            this.maxY = new int[n];
+            this.bottom = new int[n][];
+            int code = 0;
+            for (int r = 0; r < n; r++) {
+                int[][] m = matrices[r];
+                int cols = m[0].length;
+                int count = 0;
+                for (int[] row : m) for (int v : row) if (v != 0) count++;
+                cellX[r] = new int[count];
+                cellY[r] = new int[count];
+                bottom[r] = new int[cols];
+                Arrays.fill(bottom[r], -1);
+                minX[r] = Integer.MAX_VALUE;
+                minY[r] = Integer.MAX_VALUE;
+                maxX[r] = -1;
+                maxY[r] = -1;
+                int k = 0;
+                for (int i = 0; i < m.length; i++) {
+                    for (int j = 0; j < m[i].length; j++) {
+                        if (m[i][j] == 0) continue;
+                        code = m[i][j];
+                        cellX[r][k] = j;
+                        cellY[r][k] = i;
+                        k++;
+                        minX[r] = Math.min(minX[r], j);
+                        maxX[r] = Math.max(maxX[r], j);
+                        minY[r] = Math.min(minY[r], i);
+                        maxY[r] = Math.max(maxY[r], i);
+                        bottom[r][j] = Math.max(bottom[r][j], i);
+                    }
+                }
+            }
+            this.colour = code;
+        }
+
+        /** @return the brick identity this entry describes */
+        public BrickShape shape() { return shape; }
+
+        /** @return the board colour code written for this piece's cells */
+        public int colour() { return colour; }
+
+        /** @return number of distinct rotation states */
+        public int rotations() { return matrices.length; }
+
+        /**
+         * Shared rotation matrix (rows x cols). Callers MUST NOT mutate it.
+         *
+         * @param rotation rotation index in {@code [0, rotations())}
+         * @return the shared matrix for that rotation
+         */
+        public int[][] matrix(int rotation) { return matrices[rotation]; }
+
+        /** @return an unmodifiable list of the shared rotation matrices */
+        public List<int[][]> matrices() { return matrixList; }
+
+        /** @return number of occupied cells in the given rotation */
+        public int cellCount(int rotation) { return cellX[rotation].length; }
+
+        /** @return column (within the matrix) of the {@code i}-th occupied cell */
+        public int cellX(int rotation, int i) { return cellX[rotation][i]; }
+
+        /** @return row (within the matrix) of the {@code i}-th occupied cell */
+        public int cellY(int rotation, int i) { return cellY[rotation][i]; }
+
+        /** @return leftmost occupied column of the rotation's bounding box */
+        public int minX(int rotation) { return minX[rotation]; }
+
+        /** @return rightmost occupied column of the rotation's bounding box */
+        public int maxX(int rotation) { return maxX[rotation]; }
+
+        /** @return topmost occupied row of the rotation's bounding box */
+        public int minY(int rotation) { return minY[rotation]; }
+
+        /** @return bottom occupied row of the rotation's bounding box */
+        public int maxY(int rotation) { return maxY[rotation]; }
+
+        /**
+         * Bottom profile: the lowest occupied row of {@code column} within
+         * the rotation matrix.
+         *
+         * @return the row index, or {@code -1} when the column is empty
+         */
+        public int bottom(int rotation, int column) { return bottom[rotation][column]; }
+
+        /** @return width of the rotation matrix (columns, including empty ones) */
+        public int columns() { return matrices[0][0].length; }
+    }
+}
@@ -28,6 +28,12 @@ import com.comp2042.logic.bricks.ZBrick;
  * - {@link #replaceNext(Brick)} replaces the immediate next brick while
  *   preserving the remainder of the queue order.
  *
+ * <p>Generators built with {@link #RandomBrickGenerator(long)} are seeded:
+ * the same seed always produces the same sequence, and their position can be
+ * captured with {@link #saveState()} and resumed with {@link #restoreState}.
+ * Replays depend on this. The no-argument constructor keeps using
+ * {@link ThreadLocalRandom} and cannot be saved.
+ *
  * <p>Threading: this implementation is not synchronized and should be used by
  * a single game thread. If shared between threads, external synchronization
  * is required.
@@ -38,9 +44,26 @@ public class RandomBrickGenerator implements BrickGenerator {
 
     private final Deque<Brick> nextBricks = new ArrayDeque<>();
     private static final int BUFFER_SIZE = 4;
+    // null for the unseeded generator, which shuffles with ThreadLocalRandom
+    private final SplitMix64 random;
 
     /** Build a generator and pre-fill the internal buffer. */
     public RandomBrickGenerator() {
+        this(null);
+    }
+
+    /**
+     * Build a seeded generator whose sequence is fully determined by
+     * {@code seed}.
+     *
+     * @param seed seed of the bag shuffles
+     */
+    public RandomBrickGenerator(long seed) {
+        this(new SplitMix64(seed));
+    }
+
+    private RandomBrickGenerator(SplitMix64 random) {
+        this.random = random;
         brickList = new ArrayList<>();
         brickList.add(new IBrick());
         brickList.add(new JBrick());
@@ -58,11 +81,21 @@ public class RandomBrickGenerator implements BrickGenerator {
      */
     private void refillBagIfNeeded() {
         // keep adding full shuffled bags until we reach at least BUFFER_SIZE
-        while (nextBricks.size() < BUFFER_SIZE) {
-            List<Brick> bag = new ArrayList<>(brickList);
+        while (nextBricks.size() < BUFFER_SIZE) appendBag();
+    }
+
+    // append one shuffled permutation of all seven bricks
+    private void appendBag() {
+        List<Brick> bag = new ArrayList<>(brickList);
+        if (random == null) {
             java.util.Collections.shuffle(bag, ThreadLocalRandom.current());
-            for (Brick b : bag) nextBricks.add(b);
+        } else {
+            // Fisher-Yates driven by our own source so the order does not depend on the JDK
+            for (int i = bag.size() - 1; i > 0; i--) {
+                java.util.Collections.swap(bag, i, random.nextInt(i + 1));
+            }
         }
+        for (Brick b : bag) nextBricks.add(b);
     }
 
     @Override
@@ -80,7 +113,8 @@ public class RandomBrickGenerator implements BrickGenerator {
     @Override
     public java.util.List<Brick> getUpcomingBricks(int count) {
         // ensure the internal buffer has at least `count` elements so the returned list reflects the actual queue
-        while (nextBricks.size() < Math.max(count, BUFFER_SIZE)) refillBagIfNeeded();
+        refillBagIfNeeded();
+        while (nextBricks.size() < count) appendBag();
         java.util.List<Brick> out = new java.util.ArrayList<>();
         int i = 0;
         for (Brick b : nextBricks) {
@@ -104,4 +138,48 @@ public class RandomBrickGenerator implements BrickGenerator {
         nextBricks.addAll(newDeque);
         return true;
     }
+
+    /** @return {@code true} when this generator was built from a seed */
+    public boolean isSeeded() {
+        return random != null;
+    }
+
+    /**
+     * Capture the current position of a seeded generator: the random source
+     * and the queued bricks.
+     *
+     * @return an immutable state that {@link #restoreState} accepts
+     * @throws IllegalStateException if the generator is not seeded
+     */
+    public State saveState() {
+        if (random == null) throw new IllegalStateException("Only seeded generators can be saved");
+        return new State(random.state(), nextBricks.toArray(new Brick[0]));
+    }
+
+    /**
+     * Resume a seeded generator from a state captured by {@link #saveState()}.
+     *
+     * @param state previously captured state
+     * @throws IllegalStateException if the generator is not seeded
+     */
+    public void restoreState(State state) {
+        if (random == null) throw new IllegalStateException("Only seeded generators can be restored");
+        java.util.Objects.requireNonNull(state, "state");
+        random.setState(state.randomState);
+        nextBricks.clear();
+        for (Brick b : state.queue) nextBricks.add(b);
+    }
+
+    /**
+     * Opaque snapshot of a seeded generator's position.
+     */
+    public static final class State {
+        private final long randomState;
+        private final Brick[] queue;
+
+        private State(long randomState, Brick[] queue) {
+            this.randomState = randomState;
+            this.queue = queue;
+        }
+    }
 }
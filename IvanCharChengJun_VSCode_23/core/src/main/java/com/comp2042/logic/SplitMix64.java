@@ -0,0 +1,40 @@
+package com.comp2042.logic;
+
+/**
+ * Small seedable pseudo-random source (the SplitMix64 mixer).
+ *
+ * <p>Its entire state is one {@code long}, so a sequence can be saved and
+ * resumed exactly, and it only uses 64-bit integer arithmetic, so the same
+ * seed yields the same numbers on every JVM and machine. That makes it the
+ * source of choice wherever a game has to be reproduced, such as replays.
+ */
+final class SplitMix64 {
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private long state;
+
+    SplitMix64(long seed) {
+        this.state = seed;
+    }
+
+    long nextLong() {
+        long z = (state += GOLDEN_GAMMA);
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /** Uniform value in {@code [0, bound)}; {@code bound} must be positive. */
+    int nextInt(int bound) {
+        // multiply-shift on the top 32 bits; the bias is negligible for the small bounds used here
+        return (int) (((nextLong() >>> 32) * bound) >>> 32);
+    }
+
+    long state() {
+        return state;
+    }
+
+    void setState(long state) {
+        this.state = state;
+    }
+}
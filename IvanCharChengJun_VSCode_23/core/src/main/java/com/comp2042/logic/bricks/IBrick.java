@@ -1,6 +1,7 @@
 package com.comp2042.logic.bricks;
 
 import com.comp2042.logic.Brick;
+import com.comp2042.logic.BrickShape;
 import com.comp2042.utils.MatrixOperations;
 
 import java.util.ArrayList;
@@ -42,4 +43,8 @@ public final class IBrick implements Brick {
         return MatrixOperations.deepCopyList(brickMatrix);
     }
 
+    @Override
+    public BrickShape getBrickShape() {
+        return BrickShape.I;
+    }
 }
@@ -1,6 +1,7 @@
 package com.comp2042.logic.bricks;
 
 import com.comp2042.logic.Brick;
+import com.comp2042.logic.BrickShape;
 import com.comp2042.utils.MatrixOperations;
 
 import java.util.ArrayList;
@@ -31,4 +32,8 @@ public final class OBrick implements Brick {
         return MatrixOperations.deepCopyList(brickMatrix);
     }
 
+    @Override
+    public BrickShape getBrickShape() {
+        return BrickShape.O;
+    }
 }
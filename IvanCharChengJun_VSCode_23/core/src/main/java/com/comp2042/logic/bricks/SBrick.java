@@ -1,6 +1,7 @@
 package com.comp2042.logic.bricks;
 
 import com.comp2042.logic.Brick;
+import com.comp2042.logic.BrickShape;
 import com.comp2042.utils.MatrixOperations;
 
 import java.util.ArrayList;
@@ -37,4 +38,9 @@ public final class SBrick implements Brick {
     public List<int[][]> getShapeMatrix() {
         return MatrixOperations.deepCopyList(brickMatrix);
     }
+
+    @Override
+    public BrickShape getBrickShape() {
+        return BrickShape.S;
+    }
 }
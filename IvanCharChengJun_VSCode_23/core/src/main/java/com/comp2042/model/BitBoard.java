@@ -0,0 +1,528 @@
+package com.comp2042.model;
+
+import com.comp2042.logic.Brick;
+import com.comp2042.logic.BrickGenerator;
+import com.comp2042.logic.PieceTable;
+import com.comp2042.logic.RandomBrickGenerator;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * {@link Board} implementation that stores occupancy as one {@code long}
+ * bit-mask per row instead of scanning an {@code int[][]} cell by cell.
+ *
+ * <p>Bit {@code c} of {@code rows[r]} is set when column {@code c} of row
+ * {@code r} is filled. Every rotation of a piece is converted once into
+ * per-row masks so a collision test is a handful of shift-and-AND operations
+ * per piece row. Colour codes are kept in a separate side matrix that is only
+ * used for rendering and is what {@link #getBoardMatrix()} returns.
+ *
+ * <p>Gameplay behaviour (spawn position, wall kicks, scoring, swap) mirrors
+ * {@link SimpleBoard} so the two implementations are interchangeable. Boards
+ * up to 64 columns wide are supported.
+ *
+ * <p>This implementation is not thread-safe and is intended to be used from a
+ * single game loop thread.
+ */
+public class BitBoard implements Board {
+
+    private static final int MAX_WIDTH = Long.SIZE;
+    // vertical kick candidates tried in order after the plain rotation fails
+    private static final int[] DY_KICKS = {0, -1, 1, -2};
+
+    private final int width;
+    private final int height;
+    private final long fullRowMask;
+    private final BrickGenerator brickGenerator;
+    private final Score score;
+    // bricks are shared instances owned by the generator, so identity keys are enough
+    private final Map<Brick, PieceMasks> maskCache = new IdentityHashMap<>();
+
+    private final long[] rows;
+    private final int[][] colours;
+    // first row that may be non-empty; height when the board is empty
+    private int stackTop;
+    // rows written by the last merge, -1 when clearRows must rescan the whole board
+    private int mergeTop = -1;
+    private int mergeBottom = -1;
+    private final int[][] freedRows;
+    private final ClearRow noClear;
+    private final ColumnHeights columns;
+    private final RowVersions versions;
+
+    private Brick currentBrick;
+    private PieceMasks currentMasks;
+    private int rotation;
+    private int offsetX;
+    private int offsetY;
+
+    public BitBoard(int width, int height) {
+        this(width, height, new RandomBrickGenerator());
+    }
+
+    /**
+     * Create a board that draws pieces from the supplied generator.
+     *
+     * @param width          number of columns (1..64)
+     * @param height         number of rows
+     * @param brickGenerator source of pieces; must be non-null
+     * @throws IllegalArgumentException when the dimensions are unsupported
+     */
+    public BitBoard(int width, int height, BrickGenerator brickGenerator) {
+        if (width <= 0 || width > MAX_WIDTH) {
+            throw new IllegalArgumentException("width must be between 1 and " + MAX_WIDTH + ": " + width);
+        }
+        if (height <= 0) {
+            throw new IllegalArgumentException("height must be positive: " + height);
+        }
+        this.width = width;
+        this.height = height;
+        this.fullRowMask = (width == MAX_WIDTH) ? -1L : (1L << width) - 1;
+        this.brickGenerator = Objects.requireNonNull(brickGenerator, "brickGenerator");
+        this.rows = new long[height];
+        this.colours = new int[height][width];
+        this.freedRows = new int[height][];
+        this.stackTop = height;
+        this.noClear = ClearRow.none(colours);
+        this.columns = new ColumnHeights(width, height);
+        this.versions = new RowVersions(height);
+        this.score = new Score();
+    }
+
+    @Override
+    public boolean moveBrickDown() {
+        return tryMove(0, 1);
+    }
+
+    @Override
+    public boolean moveBrickLeft() {
+        return tryMove(-1, 0);
+    }
+
+    @Override
+    public boolean moveBrickRight() {
+        return tryMove(1, 0);
+    }
+
+    private boolean tryMove(int dx, int dy) {
+        if (currentMasks == null) return false;
+        if (collides(rotation, offsetX + dx, offsetY + dy)) {
+            return false;
+        }
+        offsetX += dx;
+        offsetY += dy;
+        return true;
+    }
+
+    /**
+     * Rotate the active brick counter-clockwise using the same wall-kick
+     * search order as {@link SimpleBoard#rotateLeftBrick()}.
+     */
+    @Override
+    public boolean rotateLeftBrick() {
+        if (currentMasks == null) return false;
+        int next = (rotation + 1) % currentMasks.rotations();
+        if (!collides(next, offsetX, offsetY)) {
+            rotation = next;
+            return true;
+        }
+
+        int shapeWidth = currentMasks.shapes[next][0].length;
+        int maxKick = Math.max(3, shapeWidth);
+        for (int dy : DY_KICKS) {
+            for (int k = 1; k <= maxKick; k++) {
+                for (int dx = k; dx >= -k; dx -= 2 * k) {
+                    int tryX = offsetX + dx;
+                    if (tryX < -shapeWidth || tryX > width + shapeWidth) continue;
+                    if (!collides(next, tryX, offsetY + dy)) {
+                        offsetX = tryX;
+                        offsetY += dy;
+                        rotation = next;
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Spawn the next brick near the top of the board, centred horizontally.
+     *
+     * @return {@code true} when the spawned piece immediately collides (game over)
+     */
+    @Override
+    public boolean createNewBrick() {
+        setCurrentBrick(brickGenerator.getBrick());
+        int shapeWidth = currentMasks.shapes[0][0].length;
+        offsetX = Math.max(0, (width - shapeWidth) / 2);
+        offsetY = 2; // keep 2 rows as hidden buffer
+        return collides(rotation, offsetX, offsetY);
+    }
+
+    /**
+     * Return the colour matrix used for rendering. This is the internal
+     * reference and MUST NOT be mutated by callers; occupancy is tracked
+     * separately and would fall out of sync.
+     */
+    @Override
+    public int[][] getBoardMatrix() {
+        return colours;
+    }
+
+    @Override
+    public ViewData getViewData() {
+        Brick next = brickGenerator.getNextBrick();
+        int[][] nextShape = (next != null) ? masksFor(next).shapes[0] : new int[][]{{0}};
+        int landingY = columns.landingY(currentMasks.shapes[rotation], offsetX, offsetY, colours);
+        if (currentMasks.piece != null) {
+            return ViewData.ofPiece(currentMasks.piece, rotation, offsetX, offsetY, nextShape, landingY);
+        }
+        return ViewData.ofShared(currentMasks.shapes[rotation], offsetX, offsetY, nextShape, landingY);
+    }
+
+    @Override
+    public void mergeBrickToBackground() {
+        if (currentMasks == null) return;
+        long[] pieceRows = currentMasks.rowMasks[rotation];
+        int[][] shape = currentMasks.shapes[rotation];
+        mergeTop = -1;
+        mergeBottom = -1;
+        for (int i = 0; i < pieceRows.length; i++) {
+            int targetY = offsetY + i;
+            if (pieceRows[i] == 0 || targetY < 0 || targetY >= height) continue;
+            rows[targetY] |= shift(pieceRows[i], offsetX);
+            if (mergeTop < 0) mergeTop = targetY;
+            mergeBottom = targetY;
+            int[] shapeRow = shape[i];
+            for (int j = 0; j < shapeRow.length; j++) {
+                int targetX = offsetX + j;
+                if (shapeRow[j] != 0 && targetX >= 0 && targetX < width) {
+                    if (colours[targetY][targetX] == 0) columns.cellFilled(targetX, targetY);
+                    colours[targetY][targetX] = shapeRow[j];
+                }
+            }
+        }
+        if (mergeTop >= 0) {
+            stackTop = Math.min(stackTop, mergeTop);
+            versions.changed(mergeTop, mergeBottom);
+        }
+    }
+
+    /**
+     * Remove full rows. Only the rows written by the preceding merge are
+     * tested; surviving rows (and their colour rows) are shifted down in
+     * place. Without a preceding merge the whole board is examined.
+     */
+    @Override
+    public ClearRow clearRows() {
+        int from = mergeTop;
+        int to = mergeBottom;
+        if (from < 0) {
+            from = 0;
+            to = height - 1;
+        }
+        mergeTop = -1;
+        mergeBottom = -1;
+
+        int count = 0;
+        for (int r = from; r <= to; r++) {
+            if (rows[r] == fullRowMask) count++;
+        }
+        if (count == 0) {
+            return noClear;
+        }
+
+        int[] cleared = new int[count];
+        int garbage = 0;
+        int k = 0;
+        for (int r = from; r <= to; r++) {
+            if (rows[r] != fullRowMask) continue;
+            cleared[k] = r;
+            freedRows[k] = colours[r];
+            for (int cell : colours[r]) {
+                if (cell == 8) { garbage++; break; }
+            }
+            k++;
+        }
+
+        int top = Math.min(stackTop, cleared[0]);
+        RowCompaction.compact(rows, cleared, count, top);
+        RowCompaction.compact(colours, cleared, count, top);
+        // the vacated top rows take the recycled colour rows
+        for (int i = 0; i < count; i++) {
+            int[] row = freedRows[i];
+            freedRows[i] = null;
+            Arrays.fill(row, 0);
+            rows[top + i] = 0L;
+            colours[top + i] = row;
+        }
+        stackTop = Math.min(height, top + count);
+        versions.changed(top, cleared[count - 1]);
+        columns.rowsCleared(cleared, count, colours, stackTop);
+        return ClearRow.inPlace(count, 50 * count * count, cleared, top, cleared[count - 1], garbage, colours);
+    }
+
+    @Override
+    public int sonicDrop() {
+        if (currentMasks == null) return 0;
+        int landing = columns.landingY(currentMasks.shapes[rotation], offsetX, offsetY, colours);
+        if (landing <= offsetY) return 0;
+        int distance = landing - offsetY;
+        offsetY = landing;
+        return distance;
+    }
+
+    @Override
+    public int moveBrickDownBy(int rows) {
+        if (currentMasks == null || rows <= 0) return 0;
+        int landing = columns.landingY(currentMasks.shapes[rotation], offsetX, offsetY, colours);
+        int distance = Math.min(rows, landing - offsetY);
+        if (distance <= 0) return 0;
+        offsetY += distance;
+        return distance;
+    }
+
+    @Override
+    public boolean isBrickGrounded() {
+        return currentMasks == null || collides(rotation, offsetX, offsetY + 1);
+    }
+
+    @Override
+    public int getLandingY(int[][] shape, int x, int fromY) {
+        return columns.landingY(shape, x, fromY, colours);
+    }
+
+    @Override
+    public int getColumnHeight(int column) {
+        return columns.height(column);
+    }
+
+    @Override
+    public int getColumnHoles(int column) {
+        return columns.holes(column);
+    }
+
+    @Override
+    public Score getScore() {
+        return score;
+    }
+
+    @Override
+    public void newGame() {
+        Arrays.fill(rows, 0L);
+        for (int[] row : colours) Arrays.fill(row, 0);
+        columns.reset();
+        versions.changedAll();
+        stackTop = height;
+        mergeTop = -1;
+        mergeBottom = -1;
+        score.reset();
+        createNewBrick();
+    }
+
+    @Override
+    public List<Brick> getUpcomingBricks(int count) {
+        return brickGenerator.getUpcomingBricks(count);
+    }
+
+    /**
+     * Swap the active piece with the generator's next piece, mirroring
+     * {@link SimpleBoard#swapCurrentWithNext()}.
+     */
+    @Override
+    public boolean swapCurrentWithNext() {
+        Brick next = brickGenerator.getNextBrick();
+        if (next == null || currentBrick == null) return false;
+        Brick oldCurrent = currentBrick;
+        int oldRotation = rotation;
+        setCurrentBrick(next);
+        if (collides(0, offsetX, offsetY)) {
+            setCurrentBrick(oldCurrent);
+            rotation = oldRotation;
+            return false;
+        }
+        boolean replaced = false;
+        try {
+            replaced = brickGenerator.replaceNext(oldCurrent);
+        } catch (Exception ignored) {}
+        if (!replaced) {
+            try {
+                brickGenerator.getBrick();
+            } catch (Exception ignored) {}
+        }
+        return true;
+    }
+
+    /**
+     * Push {@code count} garbage rows in from the bottom, keeping the row
+     * words and the colour matrix in step.
+     */
+    @Override
+    public void addGarbageRows(int count, int holeColumn) {
+        if (count <= 0) return;
+        int n = Math.min(count, height);
+        if (holeColumn < 0 || holeColumn >= width) holeColumn = width - 1;
+
+        int[][] freed = freedRows;
+        System.arraycopy(colours, 0, freed, 0, n);
+        System.arraycopy(rows, n, rows, 0, height - n);
+        System.arraycopy(colours, n, colours, 0, height - n);
+
+        long garbageMask = fullRowMask & ~(1L << holeColumn);
+        for (int i = 0; i < n; i++) {
+            int r = height - n + i;
+            int[] row = freed[i];
+            freed[i] = null;
+            Arrays.fill(row, 8);
+            row[holeColumn] = 0;
+            rows[r] = garbageMask;
+            colours[r] = row;
+        }
+        columns.garbageAdded(n, holeColumn, colours);
+        // every non-empty row moved up, plus the new rows
+        versions.changed(stackTop - n, height - 1);
+        stackTop = Math.max(0, stackTop - n);
+        mergeTop = -1;
+        mergeBottom = -1;
+    }
+
+    @Override
+    public long getBoardVersion() {
+        return versions.version();
+    }
+
+    @Override
+    public void collectChangedRows(long since, BitSet rows) {
+        versions.collectChangedSince(since, rows);
+    }
+
+    @Override
+    public BoardSnapshot snapshot() {
+        return new BoardSnapshot(colours, currentBrick, rotation, offsetX, offsetY, score.getScore());
+    }
+
+    /**
+     * Copy the snapshot's colours in place and rebuild the row words and
+     * column summary from them.
+     */
+    @Override
+    public void restore(BoardSnapshot snapshot) {
+        snapshot.checkSize(width, height);
+        int[][] matrix = snapshot.matrix();
+        stackTop = height;
+        for (int r = height - 1; r >= 0; r--) {
+            long bits = 0L;
+            for (int c = 0; c < width; c++) {
+                colours[r][c] = matrix[r][c];
+                if (matrix[r][c] != 0) bits |= 1L << c;
+            }
+            rows[r] = bits;
+            if (bits != 0) stackTop = r;
+        }
+        columns.rebuild(colours);
+        versions.changedAll();
+        mergeTop = -1;
+        mergeBottom = -1;
+        setCurrentBrick(snapshot.brick());
+        rotation = Math.floorMod(snapshot.rotation(), currentMasks.rotations());
+        offsetX = snapshot.x();
+        offsetY = snapshot.y();
+        score.add(snapshot.getScore() - score.getScore());
+    }
+
+    private void setCurrentBrick(Brick brick) {
+        this.currentBrick = Objects.requireNonNull(brick, "brick");
+        this.currentMasks = masksFor(brick);
+        this.rotation = 0;
+    }
+
+    private PieceMasks masksFor(Brick brick) {
+        return maskCache.computeIfAbsent(brick, PieceMasks::of);
+    }
+
+    private boolean collides(int rot, int x, int y) {
+        PieceMasks masks = currentMasks;
+        if (x + masks.minCol[rot] < 0 || x + masks.maxCol[rot] >= width) return true;
+        long[] pieceRows = masks.rowMasks[rot];
+        for (int i = 0; i < pieceRows.length; i++) {
+            long m = pieceRows[i];
+            if (m == 0) continue;
+            int targetY = y + i;
+            if (targetY < 0 || targetY >= height) return true;
+            if ((rows[targetY] & shift(m, x)) != 0) return true;
+        }
+        return false;
+    }
+
+    // the horizontal bounds check guarantees no set bit is shifted out
+    private static long shift(long mask, int x) {
+        return x >= 0 ? mask << x : mask >>> -x;
+    }
+
+    /**
+     * Per-brick precomputed data: one row-mask array, column extent and
+     * colour matrix per rotation. Built once per brick instance; standard
+     * pieces reuse the shared {@link PieceTable} matrices.
+     */
+    private static final class PieceMasks {
+        final long[][] rowMasks;
+        final int[] minCol;
+        final int[] maxCol;
+        final int[][][] shapes;
+        final PieceTable.Piece piece;
+
+        private PieceMasks(long[][] rowMasks, int[] minCol, int[] maxCol, int[][][] shapes, PieceTable.Piece piece) {
+            this.rowMasks = rowMasks;
+            this.minCol = minCol;
+            this.maxCol = maxCol;
+            this.shapes = shapes;
+            this.piece = piece;
+        }
+
+        int rotations() {
+            return shapes.length;
+        }
+
+        static PieceMasks of(Brick brick) {
+            PieceTable.Piece piece = PieceTable.of(brick);
+            List<int[][]> matrices = (piece != null) ? piece.matrices() : brick.getShapeMatrix();
+            if (matrices == null || matrices.isEmpty()) {
+                throw new IllegalStateException("Brick has no rotation shapes");
+            }
+            int n = matrices.size();
+            long[][] rowMasks = new long[n][];
+            int[] minCol = new int[n];
+            int[] maxCol = new int[n];
+            int[][][] shapes = new int[n][][];
+            for (int r = 0; r < n; r++) {
+                int[][] shape = matrices.get(r);
+                shapes[r] = shape;
+                rowMasks[r] = new long[shape.length];
+                int lo = Integer.MAX_VALUE;
+                int hi = -1;
+                for (int i = 0; i < shape.length; i++) {
+                    if (shape[i].length > MAX_WIDTH) {
+                        throw new IllegalArgumentException("Brick shape wider than " + MAX_WIDTH + " columns");
+                    }
+                    for (int j = 0; j < shape[i].length; j++) {
+                        if (shape[i][j] != 0) {
+                            rowMasks[r][i] |= 1L << j;
+                            lo = Math.min(lo, j);
+                            hi = Math.max(hi, j);
+                        }
+                    }
+                }
+                // empty rotation: no cells, never collides horizontally
+                minCol[r] = (hi < 0) ? 0 : lo;
+                maxCol[r] = hi;
+            }
+            return new PieceMasks(rowMasks, minCol, maxCol, shapes, piece);
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package com.comp2042.model;
+
+import java.util.BitSet;
+import java.util.List;
+
+import com.comp2042.logic.Brick;
+import com.comp2042.utils.MatrixOperations;
+
+/**
+ * Board model interface describing operations the controllers call to
+ * manipulate and query the game board.
+ *
+ * Implementations are expected to be single-threaded with respect to the
+ * game loop; callers should perform UI-thread / game-thread synchronization
+ * externally if required.
+ */
+public interface Board {
+
+    /** {@link #getBoardVersion()} of a board that does not track changes. */
+    long UNVERSIONED = -1;
+
+    /**
+     * Move the active brick down by one cell.
+     *
+     * @return {@code true} if the brick was moved successfully; {@code false}
+     *         if the movement was blocked (collision or floor) and the caller
+     *         should typically lock the piece.
+     */
+    boolean moveBrickDown();
+
+    /**
+     * Move the active brick left by one cell.
+     *
+     * @return {@code true} when the move succeeded, {@code false} when blocked.
+     */
+    boolean moveBrickLeft();
+
+    /**
+     * Move the active brick right by one cell.
+     *
+     * @return {@code true} when the move succeeded, {@code false} when blocked.
+     */
+    boolean moveBrickRight();
+
+    /**
+     * Rotate the active brick left (counter-clockwise). Implementations may
+     * apply wall-kick adjustments when a rotation would otherwise collide.
+     *
+     * @return {@code true} if rotation was applied, {@code false} when blocked.
+     */
+    boolean rotateLeftBrick();
+
+    /**
+     * Spawn a new active brick from the generator and place it on the board.
+     *
+     * @return {@code true} on successful spawn (no immediate collision); if
+     *         {@code false} is returned the caller may interpret it as a game
+     *         over condition.
+     */
+    boolean createNewBrick();
+
+    /**
+     * Return the current board matrix (rows x cols). Implementations should
+     * return either a defensive copy or document that the caller must not
+     * mutate the returned array.
+     *
+     * @return current board matrix; may be a defensive copy
+     */
+    int[][] getBoardMatrix();
+
+    /**
+     * Return a snapshot of the data required by the renderer to draw the
+     * current state (current piece, position and next piece preview).
+     *
+     * @return a {@link ViewData} instance describing the view state; callers
+     *         may assume this is immutable or a defensive snapshot.
+     */
+    ViewData getViewData();
+
+    /**
+     * Merge (lock) the active brick into the background matrix so its cells
+     * become part of the static board.
+     */
+    void mergeBrickToBackground();
+
+    /**
+     * Clear any full rows and return a {@link ClearRow} result describing
+     * the number of lines removed, the new matrix and any score bonus.
+     */
+    ClearRow clearRows();
+
+    /**
+     * Return the {@link Score} holder for this board. The returned object is
+     * typically a UI-bindable wrapper (JavaFX property backed).
+     */
+    Score getScore();
+
+    /**
+     * Reset the board to the initial state to start a new game. This will
+     * typically clear the matrix, reset score and spawn a new active brick.
+     */
+    void newGame();
+
+    /**
+     * Return up to {@code count} upcoming bricks (preview queue). Implementations
+     * should return a stable snapshot (defensive copy) suitable for rendering.
+     */
+    List<Brick> getUpcomingBricks(int count);
+
+    /**
+     * Optional: swap the currently active brick with the head of the next queue.
+     * Default implementation returns false (operation not supported).
+     */
+    default boolean swapCurrentWithNext() { return false; }
+
+    /**
+     * Push {@code count} garbage rows (value 8) in from the bottom, shifting
+     * existing rows upwards and leaving {@code holeColumn} empty. The default
+     * implementation edits the matrix returned by {@link #getBoardMatrix()} in
+     * place; boards that keep derived state alongside the matrix must override.
+     *
+     * @param count      number of garbage rows to add
+     * @param holeColumn column left empty in each garbage row (out-of-range
+     *                   values fall back to the last column)
+     */
+    default void addGarbageRows(int count, int holeColumn) {
+        int[][] matrix = getBoardMatrix();
+        if (count <= 0 || matrix == null || matrix.length == 0) return;
+
+        int h = matrix.length;
+        int w = matrix[0].length;
+        int n = Math.min(count, h);
+        if (holeColumn < 0 || holeColumn >= w) holeColumn = w - 1;
+
+        int[][] tmp = new int[h][w];
+        for (int r = 0; r < h - n; r++) {
+            System.arraycopy(matrix[r + n], 0, tmp[r], 0, w);
+        }
+        for (int r = h - n; r < h; r++) {
+            for (int c = 0; c < w; c++) {
+                tmp[r][c] = (c == holeColumn) ? 0 : 8;
+            }
+        }
+        for (int r = 0; r < h; r++) {
+            System.arraycopy(tmp[r], 0, matrix[r], 0, w);
+        }
+    }
+
+    /**
+     * Move the active brick straight down to its landing row without locking
+     * it. The default implementation steps with {@link #moveBrickDown()};
+     * boards that know the landing row jump there directly.
+     *
+     * @return number of rows the brick moved
+     */
+    default int sonicDrop() {
+        int distance = 0;
+        while (moveBrickDown()) distance++;
+        return distance;
+    }
+
+    /**
+     * Move the active brick down by up to {@code rows} cells without locking
+     * it, stopping early on its landing row. Used by gravity above one cell
+     * per frame. The default implementation steps with
+     * {@link #moveBrickDown()}; boards that know the landing row clamp to it.
+     *
+     * @param rows maximum number of rows to move
+     * @return number of rows the brick moved
+     */
+    default int moveBrickDownBy(int rows) {
+        int distance = 0;
+        while (distance < rows && moveBrickDown()) distance++;
+        return distance;
+    }
+
+    /**
+     * Whether the active brick rests on the stack or floor, i.e. cannot
+     * move down one row. Used to run the lock delay.
+     */
+    default boolean isBrickGrounded() {
+        ViewData view = getViewData();
+        if (view == null || view.getBrickData() == null) return true;
+        return getLandingY(view.getBrickData(), view.getxPosition(), view.getyPosition()) <= view.getyPosition();
+    }
+
+    /**
+     * Drop the active brick to its landing row and merge it into the
+     * background. Clearing rows and spawning the next brick are left to the
+     * caller, as after {@link #mergeBrickToBackground()}.
+     *
+     * @return number of rows the brick dropped
+     */
+    default int hardDrop() {
+        int distance = sonicDrop();
+        mergeBrickToBackground();
+        return distance;
+    }
+
+    /**
+     * Row where {@code shape} comes to rest when dropped from above the board
+     * at column offset {@code x}.
+     *
+     * @param shape shape matrix
+     * @param x     column offset of the shape
+     * @return the landing row for the top of the shape
+     */
+    default int getLandingY(int[][] shape, int x) {
+        return getLandingY(shape, x, -shape.length);
+    }
+
+    /**
+     * Row where {@code shape} comes to rest when dropped from row offset
+     * {@code fromY} (used for the ghost piece). Cells above the board do not
+     * collide. The default implementation steps down row by row; boards that
+     * keep a column-height summary answer in one pass over the shape's width.
+     *
+     * @param shape shape matrix
+     * @param x     column offset of the shape
+     * @param fromY row offset to drop from
+     * @return the landing row for the top of the shape
+     */
+    default int getLandingY(int[][] shape, int x, int fromY) {
+        return MatrixOperations.landingY(getBoardMatrix(), shape, x, fromY);
+    }
+
+    /**
+     * Height of a column: number of rows from its topmost filled cell down
+     * to the floor, or {@code 0} for an empty column.
+     */
+    default int getColumnHeight(int column) {
+        int[][] matrix = getBoardMatrix();
+        for (int r = 0; r < matrix.length; r++) {
+            if (matrix[r][column] != 0) return matrix.length - r;
+        }
+        return 0;
+    }
+
+    /**
+     * Number of empty cells in a column below its topmost filled cell.
+     */
+    default int getColumnHoles(int column) {
+        int[][] matrix = getBoardMatrix();
+        int holes = 0;
+        boolean covered = false;
+        for (int[] row : matrix) {
+            if (row[column] != 0) covered = true;
+            else if (covered) holes++;
+        }
+        return holes;
+    }
+
+    /**
+     * Version of the background matrix. It grows with every merge, row clear,
+     * garbage insertion, new game and restore and is unchanged by moving the
+     * active brick, so a renderer that still holds the version it last drew
+     * can skip the frame. The default {@link #UNVERSIONED} means the board
+     * does not track changes and callers must redraw everything.
+     */
+    default long getBoardVersion() {
+        return UNVERSIONED;
+    }
+
+    /**
+     * Add to {@code rows} every background row changed after version
+     * {@code since}, as returned earlier by {@link #getBoardVersion()}. The
+     * default marks every row.
+     *
+     * @param since version the caller last drew
+     * @param rows  set receiving the changed row indices
+     */
+    default void collectChangedRows(long since, BitSet rows) {
+        rows.set(0, getBoardMatrix().length);
+    }
+
+    /**
+     * Capture the background, the active brick and the score so the board
+     * can later be put back into exactly this state with {@link #restore}.
+     * The brick generator is not included; callers that need to resume the
+     * piece sequence save it alongside.
+     *
+     * @return an immutable snapshot
+     * @throws UnsupportedOperationException if the board cannot be snapshotted
+     */
+    default BoardSnapshot snapshot() {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support snapshots");
+    }
+
+    /**
+     * Put the board back into a state captured by {@link #snapshot()} on a
+     * board of the same size.
+     *
+     * @param snapshot previously captured state
+     * @throws IllegalArgumentException if the snapshot has a different size
+     * @throws UnsupportedOperationException if the board cannot be restored
+     */
+    default void restore(BoardSnapshot snapshot) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " does not support snapshots");
+    }
+}
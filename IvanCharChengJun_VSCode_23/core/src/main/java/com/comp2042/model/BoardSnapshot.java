@@ -0,0 +1,77 @@
+package com.comp2042.model;
+
+import com.comp2042.logic.Brick;
+
+import java.util.Objects;
+
+/**
+ * Immutable copy of a board's state taken by {@link Board#snapshot()}: the
+ * background matrix, the active brick with its rotation and offset, and the
+ * score.
+ *
+ * <p>The snapshot is opaque outside this package apart from a few read-only
+ * accessors; it is only meant to be handed back to {@link Board#restore}.
+ */
+public final class BoardSnapshot {
+    private final int[][] matrix;
+    private final Brick brick;
+    private final int rotation;
+    private final int x;
+    private final int y;
+    private final int score;
+
+    BoardSnapshot(int[][] matrix, Brick brick, int rotation, int x, int y, int score) {
+        int[][] copy = new int[matrix.length][];
+        for (int i = 0; i < matrix.length; i++) copy[i] = matrix[i].clone();
+        this.matrix = copy;
+        this.brick = Objects.requireNonNull(brick, "brick");
+        this.rotation = rotation;
+        this.x = x;
+        this.y = y;
+        this.score = score;
+    }
+
+    /** @return board width of the snapshot */
+    public int getWidth() {
+        return matrix.length == 0 ? 0 : matrix[0].length;
+    }
+
+    /** @return board height of the snapshot */
+    public int getHeight() {
+        return matrix.length;
+    }
+
+    /** @return score at the time of the snapshot */
+    public int getScore() {
+        return score;
+    }
+
+    // read-only views for the boards restoring from this snapshot
+    int[][] matrix() {
+        return matrix;
+    }
+
+    Brick brick() {
+        return brick;
+    }
+
+    int rotation() {
+        return rotation;
+    }
+
+    int x() {
+        return x;
+    }
+
+    int y() {
+        return y;
+    }
+
+    // throws when the snapshot was taken on a board of another size
+    void checkSize(int width, int height) {
+        if (getWidth() != width || getHeight() != height) {
+            throw new IllegalArgumentException("Snapshot is " + getWidth() + "x" + getHeight()
+                    + " but the board is " + width + "x" + height);
+        }
+    }
+}
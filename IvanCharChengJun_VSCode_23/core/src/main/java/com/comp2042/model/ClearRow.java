@@ -0,0 +1,139 @@
+package com.comp2042.model;
+
+import com.comp2042.utils.MatrixOperations;
+
+/**
+ * Result object returned after clearing rows from the board.
+ *
+ * <p>Contains the number of lines removed, the new board matrix (a defensive
+ * copy is returned by {@link #getNewMatrix()}), any score bonus awarded, an
+ * array of indices of cleared rows and the range of rows whose contents
+ * changed ({@link #getDirtyFromRow()}..{@link #getDirtyToRow()}).</p>
+ *
+ * <p>Boards that clear in place create results through
+ * {@link #inPlace(int, int, int[], int, int, int, int[][])}; those keep a
+ * reference to the live board matrix instead of a copy, so
+ * {@link #getNewMatrix()} reflects the board at the time it is called.
+ * Renderers should prefer the dirty row range.</p>
+ */
+public final class ClearRow {
+
+    private static final int[] NO_ROWS = new int[0];
+
+    private final int linesRemoved;
+    private final int[][] newMatrix;
+    private final int[] clearedRows;
+    private final int scoreBonus;
+    private final int dirtyFromRow;
+    private final int dirtyToRow;
+    private final int garbageLinesRemoved;
+
+    public ClearRow(int linesRemoved, int[][] newMatrix, int scoreBonus, int[] clearedRows) {
+        this.linesRemoved = linesRemoved;
+        // store a defensive copy of the matrix to avoid external mutation
+        this.newMatrix = MatrixOperations.copy(newMatrix);
+        this.scoreBonus = scoreBonus;
+        this.clearedRows = (clearedRows == null) ? new int[0] : clearedRows.clone();
+        // without more information everything above the lowest cleared row moved
+        int lowest = -1;
+        for (int r : this.clearedRows) lowest = Math.max(lowest, r);
+        this.dirtyFromRow = (lowest < 0) ? -1 : 0;
+        this.dirtyToRow = lowest;
+        this.garbageLinesRemoved = 0;
+    }
+
+    private ClearRow(int linesRemoved, int scoreBonus, int[] clearedRows, int dirtyFromRow, int dirtyToRow,
+                     int garbageLinesRemoved, int[][] liveMatrix) {
+        this.linesRemoved = linesRemoved;
+        this.newMatrix = liveMatrix;
+        this.scoreBonus = scoreBonus;
+        this.clearedRows = clearedRows;
+        this.dirtyFromRow = dirtyFromRow;
+        this.dirtyToRow = dirtyToRow;
+        this.garbageLinesRemoved = garbageLinesRemoved;
+    }
+
+    /**
+     * Create a result for a board that compacted its own matrix in place.
+     * Neither array is copied: {@code clearedRows} must be a fresh array
+     * owned by the result and {@code liveMatrix} is the board's matrix.
+     */
+    static ClearRow inPlace(int linesRemoved, int scoreBonus, int[] clearedRows, int dirtyFromRow, int dirtyToRow,
+                            int garbageLinesRemoved, int[][] liveMatrix) {
+        return new ClearRow(linesRemoved, scoreBonus, clearedRows == null ? NO_ROWS : clearedRows,
+                dirtyFromRow, dirtyToRow, garbageLinesRemoved, liveMatrix);
+    }
+
+    /**
+     * Create the result for a lock that removed no rows.
+     */
+    static ClearRow none(int[][] liveMatrix) {
+        return new ClearRow(0, 0, NO_ROWS, -1, -1, 0, liveMatrix);
+    }
+
+    /**
+     * Number of lines removed by this clear operation.
+     *
+     * @return the count of lines removed.
+     */
+    public int getLinesRemoved() {
+        return linesRemoved;
+    }
+
+    /**
+     * Return a defensive copy of the new board matrix after rows were cleared.
+     * For in-place results this copies the board's current matrix.
+     *
+     * @return a fresh copy of the board matrix reflecting removed rows.
+     */
+    public int[][] getNewMatrix() {
+        return MatrixOperations.copy(newMatrix);
+    }
+
+    /**
+     * Score bonus awarded for this clear operation.
+     *
+     * @return the score bonus value.
+     */
+    public int getScoreBonus() {
+        return scoreBonus;
+    }
+    
+    /**
+     * Return a defensive copy of the cleared row indices (may be empty).
+     *
+     * @return an array with the indices of cleared rows.
+     */
+    public int[] getClearedRows() {
+        return clearedRows == null ? new int[0] : clearedRows.clone();
+    }
+
+    /**
+     * Topmost row whose contents changed because of this clear.
+     *
+     * @return the row index, or {@code -1} when nothing changed.
+     */
+    public int getDirtyFromRow() {
+        return dirtyFromRow;
+    }
+
+    /**
+     * Bottom-most row whose contents changed because of this clear (the
+     * lowest cleared row).
+     *
+     * @return the row index, or {@code -1} when nothing changed.
+     */
+    public int getDirtyToRow() {
+        return dirtyToRow;
+    }
+
+    /**
+     * Number of cleared rows that contained garbage cells (code 8) before
+     * the clear. Results built with the public constructor report {@code 0}.
+     *
+     * @return the count of cleared garbage rows.
+     */
+    public int getGarbageLinesRemoved() {
+        return garbageLinesRemoved;
+    }
+}
@@ -0,0 +1,141 @@
+package com.comp2042.model;
+
+import com.comp2042.utils.MatrixOperations;
+
+import java.util.Arrays;
+
+/**
+ * Per-column surface summary kept by the boards: the topmost filled row of
+ * every column and the number of filled cells in it, from which the column
+ * height and the number of holes (empty cells below the surface) follow.
+ *
+ * <p>The summary is updated cell by cell on merge and adjusted on line
+ * clears and garbage, so the landing row of a piece can be found from its
+ * bottom profile in a single pass over its width instead of stepping the
+ * piece down row by row.</p>
+ */
+final class ColumnHeights {
+
+    private final int width;
+    private final int height;
+    // first filled row of each column; height when the column is empty
+    private final int[] top;
+    // filled cells per column
+    private final int[] filled;
+
+    ColumnHeights(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.top = new int[width];
+        this.filled = new int[width];
+        reset();
+    }
+
+    void reset() {
+        Arrays.fill(top, height);
+        Arrays.fill(filled, 0);
+    }
+
+    /** Record that the empty cell at ({@code x}, {@code y}) became filled. */
+    void cellFilled(int x, int y) {
+        filled[x]++;
+        if (y < top[x]) top[x] = y;
+    }
+
+    /**
+     * Adjust for full rows removed from the board.
+     *
+     * @param cleared cleared row indices in ascending order
+     * @param count   number of cleared rows
+     * @param matrix  the board matrix after compaction
+     * @param scanFrom first row that may be non-empty after compaction
+     */
+    void rowsCleared(int[] cleared, int count, int[][] matrix, int scanFrom) {
+        for (int c = 0; c < width; c++) {
+            if (top[c] >= height) continue;
+            filled[c] -= count;
+            int t = top[c];
+            int below = 0;
+            boolean topCleared = false;
+            for (int i = 0; i < count; i++) {
+                if (cleared[i] == t) topCleared = true;
+                else if (cleared[i] > t) below++;
+            }
+            if (filled[c] == 0) {
+                top[c] = height;
+            } else if (!topCleared) {
+                top[c] = t + below;
+            } else {
+                // the surface cell went away; the next one down is close by
+                int r = scanFrom;
+                while (r < height && matrix[r][c] == 0) r++;
+                top[c] = r;
+            }
+        }
+    }
+
+    /**
+     * Adjust for {@code n} garbage rows pushed in from the bottom with
+     * {@code holeColumn} left empty.
+     */
+    void garbageAdded(int n, int holeColumn, int[][] matrix) {
+        for (int c = 0; c < width; c++) {
+            if (top[c] < n) {
+                // cells were pushed off the top; recount from the matrix
+                rebuild(matrix);
+                return;
+            }
+        }
+        for (int c = 0; c < width; c++) {
+            if (c == holeColumn) {
+                if (top[c] < height) top[c] -= n;
+            } else {
+                top[c] = (top[c] < height) ? top[c] - n : height - n;
+                filled[c] += n;
+            }
+        }
+    }
+
+    /** Recompute the summary from scratch. */
+    void rebuild(int[][] matrix) {
+        reset();
+        for (int r = height - 1; r >= 0; r--) {
+            int[] row = matrix[r];
+            for (int c = 0; c < width; c++) {
+                if (row[c] != 0) cellFilled(c, r);
+            }
+        }
+    }
+
+    int height(int column) {
+        return height - top[column];
+    }
+
+    int holes(int column) {
+        return height - top[column] - filled[column];
+    }
+
+    /**
+     * Landing row for {@code shape} dropped from {@code fromY} at column
+     * offset {@code x}. Uses the shape's bottom profile against the column
+     * tops and falls back to a row-by-row scan when the shape hangs outside
+     * the board or is already below the surface of a column (tucked under
+     * an overhang), where the surface alone does not decide the answer.
+     */
+    int landingY(int[][] shape, int x, int fromY, int[][] matrix) {
+        int landing = Integer.MAX_VALUE;
+        int cols = shape[0].length;
+        for (int j = 0; j < cols; j++) {
+            int bottom = -1;
+            for (int i = shape.length - 1; i >= 0; i--) {
+                if (shape[i][j] != 0) { bottom = i; break; }
+            }
+            if (bottom < 0) continue;
+            int column = x + j;
+            if (column < 0 || column >= width) return MatrixOperations.landingY(matrix, shape, x, fromY);
+            landing = Math.min(landing, top[column] - 1 - bottom);
+        }
+        if (landing == Integer.MAX_VALUE) return MatrixOperations.landingY(matrix, shape, x, fromY);
+        return (landing >= fromY) ? landing : MatrixOperations.landingY(matrix, shape, x, fromY);
+    }
+}
@@ -0,0 +1,40 @@
+package com.comp2042.model;
+
+/**
+ * In-place row compaction shared by the boards' line clear.
+ *
+ * <p>Surviving rows between the stack top and the lowest cleared row are
+ * moved down over the cleared rows with one {@link System#arraycopy} per
+ * contiguous segment, so the cost is bounded by the rows that actually move
+ * and nothing is allocated. The same call works for any array type, which
+ * lets a board shift its cell rows and per-row bookkeeping identically.</p>
+ */
+final class RowCompaction {
+
+    // We don't want to instantiate this utility class
+    private RowCompaction() {
+    }
+
+    /**
+     * Remove {@code count} cleared rows from {@code rows}.
+     *
+     * @param rows    the row array ({@code int[][]}, {@code int[]}, {@code long[]} ...)
+     * @param cleared cleared row indices in ascending order
+     * @param count   number of entries of {@code cleared} to use (at least one)
+     * @param top     first row that may be non-empty; must not exceed {@code cleared[0]}
+     * @return the last vacated row; rows {@code top..result} hold stale
+     *         entries that the caller must reset
+     */
+    static int compact(Object rows, int[] cleared, int count, int top) {
+        int write = cleared[count - 1];
+        for (int i = count - 1; i >= 0; i--) {
+            int start = (i > 0) ? cleared[i - 1] + 1 : top;
+            int length = cleared[i] - start;
+            if (length > 0) {
+                System.arraycopy(rows, start, rows, write - length + 1, length);
+                write -= length;
+            }
+        }
+        return write;
+    }
+}
@@ -0,0 +1,52 @@
+package com.comp2042.model;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Change tracking kept by the boards for renderers: a board version that
+ * grows with every change to the background and, per row, the version that
+ * last changed it.
+ *
+ * <p>A renderer remembers the version it last drew. When the board's version
+ * is still the same nothing changed and the frame can be skipped; otherwise
+ * {@link #collectChangedSince(long, BitSet)} names the rows to repaint.
+ * Keeping a version per row rather than a single dirty set lets any number
+ * of views catch up from whatever version they last saw.</p>
+ */
+final class RowVersions {
+
+    private final long[] rows;
+    private long version;
+
+    RowVersions(int height) {
+        this.rows = new long[height];
+    }
+
+    /** @return the current board version; {@code 0} before any change */
+    long version() {
+        return version;
+    }
+
+    /** Record one change covering rows {@code from..to} (inclusive, clamped). */
+    void changed(int from, int to) {
+        int lo = Math.max(0, from);
+        int hi = Math.min(rows.length - 1, to);
+        if (lo > hi) return;
+        version++;
+        Arrays.fill(rows, lo, hi + 1, version);
+    }
+
+    /** Record one change covering every row. */
+    void changedAll() {
+        changed(0, rows.length - 1);
+    }
+
+    /** Add to {@code into} each row changed after version {@code since}. */
+    void collectChangedSince(long since, BitSet into) {
+        if (since >= version) return;
+        for (int r = 0; r < rows.length; r++) {
+            if (rows[r] > since) into.set(r);
+        }
+    }
+}
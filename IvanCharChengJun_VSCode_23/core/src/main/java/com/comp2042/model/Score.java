@@ -0,0 +1,85 @@
+package com.comp2042.model;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Simple score container that notifies registered {@link ScoreListener}s on
+ * every change.
+ *
+ * <p>The core has no UI dependency: view layers observe the score through a
+ * listener (the FX module adapts it to an {@code IntegerProperty}). Listeners
+ * run on the thread that changes the score. Registration is expected to
+ * happen during setup; notification itself does not allocate.
+ */
+public final class Score {
+
+    private static final ScoreListener[] NO_LISTENERS = new ScoreListener[0];
+
+    private int score;
+    private ScoreListener[] listeners = NO_LISTENERS;
+
+    /**
+     * @return the current score value.
+     */
+    public int getScore() { return score; }
+
+    /**
+     * Add the given amount to the current score.
+     *
+     * @param i amount to add (may be negative to subtract).
+     */
+    public void add(int i){
+        set(score + i);
+    }
+
+    /**
+     * Reset the score to zero.
+     */
+    public void reset() {
+        set(0);
+    }
+
+    /**
+     * Register a listener notified after every change.
+     *
+     * @param listener the listener; must be non-null
+     */
+    public void addListener(ScoreListener listener) {
+        Objects.requireNonNull(listener, "listener");
+        ScoreListener[] copy = Arrays.copyOf(listeners, listeners.length + 1);
+        copy[listeners.length] = listener;
+        listeners = copy;
+    }
+
+    /**
+     * Remove a previously registered listener (no-op when absent).
+     *
+     * @param listener the listener to remove
+     */
+    public void removeListener(ScoreListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                ScoreListener[] copy = new ScoreListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, copy, 0, i);
+                System.arraycopy(listeners, i + 1, copy, i, listeners.length - i - 1);
+                listeners = copy;
+                return;
+            }
+        }
+    }
+
+    private void set(int value) {
+        int old = score;
+        if (old == value) return;
+        score = value;
+        for (ScoreListener listener : listeners) {
+            listener.scoreChanged(old, value);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Score{" + "score=" + score + '}';
+    }
+}
@@ -0,0 +1,17 @@
+package com.comp2042.model;
+
+/**
+ * Callback notified whenever a {@link Score} changes value.
+ *
+ * <p>Listeners run synchronously on the thread that changed the score;
+ * UI adapters are responsible for hopping to their own thread if needed.
+ */
+@FunctionalInterface
+public interface ScoreListener {
+
+    /**
+     * @param oldValue score before the change
+     * @param newValue score after the change
+     */
+    void scoreChanged(int oldValue, int newValue);
+}
@@ -0,0 +1,548 @@
+package com.comp2042.model;
+
+import com.comp2042.logic.Brick;
+import com.comp2042.logic.BrickGenerator;
+import com.comp2042.logic.PieceTable;
+import com.comp2042.logic.RandomBrickGenerator;
+import com.comp2042.utils.BrickRotator;
+import com.comp2042.utils.MatrixOperations;
+
+import java.util.BitSet;
+
+/**
+ * Concrete {@link Board} implementation using a simple 2D int matrix as the
+ * background and a {@link com.comp2042.logic.BrickGenerator} to provide pieces.
+ *
+ * This implementation is not thread-safe and is intended to be used from the
+ * game loop / JavaFX thread. Many return values are snapshots or direct
+ * references to internal structures; callers should treat returned arrays as
+ * read-only unless explicitly documented otherwise.
+ */
+public class SimpleBoard implements Board {
+    private static final int[] KICK_DY = {0, -1, 1, -2};
+    private final int width;
+    private final int height;
+    private final BrickGenerator brickGenerator;
+    private final BrickRotator brickRotator;
+    private int[][] currentGameMatrix;
+    // occupied cells per row, kept in step with the matrix so full rows are found without scanning them
+    private final int[] rowFill;
+    // first row that may be non-empty; height when the board is empty
+    private int stackTop;
+    // rows written by the last merge, -1 when clearRows must rescan the whole board
+    private int mergeTop = -1;
+    private int mergeBottom = -1;
+    // recycled row arrays of the rows being cleared
+    private final int[][] freedRows;
+    private final ClearRow noClear;
+    private final ColumnHeights columns;
+    private final RowVersions versions;
+    private int offsetX;
+    private int offsetY;
+    private final Score score;
+    // preview shape for the generator's head, refreshed only when the head changes
+    private Brick cachedNextBrick;
+    private int[][] cachedNextShape;
+
+
+    public SimpleBoard(int width, int height) {
+        this(width, height, new RandomBrickGenerator());
+    }
+
+    /**
+     * Create a board that draws pieces from the supplied generator (useful
+     * for deterministic tests and headless runs).
+     */
+    public SimpleBoard(int width, int height, BrickGenerator brickGenerator) {
+        this.width = width;
+        this.height = height;
+        currentGameMatrix = new int[height][width];
+        rowFill = new int[height];
+        freedRows = new int[height][];
+        stackTop = height;
+        noClear = ClearRow.none(currentGameMatrix);
+        columns = new ColumnHeights(width, height);
+        versions = new RowVersions(height);
+        this.brickGenerator = java.util.Objects.requireNonNull(brickGenerator, "brickGenerator");
+        brickRotator = new BrickRotator();
+        score = new Score();
+    }
+
+    /**
+     * Move the active brick down by one cell if the space below is free.
+     *
+     * @return {@code true} when the piece moved; {@code false} when blocked
+     *         (the caller will usually lock the piece after a failed move).
+     */
+    @Override
+    public boolean moveBrickDown() {
+        return tryMove(0, 1);
+    }
+
+    /**
+     * Move the active brick left by one cell when possible.
+     *
+     * @return {@code true} when the move succeeded, {@code false} when
+     *         blocked by the board or other pieces.
+     */
+    @Override
+    public boolean moveBrickLeft() {
+        return tryMove(-1, 0);
+    }
+
+    /**
+     * Move the active brick right by one cell when possible.
+     *
+     * @return {@code true} when the move succeeded, {@code false} when
+     *         blocked by the board or other pieces.
+     */
+    @Override
+    public boolean moveBrickRight() {
+        return tryMove(1, 0);
+    }
+
+    // in-place offset update guarded by a read-only collision check; no copies
+    private boolean tryMove(int dx, int dy) {
+        if (MatrixOperations.intersect(currentGameMatrix, brickRotator.peekCurrentShape(), offsetX + dx, offsetY + dy)) {
+            return false;
+        }
+        offsetX += dx;
+        offsetY += dy;
+        return true;
+    }
+
+    /**
+     * Rotate the active brick counter-clockwise. This implementation will
+     * attempt a series of wall-kick translations when the straightforward
+     * rotation would intersect other cells or the board edges.
+     *
+     * @return {@code true} when the rotation (possibly with kicks) succeeded,
+     *         {@code false} when no valid placement could be found.
+     */
+    @Override
+    public boolean rotateLeftBrick() {
+        int nextIndex = brickRotator.getNextShapeIndex();
+        int[][] nextShape = brickRotator.peekShape(nextIndex);
+        // first try rotation at current offset
+        if (!MatrixOperations.intersect(currentGameMatrix, nextShape, offsetX, offsetY)) {
+            brickRotator.setCurrentShape(nextIndex);
+            return true;
+        }
+
+        // Improved wall-kick: try a wider range of horizontal kicks and small vertical adjustments.
+        // This helps pieces (I, L, Z, T, etc.) to rotate when close to walls or other blocks.
+        int shapeWidth = nextShape[0].length;
+        int boardWidth = currentGameMatrix[0].length;
+        // pick a reasonable max kick range: at least 3, but also consider the shape width
+        int maxKick = Math.max(3, shapeWidth);
+
+        // Try small vertical adjustments too (upwards first is most useful for floor collisions);
+        // horizontal candidates run 1, -1, 2, -2, ... up to maxKick
+        for (int dy : KICK_DY) {
+            for (int k = 1; k <= maxKick; k++) {
+                for (int dx = k; dx >= -k; dx -= 2 * k) {
+                    int tryX = offsetX + dx;
+                    int tryY = offsetY + dy;
+                    if (tryX < -shapeWidth || tryX > boardWidth + shapeWidth) continue; // skip nonsensical shifts
+                    if (!MatrixOperations.intersect(currentGameMatrix, nextShape, tryX, tryY)) {
+                        // commit the successful translation
+                        offsetX = tryX;
+                        offsetY = tryY;
+                        brickRotator.setCurrentShape(nextIndex);
+                        return true;
+                    }
+                }
+            }
+        }
+
+        // rotation blocked
+        return false;
+    }
+
+    /**
+     * Spawn a new brick from the configured {@link BrickGenerator} and place
+     * it near the top of the board. This method positions the piece centered
+     * horizontally (respecting shape width) and uses a small hidden buffer
+     * rows from the top.
+     *
+     * @return {@code true} if the spawn intersects the existing board. A
+     *         returning {@code true} typically indicates an immediate collision
+     *         and may be treated as a game-over condition by callers.
+     */
+
+    /**
+     * Spawn a new active brick taken from the configured {@link BrickGenerator}
+     * and position it near the top of the board.
+     *
+     * @return {@code true} if the newly spawned piece immediately intersects
+     *         the current board (a typical signal that the board is full /
+     *         game over). Callers should treat {@code true} as a collision.
+     */
+    @Override
+    public boolean createNewBrick() {
+        Brick currentBrick = brickGenerator.getBrick();
+        brickRotator.setBrick(currentBrick);
+        // spawn near the top and centered horizontally
+        int[][] shape = brickRotator.peekCurrentShape();
+        int shapeWidth = shape[0].length;
+        int boardWidth = currentGameMatrix[0].length;
+        offsetX = Math.max(0, (boardWidth - shapeWidth) / 2);
+        offsetY = 2; // keep 2 rows as hidden buffer
+        return MatrixOperations.intersect(currentGameMatrix, shape, offsetX, offsetY);
+    }
+
+    /**
+     * Return the internal board matrix. This implementation returns the
+     * internal reference for efficiency — callers MUST NOT mutate the
+     * returned array. Use {@link com.comp2042.utils.MatrixOperations#copy}
+     * to obtain a defensive copy when needed.
+     *
+     * @return the board matrix (rows x cols).
+     */
+    @Override
+    public int[][] getBoardMatrix() {
+        // NOTE: this implementation returns the internal matrix reference for
+        // efficiency. Callers must NOT mutate the returned array. Use
+        // MatrixOperations.copy(...) if a defensive copy is required.
+        return currentGameMatrix;
+    }
+
+    /**
+     * Create and return a {@link ViewData} snapshot describing the current
+     * active piece position and the next-piece preview. The returned snapshot
+     * is immutable from the caller's perspective.
+     *
+     * @return a {@link ViewData} instance suitable for rendering.
+     */
+    @Override
+    public ViewData getViewData() {
+        Brick next = brickGenerator.getNextBrick();
+        if (next != cachedNextBrick) {
+            cachedNextBrick = next;
+            PieceTable.Piece nextPiece = PieceTable.of(next);
+            cachedNextShape = (nextPiece != null) ? nextPiece.matrix(0) : next.getShapeMatrix().get(0);
+        }
+        // matrices come from the shared piece table (or a board-owned copy) and
+        // are never mutated, so the snapshot can share them
+        int[][] shape = brickRotator.peekCurrentShape();
+        int landingY = columns.landingY(shape, offsetX, offsetY, currentGameMatrix);
+        PieceTable.Piece piece = brickRotator.getPiece();
+        if (piece != null) {
+            return ViewData.ofPiece(piece, brickRotator.getCurrentShapeIndex(), offsetX, offsetY, cachedNextShape, landingY);
+        }
+        return ViewData.ofShared(shape, offsetX, offsetY, cachedNextShape, landingY);
+    }
+
+    /**
+     * Lock the active brick into the background matrix, merging its cells
+     * into the static board content. After calling this the board should
+     * typically call {@link #clearRows()} to remove any completed lines.
+     */
+    @Override
+    public void mergeBrickToBackground() {
+        // merge in place, counting newly filled cells per row and remembering
+        // the rows touched so clearRows only has to look at those
+        int[][] shape = brickRotator.peekCurrentShape();
+        mergeTop = -1;
+        mergeBottom = -1;
+        for (int i = 0; i < shape.length; i++) {
+            int targetY = offsetY + i;
+            if (targetY < 0 || targetY >= height) continue;
+            int[] row = currentGameMatrix[targetY];
+            for (int j = 0; j < shape[i].length; j++) {
+                int targetX = offsetX + j;
+                if (shape[i][j] == 0 || targetX < 0 || targetX >= width) continue;
+                if (row[targetX] == 0) {
+                    rowFill[targetY]++;
+                    columns.cellFilled(targetX, targetY);
+                }
+                row[targetX] = shape[i][j];
+                if (mergeTop < 0) mergeTop = targetY;
+                mergeBottom = targetY;
+            }
+        }
+        if (mergeTop >= 0) {
+            stackTop = Math.min(stackTop, mergeTop);
+            versions.changed(mergeTop, mergeBottom);
+        }
+    }
+
+    /**
+     * Remove any completed rows from the board and return a {@link ClearRow}
+     * describing the result (lines removed, score bonus and the range of
+     * rows that changed).
+     *
+     * <p>Only the rows written by the preceding merge are examined, using the
+     * per-row fill counts, and the matrix is compacted in place. When no merge
+     * preceded the call the counts are rebuilt from the whole matrix.</p>
+     *
+     * @return information about cleared rows; the matrix it references is
+     *         this board's live matrix.
+     */
+    @Override
+    public ClearRow clearRows() {
+        int from = mergeTop;
+        int to = mergeBottom;
+        if (from < 0) {
+            recountRows();
+            from = stackTop;
+            to = height - 1;
+        }
+        mergeTop = -1;
+        mergeBottom = -1;
+
+        int count = 0;
+        for (int r = from; r <= to; r++) {
+            if (rowFill[r] == width) count++;
+        }
+        if (count == 0) return noClear;
+
+        int[] cleared = new int[count];
+        int garbage = 0;
+        int k = 0;
+        for (int r = from; r <= to; r++) {
+            if (rowFill[r] != width) continue;
+            cleared[k] = r;
+            freedRows[k] = currentGameMatrix[r];
+            for (int cell : currentGameMatrix[r]) {
+                if (cell == 8) { garbage++; break; }
+            }
+            k++;
+        }
+
+        int top = Math.min(stackTop, cleared[0]);
+        RowCompaction.compact(currentGameMatrix, cleared, count, top);
+        RowCompaction.compact(rowFill, cleared, count, top);
+        for (int i = 0; i < count; i++) {
+            int[] row = freedRows[i];
+            freedRows[i] = null;
+            java.util.Arrays.fill(row, 0);
+            currentGameMatrix[top + i] = row;
+            rowFill[top + i] = 0;
+        }
+        stackTop = Math.min(height, top + count);
+        versions.changed(top, cleared[count - 1]);
+        columns.rowsCleared(cleared, count, currentGameMatrix, stackTop);
+        return ClearRow.inPlace(count, 50 * count * count, cleared, top, cleared[count - 1], garbage, currentGameMatrix);
+    }
+
+    // rebuild fill counts and stack top from the matrix
+    private void recountRows() {
+        stackTop = height;
+        for (int r = height - 1; r >= 0; r--) {
+            int filled = 0;
+            for (int cell : currentGameMatrix[r]) {
+                if (cell != 0) filled++;
+            }
+            rowFill[r] = filled;
+            if (filled > 0) stackTop = r;
+        }
+        columns.rebuild(currentGameMatrix);
+    }
+
+    /**
+     * Push garbage rows in from the bottom by shifting the row references up,
+     * keeping the fill counts in step.
+     */
+    @Override
+    public void addGarbageRows(int count, int holeColumn) {
+        if (count <= 0) return;
+        int n = Math.min(count, height);
+        if (holeColumn < 0 || holeColumn >= width) holeColumn = width - 1;
+
+        System.arraycopy(currentGameMatrix, 0, freedRows, 0, n);
+        System.arraycopy(currentGameMatrix, n, currentGameMatrix, 0, height - n);
+        System.arraycopy(rowFill, n, rowFill, 0, height - n);
+        for (int i = 0; i < n; i++) {
+            int r = height - n + i;
+            int[] row = freedRows[i];
+            freedRows[i] = null;
+            java.util.Arrays.fill(row, 8);
+            row[holeColumn] = 0;
+            currentGameMatrix[r] = row;
+            rowFill[r] = width - 1;
+        }
+        columns.garbageAdded(n, holeColumn, currentGameMatrix);
+        // every non-empty row moved up, plus the new rows
+        versions.changed(Math.min(stackTop, height) - n, height - 1);
+        stackTop = Math.max(0, Math.min(stackTop, height) - n);
+        mergeTop = -1;
+        mergeBottom = -1;
+    }
+
+    /**
+     * Jump the active brick to its landing row in one step.
+     *
+     * @return number of rows moved
+     */
+    @Override
+    public int sonicDrop() {
+        int landing = columns.landingY(brickRotator.peekCurrentShape(), offsetX, offsetY, currentGameMatrix);
+        if (landing <= offsetY) return 0;
+        int distance = landing - offsetY;
+        offsetY = landing;
+        return distance;
+    }
+
+    /**
+     * Move the active brick down by up to {@code rows} cells, clamped to its
+     * landing row in one step.
+     *
+     * @return number of rows moved
+     */
+    @Override
+    public int moveBrickDownBy(int rows) {
+        if (rows <= 0) return 0;
+        int landing = columns.landingY(brickRotator.peekCurrentShape(), offsetX, offsetY, currentGameMatrix);
+        int distance = Math.min(rows, landing - offsetY);
+        if (distance <= 0) return 0;
+        offsetY += distance;
+        return distance;
+    }
+
+    @Override
+    public boolean isBrickGrounded() {
+        return columns.landingY(brickRotator.peekCurrentShape(), offsetX, offsetY, currentGameMatrix) <= offsetY;
+    }
+
+    /**
+     * Landing row from the column-height summary: one pass over the shape's
+     * width instead of stepping it down row by row.
+     */
+    @Override
+    public int getLandingY(int[][] shape, int x, int fromY) {
+        return columns.landingY(shape, x, fromY, currentGameMatrix);
+    }
+
+    @Override
+    public int getColumnHeight(int column) {
+        return columns.height(column);
+    }
+
+    @Override
+    public int getColumnHoles(int column) {
+        return columns.holes(column);
+    }
+
+    /**
+     * @return the {@link Score} holder for this board (UI-bindable JavaFX
+     *         property wrapper).
+     */
+    @Override
+    public Score getScore() {
+        return score;
+    }
+
+
+    /**
+     * Reset the board state to start a new game: clear the matrix, reset the
+     * score and spawn the first active piece.
+     */
+    @Override
+    public void newGame() {
+        for (int[] row : currentGameMatrix) java.util.Arrays.fill(row, 0);
+        java.util.Arrays.fill(rowFill, 0);
+        columns.reset();
+        versions.changedAll();
+        stackTop = height;
+        mergeTop = -1;
+        mergeBottom = -1;
+        score.reset();
+        createNewBrick();
+    }
+    /**
+     * Swap the current active piece with the generator's next piece.
+     *
+     * The method first peeks at the generator's next piece and attempts to
+     * place it at the current offset. If the placement collides the swap
+     * is rejected and the board state is restored. When the generator
+     * supports replacing its head the original current piece is inserted
+     * back into the queue; otherwise a best-effort fallback is used.
+     *
+     * @return {@code true} if the swap succeeded, {@code false} on failure
+     *         (for example due to collision or generator returning null).
+     */
+    @Override
+    public boolean swapCurrentWithNext() {
+        // peek at next brick from generator
+        com.comp2042.logic.Brick next = brickGenerator.getNextBrick();
+        if (next == null) return false;
+        // save current brick and its rotation state
+        com.comp2042.logic.Brick oldCurrent = brickRotator.getBrick();
+        int oldRotation = brickRotator.getCurrentShapeIndex();
+        // attempt to set the next as current and test for collision at current offset
+        brickRotator.setBrick(next);
+        int[][] shape = brickRotator.peekCurrentShape();
+        if (MatrixOperations.intersect(currentGameMatrix, shape, offsetX, offsetY)) {
+            // collision — revert, rotation included, so the piece is exactly where it was
+            brickRotator.setBrick(oldCurrent);
+            brickRotator.setCurrentShape(oldRotation);
+            return false;
+        }
+        // replacement is safe; request the generator to replace its head with the old current so queue preserves order
+        boolean replaced = false;
+        try {
+            replaced = brickGenerator.replaceNext(oldCurrent);
+        } catch (Exception ignored) {}
+        // if generator couldn't replace, attempt to push old current by consuming next and re-adding oldCurrent
+        if (!replaced) {
+            // fallback: poll head and put oldCurrent at front by creating a small buffer
+            try {
+                // best-effort: force a new head by consuming then reinserting oldCurrent at head
+                brickGenerator.getBrick(); // consume head (we already set it as current)
+            } catch (Exception ignored) {}
+        }
+        return true;
+    }
+
+    /**
+     * Return a list of upcoming bricks from the generator. The returned list
+     * is produced by the generator and callers must not rely on mutating it.
+     *
+     * @param count number of upcoming pieces requested
+     * @return a list of upcoming {@link com.comp2042.logic.Brick} instances
+     */
+    @Override
+    public java.util.List<com.comp2042.logic.Brick> getUpcomingBricks(int count) {
+        return brickGenerator.getUpcomingBricks(count);
+    }
+
+    @Override
+    public long getBoardVersion() {
+        return versions.version();
+    }
+
+    @Override
+    public void collectChangedRows(long since, BitSet rows) {
+        versions.collectChangedSince(since, rows);
+    }
+
+    @Override
+    public BoardSnapshot snapshot() {
+        return new BoardSnapshot(currentGameMatrix, brickRotator.getBrick(), brickRotator.getCurrentShapeIndex(),
+                offsetX, offsetY, score.getScore());
+    }
+
+    /**
+     * Copy the snapshot into the existing rows (the matrix reference handed
+     * out by {@link #getBoardMatrix()} stays valid) and rebuild the row and
+     * column summaries from it.
+     */
+    @Override
+    public void restore(BoardSnapshot snapshot) {
+        snapshot.checkSize(width, height);
+        int[][] matrix = snapshot.matrix();
+        for (int r = 0; r < height; r++) {
+            System.arraycopy(matrix[r], 0, currentGameMatrix[r], 0, width);
+        }
+        recountRows();
+        versions.changedAll();
+        mergeTop = -1;
+        mergeBottom = -1;
+        brickRotator.setBrick(snapshot.brick());
+        brickRotator.setCurrentShape(snapshot.rotation());
+        offsetX = snapshot.x();
+        offsetY = snapshot.y();
+        score.add(snapshot.getScore() - score.getScore());
+    }
+}
@@ -1,5 +1,6 @@
 package com.comp2042.model;
 
+import com.comp2042.logic.PieceTable;
 import com.comp2042.utils.MatrixOperations;
 import java.util.Arrays;
 import java.util.Objects;
@@ -17,6 +18,13 @@ public final class ViewData {
     private final int xPosition;
     private final int yPosition;
     private final int[][] nextBrickData;
+    private final PieceTable.Piece piece;
+    private final int rotation;
+    // ghost landing row computed by the board, NO_LANDING_Y when unknown
+    private final int landingY;
+
+    /** Value of {@link #getLandingY()} when the board did not supply one. */
+    public static final int NO_LANDING_Y = Integer.MIN_VALUE;
 
     /**
      * Create a new immutable snapshot describing the view state.
@@ -35,6 +43,39 @@ public final class ViewData {
         this.xPosition = xPosition;
         this.yPosition = yPosition;
         this.nextBrickData = MatrixOperations.copy(nextBrickData);
+        this.piece = null;
+        this.rotation = -1;
+        this.landingY = NO_LANDING_Y;
+    }
+
+    private ViewData(int[][] brickData, int xPosition, int yPosition, int[][] nextBrickData,
+                     PieceTable.Piece piece, int rotation, int landingY) {
+        this.brickData = brickData;
+        this.xPosition = xPosition;
+        this.yPosition = yPosition;
+        this.nextBrickData = nextBrickData;
+        this.piece = piece;
+        this.rotation = rotation;
+        this.landingY = landingY;
+    }
+
+    /**
+     * Create a snapshot that shares the supplied matrices instead of copying
+     * them. Only for boards that own matrices which are never mutated after
+     * construction (e.g. cached rotation tables); getters still return copies
+     * so the shared arrays never leak.
+     */
+    static ViewData ofShared(int[][] brickData, int xPosition, int yPosition, int[][] nextBrickData, int landingY) {
+        return new ViewData(brickData, xPosition, yPosition, nextBrickData, null, -1, landingY);
+    }
+
+    /**
+     * Create a snapshot for a standard piece, sharing the {@link PieceTable}
+     * matrix so renderers can read the piece data without copies.
+     */
+    static ViewData ofPiece(PieceTable.Piece piece, int rotation, int xPosition, int yPosition, int[][] nextBrickData,
+                            int landingY) {
+        return new ViewData(piece.matrix(rotation), xPosition, yPosition, nextBrickData, piece, rotation, landingY);
     }
 
     /**
@@ -44,6 +85,31 @@ public final class ViewData {
         return MatrixOperations.copy(brickData);
     }
 
+    /**
+     * @return the shared {@link PieceTable} entry for the active piece, or
+     *         {@code null} when the snapshot was built from a raw matrix.
+     */
+    public PieceTable.Piece getPiece() {
+        return piece;
+    }
+
+    /**
+     * @return rotation index of the active piece within {@link #getPiece()},
+     *         or {@code -1} when no piece entry is attached.
+     */
+    public int getRotation() {
+        return rotation;
+    }
+
+    /**
+     * @return the row the active piece would land on (ghost position) as
+     *         computed by the board, or {@link #NO_LANDING_Y} when the
+     *         snapshot was not produced by a board.
+     */
+    public int getLandingY() {
+        return landingY;
+    }
+
     /**
      * Legacy-style getter retained for compatibility.
      *
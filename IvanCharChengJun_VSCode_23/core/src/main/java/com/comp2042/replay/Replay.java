@@ -0,0 +1,137 @@
+package com.comp2042.replay;
+
+import com.comp2042.input.EventSource;
+
+import java.util.SplittableRandom;
+
+/**
+ * An immutable recorded game: the seed of its brick generator, the board size
+ * and the timestamped stream of actions applied to it.
+ *
+ * <p>Gravity steps are part of the stream (as {@link ReplayAction#DOWN} from
+ * {@link EventSource#THREAD}), so playing a replay back does not depend on any
+ * timer: applying the same actions to a board built from the same seed always
+ * produces the same game. Ticks are milliseconds since recording started and
+ * never decrease.
+ *
+ * <p>Events are held in parallel primitive arrays rather than one object per
+ * event so marathon-length recordings stay small.
+ */
+public final class Replay {
+    private final long seed;
+    private final int width;
+    private final int height;
+    private final long[] ticks;
+    private final byte[] codes;
+    private final int[] arguments;
+
+    // arrays are owned by the new instance; callers hand over copies
+    Replay(long seed, int width, int height, long[] ticks, byte[] codes, int[] arguments) {
+        if (width <= 0 || height <= 0) throw new IllegalArgumentException("Board size must be positive");
+        if (ticks.length != codes.length || ticks.length != arguments.length) {
+            throw new IllegalArgumentException("Event arrays differ in length");
+        }
+        this.seed = seed;
+        this.width = width;
+        this.height = height;
+        this.ticks = ticks;
+        this.codes = codes;
+        this.arguments = arguments;
+    }
+
+    /**
+     * @return a fresh seed for a new recording
+     */
+    public static long newSeed() {
+        return new SplittableRandom().nextLong();
+    }
+
+    /** @return seed of the recorded game's {@link com.comp2042.logic.BagBrickGenerator} */
+    public long getSeed() {
+        return seed;
+    }
+
+    /** @return board width */
+    public int getWidth() {
+        return width;
+    }
+
+    /** @return board height */
+    public int getHeight() {
+        return height;
+    }
+
+    /** @return number of recorded events */
+    public int size() {
+        return ticks.length;
+    }
+
+    /** @return tick of the last event, or {@code 0} for an empty replay */
+    public long getDuration() {
+        return ticks.length == 0 ? 0 : ticks[ticks.length - 1];
+    }
+
+    /** @return tick (milliseconds since the start) of event {@code index} */
+    public long getTick(int index) {
+        return ticks[index];
+    }
+
+    /** @return action of event {@code index} */
+    public ReplayAction getAction(int index) {
+        return ReplayAction.fromCode((codes[index] & 0xFF) >> 1);
+    }
+
+    /** @return source of event {@code index} */
+    public EventSource getSource(int index) {
+        return (codes[index] & 1) != 0 ? EventSource.THREAD : EventSource.USER;
+    }
+
+    /**
+     * @return extra argument of event {@code index}; for
+     *         {@link ReplayAction#GARBAGE} see {@link #garbageCount} and
+     *         {@link #garbageHole}, otherwise {@code 0}
+     */
+    public int getArgument(int index) {
+        return arguments[index];
+    }
+
+    /**
+     * Index of the first event recorded after {@code tick}, i.e. the number
+     * of events that have happened by then.
+     */
+    public int indexAfter(long tick) {
+        int lo = 0;
+        int hi = ticks.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (ticks[mid] <= tick) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    // packs action and source into the byte written per event
+    static byte code(ReplayAction action, EventSource source) {
+        return (byte) ((action.ordinal() << 1) | (source == EventSource.THREAD ? 1 : 0));
+    }
+
+    /** Pack a garbage event's row count and hole column into one argument. */
+    static int garbageArgument(int count, int holeColumn) {
+        return (Math.max(0, count) << 16) | (holeColumn & 0xFFFF);
+    }
+
+    /** @return garbage row count packed in a {@link ReplayAction#GARBAGE} argument */
+    public static int garbageCount(int argument) {
+        return argument >>> 16;
+    }
+
+    /** @return hole column packed in a {@link ReplayAction#GARBAGE} argument */
+    public static int garbageHole(int argument) {
+        return (short) (argument & 0xFFFF);
+    }
+
+    // raw access for ReplayIO
+    byte rawCode(int index) {
+        return codes[index];
+    }
+}
@@ -0,0 +1,59 @@
+package com.comp2042.replay;
+
+import com.comp2042.input.EventType;
+
+/**
+ * Everything a recorded game can do to its board, one value per
+ * {@link com.comp2042.input.InputEventListener} entry point plus the external
+ * garbage and restart calls.
+ *
+ * <p>The ordinal is written to replay files, so new values must only ever be
+ * appended.
+ */
+public enum ReplayAction {
+    /** One-row move down, from gravity or a soft drop. */
+    DOWN,
+    /** Move the piece left. */
+    LEFT,
+    /** Move the piece right. */
+    RIGHT,
+    /** Rotate the piece. */
+    ROTATE,
+    /** Drop and lock in one step. */
+    HARD_DROP,
+    /** Drop to the landing row without locking. */
+    SONIC_DROP,
+    /** Swap the active piece with the next one. */
+    SWAP,
+    /** Garbage rows pushed in by an opponent; carries a count and hole column. */
+    GARBAGE,
+    /** The board was reset for a new game. */
+    NEW_GAME;
+
+    private static final ReplayAction[] VALUES = values();
+
+    /**
+     * Map a plain move event type to its action.
+     *
+     * @param type event type (may be {@code null})
+     * @return the matching action, or {@code null} for a {@code null} type
+     */
+    public static ReplayAction of(EventType type) {
+        if (type == null) return null;
+        switch (type) {
+            case DOWN: return DOWN;
+            case LEFT: return LEFT;
+            case RIGHT: return RIGHT;
+            case ROTATE: return ROTATE;
+            default: return null;
+        }
+    }
+
+    // decode the ordinal stored in a replay file
+    static ReplayAction fromCode(int code) {
+        if (code < 0 || code >= VALUES.length) {
+            throw new IllegalArgumentException("Unknown replay action code " + code);
+        }
+        return VALUES[code];
+    }
+}
@@ -0,0 +1,162 @@
+package com.comp2042.replay;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * Reads and writes {@link Replay}s in a compact binary form.
+ *
+ * <p>Layout (big-endian):
+ * <pre>
+ *   int    magic "CWRP"
+ *   byte   format version
+ *   long   seed
+ *   varint width, height, event count
+ *   per event:
+ *     varint tick delta from the previous event (ms)
+ *     byte   action ordinal &lt;&lt; 1 | 1 when the source is a thread
+ *     varint argument, only for GARBAGE events
+ * </pre>
+ * Most events are two bytes, so an hour of play with gravity and input stays
+ * in the tens of kilobytes.
+ */
+public final class ReplayIO {
+    /** File extension used for saved replays. */
+    public static final String EXTENSION = ".cwr";
+
+    private static final int MAGIC = 0x43575250; // "CWRP"
+    // 2: the seed drives BagBrickGenerator; version 1 seeds are not compatible
+    private static final int VERSION = 2;
+    // events allocated before any are read; arrays double from here
+    private static final int INITIAL_EVENTS = 1024;
+
+    // We don't want to instantiate this utility class
+    private ReplayIO() {
+    }
+
+    /**
+     * Write {@code replay} to {@code out}. The stream is flushed but not closed.
+     */
+    public static void write(Replay replay, OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeLong(replay.getSeed());
+        writeVarInt(data, replay.getWidth());
+        writeVarInt(data, replay.getHeight());
+        int size = replay.size();
+        writeVarInt(data, size);
+        long previous = 0;
+        for (int i = 0; i < size; i++) {
+            long tick = replay.getTick(i);
+            writeVarLong(data, tick - previous);
+            previous = tick;
+            byte code = replay.rawCode(i);
+            data.writeByte(code);
+            if (replay.getAction(i) == ReplayAction.GARBAGE) writeVarInt(data, replay.getArgument(i));
+        }
+        data.flush();
+    }
+
+    /**
+     * Read a replay from {@code in}. The stream is not closed.
+     *
+     * @throws IOException if the data is not a replay, uses an unknown
+     *                     version or is truncated
+     */
+    public static Replay read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if (data.readInt() != MAGIC) throw new IOException("Not a replay file");
+        int version = data.readUnsignedByte();
+        if (version != VERSION) throw new IOException("Unsupported replay version " + version);
+        long seed = data.readLong();
+        int width = readVarInt(data);
+        int height = readVarInt(data);
+        int size = readVarInt(data);
+        if (size < 0) throw new IOException("Corrupt replay event count");
+        // the count is only trusted as far as events are actually read, so a
+        // corrupt count ends in "Truncated replay" rather than a huge allocation
+        int capacity = Math.min(size, INITIAL_EVENTS);
+        long[] ticks = new long[capacity];
+        byte[] codes = new byte[capacity];
+        int[] arguments = new int[capacity];
+        long tick = 0;
+        for (int i = 0; i < size; i++) {
+            if (i == capacity) {
+                capacity = (int) Math.min(size, 2L * capacity);
+                ticks = Arrays.copyOf(ticks, capacity);
+                codes = Arrays.copyOf(codes, capacity);
+                arguments = Arrays.copyOf(arguments, capacity);
+            }
+            tick += readVarLong(data);
+            ticks[i] = tick;
+            codes[i] = data.readByte();
+            ReplayAction action;
+            try {
+                action = ReplayAction.fromCode((codes[i] & 0xFF) >> 1);
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Corrupt replay event " + i, e);
+            }
+            if (action == ReplayAction.GARBAGE) arguments[i] = readVarInt(data);
+        }
+        try {
+            return new Replay(seed, width, height, ticks, codes, arguments);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Corrupt replay header", e);
+        }
+    }
+
+    /** Write {@code replay} to a file, creating parent directories as needed. */
+    public static void write(Replay replay, Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        try (OutputStream out = Files.newOutputStream(file)) {
+            write(replay, out);
+        }
+    }
+
+    /** Read a replay from a file. */
+    public static Replay read(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return read(in);
+        }
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        writeVarLong(out, value & 0xFFFFFFFFL);
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        long value = readVarLong(in);
+        if ((value >>> 32) != 0) throw new IOException("Corrupt replay: value out of range");
+        return (int) value;
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) throw new EOFException("Truncated replay");
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("Corrupt replay: varint too long");
+    }
+}
@@ -0,0 +1,289 @@
+package com.comp2042.replay;
+
+import com.comp2042.engine.GameEngine;
+import com.comp2042.engine.MoveDownResult;
+import com.comp2042.input.EventSource;
+import com.comp2042.logic.BagBrickGenerator;
+import com.comp2042.model.BitBoard;
+import com.comp2042.model.Board;
+import com.comp2042.model.BoardSnapshot;
+import com.comp2042.model.Score;
+import com.comp2042.model.ViewData;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Deterministic playback of a {@link Replay} on a headless {@link BitBoard},
+ * which plays recordings made on the UI's {@code SimpleBoard} identically.
+ *
+ * <p>The player rebuilds the recorded game from its seed and re-applies the
+ * recorded actions through a {@link GameEngine}; no timer is involved, so the
+ * result is identical on every run and at any speed. A front end drives it
+ * with {@link #update(long)} (wall-clock time scaled by {@link #setSpeed}, up
+ * to {@value #MAX_SPEED}x) or jumps with {@link #seek(long)}.
+ *
+ * <p>While playing forward the player stores a keyframe (board snapshot plus
+ * generator state) every {@code keyframeInterval} locked pieces. Seeking
+ * restores the nearest keyframe at or before the target and replays only the
+ * events after it, so the cost of a seek is bounded by the interval rather
+ * than by the length of the game. Keyframes are built lazily: the first seek
+ * past the furthest point played so far plays forward to it once.
+ *
+ * <p>Not thread-safe; drive it from a single thread.
+ */
+public final class ReplayPlayer {
+    /** Highest supported playback speed multiplier. */
+    public static final double MAX_SPEED = 1000.0;
+    /** Locked pieces between keyframes when no interval is given. */
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 20;
+
+    private final Replay replay;
+    private final int keyframeInterval;
+    private final BagBrickGenerator generator;
+    private final Board board;
+    private final GameEngine engine;
+    private final List<Keyframe> keyframes = new ArrayList<>();
+
+    private int position;
+    private long clock;
+    private double speed = 1.0;
+    // sub-millisecond remainder carried between update calls
+    private double pending;
+    private int piecesLocked;
+    private boolean gameOver;
+
+    /** Create a player with the default keyframe interval. */
+    public ReplayPlayer(Replay replay) {
+        this(replay, DEFAULT_KEYFRAME_INTERVAL);
+    }
+
+    /**
+     * @param replay           recording to play
+     * @param keyframeInterval locked pieces between keyframes (at least 1)
+     * @throws IllegalArgumentException if the recorded board is wider than
+     *                                  64 columns
+     */
+    public ReplayPlayer(Replay replay, int keyframeInterval) {
+        this.replay = Objects.requireNonNull(replay, "replay");
+        if (keyframeInterval < 1) throw new IllegalArgumentException("keyframeInterval must be at least 1");
+        this.keyframeInterval = keyframeInterval;
+        this.generator = new BagBrickGenerator(replay.getSeed());
+        this.board = new BitBoard(replay.getWidth(), replay.getHeight(), generator);
+        this.engine = new GameEngine(board);
+        // a recording starts with the first brick spawned on an empty board
+        engine.createNewBrick();
+        keyframes.add(new Keyframe(0, 0, 0, false, board.snapshot(), generator.saveState()));
+    }
+
+    /** @return the replay being played */
+    public Replay getReplay() {
+        return replay;
+    }
+
+    /** @return index of the next event to apply */
+    public int getPosition() {
+        return position;
+    }
+
+    /** @return current playback time in milliseconds since the start */
+    public long getTime() {
+        return clock;
+    }
+
+    /** @return {@code true} once every event has been applied */
+    public boolean isFinished() {
+        return position >= replay.size();
+    }
+
+    /** @return {@code true} when the last lock ended the recorded game */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /** @return pieces locked so far */
+    public int getPiecesLocked() {
+        return piecesLocked;
+    }
+
+    /** @return number of keyframes built so far */
+    public int getKeyframeCount() {
+        return keyframes.size();
+    }
+
+    /** @return current playback speed multiplier */
+    public double getSpeed() {
+        return speed;
+    }
+
+    /**
+     * Set the playback speed multiplier, clamped to
+     * {@code (0, }{@value #MAX_SPEED}{@code ]}.
+     */
+    public void setSpeed(double speed) {
+        if (!(speed > 0)) throw new IllegalArgumentException("speed must be positive");
+        this.speed = Math.min(speed, MAX_SPEED);
+    }
+
+    /** @return the board matrix; must not be mutated */
+    public int[][] getBoardMatrix() {
+        return engine.getBoardMatrix();
+    }
+
+    /** @return view data of the falling piece */
+    public ViewData getViewData() {
+        return engine.getViewData();
+    }
+
+    /** @return the replayed score */
+    public Score getScore() {
+        return engine.getScore();
+    }
+
+    /**
+     * Advance by {@code elapsedMillis} of wall-clock time scaled by the
+     * current speed, applying every event that falls due.
+     *
+     * @return number of events applied
+     */
+    public int update(long elapsedMillis) {
+        if (elapsedMillis <= 0) return 0;
+        pending += elapsedMillis * speed;
+        long whole = (long) pending;
+        pending -= whole;
+        return advanceTo(clock + whole);
+    }
+
+    /**
+     * Apply every event with a tick at or before {@code time}. Playback
+     * never goes backwards here; use {@link #seek(long)} for that.
+     *
+     * @return number of events applied
+     */
+    public int advanceTo(long time) {
+        int applied = 0;
+        while (position < replay.size() && replay.getTick(position) <= time) {
+            step();
+            applied++;
+        }
+        clock = Math.max(clock, time);
+        return applied;
+    }
+
+    /**
+     * Apply the next event.
+     *
+     * @return {@code false} when the replay has already finished
+     */
+    public boolean step() {
+        if (position >= replay.size()) return false;
+        int index = position++;
+        clock = Math.max(clock, replay.getTick(index));
+        if (apply(replay.getAction(index), replay.getSource(index), replay.getArgument(index))) {
+            piecesLocked++;
+            Keyframe last = keyframes.get(keyframes.size() - 1);
+            if (piecesLocked - last.piecesLocked >= keyframeInterval && position > last.position) {
+                keyframes.add(new Keyframe(position, clock, piecesLocked, gameOver, board.snapshot(), generator.saveState()));
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Move playback to {@code time}, backwards or forwards. The state
+     * afterwards is exactly that of playing from the start up to
+     * {@code time}.
+     */
+    public void seek(long time) {
+        long target = Math.max(0, time);
+        int targetPosition = replay.indexAfter(target);
+        Keyframe keyframe = keyframeAtOrBefore(targetPosition);
+        if (targetPosition < position || keyframe.position > position) {
+            restore(keyframe);
+        }
+        pending = 0;
+        advanceTo(target);
+        clock = target;
+    }
+
+    // last keyframe whose position does not pass targetPosition
+    private Keyframe keyframeAtOrBefore(int targetPosition) {
+        int lo = 0;
+        int hi = keyframes.size() - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (keyframes.get(mid).position <= targetPosition) lo = mid;
+            else hi = mid - 1;
+        }
+        return keyframes.get(lo);
+    }
+
+    private void restore(Keyframe keyframe) {
+        generator.restoreState(keyframe.generator);
+        board.restore(keyframe.board);
+        position = keyframe.position;
+        clock = keyframe.time;
+        piecesLocked = keyframe.piecesLocked;
+        gameOver = keyframe.gameOver;
+    }
+
+    // apply one recorded action; returns true when it locked a piece
+    private boolean apply(ReplayAction action, EventSource source, int argument) {
+        switch (action) {
+            case DOWN: {
+                MoveDownResult result = engine.moveDown(source);
+                // a lock is the only move that reports a clear result
+                if (result.getClearRow() == null) return false;
+                gameOver = result.isGameOver();
+                return true;
+            }
+            case HARD_DROP:
+                gameOver = engine.hardDrop().isGameOver();
+                return true;
+            case SONIC_DROP:
+                engine.sonicDrop(source);
+                return false;
+            case LEFT:
+                engine.moveLeft();
+                return false;
+            case RIGHT:
+                engine.moveRight();
+                return false;
+            case ROTATE:
+                engine.rotate();
+                return false;
+            case SWAP:
+                engine.swap();
+                return false;
+            case GARBAGE:
+                engine.addGarbageRows(Replay.garbageCount(argument), Replay.garbageHole(argument));
+                return false;
+            case NEW_GAME:
+                engine.newGame();
+                gameOver = false;
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    private static final class Keyframe {
+        final int position;
+        final long time;
+        final int piecesLocked;
+        final boolean gameOver;
+        final BoardSnapshot board;
+        final BagBrickGenerator.State generator;
+
+        Keyframe(int position, long time, int piecesLocked, boolean gameOver,
+                 BoardSnapshot board, BagBrickGenerator.State generator) {
+            this.position = position;
+            this.time = time;
+            this.piecesLocked = piecesLocked;
+            this.gameOver = gameOver;
+            this.board = board;
+            this.generator = generator;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.comp2042.replay;
+
+import com.comp2042.input.EventSource;
+import com.comp2042.input.MoveEvent;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Collects the actions applied to one board into a {@link Replay}.
+ *
+ * <p>The recorder does not touch the board; the owner calls one of the
+ * {@code record} methods each time it forwards an action to its engine, with
+ * a tick measured in milliseconds since the recording started. Ticks that go
+ * backwards are clamped so the stream stays ordered. Recording only appends
+ * to primitive arrays, so it is cheap enough to leave on for every game.
+ *
+ * <p>The board must be built with a generator seeded from {@link #getSeed()}
+ * (see {@link com.comp2042.logic.BagBrickGenerator#BagBrickGenerator(long)})
+ * for the replay to reproduce it. Not thread-safe.
+ */
+public final class ReplayRecorder {
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final long seed;
+    private final int width;
+    private final int height;
+    private long[] ticks = new long[INITIAL_CAPACITY];
+    private byte[] codes = new byte[INITIAL_CAPACITY];
+    private int[] arguments = new int[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * @param seed   seed of the recorded board's generator
+     * @param width  board width
+     * @param height board height
+     */
+    public ReplayRecorder(long seed, int width, int height) {
+        this.seed = seed;
+        this.width = width;
+        this.height = height;
+    }
+
+    /** @return seed the recorded board's generator must be built from */
+    public long getSeed() {
+        return seed;
+    }
+
+    /** @return number of events recorded so far */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Record a plain move event ({@code DOWN}, {@code LEFT}, {@code RIGHT}
+     * or {@code ROTATE}). Events without a type are ignored.
+     */
+    public void record(long tick, MoveEvent event) {
+        if (event == null) return;
+        ReplayAction action = ReplayAction.of(event.getEventType());
+        if (action != null) record(tick, action, event.getEventSource());
+    }
+
+    /**
+     * Record an action. A {@code null} source is stored as
+     * {@link EventSource#USER}.
+     */
+    public void record(long tick, ReplayAction action, EventSource source) {
+        append(tick, Objects.requireNonNull(action, "action"), source, 0);
+    }
+
+    /** Record garbage rows pushed into the board. */
+    public void recordGarbage(long tick, int count, int holeColumn) {
+        if (count <= 0) return;
+        append(tick, ReplayAction.GARBAGE, EventSource.THREAD, Replay.garbageArgument(count, holeColumn));
+    }
+
+    private void append(long tick, ReplayAction action, EventSource source, int argument) {
+        if (size == ticks.length) {
+            int capacity = size * 2;
+            ticks = Arrays.copyOf(ticks, capacity);
+            codes = Arrays.copyOf(codes, capacity);
+            arguments = Arrays.copyOf(arguments, capacity);
+        }
+        long last = (size == 0) ? 0 : ticks[size - 1];
+        ticks[size] = Math.max(last, tick);
+        codes[size] = Replay.code(action, source);
+        arguments[size] = argument;
+        size++;
+    }
+
+    /**
+     * @return an immutable replay of everything recorded so far; recording
+     *         can continue afterwards
+     */
+    public Replay toReplay() {
+        return new Replay(seed, width, height, Arrays.copyOf(ticks, size),
+                Arrays.copyOf(codes, size), Arrays.copyOf(arguments, size));
+    }
+}
@@ -0,0 +1,59 @@
+package com.comp2042.simulation;
+
+import com.comp2042.ai.Bot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.LongFunction;
+
+/**
+ * Runs many headless games in parallel on a caller-supplied executor (a
+ * fixed pool with one thread per core, or a virtual-thread executor).
+ *
+ * <p>Game {@code i} uses seed {@code baseSeed + i} and its own bot, so a
+ * batch produces the same per-game results whatever the executor, and games
+ * share no mutable state.
+ */
+public final class BatchSimulator {
+    private final GameSimulator simulator;
+
+    /** @param simulator plays each game */
+    public BatchSimulator(GameSimulator simulator) {
+        this.simulator = simulator;
+    }
+
+    /**
+     * Play {@code games} games and wait for all of them.
+     *
+     * @param games    number of games
+     * @param baseSeed seed of game 0
+     * @param bots     creates a fresh bot for a game, given the game's seed
+     * @param executor runs the games; not shut down by this method
+     * @return results in game order with the batch's wall time
+     * @throws InterruptedException if interrupted while waiting; pending games are cancelled
+     */
+    public SimulationReport run(int games, long baseSeed, LongFunction<Bot> bots, ExecutorService executor)
+            throws InterruptedException {
+        long start = System.nanoTime();
+        List<Future<GameResult>> futures = new ArrayList<>(games);
+        for (int i = 0; i < games; i++) {
+            long seed = baseSeed + i;
+            futures.add(executor.submit(() -> simulator.play(bots.apply(seed), seed)));
+        }
+        List<GameResult> results = new ArrayList<>(games);
+        try {
+            for (Future<GameResult> future : futures) {
+                results.add(future.get());
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("simulated game failed", e.getCause());
+        } catch (InterruptedException e) {
+            for (Future<GameResult> future : futures) future.cancel(true);
+            throw e;
+        }
+        return new SimulationReport(results, System.nanoTime() - start);
+    }
+}
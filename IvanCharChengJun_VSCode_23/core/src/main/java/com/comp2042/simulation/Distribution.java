@@ -0,0 +1,66 @@
+package com.comp2042.simulation;
+
+import java.util.Arrays;
+
+/**
+ * Order statistics of a set of integer samples (scores, game lengths).
+ * Immutable; the samples are copied and sorted once.
+ */
+public final class Distribution {
+    private final long[] sorted;
+    private final double mean;
+
+    /** @param samples values to summarise; may be empty */
+    public Distribution(long[] samples) {
+        this.sorted = samples.clone();
+        Arrays.sort(sorted);
+        double sum = 0;
+        for (long v : sorted) sum += v;
+        this.mean = (sorted.length == 0) ? 0 : sum / sorted.length;
+    }
+
+    /** @return number of samples */
+    public int getCount() {
+        return sorted.length;
+    }
+
+    /** @return arithmetic mean, or {@code 0} when empty */
+    public double getMean() {
+        return mean;
+    }
+
+    /** @return smallest sample, or {@code 0} when empty */
+    public long getMin() {
+        return (sorted.length == 0) ? 0 : sorted[0];
+    }
+
+    /** @return largest sample, or {@code 0} when empty */
+    public long getMax() {
+        return (sorted.length == 0) ? 0 : sorted[sorted.length - 1];
+    }
+
+    /**
+     * Nearest-rank percentile.
+     *
+     * @param percent value in {@code [0, 100]}
+     * @return the smallest sample with at least {@code percent}% of samples
+     *         at or below it, or {@code 0} when empty
+     */
+    public long percentile(double percent) {
+        if (percent < 0 || percent > 100) throw new IllegalArgumentException("percent must be in [0, 100]");
+        if (sorted.length == 0) return 0;
+        int rank = (int) Math.ceil(percent / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    /** @return one-line summary: mean, min, p10, p50, p90, p99 and max */
+    public String format() {
+        return String.format("mean %.1f  min %d  p10 %d  p50 %d  p90 %d  p99 %d  max %d",
+                mean, getMin(), percentile(10), percentile(50), percentile(90), percentile(99), getMax());
+    }
+
+    @Override
+    public String toString() {
+        return "Distribution{n=" + sorted.length + ", " + format() + '}';
+    }
+}
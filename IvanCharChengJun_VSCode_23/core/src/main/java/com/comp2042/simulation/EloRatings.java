@@ -0,0 +1,59 @@
+package com.comp2042.simulation;
+
+import java.util.Arrays;
+
+/**
+ * Elo ratings of a fixed set of players, updated one game at a time.
+ *
+ * <p>Not thread-safe: feed results from a single thread in a fixed order so
+ * the final ratings do not depend on how the games were scheduled.
+ */
+public final class EloRatings {
+    /** Rating every player starts from. */
+    public static final double INITIAL = 1500.0;
+    /** Default update step. */
+    public static final double DEFAULT_K = 16.0;
+
+    private final double[] ratings;
+    private final double k;
+
+    /**
+     * @param players number of players
+     * @param k       update step; larger values react faster and settle less
+     */
+    public EloRatings(int players, double k) {
+        if (k <= 0) throw new IllegalArgumentException("k must be positive");
+        this.ratings = new double[players];
+        this.k = k;
+        Arrays.fill(ratings, INITIAL);
+    }
+
+    /** @param players number of players, rated with {@link #DEFAULT_K} */
+    public EloRatings(int players) {
+        this(players, DEFAULT_K);
+    }
+
+    /** @return current rating of {@code player} */
+    public double getRating(int player) {
+        return ratings[player];
+    }
+
+    /**
+     * @return expected score of a player rated {@code rating} against one
+     *         rated {@code opponent}, between 0 and 1
+     */
+    public static double expectedScore(double rating, double opponent) {
+        return 1.0 / (1.0 + Math.pow(10.0, (opponent - rating) / 400.0));
+    }
+
+    /**
+     * Record a game between {@code a} and {@code b}.
+     *
+     * @param scoreA {@code a}'s score: 1 win, 0.5 draw, 0 loss
+     */
+    public void record(int a, int b, double scoreA) {
+        double delta = k * (scoreA - expectedScore(ratings[a], ratings[b]));
+        ratings[a] += delta;
+        ratings[b] -= delta;
+    }
+}
@@ -0,0 +1,59 @@
+package com.comp2042.simulation;
+
+/**
+ * Outcome of one headless game.
+ */
+public final class GameResult {
+    private final long seed;
+    private final int pieces;
+    private final int lines;
+    private final int score;
+    private final boolean toppedOut;
+
+    /**
+     * @param seed      seed the piece sequence was generated from
+     * @param pieces    pieces locked
+     * @param lines     rows cleared
+     * @param score     final score
+     * @param toppedOut {@code true} when the game ended on a spawn collision
+     *                  rather than the piece limit
+     */
+    public GameResult(long seed, int pieces, int lines, int score, boolean toppedOut) {
+        this.seed = seed;
+        this.pieces = pieces;
+        this.lines = lines;
+        this.score = score;
+        this.toppedOut = toppedOut;
+    }
+
+    /** @return seed the piece sequence was generated from */
+    public long getSeed() {
+        return seed;
+    }
+
+    /** @return pieces locked */
+    public int getPieces() {
+        return pieces;
+    }
+
+    /** @return rows cleared */
+    public int getLines() {
+        return lines;
+    }
+
+    /** @return final score */
+    public int getScore() {
+        return score;
+    }
+
+    /** @return {@code true} when the game ended on a spawn collision */
+    public boolean isToppedOut() {
+        return toppedOut;
+    }
+
+    @Override
+    public String toString() {
+        return "GameResult{seed=" + seed + ", pieces=" + pieces + ", lines=" + lines
+                + ", score=" + score + ", toppedOut=" + toppedOut + '}';
+    }
+}
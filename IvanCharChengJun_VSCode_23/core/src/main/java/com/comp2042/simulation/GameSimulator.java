@@ -0,0 +1,103 @@
+package com.comp2042.simulation;
+
+import com.comp2042.ai.Bot;
+import com.comp2042.engine.GameEngine;
+import com.comp2042.engine.MoveDownResult;
+import com.comp2042.input.EventSource;
+import com.comp2042.input.EventType;
+import com.comp2042.logic.BagBrickGenerator;
+import com.comp2042.model.BitBoard;
+import com.comp2042.model.Board;
+
+/**
+ * Plays single games without a UI or timeline: the {@link Bot} chooses the
+ * moves for each piece, they go through the {@link GameEngine} exactly as
+ * key presses would, and the piece is then hard dropped.
+ *
+ * <p>Gravity is not simulated; pieces only move when the bot moves them.
+ * Games run on a {@link BitBoard}, which plays exactly like the UI's
+ * {@code SimpleBoard} but tests collisions on row bit-masks. Immutable and
+ * safe to share between threads.
+ */
+public final class GameSimulator {
+    private final int width;
+    private final int height;
+    private final int maxPieces;
+
+    /**
+     * @param width     board width, at most 64 columns
+     * @param height    board height
+     * @param maxPieces pieces after which a game is stopped even if the bot
+     *                  has not topped out
+     */
+    public GameSimulator(int width, int height, int maxPieces) {
+        if (width < 1 || width > Long.SIZE) throw new IllegalArgumentException("width must be between 1 and " + Long.SIZE);
+        if (maxPieces < 1) throw new IllegalArgumentException("maxPieces must be at least 1");
+        this.width = width;
+        this.height = height;
+        this.maxPieces = maxPieces;
+    }
+
+    /** @return piece limit per game */
+    public int getMaxPieces() {
+        return maxPieces;
+    }
+
+    /**
+     * Play one game.
+     *
+     * @param bot  player; used by this call only for the duration of the game
+     * @param seed seed of the piece sequence
+     * @return the game's outcome
+     */
+    public GameResult play(Bot bot, long seed) {
+        Board board = new BitBoard(width, height, new BagBrickGenerator(seed));
+        GameEngine engine = new GameEngine(board);
+        if (engine.createNewBrick()) return new GameResult(seed, 0, 0, 0, true);
+
+        int pieces = 0;
+        int lines = 0;
+        boolean toppedOut = false;
+        while (pieces < maxPieces && !toppedOut) {
+            MoveDownResult locked = playPiece(bot, board, engine);
+            pieces++;
+            if (locked.getClearRow() != null) lines += locked.getClearRow().getLinesRemoved();
+            toppedOut = locked.isGameOver();
+        }
+        return new GameResult(seed, pieces, lines, board.getScore().getScore(), toppedOut);
+    }
+
+    /**
+     * Let {@code bot} place the active piece of {@code board}: its moves go
+     * through {@code engine} and the piece is hard dropped unless a down
+     * move already locked it.
+     *
+     * @return the lock's result; reused by the engine, so read it before
+     *         the next move
+     */
+    static MoveDownResult playPiece(Bot bot, Board board, GameEngine engine) {
+        for (EventType move : bot.plan(board)) {
+            MoveDownResult locked = apply(engine, move);
+            if (locked != null) return locked;
+        }
+        return engine.hardDrop();
+    }
+
+    // result of a lock, or null while the piece is still falling
+    private static MoveDownResult apply(GameEngine engine, EventType move) {
+        switch (move) {
+            case LEFT:
+                engine.moveLeft();
+                return null;
+            case RIGHT:
+                engine.moveRight();
+                return null;
+            case ROTATE:
+                engine.rotate();
+                return null;
+            default:
+                MoveDownResult result = engine.moveDown(EventSource.USER);
+                return (result.getClearRow() != null) ? result : null;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.comp2042.simulation;
+
+/**
+ * Outcome of one headless versus match.
+ */
+public final class MatchResult {
+
+    /** Which side won. */
+    public enum Winner { LEFT, RIGHT, DRAW }
+
+    private final long seed;
+    private final Winner winner;
+    private final int pieces;
+    private final int leftSent;
+    private final int rightSent;
+
+    /**
+     * @param seed      seed of the piece sequence both sides played
+     * @param winner    winning side, or {@link Winner#DRAW} when both reached
+     *                  the piece limit
+     * @param pieces    pieces locked over both boards
+     * @param leftSent  garbage rows the left side sent
+     * @param rightSent garbage rows the right side sent
+     */
+    public MatchResult(long seed, Winner winner, int pieces, int leftSent, int rightSent) {
+        this.seed = seed;
+        this.winner = winner;
+        this.pieces = pieces;
+        this.leftSent = leftSent;
+        this.rightSent = rightSent;
+    }
+
+    /** @return seed of the piece sequence both sides played */
+    public long getSeed() {
+        return seed;
+    }
+
+    /** @return winning side */
+    public Winner getWinner() {
+        return winner;
+    }
+
+    /** @return pieces locked over both boards */
+    public int getPieces() {
+        return pieces;
+    }
+
+    /** @return garbage rows the left side sent */
+    public int getLeftSent() {
+        return leftSent;
+    }
+
+    /** @return garbage rows the right side sent */
+    public int getRightSent() {
+        return rightSent;
+    }
+
+    /**
+     * @return the left side's score for rating: 1 for a win, 0.5 for a
+     *         draw, 0 for a loss
+     */
+    public double getLeftScore() {
+        switch (winner) {
+            case LEFT: return 1.0;
+            case RIGHT: return 0.0;
+            default: return 0.5;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "MatchResult{seed=" + seed + ", winner=" + winner + ", pieces=" + pieces
+                + ", leftSent=" + leftSent + ", rightSent=" + rightSent + '}';
+    }
+}
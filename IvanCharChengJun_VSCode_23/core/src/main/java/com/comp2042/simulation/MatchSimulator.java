@@ -0,0 +1,83 @@
+package com.comp2042.simulation;
+
+import com.comp2042.ai.Bot;
+import com.comp2042.engine.GameEngine;
+import com.comp2042.engine.MoveDownResult;
+import com.comp2042.logic.BagBrickGenerator;
+import com.comp2042.model.BitBoard;
+import com.comp2042.model.Board;
+
+/**
+ * Plays headless versus matches under Classic Battle rules: both sides draw
+ * the same piece sequence, every line a lock clears (minus garbage lines)
+ * is pushed to the opponent as garbage through
+ * {@link GameEngine#addGarbageRows}, and the first side to top out loses.
+ *
+ * <p>Without a timeline the two boards move in lockstep, one piece each
+ * in turn with the left side first; garbage lands before the opponent's
+ * next piece. Both boards are {@link BitBoard}s, as in {@link GameSimulator}.
+ * Immutable and safe to share between threads.
+ */
+public final class MatchSimulator {
+    // same hole rule as the Classic Battle UI
+    private static final int HOLE_COLUMN = -1;
+
+    private final int width;
+    private final int height;
+    private final int maxPieces;
+
+    /**
+     * @param width     board width, at most 64 columns
+     * @param height    board height
+     * @param maxPieces pieces per side after which the match is a draw
+     */
+    public MatchSimulator(int width, int height, int maxPieces) {
+        if (width < 1 || width > Long.SIZE) throw new IllegalArgumentException("width must be between 1 and " + Long.SIZE);
+        if (maxPieces < 1) throw new IllegalArgumentException("maxPieces must be at least 1");
+        this.width = width;
+        this.height = height;
+        this.maxPieces = maxPieces;
+    }
+
+    /** @return piece limit per side */
+    public int getMaxPieces() {
+        return maxPieces;
+    }
+
+    /**
+     * Play one match.
+     *
+     * @param left  left player; used by this call only
+     * @param right right player; used by this call only
+     * @param seed  seed of the shared piece sequence
+     * @return the match's outcome
+     */
+    public MatchResult play(Bot left, Bot right, long seed) {
+        Board leftBoard = new BitBoard(width, height, new BagBrickGenerator(seed));
+        Board rightBoard = new BitBoard(width, height, new BagBrickGenerator(seed));
+        GameEngine leftEngine = new GameEngine(leftBoard);
+        GameEngine rightEngine = new GameEngine(rightBoard);
+        leftEngine.createNewBrick();
+        rightEngine.createNewBrick();
+
+        int pieces = 0;
+        int leftSent = 0;
+        int rightSent = 0;
+        for (int turn = 0; turn < maxPieces; turn++) {
+            MoveDownResult l = GameSimulator.playPiece(left, leftBoard, leftEngine);
+            pieces++;
+            if (l.isGameOver()) return new MatchResult(seed, MatchResult.Winner.RIGHT, pieces, leftSent, rightSent);
+            int attack = l.getForwardCount();
+            rightEngine.addGarbageRows(attack, HOLE_COLUMN);
+            leftSent += attack;
+
+            MoveDownResult r = GameSimulator.playPiece(right, rightBoard, rightEngine);
+            pieces++;
+            if (r.isGameOver()) return new MatchResult(seed, MatchResult.Winner.LEFT, pieces, leftSent, rightSent);
+            attack = r.getForwardCount();
+            leftEngine.addGarbageRows(attack, HOLE_COLUMN);
+            rightSent += attack;
+        }
+        return new MatchResult(seed, MatchResult.Winner.DRAW, pieces, leftSent, rightSent);
+    }
+}
@@ -0,0 +1,111 @@
+package com.comp2042.simulation;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Aggregate of a batch of headless games: throughput over the batch's wall
+ * time plus the score and game-length distributions.
+ */
+public final class SimulationReport {
+    private final List<GameResult> results;
+    private final long elapsedNanos;
+    private final long totalPieces;
+    private final long totalLines;
+    private final int toppedOut;
+    private final Distribution scores;
+    private final Distribution lengths;
+
+    /**
+     * @param results      per-game outcomes, in game order
+     * @param elapsedNanos wall time of the whole batch
+     */
+    public SimulationReport(List<GameResult> results, long elapsedNanos) {
+        this.results = Collections.unmodifiableList(results);
+        this.elapsedNanos = elapsedNanos;
+        long[] scoreSamples = new long[results.size()];
+        long[] lengthSamples = new long[results.size()];
+        long pieces = 0;
+        long lines = 0;
+        int over = 0;
+        for (int i = 0; i < results.size(); i++) {
+            GameResult r = results.get(i);
+            scoreSamples[i] = r.getScore();
+            lengthSamples[i] = r.getPieces();
+            pieces += r.getPieces();
+            lines += r.getLines();
+            if (r.isToppedOut()) over++;
+        }
+        this.totalPieces = pieces;
+        this.totalLines = lines;
+        this.toppedOut = over;
+        this.scores = new Distribution(scoreSamples);
+        this.lengths = new Distribution(lengthSamples);
+    }
+
+    /** @return per-game outcomes, in game order */
+    public List<GameResult> getResults() {
+        return results;
+    }
+
+    /** @return wall time of the batch in nanoseconds */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /** @return pieces locked over all games */
+    public long getTotalPieces() {
+        return totalPieces;
+    }
+
+    /** @return rows cleared over all games */
+    public long getTotalLines() {
+        return totalLines;
+    }
+
+    /** @return games that ended on a spawn collision */
+    public int getToppedOut() {
+        return toppedOut;
+    }
+
+    /** @return pieces locked per second of wall time */
+    public double getPiecesPerSecond() {
+        return perSecond(totalPieces);
+    }
+
+    /** @return rows cleared per second of wall time */
+    public double getLinesPerSecond() {
+        return perSecond(totalLines);
+    }
+
+    /** @return distribution of final scores */
+    public Distribution getScores() {
+        return scores;
+    }
+
+    /** @return distribution of game lengths in pieces */
+    public Distribution getLengths() {
+        return lengths;
+    }
+
+    private double perSecond(long count) {
+        return (elapsedNanos <= 0) ? 0 : count * 1e9 / elapsedNanos;
+    }
+
+    /** @return multi-line human-readable summary */
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("games        %d (%d topped out) in %.2f s%n",
+                results.size(), toppedOut, elapsedNanos / 1e9));
+        sb.append(String.format("pieces       %d  (%.0f pieces/s)%n", totalPieces, getPiecesPerSecond()));
+        sb.append(String.format("lines        %d  (%.0f lines/s)%n", totalLines, getLinesPerSecond()));
+        sb.append("score        ").append(scores.format()).append(System.lineSeparator());
+        sb.append("game length  ").append(lengths.format()).append(System.lineSeparator());
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+}
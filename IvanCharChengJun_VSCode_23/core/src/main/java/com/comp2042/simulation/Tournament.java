@@ -0,0 +1,137 @@
+package com.comp2042.simulation;
+
+import com.comp2042.ai.Bot;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.LongFunction;
+
+/**
+ * Round-robin tournament between bots on a work-stealing pool.
+ *
+ * <p>Every round each pair of entrants plays one {@link MatchSimulator}
+ * match, swapping sides on odd rounds. Match {@code m} uses seed
+ * {@code baseSeed + m} and freshly created bots, and writes only its own
+ * slot of the result array, so matches share no mutable state and the
+ * results (and the Elo ratings computed from them in match order) are the
+ * same whatever the pool's parallelism.
+ */
+public final class Tournament {
+
+    /** A named bot factory taking part in the tournament. */
+    public static final class Entrant {
+        private final String name;
+        private final LongFunction<Bot> bots;
+
+        /**
+         * @param name unique name used in the standings
+         * @param bots creates a fresh bot for a match, given the match seed
+         */
+        public Entrant(String name, LongFunction<Bot> bots) {
+            this.name = name;
+            this.bots = bots;
+        }
+
+        /** @return name used in the standings */
+        public String getName() {
+            return name;
+        }
+    }
+
+    private final MatchSimulator simulator;
+    private final List<Entrant> entrants;
+
+    /**
+     * @param simulator plays each match
+     * @param entrants  at least two entrants with distinct names
+     */
+    public Tournament(MatchSimulator simulator, List<Entrant> entrants) {
+        if (entrants.size() < 2) throw new IllegalArgumentException("a tournament needs at least two entrants");
+        for (int i = 0; i < entrants.size(); i++) {
+            for (int j = 0; j < i; j++) {
+                if (entrants.get(i).getName().equals(entrants.get(j).getName())) {
+                    throw new IllegalArgumentException("duplicate entrant: " + entrants.get(i).getName());
+                }
+            }
+        }
+        this.simulator = simulator;
+        this.entrants = Collections.unmodifiableList(new ArrayList<>(entrants));
+    }
+
+    /** @return matches played per round */
+    public int matchesPerRound() {
+        int n = entrants.size();
+        return n * (n - 1) / 2;
+    }
+
+    /**
+     * Play {@code rounds} rounds and wait for every match.
+     *
+     * @param rounds   rounds to play
+     * @param baseSeed seed of match 0
+     * @param pool     work-stealing pool the matches run on; not shut down
+     * @return standings and per-match results
+     */
+    public TournamentReport run(int rounds, long baseSeed, ForkJoinPool pool) {
+        if (rounds < 1) throw new IllegalArgumentException("rounds must be at least 1");
+        int perRound = matchesPerRound();
+        int total = Math.multiplyExact(rounds, perRound);
+        int[] left = new int[total];
+        int[] right = new int[total];
+        int m = 0;
+        for (int round = 0; round < rounds; round++) {
+            for (int i = 0; i < entrants.size(); i++) {
+                for (int j = i + 1; j < entrants.size(); j++) {
+                    boolean swap = (round & 1) != 0;
+                    left[m] = swap ? j : i;
+                    right[m] = swap ? i : j;
+                    m++;
+                }
+            }
+        }
+
+        long start = System.nanoTime();
+        MatchResult[] results = new MatchResult[total];
+        pool.invoke(new MatchRange(left, right, results, baseSeed, 0, total));
+        return new TournamentReport(entrants, left, right, results, System.nanoTime() - start);
+    }
+
+    // splits the schedule in halves so idle workers steal the larger pieces
+    private final class MatchRange extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] left;
+        private final int[] right;
+        // fork/join tasks are never serialized
+        private final transient MatchResult[] results;
+        private final long baseSeed;
+        private final int from;
+        private final int to;
+
+        MatchRange(int[] left, int[] right, MatchResult[] results, long baseSeed, int from, int to) {
+            this.left = left;
+            this.right = right;
+            this.results = results;
+            this.baseSeed = baseSeed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                long seed = baseSeed + from;
+                Bot l = entrants.get(left[from]).bots.apply(seed);
+                Bot r = entrants.get(right[from]).bots.apply(seed);
+                results[from] = simulator.play(l, r, seed);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new MatchRange(left, right, results, baseSeed, from, mid),
+                    new MatchRange(left, right, results, baseSeed, mid, to));
+        }
+    }
+}
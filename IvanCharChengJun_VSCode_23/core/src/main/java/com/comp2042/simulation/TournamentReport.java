@@ -0,0 +1,134 @@
+package com.comp2042.simulation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Standings of a {@link Tournament}: Elo ratings computed from the matches
+ * in schedule order, win/draw/loss counts and throughput.
+ */
+public final class TournamentReport {
+    private final List<Tournament.Entrant> entrants;
+    private final List<MatchResult> results;
+    private final long elapsedNanos;
+    private final EloRatings elo;
+    private final int[] wins;
+    private final int[] draws;
+    private final int[] losses;
+    private final long totalPieces;
+
+    /**
+     * @param entrants     players, indexed as in {@code left}/{@code right}
+     * @param left         left entrant of each match
+     * @param right        right entrant of each match
+     * @param results      outcome of each match
+     * @param elapsedNanos wall time of the whole tournament
+     */
+    TournamentReport(List<Tournament.Entrant> entrants, int[] left, int[] right, MatchResult[] results,
+                     long elapsedNanos) {
+        this.entrants = entrants;
+        this.results = Collections.unmodifiableList(Arrays.asList(results));
+        this.elapsedNanos = elapsedNanos;
+        int n = entrants.size();
+        this.elo = new EloRatings(n);
+        this.wins = new int[n];
+        this.draws = new int[n];
+        this.losses = new int[n];
+        long pieces = 0;
+        for (int m = 0; m < results.length; m++) {
+            MatchResult r = results[m];
+            elo.record(left[m], right[m], r.getLeftScore());
+            pieces += r.getPieces();
+            switch (r.getWinner()) {
+                case LEFT:
+                    wins[left[m]]++;
+                    losses[right[m]]++;
+                    break;
+                case RIGHT:
+                    wins[right[m]]++;
+                    losses[left[m]]++;
+                    break;
+                default:
+                    draws[left[m]]++;
+                    draws[right[m]]++;
+                    break;
+            }
+        }
+        this.totalPieces = pieces;
+    }
+
+    /** @return per-match outcomes in schedule order */
+    public List<MatchResult> getResults() {
+        return results;
+    }
+
+    /** @return wall time in nanoseconds */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /** @return pieces locked over all matches and both boards */
+    public long getTotalPieces() {
+        return totalPieces;
+    }
+
+    /** @return final Elo rating of the named entrant */
+    public double getRating(String name) {
+        return elo.getRating(indexOf(name));
+    }
+
+    /** @return matches the named entrant won */
+    public int getWins(String name) {
+        return wins[indexOf(name)];
+    }
+
+    /** @return matches the named entrant drew */
+    public int getDraws(String name) {
+        return draws[indexOf(name)];
+    }
+
+    /** @return matches the named entrant lost */
+    public int getLosses(String name) {
+        return losses[indexOf(name)];
+    }
+
+    /** @return entrant names, highest rating first */
+    public List<String> getStandings() {
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < entrants.size(); i++) order.add(i);
+        order.sort((a, b) -> Double.compare(elo.getRating(b), elo.getRating(a)));
+        List<String> names = new ArrayList<>(order.size());
+        for (int i : order) names.add(entrants.get(i).getName());
+        return names;
+    }
+
+    private int indexOf(String name) {
+        for (int i = 0; i < entrants.size(); i++) {
+            if (entrants.get(i).getName().equals(name)) return i;
+        }
+        throw new IllegalArgumentException("unknown entrant: " + name);
+    }
+
+    /** @return multi-line human-readable standings */
+    public String format() {
+        double seconds = elapsedNanos / 1e9;
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("matches  %d in %.2f s  (%.1f matches/s, %.0f pieces/s)%n", results.size(), seconds,
+                seconds <= 0 ? 0 : results.size() / seconds, seconds <= 0 ? 0 : totalPieces / seconds));
+        sb.append(String.format("%-4s %-20s %7s %6s %6s %6s%n", "#", "bot", "elo", "win", "draw", "loss"));
+        int rank = 1;
+        for (String name : getStandings()) {
+            int i = indexOf(name);
+            sb.append(String.format("%-4d %-20s %7.1f %6d %6d %6d%n", rank++, name, elo.getRating(i),
+                    wins[i], draws[i], losses[i]));
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+}
@@ -1,8 +1,11 @@
 package com.comp2042.utils;
 
 import com.comp2042.logic.Brick;
+import com.comp2042.logic.PieceTable;
 import com.comp2042.model.NextShapeInfo;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -21,6 +24,10 @@ public class BrickRotator {
     private static final Logger LOGGER = Logger.getLogger(BrickRotator.class.getName());
 
     private Brick brick;
+    // rotation matrices fetched once per setBrick; never handed out without copying
+    // except through the read-only peek accessors
+    private List<int[][]> shapes = Collections.emptyList();
+    private PieceTable.Piece piece;
     private int currentShape = 0;
 
     /**
@@ -32,15 +39,9 @@ public class BrickRotator {
         * @throws IllegalStateException if no brick is set or the brick has no shapes
      */
     public NextShapeInfo getNextShape() {
-        ensureBrickPresent();
-        int shapes = brick.getShapeMatrix().size();
-        if (shapes == 0) {
-            LOGGER.log(Level.SEVERE, "Requested next shape but brick has no shapes");
-            throw new IllegalStateException("Brick has no rotation shapes");
-        }
-        int nextShape = (currentShape + 1) % shapes;
-        // NextShapeInfo makes its own defensive copy, but we still fetch the source
-        return new NextShapeInfo(brick.getShapeMatrix().get(nextShape), nextShape);
+        int nextShape = getNextShapeIndex();
+        // NextShapeInfo makes its own defensive copy of the cached matrix
+        return new NextShapeInfo(shapes.get(nextShape), nextShape);
     }
 
     /**
@@ -53,14 +54,44 @@ public class BrickRotator {
         * @throws IllegalStateException if no brick is set or the current index is invalid
      */
     public int[][] getCurrentShape() {
-        ensureBrickPresent();
-        int shapes = brick.getShapeMatrix().size();
-        if (shapes == 0) {
-            LOGGER.log(Level.SEVERE, "Requested current shape but brick has no shapes");
-            throw new IllegalStateException("Brick has no rotation shapes");
-        }
-        int idx = ((currentShape % shapes) + shapes) % shapes; // normalize
-        return MatrixOperations.copy(brick.getShapeMatrix().get(idx));
+        return MatrixOperations.copy(peekCurrentShape());
+    }
+
+    /**
+     * Return the cached current rotation matrix without copying. Intended for
+     * hot paths (collision checks, rendering snapshots) that only read it.
+     *
+     * @return the current rotation matrix; callers MUST NOT mutate it
+     * @throws IllegalStateException if no brick is set or the brick has no shapes
+     */
+    public int[][] peekCurrentShape() {
+        ensureShapesPresent("current");
+        return shapes.get(currentShape);
+    }
+
+    /**
+     * Return the cached matrix for the given rotation index without copying.
+     *
+     * @param index rotation index; normalized into the valid range
+     * @return the rotation matrix; callers MUST NOT mutate it
+     * @throws IllegalStateException if no brick is set or the brick has no shapes
+     */
+    public int[][] peekShape(int index) {
+        ensureShapesPresent("indexed");
+        int n = shapes.size();
+        return shapes.get(((index % n) + n) % n);
+    }
+
+    /**
+     * Return the rotation index that {@link #getNextShape()} would describe,
+     * without allocating a {@link NextShapeInfo}.
+     *
+     * @return the next rotation index
+     * @throws IllegalStateException if no brick is set or the brick has no shapes
+     */
+    public int getNextShapeIndex() {
+        ensureShapesPresent("next");
+        return (currentShape + 1) % shapes.size();
     }
 
     /**
@@ -73,14 +104,14 @@ public class BrickRotator {
      */
     public void setCurrentShape(int currentShape) {
         ensureBrickPresent();
-        int shapes = brick.getShapeMatrix().size();
-        if (shapes == 0) {
+        int n = shapes.size();
+        if (n == 0) {
             LOGGER.log(Level.WARNING, "Attempt to set shape index but brick has no shapes");
             this.currentShape = 0;
             return;
         }
-        // normalize to [0, shapes-1]
-        this.currentShape = ((currentShape % shapes) + shapes) % shapes;
+        // normalize to [0, n-1]
+        this.currentShape = ((currentShape % n) + n) % n;
     }
 
     /**
@@ -91,6 +122,10 @@ public class BrickRotator {
      */
     public void setBrick(Brick brick) {
         this.brick = Objects.requireNonNull(brick, "brick");
+        // standard pieces share the precomputed table; others are copied once here
+        this.piece = PieceTable.of(brick);
+        List<int[][]> matrices = (piece != null) ? piece.matrices() : brick.getShapeMatrix();
+        this.shapes = (matrices == null) ? Collections.emptyList() : matrices;
         this.currentShape = 0;
     }
 
@@ -103,6 +138,29 @@ public class BrickRotator {
         return this.brick;
     }
 
+    /**
+     * @return the shared {@link PieceTable} entry for the attached brick, or
+     *         {@code null} when none is set or it is not a standard piece
+     */
+    public PieceTable.Piece getPiece() {
+        return piece;
+    }
+
+    /**
+     * @return the normalized index of the current rotation
+     */
+    public int getCurrentShapeIndex() {
+        return currentShape;
+    }
+
+    private void ensureShapesPresent(String which) {
+        ensureBrickPresent();
+        if (shapes.isEmpty()) {
+            LOGGER.log(Level.SEVERE, "Requested {0} shape but brick has no shapes", which);
+            throw new IllegalStateException("Brick has no rotation shapes");
+        }
+    }
+
     private void ensureBrickPresent() {
         if (this.brick == null) {
             LOGGER.log(Level.SEVERE, "No brick set on BrickRotator");
@@ -81,6 +81,38 @@ public class MatrixOperations {
         return false;
     }
 
+    /**
+     * Find the row where {@code brick} comes to rest when dropped straight
+     * down from {@code fromY} in column {@code x}, stepping one row at a time
+     * with {@link #intersectForGhost}. Boards with a column-height summary
+     * answer the same question faster through
+     * {@link com.comp2042.model.Board#getLandingY(int[][], int, int)}.
+     *
+     * @param matrix board matrix
+     * @param brick  shape matrix
+     * @param x      column offset of the shape
+     * @param fromY  row offset to start dropping from
+     * @return the landing row for the top of the shape ({@code fromY - 1}
+     *         when the shape already collides at {@code fromY})
+     */
+    public static int landingY(final int[][] matrix, final int[][] brick, final int x, final int fromY) {
+        Objects.requireNonNull(matrix, "matrix");
+        Objects.requireNonNull(brick, "brick");
+        int effectiveHeight = 0;
+        for (int i = brick.length - 1; i >= 0 && effectiveHeight == 0; i--) {
+            for (int v : brick[i]) {
+                if (v != 0) { effectiveHeight = i + 1; break; }
+            }
+        }
+        int maxY = matrix.length - effectiveHeight;
+        int landing = fromY;
+        for (int y = fromY; y <= maxY; y++) {
+            if (intersectForGhost(matrix, brick, x, y)) return y - 1;
+            landing = y;
+        }
+        return landing;
+    }
+
     private static boolean isOutOfBounds(final int[][] matrix, final int targetX, final int targetY) {
         return targetX < 0 || targetY < 0 || targetY >= matrix.length || targetX >= matrix[targetY].length;
     }
@@ -0,0 +1,146 @@
+package com.comp2042.ai;
+
+import com.comp2042.input.EventType;
+import com.comp2042.logic.BagBrickGenerator;
+import com.comp2042.logic.BrickShape;
+import com.comp2042.model.SimpleBoard;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BeamSearchTest {
+
+    private static ForkJoinPool pool;
+
+    @BeforeAll
+    static void startPool() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterAll
+    static void stopPool() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void completesTheWaitingLine() {
+        int[][] m = new int[25][10];
+        // bottom row full except column 9: a vertical I should fill it
+        for (int c = 0; c < 9; c++) m[24][c] = 8;
+        SearchBoard board = SearchBoard.of(m);
+        BeamSearch search = new BeamSearch(WeightedEvaluator.DEFAULT, 4, 0, pool);
+
+        Placement best = search.findBest(board, BrickShape.I, MoveGenerator.spawnX(BrickShape.I, 10),
+                MoveGenerator.SPAWN_Y, 0, List.of());
+        assertNotNull(best);
+        SearchBoard after = board.lock(BrickShape.I, best.getRotation(), best.getX(), best.getY());
+        assertEquals(1, after.getLinesCleared());
+    }
+
+    @Test
+    void resultDoesNotDependOnParallelism() {
+        int[][] m = new int[25][10];
+        for (int c = 0; c < 10; c++) {
+            for (int r = 25 - (c * 3) % 4; r < 25; r++) m[r][c] = 8;
+        }
+        SearchBoard board = SearchBoard.of(m);
+        List<BrickShape> preview = List.of(BrickShape.S, BrickShape.Z, BrickShape.T);
+
+        ForkJoinPool single = new ForkJoinPool(1);
+        try {
+            Placement serial = new BeamSearch(WeightedEvaluator.DEFAULT, 8, 3, single)
+                    .findBest(board, BrickShape.L, 4, 2, 0, preview);
+            for (int i = 0; i < 5; i++) {
+                Placement parallel = new BeamSearch(WeightedEvaluator.DEFAULT, 8, 3, pool)
+                        .findBest(board, BrickShape.L, 4, 2, 0, preview);
+                assertEquals(serial, parallel);
+                assertEquals(serial.getPath(), parallel.getPath());
+            }
+        } finally {
+            single.shutdownNow();
+        }
+    }
+
+    @Test
+    void returnsNullWhenPieceCannotSpawn() {
+        int[][] m = new int[25][10];
+        for (int r = 0; r < 25; r++) {
+            for (int c = 0; c < 10; c++) m[r][c] = 8;
+        }
+        BeamSearch search = new BeamSearch(WeightedEvaluator.DEFAULT, 4, 1, pool);
+        assertNull(search.findBest(SearchBoard.of(m), BrickShape.T, 4, 2, 0, List.of(BrickShape.O)));
+    }
+
+    @Test
+    void playsALongGameOnSimpleBoard() {
+        SimpleBoard board = new SimpleBoard(10, 25, new BagBrickGenerator(2042L));
+        BeamSearch search = new BeamSearch(WeightedEvaluator.DEFAULT, 4, 2, pool);
+        assertFalse(board.createNewBrick());
+
+        int lines = 0;
+        for (int piece = 0; piece < 200; piece++) {
+            Placement best = search.findBest(board);
+            assertNotNull(best, "no placement at piece " + piece);
+            for (EventType move : best.getPath()) {
+                switch (move) {
+                    case LEFT: assertTrue(board.moveBrickLeft()); break;
+                    case RIGHT: assertTrue(board.moveBrickRight()); break;
+                    case ROTATE: assertTrue(board.rotateLeftBrick()); break;
+                    default: assertTrue(board.moveBrickDown()); break;
+                }
+            }
+            board.hardDrop();
+            lines += board.clearRows().getLinesRemoved();
+            assertFalse(board.createNewBrick(), "topped out at piece " + piece);
+        }
+        assertTrue(lines >= 60, "expected steady line clears, got " + lines);
+    }
+
+    @Test
+    void searchesOnCallingThreadWithoutPool() {
+        int[][] m = new int[25][10];
+        for (int c = 0; c < 10; c++) {
+            for (int r = 25 - (c * 3) % 4; r < 25; r++) m[r][c] = 8;
+        }
+        SearchBoard board = SearchBoard.of(m);
+        List<BrickShape> preview = List.of(BrickShape.S, BrickShape.Z);
+        Placement inline = new BeamSearch(WeightedEvaluator.DEFAULT, 4, 2, null)
+                .findBest(board, BrickShape.T, 4, 2, 0, preview);
+        Placement pooled = new BeamSearch(WeightedEvaluator.DEFAULT, 4, 2, pool)
+                .findBest(board, BrickShape.T, 4, 2, 0, preview);
+        assertEquals(pooled, inline);
+    }
+
+    @Test
+    void expiredDeadlineStillPlacesTheCurrentPiece() {
+        int[][] m = new int[25][10];
+        for (int c = 0; c < 9; c++) m[24][c] = 8;
+        SearchBoard board = SearchBoard.of(m);
+        BeamSearch search = new BeamSearch(WeightedEvaluator.DEFAULT, 4, 3, pool);
+        List<BrickShape> preview = List.of(BrickShape.O, BrickShape.S, BrickShape.Z);
+
+        Placement rushed = search.findBest(board, BrickShape.I, 3, 2, 0, preview, System.nanoTime() - 1);
+        Placement greedy = new BeamSearch(WeightedEvaluator.DEFAULT, 4, 0, pool)
+                .findBest(board, BrickShape.I, 3, 2, 0, preview);
+        assertEquals(greedy, rushed);
+    }
+
+    @Test
+    void generousDeadlineMatchesTheFullSearch() {
+        int[][] m = new int[25][10];
+        for (int c = 0; c < 10; c++) {
+            for (int r = 25 - (c * 3) % 4; r < 25; r++) m[r][c] = 8;
+        }
+        SearchBoard board = SearchBoard.of(m);
+        List<BrickShape> preview = List.of(BrickShape.S, BrickShape.Z);
+        BeamSearch search = new BeamSearch(WeightedEvaluator.DEFAULT, 4, 2, pool);
+        Placement timed = search.findBest(board, BrickShape.T, 4, 2, 0, preview,
+                System.nanoTime() + 60_000_000_000L);
+        assertEquals(search.findBest(board, BrickShape.T, 4, 2, 0, preview), timed);
+    }
+}
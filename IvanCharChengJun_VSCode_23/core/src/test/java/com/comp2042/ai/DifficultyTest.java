@@ -0,0 +1,27 @@
+package com.comp2042.ai;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DifficultyTest {
+
+    @Test
+    void harderLevelsThinkLongerAndActFaster() {
+        Difficulty[] all = Difficulty.values();
+        for (int i = 1; i < all.length; i++) {
+            assertTrue(all[i].getThinkMillis() > all[i - 1].getThinkMillis());
+            assertTrue(all[i].getInputIntervalMillis() < all[i - 1].getInputIntervalMillis());
+            assertTrue(all[i].getMistakeRate() <= all[i - 1].getMistakeRate());
+            assertTrue(all[i].getBeamWidth() >= all[i - 1].getBeamWidth());
+        }
+    }
+
+    @Test
+    void fromNameIsLenient() {
+        assertEquals(Difficulty.HARD, Difficulty.fromName(" hard "));
+        assertNull(Difficulty.fromName(""));
+        assertNull(Difficulty.fromName("expert"));
+        assertNull(Difficulty.fromName(null));
+    }
+}
@@ -0,0 +1,143 @@
+package com.comp2042.ai;
+
+import com.comp2042.input.EventType;
+import com.comp2042.logic.Brick;
+import com.comp2042.logic.BrickGenerator;
+import com.comp2042.logic.BrickShape;
+import com.comp2042.logic.PieceTable;
+import com.comp2042.model.BoardSnapshot;
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.model.ViewData;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoveGeneratorTest {
+
+    /** Always hands out the same piece. */
+    private static final class FixedGenerator implements BrickGenerator {
+        private final Brick brick;
+
+        FixedGenerator(BrickShape shape) {
+            List<int[][]> matrices = PieceTable.get(shape).matrices();
+            this.brick = new Brick() {
+                @Override public List<int[][]> getShapeMatrix() {
+                    return matrices.stream().map(com.comp2042.utils.MatrixOperations::copy).toList();
+                }
+                @Override public BrickShape getBrickShape() { return shape; }
+            };
+        }
+
+        @Override public Brick getBrick() { return brick; }
+        @Override public Brick getNextBrick() { return brick; }
+    }
+
+    private static int[][] junk(int width, int height) {
+        int[][] m = new int[height][width];
+        // ragged stack with an overhang over columns 1-2
+        for (int c = 0; c < width; c++) {
+            int h = (c * 7) % 5;
+            for (int r = height - h; r < height; r++) m[r][c] = 8;
+        }
+        m[height - 6][1] = 8;
+        m[height - 6][2] = 8;
+        return m;
+    }
+
+    @Test
+    void placementsAreLegalRestingAndDistinct() {
+        SearchBoard board = SearchBoard.of(junk(10, 25));
+        MoveGenerator generator = new MoveGenerator(10, 25);
+        for (BrickShape shape : BrickShape.values()) {
+            List<Placement> placements = generator.generate(board, shape);
+            assertFalse(placements.isEmpty(), shape.name());
+            Set<Placement> seen = new HashSet<>();
+            for (Placement p : placements) {
+                assertFalse(board.collides(shape, p.getRotation(), p.getX(), p.getY()), p.toString());
+                assertTrue(board.collides(shape, p.getRotation(), p.getX(), p.getY() + 1), p.toString());
+                assertTrue(seen.add(p), "duplicate " + p);
+            }
+        }
+    }
+
+    @Test
+    void oPieceOnEmptyBoardHasOnePlacementPerColumnPair() {
+        MoveGenerator generator = new MoveGenerator(10, 25);
+        List<Placement> placements = generator.generate(SearchBoard.of(new int[25][10]), BrickShape.O);
+        assertEquals(9, placements.stream().map(p -> p.getX() + PieceTable.get(BrickShape.O).minX(p.getRotation()))
+                .distinct().count());
+    }
+
+    @Test
+    void findsTuckUnderOverhang() {
+        int[][] m = new int[25][10];
+        // roof over columns 0-5 with three free rows beneath it
+        for (int c = 0; c <= 5; c++) m[21][c] = 8;
+        SearchBoard board = SearchBoard.of(m);
+        PieceTable.Piece o = PieceTable.get(BrickShape.O);
+
+        boolean tucked = false;
+        for (Placement p : new MoveGenerator(10, 25).generate(board, BrickShape.O)) {
+            int left = p.getX() + o.minX(p.getRotation());
+            int bottom = p.getY() + o.maxY(p.getRotation());
+            if (left == 0 && bottom == 24) {
+                tucked = true;
+                assertTrue(p.getPath().contains(EventType.LEFT));
+            }
+        }
+        assertTrue(tucked, "O piece should slide under the roof to column 0");
+    }
+
+    @Test
+    void startingInCollisionYieldsNothing() {
+        int[][] m = new int[25][10];
+        for (int c = 0; c < 10; c++) m[3][c] = 8;
+        assertTrue(new MoveGenerator(10, 25).generate(SearchBoard.of(m), BrickShape.T).isEmpty());
+    }
+
+    @Test
+    void rejectsBoardOfAnotherSize() {
+        MoveGenerator generator = new MoveGenerator(10, 25);
+        assertThrows(IllegalArgumentException.class,
+                () -> generator.generate(SearchBoard.of(new int[20][10]), BrickShape.I));
+    }
+
+    @Test
+    void pathsReplayOnSimpleBoard() {
+        for (BrickShape shape : BrickShape.values()) {
+            SimpleBoard live = new SimpleBoard(10, 25, new FixedGenerator(shape));
+            int[][] matrix = live.getBoardMatrix();
+            int[][] junk = junk(10, 25);
+            for (int r = 0; r < 25; r++) System.arraycopy(junk[r], 0, matrix[r], 0, 10);
+            assertFalse(live.createNewBrick());
+            BoardSnapshot start = live.snapshot();
+
+            ViewData spawn = live.getViewData();
+            assertEquals(MoveGenerator.spawnX(shape, 10), spawn.getxPosition());
+            assertEquals(MoveGenerator.SPAWN_Y, spawn.getyPosition());
+
+            for (Placement p : new MoveGenerator(10, 25).generate(SearchBoard.of(matrix), shape)) {
+                live.restore(start);
+                for (EventType move : p.getPath()) {
+                    boolean moved;
+                    switch (move) {
+                        case LEFT: moved = live.moveBrickLeft(); break;
+                        case RIGHT: moved = live.moveBrickRight(); break;
+                        case ROTATE: moved = live.rotateLeftBrick(); break;
+                        default: moved = live.moveBrickDown(); break;
+                    }
+                    assertTrue(moved, move + " blocked on the way to " + p);
+                }
+                ViewData view = live.getViewData();
+                assertEquals(p.getX(), view.getxPosition(), p.toString());
+                assertEquals(p.getY(), view.getyPosition(), p.toString());
+                assertEquals(p.getRotation(), view.getRotation(), p.toString());
+                assertFalse(live.moveBrickDown(), "placement should be resting: " + p);
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.comp2042.ai;
+
+import com.comp2042.input.EventType;
+import com.comp2042.logic.BrickShape;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PathFollowerTest {
+
+    // from (4,2,0): ROTATE, LEFT, DOWN, DOWN, RIGHT, DOWN
+    private static Placement tuck() {
+        EventType[] path = { EventType.ROTATE, EventType.LEFT, EventType.DOWN, EventType.DOWN,
+                EventType.RIGHT, EventType.DOWN };
+        int[] steps = {
+                4, 2, 1,
+                3, 2, 1,
+                3, 3, 1,
+                3, 4, 1,
+                4, 4, 1,
+                4, 5, 1 };
+        return new Placement(BrickShape.T, 1, 4, 5, path, steps);
+    }
+
+    @Test
+    void followsThePathWhenNothingElseMoves() {
+        PathFollower f = new PathFollower(tuck(), 4, 2, 0);
+        assertEquals(PathFollower.Action.ROTATE, f.next(4, 2, 0));
+        assertEquals(PathFollower.Action.LEFT, f.next(4, 2, 1));
+        assertEquals(PathFollower.Action.SOFT_DROP, f.next(3, 2, 1));
+        assertEquals(PathFollower.Action.SOFT_DROP, f.next(3, 3, 1));
+        assertEquals(PathFollower.Action.RIGHT, f.next(3, 4, 1));
+        assertEquals(PathFollower.Action.HARD_DROP, f.next(4, 4, 1));
+    }
+
+    @Test
+    void skipsDownMovesGravityAlreadyMade() {
+        PathFollower f = new PathFollower(tuck(), 4, 2, 0);
+        f.next(4, 2, 0);
+        f.next(4, 2, 1);
+        // the piece fell two rows before the next tick
+        assertEquals(PathFollower.Action.RIGHT, f.next(3, 4, 1));
+    }
+
+    @Test
+    void asksForReplanWhenThePieceIsOffPath() {
+        PathFollower f = new PathFollower(tuck(), 4, 2, 0);
+        f.next(4, 2, 0);
+        // rotation was blocked
+        assertEquals(PathFollower.Action.REPLAN, f.next(4, 2, 0));
+    }
+
+    @Test
+    void asksForReplanWhenGravityPassedASideMove() {
+        PathFollower f = new PathFollower(tuck(), 4, 2, 0);
+        f.next(4, 2, 0);
+        f.next(4, 2, 1);
+        f.next(3, 2, 1);
+        // fell below the row where the RIGHT move had to happen
+        assertEquals(PathFollower.Action.REPLAN, f.next(3, 5, 1));
+    }
+
+    @Test
+    void straightDropIsASingleHardDrop() {
+        Placement p = new Placement(BrickShape.O, 0, 4, 22,
+                new EventType[] { EventType.DOWN, EventType.DOWN }, new int[] { 4, 3, 0, 4, 4, 0 });
+        assertEquals(PathFollower.Action.HARD_DROP, new PathFollower(p, 4, 2, 0).next(4, 2, 0));
+    }
+}
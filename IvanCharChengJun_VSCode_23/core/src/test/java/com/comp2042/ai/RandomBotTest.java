@@ -0,0 +1,37 @@
+package com.comp2042.ai;
+
+import com.comp2042.input.EventType;
+import com.comp2042.model.SimpleBoard;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RandomBotTest {
+
+    @Test
+    void seededBotRepeatsItsMoves() {
+        SimpleBoard board = new SimpleBoard(10, 25);
+        board.createNewBrick();
+        RandomBot a = new RandomBot(3L);
+        RandomBot b = new RandomBot(3L);
+        for (int i = 0; i < 20; i++) {
+            assertEquals(a.plan(board), b.plan(board));
+        }
+    }
+
+    @Test
+    void movesStayWithinBoardReach() {
+        SimpleBoard board = new SimpleBoard(10, 25);
+        board.createNewBrick();
+        RandomBot bot = new RandomBot(11L);
+        for (int i = 0; i < 100; i++) {
+            List<EventType> moves = bot.plan(board);
+            long rotations = moves.stream().filter(m -> m == EventType.ROTATE).count();
+            assertTrue(rotations <= 3);
+            assertTrue(moves.size() - rotations <= 5);
+            assertFalse(moves.contains(EventType.DOWN));
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.comp2042.ai;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeightedEvaluatorTest {
+
+    /** Columns of heights 2,0,3 on a 3x4 board with one hole under column 2. */
+    private static SearchBoard sample() {
+        int[][] m = new int[4][3];
+        m[1][2] = 1;
+        m[2][0] = 1;
+        m[3][0] = 1;
+        m[3][2] = 1;
+        return SearchBoard.of(m);
+    }
+
+    @Test
+    void columnHeightsAndHoles() {
+        SearchBoard board = sample();
+        assertArrayEquals(new int[]{2, 0, 3}, WeightedEvaluator.columnHeights(board));
+        assertEquals(1, WeightedEvaluator.holes(board));
+    }
+
+    @Test
+    void eachWeightScalesItsFeature() {
+        SearchBoard board = sample();
+        assertEquals(5, new WeightedEvaluator(1, 0, 0, 0, 0).evaluate(board, 0), 1e-9);
+        assertEquals(1, new WeightedEvaluator(0, 1, 0, 0, 0).evaluate(board, 0), 1e-9);
+        assertEquals(5, new WeightedEvaluator(0, 0, 1, 0, 0).evaluate(board, 0), 1e-9);
+        // column 0 is bounded by the wall (4) and height 0 -> no well; column 1 sits between 2 and 3
+        assertEquals(2, new WeightedEvaluator(0, 0, 0, 1, 0).evaluate(board, 0), 1e-9);
+        assertEquals(3, new WeightedEvaluator(0, 0, 0, 0, 1).evaluate(board, 3), 1e-9);
+    }
+
+    @Test
+    void defaultPrefersFlatterBoard() {
+        int[][] flat = new int[6][4];
+        int[][] spiky = new int[6][4];
+        for (int c = 0; c < 4; c++) flat[5][c] = (c == 3) ? 0 : 1;
+        spiky[3][0] = 1;
+        spiky[4][0] = 1;
+        spiky[5][0] = 1;
+        assertTrue(WeightedEvaluator.DEFAULT.evaluate(SearchBoard.of(flat), 0)
+                > WeightedEvaluator.DEFAULT.evaluate(SearchBoard.of(spiky), 0));
+    }
+}
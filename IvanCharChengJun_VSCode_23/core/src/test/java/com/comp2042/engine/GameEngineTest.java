@@ -0,0 +1,257 @@
+package com.comp2042.engine;
+
+import com.comp2042.input.EventSource;
+import com.comp2042.model.ClearRow;
+import com.comp2042.model.Score;
+import com.comp2042.model.ViewData;
+import com.comp2042.model.Board;
+import com.comp2042.utils.AllocationCounter;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Collections;
+import java.util.List;
+
+class GameEngineTest {
+
+    static class FakeBoard implements Board {
+        boolean moveDownResult;
+        boolean createNewBrickResult = false;
+        final Score score = new Score();
+
+        public FakeBoard(boolean moveDownResult) {
+            this.moveDownResult = moveDownResult;
+        }
+
+        @Override
+        public boolean moveBrickDown() { return moveDownResult; }
+
+        @Override
+        public boolean moveBrickLeft() { return false; }
+
+        @Override
+        public boolean moveBrickRight() { return false; }
+
+        @Override
+        public boolean rotateLeftBrick() { return false; }
+
+        @Override
+        public boolean createNewBrick() { return createNewBrickResult; }
+
+        @Override
+        public int[][] getBoardMatrix() { return new int[20][10]; }
+
+    @Override
+    public ViewData getViewData() { return new ViewData(new int[][]{{1}}, 0, 0, new int[][]{{0}}); }
+
+        @Override
+        public void mergeBrickToBackground() { /* no-op */ }
+
+        @Override
+        public ClearRow clearRows() { return null; }
+
+        @Override
+        public Score getScore() { return score; }
+
+        @Override
+        public void newGame() { score.reset(); }
+
+        @Override
+        public List<com.comp2042.logic.Brick> getUpcomingBricks(int count) { return Collections.emptyList(); }
+    }
+
+    @Test
+    void moveDown_userAddsScoreWhenCanMove() {
+        FakeBoard board = new FakeBoard(true);
+        GameEngine engine = new GameEngine(board);
+
+        assertEquals(0, engine.getScore().getScore());
+        MoveDownResult res = engine.moveDown(EventSource.USER);
+        assertFalse(res.isGameOver());
+        assertNull(res.getClearRow());
+        assertEquals(1, engine.getScore().getScore());
+    }
+
+    @Test
+    void moveDown_mergeClearsRowsAndAddsBonus() {
+        // create a board that will indicate landing and clearing rows
+        FakeBoard board = new FakeBoard(false) {
+            @Override
+            public ClearRow clearRows() {
+                int[][] newMatrix = new int[20][10];
+                int[] cleared = new int[] {18, 19};
+                return new ClearRow(2, newMatrix, 200, cleared);
+            }
+            @Override
+            public boolean createNewBrick() { return false; }
+        };
+
+        GameEngine engine = new GameEngine(board);
+        MoveDownResult res = engine.moveDown(EventSource.THREAD);
+
+        assertFalse(res.isGameOver());
+        assertNotNull(res.getClearRow());
+        // forwardCount should be equal to cleared rows since no garbage values present
+        assertEquals(2, res.getForwardCount());
+        assertEquals(200, engine.getScore().getScore());
+    }
+
+    @Test
+    void moveDown_reusesResultAndDoesNotAllocateWhileFalling() {
+        AllocationCounter counter = AllocationCounter.forCurrentThread();
+        int falls = 20_000;
+        // a very tall board keeps every call on the non-locking path
+        GameEngine engine = new GameEngine(new com.comp2042.model.SimpleBoard(10, 6 * falls));
+        engine.createNewBrick();
+        MoveDownResult first = engine.moveDown(EventSource.USER);
+        MoveDownResult[] last = new MoveDownResult[1];
+        Runnable fall = () -> {
+            for (int i = 0; i < falls; i++) last[0] = engine.moveDown(EventSource.USER);
+        };
+        fall.run(); // warm-up, so the measured loop is already compiled
+
+        long allocated = counter.leastAllocatedBy(fall, 3);
+
+        assertSame(first, last[0], "moveDown should reuse its result object");
+        assertTrue(allocated <= AllocationCounter.NOISE_BYTES, "moveDown allocated " + allocated + " bytes in total");
+        assertNotNull(last[0].getViewData());
+        assertEquals(4 * falls + 1, engine.getScore().getScore());
+    }
+
+    @Test
+    void hardDrop_scoresTwicePerRowAndLocksOnce() {
+        com.comp2042.model.SimpleBoard board = new com.comp2042.model.SimpleBoard(10, 25);
+        GameEngine engine = new GameEngine(board);
+        engine.createNewBrick();
+        int startY = engine.getViewData().getyPosition();
+        int landingY = engine.getViewData().getLandingY();
+
+        MoveDownResult res = engine.hardDrop();
+
+        assertFalse(res.isGameOver());
+        assertNotNull(res.getClearRow());
+        assertEquals(0, res.getClearRow().getLinesRemoved());
+        assertEquals(2 * (landingY - startY), engine.getScore().getScore());
+        // the dropped piece is now part of the background and a new one spawned
+        int filled = 0;
+        for (int[] row : engine.getBoardMatrix()) for (int v : row) if (v != 0) filled++;
+        assertEquals(4, filled);
+        assertEquals(2, engine.getViewData().getyPosition());
+    }
+
+    @Test
+    void sonicDrop_movesToLandingWithoutLocking() {
+        com.comp2042.model.SimpleBoard board = new com.comp2042.model.SimpleBoard(10, 25);
+        GameEngine engine = new GameEngine(board);
+        engine.createNewBrick();
+        int startY = engine.getViewData().getyPosition();
+        int landingY = engine.getViewData().getLandingY();
+
+        ViewData view = engine.sonicDrop(EventSource.USER);
+
+        assertEquals(landingY, view.getyPosition());
+        assertEquals(landingY - startY, engine.getScore().getScore());
+        for (int[] row : engine.getBoardMatrix()) for (int v : row) assertEquals(0, v);
+        assertEquals(landingY, engine.sonicDrop(EventSource.USER).getyPosition());
+    }
+
+    @Test
+    void applyGravity_levelOneFallsOneRowPerSecond() {
+        GameEngine engine = new GameEngine(new com.comp2042.model.SimpleBoard(10, 25));
+        engine.createNewBrick();
+        int startY = engine.getViewData().getyPosition();
+
+        for (int frame = 0; frame < 59; frame++) {
+            assertNull(engine.applyGravity(GravityCurve.FRAME_NANOS));
+        }
+        MoveDownResult res = engine.applyGravity(GravityCurve.FRAME_NANOS);
+
+        assertNotNull(res);
+        assertEquals(1, res.getRowsDropped());
+        assertNull(res.getClearRow());
+        assertEquals(startY + 1, engine.getViewData().getyPosition());
+        // gravity awards no soft-drop points
+        assertEquals(0, engine.getScore().getScore());
+    }
+
+    @Test
+    void applyGravity_twentyGLandsInOneStepAndLocksAfterDelay() {
+        GameEngine engine = new GameEngine(new com.comp2042.model.SimpleBoard(10, 25));
+        engine.setStartLevel(GravityCurve.MAX_LEVEL);
+        engine.createNewBrick();
+        int startY = engine.getViewData().getyPosition();
+        int landingY = engine.getViewData().getLandingY();
+
+        MoveDownResult res = engine.applyGravity(GravityCurve.FRAME_NANOS);
+        assertEquals(landingY - startY, res.getRowsDropped());
+        assertEquals(landingY, engine.getViewData().getyPosition());
+
+        // grounded: nothing happens until the lock delay has elapsed
+        long waited = 0;
+        while (waited + GravityCurve.FRAME_NANOS < engine.getLockDelayNanos()) {
+            assertNull(engine.applyGravity(GravityCurve.FRAME_NANOS));
+            waited += GravityCurve.FRAME_NANOS;
+        }
+        res = engine.applyGravity(GravityCurve.FRAME_NANOS);
+        assertNotNull(res);
+        assertNotNull(res.getClearRow());
+        assertEquals(0, res.getRowsDropped());
+        assertEquals(2, engine.getViewData().getyPosition());
+    }
+
+    @Test
+    void levelRisesWithClearedLines() {
+        FakeBoard board = new FakeBoard(false) {
+            @Override
+            public ClearRow clearRows() {
+                return new ClearRow(4, new int[20][10], 800, new int[] {16, 17, 18, 19});
+            }
+        };
+        GameEngine engine = new GameEngine(board);
+        engine.setStartLevel(3);
+        assertEquals(3, engine.getLevel());
+
+        for (int i = 0; i < 3; i++) engine.moveDown(EventSource.THREAD);
+
+        assertEquals(12, engine.getLinesCleared());
+        assertEquals(4, engine.getLevel());
+        engine.newGame();
+        assertEquals(3, engine.getLevel());
+    }
+
+    @Test
+    void piecesLockedCountsEveryLock() {
+        GameEngine engine = new GameEngine(new FakeBoard(false));
+        engine.moveDown(EventSource.THREAD);
+        engine.hardDrop();
+        assertEquals(2, engine.getPiecesLocked());
+
+        engine.newGame();
+        assertEquals(0, engine.getPiecesLocked());
+    }
+
+    @Test
+    void shiftAndSoftDropMoveSeveralCellsInOneStep() {
+        GameEngine engine = new GameEngine(new com.comp2042.model.SimpleBoard(10, 25));
+        engine.createNewBrick();
+        int x = engine.getViewData().getxPosition();
+        int y = engine.getViewData().getyPosition();
+        int landingY = engine.getViewData().getLandingY();
+
+        int left = engine.shift(Integer.MIN_VALUE);
+        assertTrue(left > 0);
+        assertEquals(x - left, engine.getViewData().getxPosition());
+        assertEquals(0, engine.shift(-1));
+        assertEquals(left, engine.shift(left));
+        assertEquals(x, engine.getViewData().getxPosition());
+
+        assertEquals(3, engine.softDrop(3, EventSource.USER));
+        assertEquals(3, engine.getScore().getScore());
+        assertEquals(landingY - y - 3, engine.softDrop(Integer.MAX_VALUE, EventSource.THREAD));
+        // grounded: the soft drop does not lock, the lock delay does
+        assertEquals(0, engine.softDrop(1, EventSource.USER));
+        assertEquals(landingY, engine.getViewData().getyPosition());
+    }
+}
@@ -0,0 +1,32 @@
+package com.comp2042.engine;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GravityCurveTest {
+
+    @Test
+    void levelOneDropsOneRowPerSecond() {
+        assertEquals(1.0 / 60, GravityCurve.cellsPerFrame(1), 1e-12);
+        assertEquals(1000.0, GravityCurve.millisPerRow(1), 1e-9);
+        assertEquals(GravityCurve.cellsPerFrame(1), GravityCurve.cellsPerFrame(0));
+    }
+
+    @Test
+    void gravityRisesMonotonicallyToTwentyG() {
+        for (int level = 2; level <= GravityCurve.MAX_LEVEL; level++) {
+            assertTrue(GravityCurve.cellsPerFrame(level) >= GravityCurve.cellsPerFrame(level - 1), "level " + level);
+        }
+        assertEquals(GravityCurve.TWENTY_G, GravityCurve.cellsPerFrame(GravityCurve.MAX_LEVEL));
+        assertEquals(GravityCurve.TWENTY_G, GravityCurve.cellsPerFrame(99));
+    }
+
+    @Test
+    void levelAdvancesEveryTenLines() {
+        assertEquals(1, GravityCurve.levelForLines(1, 9));
+        assertEquals(2, GravityCurve.levelForLines(1, 10));
+        assertEquals(7, GravityCurve.levelForLines(5, 25));
+        assertEquals(1, GravityCurve.levelForLines(0, -3));
+    }
+}
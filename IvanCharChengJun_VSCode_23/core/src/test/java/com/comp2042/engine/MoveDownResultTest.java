@@ -1,4 +1,4 @@
-package com.comp2042.controller.gameControl;
+package com.comp2042.engine;
 
 import com.comp2042.model.ClearRow;
 import com.comp2042.model.ViewData;
@@ -0,0 +1,142 @@
+package com.comp2042.input;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HandlingEngineTest {
+
+    private static final long MS = 1_000_000L;
+
+    /** Records every action as "L3", "R1", "D2" ... */
+    static class Recorder implements HandlingEngine.Actions {
+        final List<String> log = new ArrayList<>();
+
+        @Override
+        public void shift(int direction, int cells) {
+            log.add((direction < 0 ? "L" : "R") + (cells == HandlingEngine.TO_WALL ? "*" : String.valueOf(cells)));
+        }
+
+        @Override
+        public void softDrop(int rows) {
+            log.add("D" + rows);
+        }
+
+        int cells(char dir) {
+            int total = 0;
+            for (String s : log) if (s.charAt(0) == dir) total += Integer.parseInt(s.substring(1));
+            return total;
+        }
+    }
+
+    @Test
+    void pressShiftsOnceAndIgnoresOsRepeat() {
+        Recorder r = new Recorder();
+        HandlingEngine h = new HandlingEngine(r);
+        h.press(HandlingEngine.LEFT, 0);
+        h.press(HandlingEngine.LEFT, 30 * MS);
+        h.press(HandlingEngine.LEFT, 60 * MS);
+        h.update(100 * MS);
+        assertEquals(List.of("L1"), r.log);
+        assertTrue(h.isHeld(HandlingEngine.LEFT));
+    }
+
+    @Test
+    void repeatsFollowPressTimeNotFrameRate() {
+        // DAS 120, ARR 50: repeats at 120, 170, 220 ... -> 18 repeats by 1000 ms
+        Recorder at60 = new Recorder();
+        HandlingEngine h60 = new HandlingEngine(at60);
+        h60.press(HandlingEngine.RIGHT, 3 * MS);
+        for (long t = 0; t <= 1003 * MS; t += 16_666_667L) h60.update(t);
+        h60.update(1003 * MS);
+
+        Recorder at144 = new Recorder();
+        HandlingEngine h144 = new HandlingEngine(at144);
+        h144.press(HandlingEngine.RIGHT, 3 * MS);
+        for (long t = 0; t <= 1003 * MS; t += 6_944_444L) h144.update(t);
+        h144.update(1003 * MS);
+
+        assertEquals(1 + 18, at60.cells('R'));
+        assertEquals(at60.cells('R'), at144.cells('R'));
+    }
+
+    @Test
+    void severalRepeatsInOneFrameAreOneMove() {
+        Recorder r = new Recorder();
+        HandlingEngine h = new HandlingEngine(r);
+        h.configure(10, 100, 0, 1.0);
+        h.press(HandlingEngine.LEFT, 0);
+        h.update(99 * MS);
+        h.update(135 * MS);
+        // repeats at 100, 110, 120, 130
+        assertEquals(List.of("L1", "L4"), r.log);
+    }
+
+    @Test
+    void zeroArrShiftsToWall() {
+        Recorder r = new Recorder();
+        HandlingEngine h = new HandlingEngine(r);
+        h.configure(0, 100, 0, 1.0);
+        h.press(HandlingEngine.RIGHT, 0);
+        h.update(50 * MS);
+        h.update(100 * MS);
+        assertEquals(List.of("R1", "R*"), r.log);
+    }
+
+    @Test
+    void releasingActiveDirectionHandsOverToHeldKey() {
+        Recorder r = new Recorder();
+        HandlingEngine h = new HandlingEngine(r);
+        h.press(HandlingEngine.LEFT, 0);
+        h.press(HandlingEngine.RIGHT, 10 * MS);
+        h.update(100 * MS);
+        h.release(HandlingEngine.RIGHT, 100 * MS);
+        // left restarts with a fresh DAS from the release
+        h.update(200 * MS);
+        h.update(220 * MS);
+        h.release(HandlingEngine.LEFT, 230 * MS);
+        h.update(1000 * MS);
+        assertEquals(List.of("L1", "R1", "L1", "L1"), r.log);
+        assertEquals(0, h.getHeldKeys());
+    }
+
+    @Test
+    void cutDelaysChargedAutoShift() {
+        Recorder r = new Recorder();
+        HandlingEngine h = new HandlingEngine(r);
+        h.configure(50, 100, 40, 1.0);
+        h.press(HandlingEngine.LEFT, 0);
+        h.update(100 * MS);
+        h.cut(110 * MS);
+        h.update(149 * MS);
+        h.update(150 * MS);
+        assertEquals(List.of("L1", "L1", "L1"), r.log);
+    }
+
+    @Test
+    void softDropRepeatsAtFactorSpeed() {
+        Recorder r = new Recorder();
+        HandlingEngine h = new HandlingEngine(r);
+        h.configure(50, 120, 0, 2.0); // 40 rows per second
+        h.press(HandlingEngine.SOFT_DROP, 0);
+        h.update(110 * MS);
+        h.release(HandlingEngine.SOFT_DROP, 110 * MS);
+        h.update(500 * MS);
+        assertEquals(List.of("D1", "D4"), r.log);
+    }
+
+    @Test
+    void resetForgetsHeldKeys() {
+        Recorder r = new Recorder();
+        HandlingEngine h = new HandlingEngine(r);
+        h.press(HandlingEngine.LEFT, 0);
+        h.reset();
+        h.update(1000 * MS);
+        assertEquals(List.of("L1"), r.log);
+        h.press(HandlingEngine.LEFT, 1000 * MS);
+        assertEquals(List.of("L1", "L1"), r.log);
+    }
+}
@@ -0,0 +1,65 @@
+package com.comp2042.input;
+
+import com.comp2042.model.DownData;
+import com.comp2042.model.ViewData;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InputEventListenerTest {
+
+    private final InputEventListener listener = new InputEventListener() {
+        @Override
+        public DownData onDownEvent(MoveEvent event) {
+            return null;
+        }
+
+        @Override
+        public ViewData onLeftEvent(MoveEvent event) {
+            return null;
+        }
+
+        @Override
+        public ViewData onRightEvent(MoveEvent event) {
+            return null;
+        }
+
+        @Override
+        public ViewData onRotateEvent(MoveEvent event) {
+            return null;
+        }
+
+        @Override
+        public void createNewGame() {
+            // Do nothing
+        }
+    };
+
+    @Test
+    void onSwapEvent_defaultMethod_doesNotThrow() {
+        assertDoesNotThrow(() -> listener.onSwapEvent());
+    }
+
+    @Test
+    void onHardDropEvent_defaultRepeatsDownUntilLock() {
+        int[] calls = {0};
+        InputEventListener stepping = new InputEventListener() {
+            @Override
+            public DownData onDownEvent(MoveEvent event) {
+                calls[0]++;
+                com.comp2042.model.ClearRow clearRow = (calls[0] == 3) ? new com.comp2042.model.ClearRow(0, new int[1][1], 0, null) : null;
+                return new DownData(clearRow, null);
+            }
+            @Override public ViewData onLeftEvent(MoveEvent event) { return null; }
+            @Override public ViewData onRightEvent(MoveEvent event) { return null; }
+            @Override public ViewData onRotateEvent(MoveEvent event) { return null; }
+            @Override public void createNewGame() { }
+        };
+
+        DownData d = stepping.onHardDropEvent(new MoveEvent(EventType.DOWN, EventSource.USER));
+        assertNotNull(d.getClearRow());
+        assertEquals(3, calls[0]);
+        assertNull(listener.onHardDropEvent(new MoveEvent(EventType.DOWN, EventSource.USER)));
+        assertNull(listener.onSonicDropEvent(new MoveEvent(EventType.DOWN, EventSource.USER)));
+    }
+}
@@ -67,4 +67,16 @@ class MoveEventTest {
         String expected = "MoveEvent{eventType=DOWN, eventSource=USER}";
         assertEquals(expected, event.toString());
     }
+
+    @Test
+    void testTimestampIsCarriedButNotPartOfEquality() {
+        MoveEvent plain = new MoveEvent(EventType.LEFT, EventSource.USER);
+        MoveEvent stamped = new MoveEvent(EventType.LEFT, EventSource.USER, 12345L);
+        assertFalse(plain.isStamped());
+        assertEquals(0L, plain.getTimestampNanos());
+        assertTrue(stamped.isStamped());
+        assertEquals(12345L, stamped.getTimestampNanos());
+        assertEquals(plain, stamped);
+        assertEquals(plain.hashCode(), stamped.hashCode());
+    }
 }
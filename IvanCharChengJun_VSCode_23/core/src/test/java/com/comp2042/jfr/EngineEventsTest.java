@@ -0,0 +1,61 @@
+package com.comp2042.jfr;
+
+import com.comp2042.engine.GameEngine;
+import com.comp2042.model.SimpleBoard;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EngineEventsTest {
+
+    @Test
+    void hardDropCommitsPieceLockedForItsBoard() throws Exception {
+        GameEngine engine = new GameEngine(new SimpleBoard(10, 25));
+        engine.createNewBrick();
+        GameEngine other = new GameEngine(new SimpleBoard(10, 25));
+        assertNotEquals(engine.getBoardId(), other.getBoardId());
+
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(PieceLockedEvent.class).withThreshold(java.time.Duration.ZERO);
+            recording.enable(LinesClearedEvent.class).withThreshold(java.time.Duration.ZERO);
+            recording.start();
+            engine.hardDrop();
+            recording.stop();
+            Path file = Files.createTempFile("engine-events", ".jfr");
+            try {
+                recording.dump(file);
+                events = RecordingFile.readAllEvents(file);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        }
+
+        List<RecordedEvent> locks = events.stream()
+                .filter(e -> e.getEventType().getName().equals("com.comp2042.PieceLocked"))
+                .filter(e -> e.getInt("boardId") == engine.getBoardId())
+                .collect(Collectors.toList());
+        assertEquals(1, locks.size());
+        assertTrue(locks.get(0).getInt("rowsDropped") > 0);
+        assertEquals(0, locks.get(0).getInt("linesCleared"));
+        assertFalse(locks.get(0).getBoolean("gameOver"));
+        // nothing was cleared, so no clear event
+        assertTrue(events.stream().noneMatch(e -> e.getEventType().getName().equals("com.comp2042.LinesCleared")));
+    }
+
+    @Test
+    void eventsAreDisabledWithoutARecording() {
+        assertFalse(new PieceLockedEvent().isEnabled());
+        assertFalse(new LinesClearedEvent().isEnabled());
+    }
+}
@@ -0,0 +1,117 @@
+package com.comp2042.logic;
+
+import com.comp2042.logic.bricks.IBrick;
+import com.comp2042.utils.AllocationCounter;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BagBrickGeneratorTest {
+
+    private static List<BrickShape> draw(BrickGenerator generator, int count) {
+        List<BrickShape> shapes = new ArrayList<>();
+        for (int i = 0; i < count; i++) shapes.add(generator.getBrick().getBrickShape());
+        return shapes;
+    }
+
+    @Test
+    void sameSeedGivesSameSequence() {
+        assertEquals(draw(new BagBrickGenerator(42L), 200), draw(new BagBrickGenerator(42L), 200));
+        assertNotEquals(draw(new BagBrickGenerator(42L), 200), draw(new BagBrickGenerator(43L), 200));
+    }
+
+    @Test
+    void sequenceIsFixedAcrossMachines() {
+        // pinned so a change to the shuffle or the random source is caught
+        List<BrickShape> expected = List.of(
+                BrickShape.J, BrickShape.S, BrickShape.I, BrickShape.L, BrickShape.Z, BrickShape.T, BrickShape.O,
+                BrickShape.S, BrickShape.J, BrickShape.I, BrickShape.O, BrickShape.Z, BrickShape.T, BrickShape.L);
+        assertEquals(expected, draw(new BagBrickGenerator(2042L), 14));
+    }
+
+    @Test
+    void everyBagHoldsAllSevenShapes() {
+        BagBrickGenerator generator = new BagBrickGenerator(7L);
+        for (int bag = 0; bag < 50; bag++) {
+            Set<BrickShape> seen = EnumSet.noneOf(BrickShape.class);
+            for (int i = 0; i < 7; i++) seen.add(generator.getBrick().getBrickShape());
+            assertEquals(7, seen.size(), "bag " + bag);
+        }
+    }
+
+    @Test
+    void peeksMatchWhatIsDrawnNext() {
+        BagBrickGenerator generator = new BagBrickGenerator(3L);
+        generator.getBrick();
+        List<Brick> ahead = new ArrayList<>();
+        for (int i = 0; i < 30; i++) ahead.add(generator.peekBrick(i));
+        assertSame(ahead.get(0), generator.getNextBrick());
+        List<Brick> view = generator.getUpcomingBricks(3);
+        assertEquals(ahead.subList(0, 3), view);
+        assertThrows(UnsupportedOperationException.class, () -> view.add(new IBrick()));
+        for (int i = 0; i < 30; i++) assertSame(ahead.get(i), generator.getBrick());
+        assertThrows(IndexOutOfBoundsException.class, () -> generator.peekBrick(-1));
+    }
+
+    @Test
+    void replaceNextOnlyTouchesTheHead() {
+        BagBrickGenerator generator = new BagBrickGenerator(9L);
+        Brick second = generator.peekBrick(1);
+        Brick held = new IBrick();
+        assertTrue(generator.replaceNext(held));
+        assertSame(held, generator.getBrick());
+        assertSame(second, generator.getBrick());
+        assertFalse(generator.replaceNext(null));
+    }
+
+    @Test
+    void splitIsDeterministicAndIndependent() {
+        BagBrickGenerator a = new BagBrickGenerator(100L);
+        BagBrickGenerator b = new BagBrickGenerator(100L);
+        BagBrickGenerator childA = a.split();
+        BagBrickGenerator childB = b.split();
+        assertEquals(childA.getSeed(), childB.getSeed());
+        assertEquals(draw(childA, 70), draw(childB, 70));
+        assertNotEquals(draw(new BagBrickGenerator(100L), 70), draw(a.split(), 70));
+    }
+
+    @Test
+    void copyAndRestoreResumeTheSameSequence() {
+        BagBrickGenerator generator = new BagBrickGenerator(55L);
+        draw(generator, 11);
+        generator.replaceNext(new IBrick());
+        BagBrickGenerator copy = generator.copy();
+        BagBrickGenerator.State state = generator.saveState();
+        List<BrickShape> expected = draw(generator, 40);
+
+        assertEquals(expected, draw(copy, 40));
+        BagBrickGenerator other = new BagBrickGenerator(0L);
+        other.restoreState(state);
+        assertEquals(expected, draw(other, 40));
+    }
+
+    @Test
+    void steadyStateDoesNotAllocate() {
+        AllocationCounter counter = AllocationCounter.forCurrentThread();
+        BagBrickGenerator generator = new BagBrickGenerator(1L);
+        Brick held = new IBrick();
+        Runnable play = () -> {
+            for (int i = 0; i < 20_000; i++) {
+                generator.getUpcomingBricks(3).get(2);
+                generator.peekBrick(5);
+                if ((i & 7) == 0) generator.replaceNext(held);
+                generator.getBrick();
+            }
+        };
+        play.run(); // warm up and size the ring
+
+        long allocated = counter.leastAllocatedBy(play, 3);
+
+        assertTrue(allocated <= AllocationCounter.NOISE_BYTES, "steady-state play allocated " + allocated + " bytes");
+    }
+}
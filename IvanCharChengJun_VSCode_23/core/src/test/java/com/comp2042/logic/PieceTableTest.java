@@ -0,0 +1,76 @@
+package com.comp2042.logic;
+
+import com.comp2042.logic.bricks.IBrick;
+import com.comp2042.logic.bricks.OBrick;
+import com.comp2042.logic.bricks.TBrick;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PieceTableTest {
+
+    @Test
+    void everyShapeHasAnEntryMatchingItsBrick() {
+        for (BrickShape shape : BrickShape.values()) {
+            PieceTable.Piece piece = PieceTable.get(shape);
+            assertNotNull(piece, "missing entry for " + shape);
+            assertEquals(shape, piece.shape());
+            assertTrue(piece.rotations() > 0);
+            for (int r = 0; r < piece.rotations(); r++) {
+                assertEquals(4, piece.cellCount(r), shape + " rotation " + r);
+            }
+        }
+    }
+
+    @Test
+    void ofResolvesStandardBricksToSharedMatrices() {
+        PieceTable.Piece a = PieceTable.of(new TBrick());
+        PieceTable.Piece b = PieceTable.of(new TBrick());
+        assertSame(a, b);
+        assertSame(a.matrix(0), b.matrices().get(0));
+        assertArrayEquals(new TBrick().getShapeMatrix().get(0), a.matrix(0));
+        assertEquals(6, a.colour());
+    }
+
+    @Test
+    void ofReturnsNullForUnknownBricks() {
+        assertNull(PieceTable.of(null));
+        Brick custom = new Brick() {
+            @Override public List<int[][]> getShapeMatrix() {
+                return Collections.singletonList(new int[][]{{9}});
+            }
+        };
+        assertNull(PieceTable.of(custom));
+    }
+
+    @Test
+    void boundingBoxAndBottomProfile() {
+        PieceTable.Piece i = PieceTable.get(BrickShape.I);
+        // horizontal I occupies matrix row 1 across all four columns
+        assertEquals(0, i.minX(0));
+        assertEquals(3, i.maxX(0));
+        assertEquals(1, i.minY(0));
+        assertEquals(1, i.maxY(0));
+        for (int c = 0; c < i.columns(); c++) assertEquals(1, i.bottom(0, c));
+
+        PieceTable.Piece o = PieceTable.of(new OBrick());
+        int filled = 0;
+        for (int c = 0; c < o.columns(); c++) {
+            if (o.bottom(0, c) >= 0) {
+                filled++;
+                assertEquals(o.maxY(0), o.bottom(0, c));
+            }
+        }
+        assertEquals(2, filled);
+    }
+
+    @Test
+    void matrixListIsUnmodifiable() {
+        PieceTable.Piece i = PieceTable.of(new IBrick());
+        assertThrows(UnsupportedOperationException.class, () -> i.matrices().add(new int[1][1]));
+    }
+}
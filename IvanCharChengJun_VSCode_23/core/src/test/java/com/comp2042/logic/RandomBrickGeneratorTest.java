@@ -72,4 +72,44 @@ class RandomBrickGeneratorTest {
             assertNotNull(generator.getBrick(), "Brick should not be null, even after bag refill");
         }
     }
+
+    @Test
+    void sameSeedGivesSameSequence() {
+        RandomBrickGenerator a = new RandomBrickGenerator(7L);
+        RandomBrickGenerator b = new RandomBrickGenerator(7L);
+        for (int i = 0; i < 50; i++) {
+            assertEquals(a.getBrick().getBrickShape(), b.getBrick().getBrickShape(), "diverged at brick " + i);
+        }
+        assertTrue(a.isSeeded());
+        assertFalse(generator.isSeeded());
+    }
+
+    @Test
+    void seededBagsContainEveryShape() {
+        RandomBrickGenerator seeded = new RandomBrickGenerator(123L);
+        java.util.Set<BrickShape> bag = java.util.EnumSet.noneOf(BrickShape.class);
+        for (int i = 0; i < 7; i++) bag.add(seeded.getBrick().getBrickShape());
+        assertEquals(7, bag.size());
+    }
+
+    @Test
+    void restoredStateResumesSequence() {
+        RandomBrickGenerator seeded = new RandomBrickGenerator(99L);
+        for (int i = 0; i < 5; i++) seeded.getBrick();
+        seeded.replaceNext(new IBrick());
+        RandomBrickGenerator.State state = seeded.saveState();
+        List<BrickShape> expected = new java.util.ArrayList<>();
+        for (int i = 0; i < 20; i++) expected.add(seeded.getBrick().getBrickShape());
+
+        seeded.restoreState(state);
+        for (int i = 0; i < 20; i++) assertEquals(expected.get(i), seeded.getBrick().getBrickShape());
+        assertThrows(IllegalStateException.class, () -> generator.saveState());
+    }
+
+    @Test
+    void upcomingBeyondBufferRefillsWholeBags() {
+        List<Brick> upcoming = generator.getUpcomingBricks(10);
+        assertEquals(10, upcoming.size());
+        assertSame(upcoming.get(0), generator.getNextBrick());
+    }
 }
@@ -0,0 +1,223 @@
+package com.comp2042.model;
+
+import com.comp2042.logic.Brick;
+import com.comp2042.logic.BrickGenerator;
+import com.comp2042.logic.bricks.IBrick;
+import com.comp2042.logic.bricks.JBrick;
+import com.comp2042.logic.bricks.LBrick;
+import com.comp2042.logic.bricks.OBrick;
+import com.comp2042.logic.bricks.SBrick;
+import com.comp2042.logic.bricks.TBrick;
+import com.comp2042.logic.bricks.ZBrick;
+import com.comp2042.utils.MatrixOperations;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BitBoardTest {
+
+    /** Deterministic generator cycling through a fixed brick order. */
+    static class CyclingGenerator implements BrickGenerator {
+        private final List<Brick> bricks = List.of(new IBrick(), new JBrick(), new LBrick(), new OBrick(),
+                new SBrick(), new TBrick(), new ZBrick());
+        private int index = 0;
+
+        @Override public Brick getBrick() { return bricks.get(index++ % bricks.size()); }
+        @Override public Brick getNextBrick() { return bricks.get(index % bricks.size()); }
+        @Override public List<Brick> getUpcomingBricks(int count) {
+            List<Brick> out = new ArrayList<>();
+            for (int i = 0; i < count; i++) out.add(bricks.get((index + i) % bricks.size()));
+            return out;
+        }
+    }
+
+    @Test
+    void rejectsUnsupportedWidth() {
+        assertThrows(IllegalArgumentException.class, () -> new BitBoard(65, 20));
+        assertThrows(IllegalArgumentException.class, () -> new BitBoard(10, 0));
+    }
+
+    @Test
+    void movesStopAtWallsAndFloor() {
+        BitBoard board = new BitBoard(10, 25, new CyclingGenerator());
+        assertFalse(board.createNewBrick()); // I piece, horizontal in row 1 of its matrix
+
+        int lefts = 0;
+        while (board.moveBrickLeft()) lefts++;
+        assertEquals(3, lefts);
+        assertEquals(0, board.getViewData().getxPosition());
+
+        int downs = 0;
+        while (board.moveBrickDown()) downs++;
+        // spawn row 2, shape occupies matrix row 1 -> lands with offset 23 on a 25-row board
+        assertEquals(21, downs);
+        assertEquals(23, board.getViewData().getyPosition());
+    }
+
+    @Test
+    void mergeAndClearKeepsOccupancyInSync() {
+        BitBoard board = new BitBoard(4, 6, new CyclingGenerator());
+        board.createNewBrick(); // I piece spans the whole 4-wide board
+        while (board.moveBrickDown()) { }
+        board.mergeBrickToBackground();
+        assertArrayEquals(new int[]{1, 1, 1, 1}, board.getBoardMatrix()[5]);
+
+        ClearRow clearRow = board.clearRows();
+        assertEquals(1, clearRow.getLinesRemoved());
+        assertEquals(50, clearRow.getScoreBonus());
+        assertArrayEquals(new int[]{5}, clearRow.getClearedRows());
+        for (int[] row : board.getBoardMatrix()) assertArrayEquals(new int[4], row);
+
+        // the cleared row must no longer block the next piece
+        board.createNewBrick();
+        assertTrue(board.moveBrickDown());
+    }
+
+    @Test
+    void garbageRowsUpdateCollisionState() {
+        BitBoard board = new BitBoard(10, 25, new CyclingGenerator());
+        board.createNewBrick();
+        board.addGarbageRows(2, 4);
+
+        int[][] matrix = board.getBoardMatrix();
+        assertEquals(0, matrix[24][4]);
+        assertEquals(8, matrix[24][0]);
+        assertEquals(8, matrix[23][9]);
+
+        while (board.moveBrickDown()) { }
+        // I piece rests on top of the two garbage rows
+        assertEquals(21, board.getViewData().getyPosition());
+    }
+
+    @Test
+    void matchesSimpleBoardOverRandomPlay() {
+        SimpleBoard simple = new SimpleBoard(10, 25, new CyclingGenerator());
+        BitBoard bits = new BitBoard(10, 25, new CyclingGenerator());
+        assertEquals(simple.createNewBrick(), bits.createNewBrick());
+
+        Random random = new Random(42);
+        for (int step = 0; step < 5000; step++) {
+            boolean expected;
+            boolean actual;
+            switch (random.nextInt(4)) {
+                case 0: expected = simple.moveBrickLeft(); actual = bits.moveBrickLeft(); break;
+                case 1: expected = simple.moveBrickRight(); actual = bits.moveBrickRight(); break;
+                case 2: expected = simple.rotateLeftBrick(); actual = bits.rotateLeftBrick(); break;
+                default: expected = simple.moveBrickDown(); actual = bits.moveBrickDown(); break;
+            }
+            assertEquals(expected, actual, "move result diverged at step " + step);
+            if (step % 97 == 0) assertEquals(simple.sonicDrop(), bits.sonicDrop());
+            // a rejected swap must leave the piece exactly as it was
+            if (step % 7 == 0) assertEquals(simple.swapCurrentWithNext(), bits.swapCurrentWithNext());
+            assertEquals(simple.getViewData(), bits.getViewData(), "view diverged at step " + step);
+
+            if (!simple.moveBrickDown()) {
+                assertFalse(bits.moveBrickDown());
+                simple.mergeBrickToBackground();
+                bits.mergeBrickToBackground();
+                ClearRow a = simple.clearRows();
+                ClearRow b = bits.clearRows();
+                assertEquals(a.getLinesRemoved(), b.getLinesRemoved());
+                assertArrayEquals(a.getClearedRows(), b.getClearedRows());
+                assertArrayEquals(simple.getBoardMatrix(), bits.getBoardMatrix());
+                boolean simpleOver = simple.createNewBrick();
+                assertEquals(simpleOver, bits.createNewBrick());
+                if (simpleOver) {
+                    simple.newGame();
+                    bits.newGame();
+                }
+            } else {
+                assertTrue(bits.moveBrickDown());
+            }
+        }
+    }
+
+    @Test
+    void restoreReturnsToSnapshot() {
+        BitBoard board = new BitBoard(10, 25, new CyclingGenerator());
+        board.createNewBrick();
+        for (int lock = 0; lock < 6; lock++) {
+            board.hardDrop();
+            board.clearRows();
+            board.createNewBrick();
+        }
+        board.moveBrickLeft();
+        board.rotateLeftBrick();
+        board.getScore().add(120);
+        BoardSnapshot snapshot = board.snapshot();
+        int[][] matrix = MatrixOperations.copy(board.getBoardMatrix());
+        ViewData view = board.getViewData();
+
+        for (int lock = 0; lock < 5; lock++) {
+            board.moveBrickRight();
+            board.hardDrop();
+            board.clearRows();
+            board.createNewBrick();
+        }
+        board.restore(snapshot);
+
+        assertArrayEquals(matrix, board.getBoardMatrix());
+        assertEquals(view.getXPosition(), board.getViewData().getXPosition());
+        assertEquals(view.getYPosition(), board.getViewData().getYPosition());
+        assertEquals(view.getLandingY(), board.getViewData().getLandingY());
+        assertArrayEquals(view.getBrickData(), board.getViewData().getBrickData());
+        assertEquals(120, board.getScore().getScore());
+        assertThrows(IllegalArgumentException.class, () -> new BitBoard(8, 25).restore(snapshot));
+    }
+
+    @Test
+    void moveBrickDownByStopsOnLandingRow() {
+        BitBoard board = new BitBoard(10, 25, new CyclingGenerator());
+        board.createNewBrick();
+        int landing = board.getViewData().getLandingY();
+        assertFalse(board.isBrickGrounded());
+
+        assertEquals(3, board.moveBrickDownBy(3));
+        assertEquals(5, board.getViewData().getYPosition());
+        assertEquals(landing - 5, board.moveBrickDownBy(100));
+        assertEquals(landing, board.getViewData().getYPosition());
+        assertTrue(board.isBrickGrounded());
+        assertEquals(0, board.moveBrickDownBy(1));
+    }
+
+    @Test
+    void boardVersionTracksBackgroundChanges() {
+        BitBoard board = new BitBoard(10, 25, new CyclingGenerator());
+        board.newGame();
+        long start = board.getBoardVersion();
+        board.moveBrickLeft();
+        board.rotateLeftBrick();
+        board.moveBrickDown();
+        assertEquals(start, board.getBoardVersion(), "moving the piece leaves the background alone");
+
+        board.hardDrop();
+        ViewData landed = board.getViewData();
+        BitSet pieceRows = new BitSet();
+        int[][] shape = landed.getBrickData();
+        for (int i = 0; i < shape.length; i++) {
+            for (int cell : shape[i]) if (cell != 0) pieceRows.set(landed.getyPosition() + i);
+        }
+        long merged = board.getBoardVersion();
+        assertTrue(merged > start);
+        BitSet rows = new BitSet();
+        board.collectChangedRows(start, rows);
+        assertEquals(pieceRows, rows);
+
+        board.clearRows();
+        assertEquals(merged, board.getBoardVersion(), "nothing was cleared");
+
+        board.addGarbageRows(2, 0);
+        rows.clear();
+        board.collectChangedRows(merged, rows);
+        assertEquals(merged + 1, board.getBoardVersion());
+        assertTrue(rows.get(23) && rows.get(24));
+        assertTrue(rows.get(pieceRows.nextSetBit(0) - 2), "the stack moved up");
+        assertFalse(rows.get(0));
+    }
+}
@@ -44,4 +44,31 @@ class ClearRowTest {
         assertNotNull(cleared);
         assertEquals(0, cleared.length);
     }
+
+    @Test
+    void constructorReportsDirtyRangeUpToLowestClearedRow() {
+        ClearRow cr = new ClearRow(2, new int[4][2], 200, new int[] {1, 3});
+        assertEquals(0, cr.getDirtyFromRow());
+        assertEquals(3, cr.getDirtyToRow());
+        assertEquals(0, cr.getGarbageLinesRemoved());
+
+        ClearRow none = new ClearRow(0, new int[4][2], 0, null);
+        assertEquals(-1, none.getDirtyFromRow());
+        assertEquals(-1, none.getDirtyToRow());
+    }
+
+    @Test
+    void inPlaceResultSharesBoardMatrixButCopiesOnRead() {
+        int[][] live = new int[][] { {0, 0}, {1, 0} };
+        ClearRow cr = ClearRow.inPlace(1, 50, new int[] {1}, 0, 1, 1, live);
+        assertEquals(0, cr.getDirtyFromRow());
+        assertEquals(1, cr.getDirtyToRow());
+        assertEquals(1, cr.getGarbageLinesRemoved());
+
+        live[1][1] = 5;
+        int[][] copy = cr.getNewMatrix();
+        assertEquals(5, copy[1][1]);
+        copy[0][0] = 9;
+        assertEquals(0, live[0][0]);
+    }
 }
@@ -0,0 +1,79 @@
+package com.comp2042.model;
+
+import com.comp2042.utils.MatrixOperations;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ColumnHeightsTest {
+
+    private static final int[][] T_UP = { {0, 1, 0}, {1, 1, 1} };
+
+    @Test
+    void tracksHeightsHolesAndLandingOnBothBoards() {
+        checkAgainstScan(new SimpleBoard(10, 25, new BitBoardTest.CyclingGenerator()));
+        checkAgainstScan(new BitBoard(10, 25, new BitBoardTest.CyclingGenerator()));
+    }
+
+    private static void checkAgainstScan(Board board) {
+        Random random = new Random(11);
+        board.createNewBrick();
+        for (int lock = 0; lock < 1500; lock++) {
+            int shift = random.nextInt(9) - 4;
+            for (int i = 0; i < Math.abs(shift); i++) {
+                if (shift < 0) board.moveBrickLeft(); else board.moveBrickRight();
+            }
+            if (random.nextBoolean()) board.rotateLeftBrick();
+
+            ViewData view = board.getViewData();
+            int[][] matrix = board.getBoardMatrix();
+            int[][] shape = view.getBrickData();
+            assertEquals(MatrixOperations.landingY(matrix, shape, view.getxPosition(), view.getyPosition()),
+                    view.getLandingY(), "ghost row at lock " + lock);
+
+            while (board.moveBrickDown()) { }
+            assertEquals(board.getViewData().getyPosition(), view.getLandingY());
+            board.mergeBrickToBackground();
+            board.clearRows();
+            if (lock % 40 == 39) board.addGarbageRows(2, random.nextInt(10));
+
+            for (int c = 0; c < 10; c++) {
+                int expectedHeight = 0;
+                int expectedHoles = 0;
+                for (int r = 0; r < matrix.length; r++) {
+                    if (matrix[r][c] != 0 && expectedHeight == 0) expectedHeight = matrix.length - r;
+                    else if (matrix[r][c] == 0 && expectedHeight != 0) expectedHoles++;
+                }
+                assertEquals(expectedHeight, board.getColumnHeight(c), "height of column " + c + " at lock " + lock);
+                assertEquals(expectedHoles, board.getColumnHoles(c), "holes of column " + c + " at lock " + lock);
+            }
+            for (int x = -1; x <= 8; x++) {
+                assertEquals(MatrixOperations.landingY(matrix, T_UP, x, -2), board.getLandingY(T_UP, x));
+            }
+
+            if (board.createNewBrick()) board.newGame();
+        }
+    }
+
+    @Test
+    void landingUnderOverhangFallsBackToScan() {
+        ColumnHeights heights = new ColumnHeights(4, 6);
+        int[][] matrix = new int[6][4];
+        // overhang on row 2 covering columns 0..2, open floor beneath
+        for (int c = 0; c < 3; c++) {
+            matrix[2][c] = 1;
+            heights.cellFilled(c, 2);
+        }
+        int[][] flat = { {1, 1} };
+        // from above the surface the piece rests on the overhang
+        assertEquals(1, heights.landingY(flat, 0, 0, matrix));
+        // tucked under the overhang it falls to the floor
+        assertEquals(5, heights.landingY(flat, 0, 3, matrix));
+        assertEquals(4, heights.height(0));
+        assertEquals(3, heights.holes(0));
+        assertEquals(0, heights.height(3));
+    }
+}
@@ -0,0 +1,56 @@
+package com.comp2042.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RowVersionsTest {
+
+    private static BitSet changedSince(RowVersions versions, long since) {
+        BitSet rows = new BitSet();
+        versions.collectChangedSince(since, rows);
+        return rows;
+    }
+
+    @Test
+    void eachChangeBumpsTheVersionOnce() {
+        RowVersions versions = new RowVersions(10);
+        assertEquals(0, versions.version());
+
+        versions.changed(3, 5);
+        assertEquals(1, versions.version());
+        versions.changedAll();
+        assertEquals(2, versions.version());
+    }
+
+    @Test
+    void rowsChangedSinceAVersionAreCollected() {
+        RowVersions versions = new RowVersions(10);
+        versions.changed(7, 8);
+        long seen = versions.version();
+        versions.changed(2, 3);
+        versions.changed(3, 4);
+
+        BitSet expected = new BitSet();
+        expected.set(2, 5);
+        assertEquals(expected, changedSince(versions, seen));
+        assertEquals(5, changedSince(versions, 0).cardinality());
+        assertTrue(changedSince(versions, versions.version()).isEmpty());
+    }
+
+    @Test
+    void rangesAreClampedToTheBoard() {
+        RowVersions versions = new RowVersions(4);
+        versions.changed(-2, 1);
+        versions.changed(3, 9);
+        versions.changed(6, 9);
+
+        assertEquals(2, versions.version());
+        BitSet expected = new BitSet();
+        expected.set(0, 2);
+        expected.set(3);
+        assertEquals(expected, changedSince(versions, 0));
+    }
+}
@@ -2,7 +2,6 @@ package com.comp2042.model;
 
 import static org.junit.jupiter.api.Assertions.*;
 
-import javafx.beans.property.IntegerProperty;
 import org.junit.jupiter.api.Test;
 
 class ScoreTest {
@@ -20,11 +19,18 @@ class ScoreTest {
     }
 
     @Test
-    void propertyExposesValue() {
+    void listenersSeeEveryChange() {
         Score s = new Score();
-        IntegerProperty p = s.scoreProperty();
-        assertEquals(s.getScore(), p.get());
+        int[] seen = {-1, -1};
+        ScoreListener listener = (oldValue, newValue) -> { seen[0] = oldValue; seen[1] = newValue; };
+        s.addListener(listener);
         s.add(5);
-        assertEquals(p.get(), s.getScore());
+        assertArrayEquals(new int[] {0, 5}, seen);
+        s.reset();
+        assertArrayEquals(new int[] {5, 0}, seen);
+
+        s.removeListener(listener);
+        s.add(3);
+        assertArrayEquals(new int[] {5, 0}, seen);
     }
 }
@@ -0,0 +1,202 @@
+package com.comp2042.model;
+
+import org.junit.jupiter.api.Test;
+
+import com.comp2042.utils.AllocationCounter;
+import com.comp2042.utils.MatrixOperations;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimpleBoardTest {
+
+    private static final int MOVES = 20_000;
+
+    private static void shuffleMoves(SimpleBoard board, int count) {
+        for (int i = 0; i < count; i++) {
+            switch (i & 3) {
+                case 0: board.moveBrickLeft(); break;
+                case 1: board.moveBrickRight(); break;
+                case 2: board.rotateLeftBrick(); break;
+                default: board.moveBrickDown(); break;
+            }
+        }
+    }
+
+    @Test
+    void movesDoNotAllocate() {
+        AllocationCounter counter = AllocationCounter.forCurrentThread();
+        SimpleBoard board = new SimpleBoard(10, 2 * MOVES, new BitBoardTest.CyclingGenerator());
+        board.createNewBrick();
+        Runnable moves = () -> shuffleMoves(board, MOVES);
+        moves.run(); // warm-up, so the measured loop is already compiled
+
+        long allocated = counter.leastAllocatedBy(moves, 3);
+
+        assertTrue(allocated <= AllocationCounter.NOISE_BYTES, "moves allocated " + allocated + " bytes in total");
+    }
+
+    @Test
+    void viewDataReflectsMovesAndIsDefensive() {
+        SimpleBoard board = new SimpleBoard(10, 25, new BitBoardTest.CyclingGenerator());
+        board.createNewBrick();
+        assertTrue(board.moveBrickLeft());
+        ViewData view = board.getViewData();
+        assertEquals(2, view.getxPosition());
+        assertEquals(2, view.getyPosition());
+
+        view.getBrickData()[1][0] = 99;
+        assertEquals(1, board.getViewData().getBrickData()[1][0]);
+    }
+
+    @Test
+    void rotationWallKicksAwayFromLeftWall() {
+        SimpleBoard board = new SimpleBoard(10, 25, new BitBoardTest.CyclingGenerator());
+        board.createNewBrick(); // I piece
+        assertTrue(board.rotateLeftBrick()); // vertical
+        while (board.moveBrickLeft()) { }
+        assertTrue(board.rotateLeftBrick()); // back to horizontal needs a kick
+        assertEquals(0, board.getViewData().getxPosition());
+    }
+
+    @Test
+    void clearRowsMatchesFullScanAndReportsDirtyRange() {
+        SimpleBoard board = new SimpleBoard(6, 30, new BitBoardTest.CyclingGenerator());
+        board.createNewBrick();
+        Random random = new Random(7);
+        int clears = 0;
+        for (int lock = 0; lock < 2000; lock++) {
+            int shift = random.nextInt(7) - 3;
+            for (int i = 0; i < Math.abs(shift); i++) {
+                if (shift < 0) board.moveBrickLeft(); else board.moveBrickRight();
+            }
+            if (random.nextBoolean()) board.rotateLeftBrick();
+            while (board.moveBrickDown()) { }
+            board.mergeBrickToBackground();
+
+            int[][] before = MatrixOperations.copy(board.getBoardMatrix());
+            ClearRow expected = MatrixOperations.checkRemoving(before);
+            ClearRow actual = board.clearRows();
+            assertEquals(expected.getLinesRemoved(), actual.getLinesRemoved());
+            assertEquals(expected.getScoreBonus(), actual.getScoreBonus());
+            assertArrayEquals(expected.getClearedRows(), actual.getClearedRows());
+            assertArrayEquals(expected.getNewMatrix(), board.getBoardMatrix(), "board diverged at lock " + lock);
+
+            if (actual.getLinesRemoved() > 0) {
+                clears++;
+                int[] cleared = actual.getClearedRows();
+                assertEquals(cleared[cleared.length - 1], actual.getDirtyToRow());
+                assertTrue(actual.getDirtyFromRow() <= cleared[0]);
+                // nothing above the dirty range changed
+                for (int r = 0; r < actual.getDirtyFromRow(); r++) {
+                    assertArrayEquals(before[r], board.getBoardMatrix()[r]);
+                }
+            } else {
+                assertEquals(-1, actual.getDirtyFromRow());
+            }
+
+            if (lock % 50 == 49) board.addGarbageRows(1, random.nextInt(6));
+            if (board.createNewBrick()) board.newGame();
+        }
+        assertTrue(clears > 0, "scenario should clear some rows");
+    }
+
+    @Test
+    void garbageRowSurvivesClearAboveIt() {
+        SimpleBoard board = new SimpleBoard(4, 6, new BitBoardTest.CyclingGenerator());
+        board.createNewBrick(); // I piece spans the whole 4-wide board
+        board.addGarbageRows(1, 0);
+        while (board.moveBrickDown()) { }
+        board.mergeBrickToBackground();
+        ClearRow clearRow = board.clearRows();
+        assertEquals(1, clearRow.getLinesRemoved());
+        assertEquals(0, clearRow.getGarbageLinesRemoved());
+        assertArrayEquals(new int[]{0, 8, 8, 8}, board.getBoardMatrix()[5]);
+    }
+
+    @Test
+    void restoreReturnsToSnapshot() {
+        SimpleBoard board = new SimpleBoard(10, 25, new BitBoardTest.CyclingGenerator());
+        board.createNewBrick();
+        for (int lock = 0; lock < 6; lock++) {
+            board.hardDrop();
+            board.clearRows();
+            board.createNewBrick();
+        }
+        board.moveBrickLeft();
+        board.rotateLeftBrick();
+        board.getScore().add(120);
+        BoardSnapshot snapshot = board.snapshot();
+        int[][] matrix = MatrixOperations.copy(board.getBoardMatrix());
+        ViewData view = board.getViewData();
+
+        for (int lock = 0; lock < 5; lock++) {
+            board.moveBrickRight();
+            board.hardDrop();
+            board.clearRows();
+            board.createNewBrick();
+        }
+        board.restore(snapshot);
+
+        assertArrayEquals(matrix, board.getBoardMatrix());
+        assertEquals(view.getXPosition(), board.getViewData().getXPosition());
+        assertEquals(view.getYPosition(), board.getViewData().getYPosition());
+        assertEquals(view.getLandingY(), board.getViewData().getLandingY());
+        assertArrayEquals(view.getBrickData(), board.getViewData().getBrickData());
+        assertEquals(120, board.getScore().getScore());
+        assertThrows(IllegalArgumentException.class, () -> new SimpleBoard(8, 25).restore(snapshot));
+    }
+
+    @Test
+    void moveBrickDownByStopsOnLandingRow() {
+        SimpleBoard board = new SimpleBoard(10, 25, new BitBoardTest.CyclingGenerator());
+        board.createNewBrick();
+        int landing = board.getViewData().getLandingY();
+        assertFalse(board.isBrickGrounded());
+
+        assertEquals(3, board.moveBrickDownBy(3));
+        assertEquals(5, board.getViewData().getYPosition());
+        assertEquals(landing - 5, board.moveBrickDownBy(100));
+        assertEquals(landing, board.getViewData().getYPosition());
+        assertTrue(board.isBrickGrounded());
+        assertEquals(0, board.moveBrickDownBy(1));
+        assertFalse(board.moveBrickDown());
+    }
+
+    @Test
+    void boardVersionTracksBackgroundChanges() {
+        SimpleBoard board = new SimpleBoard(10, 25, new BitBoardTest.CyclingGenerator());
+        board.newGame();
+        long start = board.getBoardVersion();
+        board.moveBrickLeft();
+        board.rotateLeftBrick();
+        board.moveBrickDown();
+        assertEquals(start, board.getBoardVersion(), "moving the piece leaves the background alone");
+
+        board.hardDrop();
+        ViewData landed = board.getViewData();
+        BitSet pieceRows = new BitSet();
+        int[][] shape = landed.getBrickData();
+        for (int i = 0; i < shape.length; i++) {
+            for (int cell : shape[i]) if (cell != 0) pieceRows.set(landed.getyPosition() + i);
+        }
+        long merged = board.getBoardVersion();
+        assertTrue(merged > start);
+        BitSet rows = new BitSet();
+        board.collectChangedRows(start, rows);
+        assertEquals(pieceRows, rows);
+
+        board.clearRows();
+        assertEquals(merged, board.getBoardVersion(), "nothing was cleared");
+
+        board.addGarbageRows(2, 0);
+        rows.clear();
+        board.collectChangedRows(merged, rows);
+        assertEquals(merged + 1, board.getBoardVersion());
+        assertTrue(rows.get(23) && rows.get(24));
+        assertTrue(rows.get(pieceRows.nextSetBit(0) - 2), "the stack moved up");
+        assertFalse(rows.get(0));
+    }
+}
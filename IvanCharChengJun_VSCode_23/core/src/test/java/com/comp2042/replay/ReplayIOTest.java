@@ -0,0 +1,65 @@
+package com.comp2042.replay;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayIOTest {
+
+    @Test
+    void roundTripPreservesEveryEvent() throws IOException {
+        Replay replay = ReplayPlayerTest.record(11L, 2000).replay;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ReplayIO.write(replay, out);
+        Replay read = ReplayIO.read(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(replay.getSeed(), read.getSeed());
+        assertEquals(replay.getWidth(), read.getWidth());
+        assertEquals(replay.getHeight(), read.getHeight());
+        assertEquals(replay.size(), read.size());
+        for (int i = 0; i < replay.size(); i++) {
+            assertEquals(replay.getTick(i), read.getTick(i));
+            assertEquals(replay.getAction(i), read.getAction(i));
+            assertEquals(replay.getSource(i), read.getSource(i));
+            assertEquals(replay.getArgument(i), read.getArgument(i));
+        }
+        // ticks are delta-encoded, so most events fit in two bytes
+        assertTrue(out.size() < replay.size() * 3, "replay should stay compact: " + out.size() + " bytes");
+    }
+
+    @Test
+    void garbageArgumentsSurvive() throws IOException {
+        ReplayRecorder recorder = new ReplayRecorder(1L, 10, 25);
+        recorder.recordGarbage(5, 3, 9);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ReplayIO.write(recorder.toReplay(), out);
+        Replay read = ReplayIO.read(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(ReplayAction.GARBAGE, read.getAction(0));
+        assertEquals(3, Replay.garbageCount(read.getArgument(0)));
+        assertEquals(9, Replay.garbageHole(read.getArgument(0)));
+    }
+
+    @Test
+    void rejectsForeignOrTruncatedData() throws IOException {
+        assertThrows(IOException.class, () -> ReplayIO.read(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5})));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ReplayIO.write(ReplayPlayerTest.record(3L, 50).replay, out);
+        byte[] truncated = Arrays.copyOf(out.toByteArray(), out.size() - 3);
+        assertThrows(IOException.class, () -> ReplayIO.read(new ByteArrayInputStream(truncated)));
+    }
+
+    @Test
+    void hugeEventCountIsTruncationNotAnAllocation() {
+        // magic, version 2, seed, width 10, height 25, count Integer.MAX_VALUE, no events
+        byte[] header = {0x43, 0x57, 0x52, 0x50, 2, 0, 0, 0, 0, 0, 0, 0, 7, 10, 25,
+                (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07};
+        IOException e = assertThrows(IOException.class, () -> ReplayIO.read(new ByteArrayInputStream(header)));
+        assertEquals("Truncated replay", e.getMessage());
+    }
+}
@@ -0,0 +1,144 @@
+package com.comp2042.replay;
+
+import com.comp2042.engine.GameEngine;
+import com.comp2042.engine.MoveDownResult;
+import com.comp2042.input.EventSource;
+import com.comp2042.logic.BagBrickGenerator;
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.utils.MatrixOperations;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayPlayerTest {
+
+    /** Board state observed while recording, one entry per event. */
+    static final class Recording {
+        Replay replay;
+        final List<int[][]> matrices = new ArrayList<>();
+        final List<Integer> scores = new ArrayList<>();
+
+        void observe(GameEngine engine) {
+            matrices.add(MatrixOperations.copy(engine.getBoardMatrix()));
+            scores.add(engine.getScore().getScore());
+        }
+    }
+
+    /**
+     * Play a random game the way GameController does, recording each action
+     * and the board after it.
+     */
+    static Recording record(long seed, int events) {
+        SimpleBoard board = new SimpleBoard(10, 25, new BagBrickGenerator(seed));
+        GameEngine engine = new GameEngine(board);
+        ReplayRecorder recorder = new ReplayRecorder(seed, 10, 25);
+        engine.createNewBrick();
+        Random random = new Random(seed);
+        Recording recording = new Recording();
+        long tick = 0;
+        for (int i = 0; i < events; i++) {
+            tick += random.nextInt(40);
+            int roll = random.nextInt(100);
+            boolean gameOver = false;
+            if (roll < 35) {
+                recorder.record(tick, ReplayAction.DOWN, EventSource.THREAD);
+                gameOver = engine.moveDown(EventSource.THREAD).isGameOver();
+            } else if (roll < 45) {
+                recorder.record(tick, ReplayAction.DOWN, EventSource.USER);
+                gameOver = engine.moveDown(EventSource.USER).isGameOver();
+            } else if (roll < 58) {
+                recorder.record(tick, ReplayAction.LEFT, EventSource.USER);
+                engine.moveLeft();
+            } else if (roll < 71) {
+                recorder.record(tick, ReplayAction.RIGHT, EventSource.USER);
+                engine.moveRight();
+            } else if (roll < 84) {
+                recorder.record(tick, ReplayAction.ROTATE, EventSource.USER);
+                engine.rotate();
+            } else if (roll < 90) {
+                recorder.record(tick, ReplayAction.HARD_DROP, EventSource.USER);
+                MoveDownResult result = engine.hardDrop();
+                gameOver = result.isGameOver();
+            } else if (roll < 94) {
+                recorder.record(tick, ReplayAction.SONIC_DROP, EventSource.USER);
+                engine.sonicDrop(EventSource.USER);
+            } else if (roll < 98) {
+                recorder.record(tick, ReplayAction.SWAP, EventSource.USER);
+                engine.swap();
+            } else {
+                int count = 1 + random.nextInt(2);
+                int hole = random.nextInt(10);
+                recorder.recordGarbage(tick, count, hole);
+                engine.addGarbageRows(count, hole);
+            }
+            recording.observe(engine);
+            if (gameOver) {
+                recorder.record(tick, ReplayAction.NEW_GAME, EventSource.USER);
+                engine.newGame();
+                recording.observe(engine);
+            }
+        }
+        recording.replay = recorder.toReplay();
+        return recording;
+    }
+
+    private static void assertStateAt(Recording recording, ReplayPlayer player, String context) {
+        int applied = player.getPosition();
+        if (applied == 0) return;
+        assertArrayEquals(recording.matrices.get(applied - 1), player.getBoardMatrix(), context);
+        assertEquals(recording.scores.get(applied - 1).intValue(), player.getScore().getScore(), context);
+    }
+
+    @Test
+    void playbackReproducesRecordedGame() {
+        Recording recording = record(2042L, 4000);
+        ReplayPlayer player = new ReplayPlayer(recording.replay);
+        while (player.step()) {
+            assertStateAt(recording, player, "diverged at event " + player.getPosition());
+        }
+        assertTrue(player.isFinished());
+        assertTrue(player.getPiecesLocked() > 40, "scenario should lock plenty of pieces");
+    }
+
+    @Test
+    void seekMatchesLinearPlayback() {
+        Recording recording = record(77L, 3000);
+        ReplayPlayer player = new ReplayPlayer(recording.replay, 5);
+        long duration = recording.replay.getDuration();
+        Random random = new Random(5);
+        for (int i = 0; i < 40; i++) {
+            long target = (long) (random.nextDouble() * duration);
+            player.seek(target);
+            assertEquals(target, player.getTime());
+            assertEquals(recording.replay.indexAfter(target), player.getPosition());
+            assertStateAt(recording, player, "seek to " + target);
+        }
+        assertTrue(player.getKeyframeCount() > 1, "seeking forward should have built keyframes");
+
+        player.seek(0);
+        assertEquals(0, player.getPiecesLocked());
+        assertStateAt(recording, player, "seek to start");
+    }
+
+    @Test
+    void updateScalesElapsedTimeBySpeed() {
+        Recording recording = record(5L, 500);
+        ReplayPlayer player = new ReplayPlayer(recording.replay);
+        player.setSpeed(ReplayPlayer.MAX_SPEED * 10);
+        assertEquals(ReplayPlayer.MAX_SPEED, player.getSpeed());
+
+        player.setSpeed(4.0);
+        player.update(100);
+        assertEquals(400, player.getTime());
+        assertEquals(recording.replay.indexAfter(400), player.getPosition());
+
+        player.setSpeed(ReplayPlayer.MAX_SPEED);
+        player.update(recording.replay.getDuration());
+        assertTrue(player.isFinished());
+        assertThrows(IllegalArgumentException.class, () -> player.setSpeed(0));
+    }
+}
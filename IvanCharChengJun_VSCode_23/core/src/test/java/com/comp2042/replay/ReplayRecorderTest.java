@@ -0,0 +1,51 @@
+package com.comp2042.replay;
+
+import com.comp2042.input.EventSource;
+import com.comp2042.input.EventType;
+import com.comp2042.input.MoveEvent;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayRecorderTest {
+
+    @Test
+    void recordsMoveEventsWithTheirSource() {
+        ReplayRecorder recorder = new ReplayRecorder(9L, 10, 25);
+        recorder.record(10, new MoveEvent(EventType.DOWN, EventSource.THREAD));
+        recorder.record(12, new MoveEvent(EventType.ROTATE, EventSource.USER));
+        recorder.record(13, new MoveEvent(null, EventSource.USER));
+        recorder.record(14, null);
+
+        Replay replay = recorder.toReplay();
+        assertEquals(2, replay.size());
+        assertEquals(ReplayAction.DOWN, replay.getAction(0));
+        assertEquals(EventSource.THREAD, replay.getSource(0));
+        assertEquals(ReplayAction.ROTATE, replay.getAction(1));
+        assertEquals(EventSource.USER, replay.getSource(1));
+        assertEquals(9L, replay.getSeed());
+    }
+
+    @Test
+    void ticksNeverGoBackwards() {
+        ReplayRecorder recorder = new ReplayRecorder(0L, 10, 25);
+        recorder.record(50, ReplayAction.LEFT, EventSource.USER);
+        recorder.record(20, ReplayAction.RIGHT, EventSource.USER);
+        Replay replay = recorder.toReplay();
+        assertEquals(50, replay.getTick(1));
+        assertEquals(50, replay.getDuration());
+        assertEquals(0, replay.indexAfter(49));
+        assertEquals(2, replay.indexAfter(50));
+    }
+
+    @Test
+    void growsPastInitialCapacityAndKeepsRecording() {
+        ReplayRecorder recorder = new ReplayRecorder(0L, 10, 25);
+        for (int i = 0; i < 1000; i++) recorder.record(i, ReplayAction.DOWN, EventSource.THREAD);
+        Replay first = recorder.toReplay();
+        recorder.record(1000, ReplayAction.SWAP, null);
+        assertEquals(1000, first.size());
+        assertEquals(1001, recorder.toReplay().size());
+        assertEquals(EventSource.USER, recorder.toReplay().getSource(1000));
+    }
+}
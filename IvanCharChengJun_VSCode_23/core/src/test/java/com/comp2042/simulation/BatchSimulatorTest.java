@@ -0,0 +1,47 @@
+package com.comp2042.simulation;
+
+import com.comp2042.ai.RandomBot;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchSimulatorTest {
+
+    private static SimulationReport run(ExecutorService executor) throws InterruptedException {
+        try {
+            return new BatchSimulator(new GameSimulator(10, 25, 500)).run(24, 1000L, RandomBot::new, executor);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void resultsDoNotDependOnTheExecutor() throws InterruptedException {
+        SimulationReport serial = run(Executors.newSingleThreadExecutor());
+        SimulationReport pooled = run(Executors.newFixedThreadPool(4));
+        SimulationReport virtual = run(Executors.newVirtualThreadPerTaskExecutor());
+
+        assertEquals(24, serial.getResults().size());
+        for (int i = 0; i < 24; i++) {
+            assertEquals(1000L + i, serial.getResults().get(i).getSeed());
+            assertEquals(serial.getResults().get(i).toString(), pooled.getResults().get(i).toString());
+            assertEquals(serial.getResults().get(i).toString(), virtual.getResults().get(i).toString());
+        }
+        assertEquals(serial.getTotalPieces(), pooled.getTotalPieces());
+        assertTrue(serial.getElapsedNanos() > 0);
+    }
+
+    @Test
+    void failingGameIsReported() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            BatchSimulator batch = new BatchSimulator(new GameSimulator(10, 25, 10));
+            assertThrows(IllegalStateException.class, () -> batch.run(2, 0L, seed -> null, executor));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.comp2042.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DistributionTest {
+
+    @Test
+    void nearestRankPercentiles() {
+        Distribution d = new Distribution(new long[]{50, 10, 40, 20, 30, 60, 70, 80, 90, 100});
+        assertEquals(10, d.getCount());
+        assertEquals(10, d.getMin());
+        assertEquals(100, d.getMax());
+        assertEquals(55.0, d.getMean(), 1e-9);
+        assertEquals(10, d.percentile(0));
+        assertEquals(10, d.percentile(10));
+        assertEquals(50, d.percentile(50));
+        assertEquals(90, d.percentile(90));
+        assertEquals(100, d.percentile(99));
+        assertEquals(100, d.percentile(100));
+    }
+
+    @Test
+    void emptyDistributionIsAllZero() {
+        Distribution d = new Distribution(new long[0]);
+        assertEquals(0, d.getCount());
+        assertEquals(0, d.percentile(50));
+        assertEquals(0, d.getMax());
+        assertNotNull(d.format());
+    }
+
+    @Test
+    void samplesAreCopied() {
+        long[] samples = {3, 1, 2};
+        Distribution d = new Distribution(samples);
+        samples[0] = 100;
+        assertEquals(3, d.getMax());
+    }
+
+    @Test
+    void rejectsPercentOutOfRange() {
+        Distribution d = new Distribution(new long[]{1});
+        assertThrows(IllegalArgumentException.class, () -> d.percentile(101));
+        assertThrows(IllegalArgumentException.class, () -> d.percentile(-1));
+    }
+}
@@ -0,0 +1,40 @@
+package com.comp2042.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EloRatingsTest {
+
+    @Test
+    void expectedScoreIsSymmetric() {
+        assertEquals(0.5, EloRatings.expectedScore(1500, 1500), 1e-12);
+        double e = EloRatings.expectedScore(1700, 1500);
+        assertEquals(0.7597, e, 1e-4);
+        assertEquals(1.0, e + EloRatings.expectedScore(1500, 1700), 1e-12);
+    }
+
+    @Test
+    void winnerGainsWhatLoserLoses() {
+        EloRatings elo = new EloRatings(3);
+        elo.record(0, 1, 1.0);
+        assertEquals(1508.0, elo.getRating(0), 1e-9);
+        assertEquals(1492.0, elo.getRating(1), 1e-9);
+        assertEquals(EloRatings.INITIAL, elo.getRating(2));
+        elo.record(2, 0, 0.5);
+        assertEquals(3 * EloRatings.INITIAL, elo.getRating(0) + elo.getRating(1) + elo.getRating(2), 1e-9);
+    }
+
+    @Test
+    void drawBetweenEqualsChangesNothing() {
+        EloRatings elo = new EloRatings(2, 32);
+        elo.record(0, 1, 0.5);
+        assertEquals(EloRatings.INITIAL, elo.getRating(0));
+        assertEquals(EloRatings.INITIAL, elo.getRating(1));
+    }
+
+    @Test
+    void rejectsNonPositiveK() {
+        assertThrows(IllegalArgumentException.class, () -> new EloRatings(2, 0));
+    }
+}
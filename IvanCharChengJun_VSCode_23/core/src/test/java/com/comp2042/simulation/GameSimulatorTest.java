@@ -0,0 +1,70 @@
+package com.comp2042.simulation;
+
+import com.comp2042.ai.BeamSearch;
+import com.comp2042.ai.BeamSearchBot;
+import com.comp2042.ai.Bot;
+import com.comp2042.ai.RandomBot;
+import com.comp2042.ai.WeightedEvaluator;
+import com.comp2042.input.EventType;
+import com.comp2042.model.Board;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSimulatorTest {
+
+    private static Bot beamBot() {
+        return new BeamSearchBot("beam", new BeamSearch(WeightedEvaluator.DEFAULT, 2, 1, null));
+    }
+
+    @Test
+    void droppingInPlaceTopsOutQuickly() {
+        Bot idle = new Bot() {
+            @Override public String getName() { return "idle"; }
+            @Override public List<EventType> plan(Board board) { return Collections.emptyList(); }
+        };
+        GameResult result = new GameSimulator(10, 25, 1000).play(idle, 7L);
+        assertTrue(result.isToppedOut());
+        assertTrue(result.getPieces() < 30, "pieces stacked in the middle: " + result.getPieces());
+        assertEquals(0, result.getLines());
+    }
+
+    @Test
+    void beamBotReachesPieceLimit() {
+        GameResult result = new GameSimulator(10, 25, 150).play(beamBot(), 2042L);
+        assertFalse(result.isToppedOut());
+        assertEquals(150, result.getPieces());
+        assertTrue(result.getLines() > 40, "lines: " + result.getLines());
+        assertTrue(result.getScore() > 0);
+    }
+
+    @Test
+    void sameSeedSameGame() {
+        GameSimulator simulator = new GameSimulator(10, 25, 300);
+        GameResult a = simulator.play(new RandomBot(5L), 99L);
+        GameResult b = simulator.play(new RandomBot(5L), 99L);
+        assertEquals(a.toString(), b.toString());
+    }
+
+    @Test
+    void downMovesThatLockEndThePiece() {
+        // keeps pressing down; every piece locks through moveDown, never via hard drop
+        Bot softDropper = new Bot() {
+            @Override public String getName() { return "soft"; }
+            @Override public List<EventType> plan(Board board) {
+                return Collections.nCopies(40, EventType.DOWN);
+            }
+        };
+        GameResult result = new GameSimulator(10, 25, 5).play(softDropper, 1L);
+        assertEquals(5, result.getPieces());
+        assertTrue(result.getScore() > 0, "soft drop points expected");
+    }
+
+    @Test
+    void rejectsNonPositivePieceLimit() {
+        assertThrows(IllegalArgumentException.class, () -> new GameSimulator(10, 25, 0));
+    }
+}
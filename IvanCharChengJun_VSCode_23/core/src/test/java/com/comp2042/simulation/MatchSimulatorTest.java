@@ -0,0 +1,64 @@
+package com.comp2042.simulation;
+
+import com.comp2042.ai.BeamSearch;
+import com.comp2042.ai.BeamSearchBot;
+import com.comp2042.ai.Bot;
+import com.comp2042.ai.RandomBot;
+import com.comp2042.ai.WeightedEvaluator;
+import com.comp2042.input.EventType;
+import com.comp2042.model.Board;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MatchSimulatorTest {
+
+    private static Bot beamBot() {
+        return new BeamSearchBot("beam", new BeamSearch(WeightedEvaluator.DEFAULT, 2, 0, null));
+    }
+
+    private static Bot idle() {
+        return new Bot() {
+            @Override public String getName() { return "idle"; }
+            @Override public List<EventType> plan(Board board) { return Collections.emptyList(); }
+        };
+    }
+
+    @Test
+    void strongerBotWinsFromEitherSide() {
+        MatchSimulator simulator = new MatchSimulator(10, 25, 500);
+        assertEquals(MatchResult.Winner.LEFT, simulator.play(beamBot(), idle(), 3L).getWinner());
+        assertEquals(MatchResult.Winner.RIGHT, simulator.play(idle(), beamBot(), 3L).getWinner());
+    }
+
+    @Test
+    void pieceLimitIsADraw() {
+        MatchResult result = new MatchSimulator(10, 25, 20).play(beamBot(), beamBot(), 8L);
+        assertEquals(MatchResult.Winner.DRAW, result.getWinner());
+        assertEquals(40, result.getPieces());
+        assertEquals(0.5, result.getLeftScore());
+    }
+
+    @Test
+    void clearedLinesAreSentAsGarbage() {
+        MatchResult result = new MatchSimulator(10, 25, 150).play(beamBot(), beamBot(), 2042L);
+        assertTrue(result.getLeftSent() > 0, result.toString());
+        assertTrue(result.getRightSent() > 0, result.toString());
+    }
+
+    @Test
+    void sameSeedSameMatch() {
+        MatchSimulator simulator = new MatchSimulator(10, 25, 400);
+        MatchResult a = simulator.play(new RandomBot(1L), new RandomBot(2L), 77L);
+        MatchResult b = simulator.play(new RandomBot(1L), new RandomBot(2L), 77L);
+        assertEquals(a.toString(), b.toString());
+    }
+
+    @Test
+    void rejectsNonPositivePieceLimit() {
+        assertThrows(IllegalArgumentException.class, () -> new MatchSimulator(10, 25, 0));
+    }
+}
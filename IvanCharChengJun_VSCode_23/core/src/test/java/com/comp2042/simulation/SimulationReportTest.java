@@ -0,0 +1,33 @@
+package com.comp2042.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationReportTest {
+
+    @Test
+    void aggregatesTotalsAndRates() {
+        List<GameResult> results = List.of(
+                new GameResult(1, 100, 40, 900, true),
+                new GameResult(2, 300, 120, 2500, false));
+        SimulationReport report = new SimulationReport(results, 2_000_000_000L);
+
+        assertEquals(400, report.getTotalPieces());
+        assertEquals(160, report.getTotalLines());
+        assertEquals(1, report.getToppedOut());
+        assertEquals(200.0, report.getPiecesPerSecond(), 1e-9);
+        assertEquals(80.0, report.getLinesPerSecond(), 1e-9);
+        assertEquals(2500, report.getScores().getMax());
+        assertEquals(100, report.getLengths().getMin());
+        assertTrue(report.format().contains("pieces/s"));
+    }
+
+    @Test
+    void zeroElapsedTimeReportsZeroRate() {
+        SimulationReport report = new SimulationReport(List.of(new GameResult(1, 10, 1, 5, true)), 0);
+        assertEquals(0.0, report.getPiecesPerSecond());
+    }
+}
@@ -0,0 +1,84 @@
+package com.comp2042.simulation;
+
+import com.comp2042.ai.BeamSearch;
+import com.comp2042.ai.BeamSearchBot;
+import com.comp2042.ai.RandomBot;
+import com.comp2042.ai.WeightedEvaluator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TournamentTest {
+
+    private static List<Tournament.Entrant> entrants() {
+        BeamSearch search = new BeamSearch(WeightedEvaluator.DEFAULT, 2, 0, null);
+        return List.of(
+                new Tournament.Entrant("beam", seed -> new BeamSearchBot("beam", search)),
+                new Tournament.Entrant("random-a", RandomBot::new),
+                new Tournament.Entrant("random-b", seed -> new RandomBot(seed ^ 0x5DEECE66DL)));
+    }
+
+    @Test
+    void resultsDoNotDependOnParallelism() {
+        Tournament tournament = new Tournament(new MatchSimulator(10, 25, 60), entrants());
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool wide = new ForkJoinPool(4);
+        try {
+            TournamentReport a = tournament.run(4, 100L, single);
+            TournamentReport b = tournament.run(4, 100L, wide);
+            assertEquals(a.getResults().toString(), b.getResults().toString());
+            assertEquals(a.getRating("beam"), b.getRating("beam"));
+        } finally {
+            single.shutdownNow();
+            wide.shutdownNow();
+        }
+    }
+
+    @Test
+    void standingsAddUp() {
+        Tournament tournament = new Tournament(new MatchSimulator(10, 25, 60), entrants());
+        assertEquals(3, tournament.matchesPerRound());
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            TournamentReport report = tournament.run(6, 1L, pool);
+            assertEquals(18, report.getResults().size());
+            int games = 0;
+            double total = 0;
+            for (String name : report.getStandings()) {
+                games += report.getWins(name) + report.getDraws(name) + report.getLosses(name);
+                total += report.getRating(name);
+            }
+            assertEquals(36, games);
+            assertEquals(3 * EloRatings.INITIAL, total, 1e-6);
+            assertEquals("beam", report.getStandings().get(0));
+            assertEquals(12, report.getWins("beam") + report.getDraws("beam"));
+            assertTrue(report.format().contains("beam"));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void matchSeedsFollowTheSchedule() {
+        Tournament tournament = new Tournament(new MatchSimulator(10, 25, 10), entrants());
+        ForkJoinPool pool = new ForkJoinPool(1);
+        try {
+            List<MatchResult> results = tournament.run(2, 50L, pool).getResults();
+            for (int m = 0; m < results.size(); m++) assertEquals(50L + m, results.get(m).getSeed());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void rejectsBadEntrants() {
+        MatchSimulator simulator = new MatchSimulator(10, 25, 10);
+        assertThrows(IllegalArgumentException.class,
+                () -> new Tournament(simulator, List.of(new Tournament.Entrant("a", RandomBot::new))));
+        assertThrows(IllegalArgumentException.class, () -> new Tournament(simulator, List.of(
+                new Tournament.Entrant("a", RandomBot::new), new Tournament.Entrant("a", RandomBot::new))));
+    }
+}
@@ -0,0 +1,65 @@
+package com.comp2042.utils;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Heap bytes allocated by the current thread, for the allocation-free tests.
+ * Tests are skipped (not failed) on JVMs without per-thread allocation
+ * counters.
+ */
+public final class AllocationCounter {
+
+    /**
+     * Bytes a run may show without allocating anything itself: the JIT and
+     * TLAB refills occasionally add a few dozen bytes to the counter. Far
+     * below one object per move over the thousands of moves the tests run.
+     */
+    public static final long NOISE_BYTES = 256;
+
+    private final com.sun.management.ThreadMXBean bean;
+    private final long threadId;
+    private final long overhead;
+
+    private AllocationCounter(com.sun.management.ThreadMXBean bean) {
+        this.bean = bean;
+        this.threadId = Thread.currentThread().threadId();
+        // what reading the counter itself costs, subtracted from every measurement
+        long start = bean.getThreadAllocatedBytes(threadId);
+        long end = bean.getThreadAllocatedBytes(threadId);
+        this.overhead = end - start;
+    }
+
+    /** @return a counter for the calling thread; assumes counters are supported */
+    public static AllocationCounter forCurrentThread() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "allocation counters not available");
+        com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(sunBean.isThreadAllocatedMemorySupported(), "allocation counters not supported");
+        sunBean.setThreadAllocatedMemoryEnabled(true);
+        return new AllocationCounter(sunBean);
+    }
+
+    /** @return bytes allocated by {@code work} on this thread */
+    public long allocatedBy(Runnable work) {
+        long before = bean.getThreadAllocatedBytes(threadId);
+        work.run();
+        long after = bean.getThreadAllocatedBytes(threadId);
+        return after - before - overhead;
+    }
+
+    /**
+     * @return the fewest bytes allocated by {@code work} over {@code rounds}
+     *         runs. Allocation in {@code work} itself shows in every round; a
+     *         deoptimization that puts scalar-replaced objects back on the
+     *         heap happens once and does not.
+     */
+    public long leastAllocatedBy(Runnable work, int rounds) {
+        long least = Long.MAX_VALUE;
+        for (int round = 0; round < rounds; round++) {
+            least = Math.min(least, allocatedBy(work));
+        }
+        return least;
+    }
+}
@@ -84,4 +84,20 @@ class BrickRotatorTest {
         // setCurrentShape should not throw; it will log and set index to 0
         r.setCurrentShape(5);
     }
+
+    @Test
+    void peekAccessorsShareCachedMatrices() {
+        BrickRotator r = new BrickRotator();
+        java.util.List<int[][]> shapes = new java.util.ArrayList<>();
+        shapes.add(new int[][]{{1}});
+        shapes.add(new int[][]{{2}});
+        r.setBrick(new TestBrick(shapes));
+
+        assertSame(r.peekCurrentShape(), r.peekCurrentShape());
+        assertEquals(1, r.getNextShapeIndex());
+        assertSame(r.peekShape(1), r.peekShape(-1));
+        r.setCurrentShape(r.getNextShapeIndex());
+        assertEquals(2, r.peekCurrentShape()[0][0]);
+        assertEquals(0, r.getNextShapeIndex());
+    }
 }
@@ -0,0 +1,158 @@
+package com.comp2042.app;
+
+import com.comp2042.ai.BeamSearch;
+import com.comp2042.ai.BeamSearchBot;
+import com.comp2042.ai.Bot;
+import com.comp2042.ai.RandomBot;
+import com.comp2042.ai.WeightedEvaluator;
+import com.comp2042.replay.Replay;
+import com.comp2042.simulation.BatchSimulator;
+import com.comp2042.simulation.GameSimulator;
+import com.comp2042.simulation.SimulationReport;
+
+import java.io.PrintStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.LongFunction;
+
+/**
+ * Command-line entry point that plays many games headlessly and in parallel
+ * and prints throughput (pieces/s, lines/s) and the score and game-length
+ * distributions. No JavaFX toolkit is started, so it can run on build
+ * machines and servers.
+ *
+ * <pre>
+ * java -cp core/target/classes:fx/target/classes com.comp2042.app.SimulationMain --games 10000 --bot beam
+ * </pre>
+ *
+ * Run with {@code --help} for the full option list.
+ */
+public final class SimulationMain {
+
+    private SimulationMain() {
+    }
+
+    /**
+     * Parse the options, run the batch and print the report. Exits with
+     * status 2 on invalid options.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            printUsage(System.err);
+            System.exit(2);
+            return;
+        }
+        if (options.help) {
+            printUsage(System.out);
+            return;
+        }
+
+        System.out.printf("%d games, bot %s, seed %d, %s%n", options.games, options.bot, options.seed,
+                options.virtual ? "virtual threads" : options.threads + " threads");
+        BatchSimulator batch = new BatchSimulator(new GameSimulator(options.width, options.height, options.maxPieces));
+        ExecutorService executor = options.virtual
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(options.threads);
+        try {
+            SimulationReport report = batch.run(options.games, options.seed, options.botFactory(), executor);
+            System.out.print(report.format());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    static void printUsage(PrintStream out) {
+        out.println("usage: SimulationMain [options]");
+        out.println("  --games N       games to play (default 1000)");
+        out.println("  --pieces N      piece limit per game (default 10000)");
+        out.println("  --bot NAME      beam or random (default beam)");
+        out.println("  --lookahead N   preview pieces searched by the beam bot (default 1)");
+        out.println("  --beam N        beam width of the beam bot (default 4)");
+        out.println("  --seed N        seed of the first game; game i uses seed + i (default random)");
+        out.println("  --threads N     worker threads (default: available processors)");
+        out.println("  --virtual       run each game on its own virtual thread instead");
+        out.println("  --width N       board width (default 10)");
+        out.println("  --height N      board height (default 25)");
+    }
+
+    /** Parsed command-line options. */
+    static final class Options {
+        int games = 1000;
+        int maxPieces = 10_000;
+        String bot = "beam";
+        int lookahead = 1;
+        int beamWidth = 4;
+        long seed = Replay.newSeed();
+        int threads = Runtime.getRuntime().availableProcessors();
+        boolean virtual;
+        int width = 10;
+        int height = 25;
+        boolean help;
+
+        static Options parse(String[] args) {
+            Options o = new Options();
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                switch (arg) {
+                    case "--help":
+                    case "-h": o.help = true; break;
+                    case "--virtual": o.virtual = true; break;
+                    case "--games": o.games = positive(arg, value(args, ++i, arg)); break;
+                    case "--pieces": o.maxPieces = positive(arg, value(args, ++i, arg)); break;
+                    case "--lookahead": o.lookahead = nonNegative(arg, value(args, ++i, arg)); break;
+                    case "--beam": o.beamWidth = positive(arg, value(args, ++i, arg)); break;
+                    case "--threads": o.threads = positive(arg, value(args, ++i, arg)); break;
+                    case "--width": o.width = positive(arg, value(args, ++i, arg)); break;
+                    case "--height": o.height = positive(arg, value(args, ++i, arg)); break;
+                    case "--seed": o.seed = parseLong(arg, value(args, ++i, arg)); break;
+                    case "--bot":
+                        o.bot = value(args, ++i, arg);
+                        if (!o.bot.equals("beam") && !o.bot.equals("random")) {
+                            throw new IllegalArgumentException("unknown bot: " + o.bot);
+                        }
+                        break;
+                    default:
+                        throw new IllegalArgumentException("unknown option: " + arg);
+                }
+            }
+            return o;
+        }
+
+        /** @return a factory creating one independent bot per game */
+        LongFunction<Bot> botFactory() {
+            if (bot.equals("random")) return RandomBot::new;
+            // one search per game thread: the games themselves fill the cores
+            BeamSearch search = new BeamSearch(WeightedEvaluator.DEFAULT, beamWidth, lookahead, null);
+            return seed -> new BeamSearchBot("beam", search);
+        }
+
+        private static String value(String[] args, int index, String option) {
+            if (index >= args.length) throw new IllegalArgumentException(option + " needs a value");
+            return args[index];
+        }
+
+        private static long parseLong(String option, String value) {
+            try {
+                return Long.parseLong(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(option + " expects a number, got " + value);
+            }
+        }
+
+        private static int nonNegative(String option, String value) {
+            long v = parseLong(option, value);
+            if (v < 0 || v > Integer.MAX_VALUE) throw new IllegalArgumentException(option + " out of range: " + value);
+            return (int) v;
+        }
+
+        private static int positive(String option, String value) {
+            int v = nonNegative(option, value);
+            if (v == 0) throw new IllegalArgumentException(option + " must be positive");
+            return v;
+        }
+    }
+}
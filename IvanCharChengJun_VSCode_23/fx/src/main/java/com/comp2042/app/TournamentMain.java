@@ -0,0 +1,161 @@
+package com.comp2042.app;
+
+import com.comp2042.ai.BeamSearch;
+import com.comp2042.ai.BeamSearchBot;
+import com.comp2042.ai.RandomBot;
+import com.comp2042.ai.WeightedEvaluator;
+import com.comp2042.replay.Replay;
+import com.comp2042.simulation.MatchSimulator;
+import com.comp2042.simulation.Tournament;
+import com.comp2042.simulation.TournamentReport;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Command-line entry point that plays a round-robin bot tournament under
+ * headless Classic Battle rules on a work-stealing pool and prints Elo
+ * standings. No JavaFX toolkit is started.
+ *
+ * <pre>
+ * java -cp core/target/classes:fx/target/classes com.comp2042.app.TournamentMain --bots beam:1:4,beam:0:2,random --rounds 1000
+ * </pre>
+ *
+ * Run with {@code --help} for the full option list.
+ */
+public final class TournamentMain {
+
+    private TournamentMain() {
+    }
+
+    /**
+     * Parse the options, run the tournament and print the standings. Exits
+     * with status 2 on invalid options.
+     */
+    public static void main(String[] args) {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            printUsage(System.err);
+            System.exit(2);
+            return;
+        }
+        if (options.help) {
+            printUsage(System.out);
+            return;
+        }
+
+        Tournament tournament = new Tournament(new MatchSimulator(options.width, options.height, options.maxPieces),
+                options.entrants());
+        System.out.printf("%d rounds x %d matches, bots %s, seed %d, %d threads%n", options.rounds,
+                tournament.matchesPerRound(), String.join(",", options.bots), options.seed, options.threads);
+        ForkJoinPool pool = new ForkJoinPool(options.threads);
+        try {
+            TournamentReport report = tournament.run(options.rounds, options.seed, pool);
+            System.out.print(report.format());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    static void printUsage(PrintStream out) {
+        out.println("usage: TournamentMain [options]");
+        out.println("  --bots LIST     comma-separated bots: random or beam[:lookahead[:width]]");
+        out.println("                  (default beam:1:4,beam:0:2,random)");
+        out.println("  --rounds N      round-robin rounds; sides swap every round (default 100)");
+        out.println("  --pieces N      pieces per side before a match is drawn (default 2000)");
+        out.println("  --seed N        seed of the first match; match m uses seed + m (default random)");
+        out.println("  --threads N     worker threads (default: available processors)");
+        out.println("  --width N       board width (default 10)");
+        out.println("  --height N      board height (default 25)");
+    }
+
+    /** Parsed command-line options. */
+    static final class Options {
+        List<String> bots = List.of("beam:1:4", "beam:0:2", "random");
+        int rounds = 100;
+        int maxPieces = 2000;
+        long seed = Replay.newSeed();
+        int threads = Runtime.getRuntime().availableProcessors();
+        int width = 10;
+        int height = 25;
+        boolean help;
+
+        static Options parse(String[] args) {
+            Options o = new Options();
+            for (int i = 0; i < args.length; i++) {
+                String arg = args[i];
+                switch (arg) {
+                    case "--help":
+                    case "-h": o.help = true; break;
+                    case "--rounds": o.rounds = positive(arg, value(args, ++i, arg)); break;
+                    case "--pieces": o.maxPieces = positive(arg, value(args, ++i, arg)); break;
+                    case "--threads": o.threads = positive(arg, value(args, ++i, arg)); break;
+                    case "--width": o.width = positive(arg, value(args, ++i, arg)); break;
+                    case "--height": o.height = positive(arg, value(args, ++i, arg)); break;
+                    case "--seed": o.seed = parseLong(arg, value(args, ++i, arg)); break;
+                    case "--bots":
+                        o.bots = List.of(value(args, ++i, arg).split(","));
+                        o.entrants();
+                        break;
+                    default:
+                        throw new IllegalArgumentException("unknown option: " + arg);
+                }
+            }
+            return o;
+        }
+
+        /** @return one entrant per bot spec, named by the spec */
+        List<Tournament.Entrant> entrants() {
+            List<Tournament.Entrant> entrants = new ArrayList<>();
+            for (String spec : bots) {
+                for (Tournament.Entrant e : entrants) {
+                    if (e.getName().equals(spec)) throw new IllegalArgumentException("duplicate bot: " + spec);
+                }
+                String[] parts = spec.trim().split(":");
+                if (parts[0].equals("random") && parts.length == 1) {
+                    entrants.add(new Tournament.Entrant(spec, RandomBot::new));
+                } else if (parts[0].equals("beam") && parts.length <= 3) {
+                    int lookahead = parts.length > 1 ? nonNegative(spec, parts[1]) : 1;
+                    int width = parts.length > 2 ? positive(spec, parts[2]) : 4;
+                    // matches fill the cores, so each search runs on its match's thread
+                    BeamSearch search = new BeamSearch(WeightedEvaluator.DEFAULT, width, lookahead, null);
+                    entrants.add(new Tournament.Entrant(spec, seed -> new BeamSearchBot(spec, search)));
+                } else {
+                    throw new IllegalArgumentException("unknown bot: " + spec);
+                }
+            }
+            if (entrants.size() < 2) throw new IllegalArgumentException("--bots needs at least two bots");
+            return entrants;
+        }
+
+        private static String value(String[] args, int index, String option) {
+            if (index >= args.length) throw new IllegalArgumentException(option + " needs a value");
+            return args[index];
+        }
+
+        private static long parseLong(String option, String value) {
+            try {
+                return Long.parseLong(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(option + " expects a number, got " + value);
+            }
+        }
+
+        private static int nonNegative(String option, String value) {
+            long v = parseLong(option, value);
+            if (v < 0 || v > Integer.MAX_VALUE) throw new IllegalArgumentException(option + " out of range: " + value);
+            return (int) v;
+        }
+
+        private static int positive(String option, String value) {
+            int v = nonNegative(option, value);
+            if (v == 0) throw new IllegalArgumentException(option + " must be positive");
+            return v;
+        }
+    }
+}
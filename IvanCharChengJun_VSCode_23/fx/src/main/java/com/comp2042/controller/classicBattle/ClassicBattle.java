@@ -15,6 +15,7 @@ import java.net.URL;
 import java.util.ResourceBundle;
 import javafx.scene.media.MediaPlayer;
 
+import com.comp2042.controller.cpu.CpuPlayer;
 import com.comp2042.controller.gameControl.GameController;
 import com.comp2042.controller.guiControl.GuiController;
 
@@ -45,6 +46,8 @@ public class ClassicBattle implements Initializable {
     GuiController rightGui;
     GameController leftController;
     GameController rightController;
+    // plays the right board when a CPU opponent is selected; null otherwise
+    CpuPlayer rightCpu;
     javafx.scene.layout.StackPane centerOverlay;
     ClassicBattlePreviewService previewService;
     javafx.scene.media.MediaPlayer classicBattleMusicPlayer = null;
@@ -245,6 +248,7 @@ public class ClassicBattle implements Initializable {
                                 FXMLLoader loader = new FXMLLoader(loc);
                                 Parent menuRoot = loader.load();
                                 Stage stage = (Stage) scene.getWindow();
+                                try { if (rightCpu != null) rightCpu.stop(); } catch (Exception ignored) {}
                                 if (stage.getScene() != null) {
                                     try { audioHelper.stopMatchGameOverSound(); } catch (Exception ignored) {}
                                     try { if (leftGui != null) leftGui.cleanup(); } catch (Exception ignored) {}
@@ -286,6 +290,7 @@ public class ClassicBattle implements Initializable {
             FXMLLoader loader = new FXMLLoader(loc);
             Parent menuRoot = loader.load();
             Stage stage = (Stage) backBtn.getScene().getWindow();
+            try { if (rightCpu != null) rightCpu.stop(); } catch (Exception ignored) {}
             if (stage.getScene() != null) {
                 try { if (leftGui != null) leftGui.cleanup(); } catch (Exception ignored) {}
                 try { if (rightGui != null) rightGui.cleanup(); } catch (Exception ignored) {}
@@ -10,8 +10,16 @@ import javafx.fxml.FXMLLoader;
 
 import java.io.IOException;
 import java.net.URL;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
+import com.comp2042.ai.Difficulty;
+import com.comp2042.controller.cpu.CpuPlayer;
 import com.comp2042.controller.gameControl.GameController;
+import com.comp2042.controller.mainMenu.MainMenuHandlingSettings;
+import com.comp2042.controller.mainMenu.MainMenuPreferences;
+import com.comp2042.logic.BagBrickGenerator;
+import com.comp2042.replay.Replay;
 
 /**
  * Extracted initializer responsible for wiring up the two game sides of ClassicBattle.
@@ -20,6 +28,8 @@ import com.comp2042.controller.gameControl.GameController;
  */
 public final class ClassicBattleGameInitializer {
 
+    private static final Logger LOGGER = Logger.getLogger(ClassicBattleGameInitializer.class.getName());
+
     /**
      * Initialize the two game panels used by ClassicBattle and wire their
      * controllers, GUI instances and preview behaviour back to the owner.
@@ -102,8 +112,27 @@ public final class ClassicBattleGameInitializer {
             rp.prefHeightProperty().bind(rightSub.heightProperty());
         }
 
-    owner.leftController = new GameController(owner.leftGui);
-    owner.rightController = new GameController(owner.rightGui);
+    // both players draw the same piece sequence so the match is decided by play, not luck
+    long seed = Replay.newSeed();
+    owner.leftController = new GameController(owner.leftGui, new BagBrickGenerator(seed));
+    owner.rightController = new GameController(owner.rightGui, new BagBrickGenerator(seed));
+        try {
+            // both players share the keyboard and the Handling screen's settings
+            MainMenuHandlingSettings handling = new MainMenuPreferences().loadHandlingSettings();
+            handling.applyTo(owner.leftGui);
+            handling.applyTo(owner.rightGui);
+        } catch (Exception ex) {
+            LOGGER.log(Level.FINE, "Failed to apply handling settings", ex);
+        }
+        try {
+            Difficulty cpu = new MainMenuPreferences().loadCpuOpponent();
+            if (cpu != null) {
+                owner.rightCpu = new CpuPlayer(owner.rightGui, owner.rightController, cpu);
+                owner.rightCpu.start();
+            }
+        } catch (Exception ex) {
+            LOGGER.log(Level.WARNING, "Failed to start CPU opponent", ex);
+        }
         try { owner.leftGui.setMultiplayerMode(true); } catch (Exception ignored) {}
         try { owner.rightGui.setMultiplayerMode(true); } catch (Exception ignored) {}
         try { owner.leftGui.hideScoreAndTimeUI(); } catch (Exception ignored) {}
@@ -137,8 +166,6 @@ public final class ClassicBattleGameInitializer {
 
         owner.leftGui.setLevelText("Classic Battle");
         owner.rightGui.setLevelText("Classic Battle");
-        owner.leftGui.setDropIntervalMs(1000);
-        owner.rightGui.setDropIntervalMs(1000);
 
         try {
             final javafx.beans.value.ChangeListener<Boolean> startCountdownListener = (obs, oldV, newV) -> {
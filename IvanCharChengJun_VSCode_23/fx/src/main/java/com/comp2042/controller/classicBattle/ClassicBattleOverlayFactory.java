@@ -2,6 +2,7 @@ package com.comp2042.controller.classicBattle;
 
 import com.comp2042.controller.controls.ControlsController;
 import com.comp2042.controller.guiControl.GuiController;
+import com.comp2042.view.EffectsGovernor;
 
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -305,7 +306,8 @@ public final class ClassicBattleOverlayFactory {
             glow.setColor(javafx.scene.paint.Color.web("#ffd166"));
             glow.setRadius(8);
             glow.setSpread(0.45);
-            bigTitle.setEffect(glow);
+            boolean shadows = EffectsGovernor.shared().getQuality().isShadows();
+            if (shadows) bigTitle.setEffect(glow);
 
             javafx.animation.ScaleTransition scalePulse = new javafx.animation.ScaleTransition(javafx.util.Duration.millis(900), bigTitle);
             scalePulse.setFromX(1.0); scalePulse.setFromY(1.0);
@@ -327,7 +329,9 @@ public final class ClassicBattleOverlayFactory {
             );
             colorPulse.setCycleCount(javafx.animation.Animation.INDEFINITE);
 
-            javafx.animation.ParallelTransition combined = new javafx.animation.ParallelTransition(scalePulse, glowTimeline, colorPulse);
+            javafx.animation.ParallelTransition combined = shadows
+                    ? new javafx.animation.ParallelTransition(scalePulse, glowTimeline, colorPulse)
+                    : new javafx.animation.ParallelTransition(scalePulse, colorPulse);
             combined.setCycleCount(javafx.animation.Animation.INDEFINITE);
             combined.play();
 
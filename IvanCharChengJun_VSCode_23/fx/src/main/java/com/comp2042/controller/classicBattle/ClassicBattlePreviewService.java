@@ -1,13 +1,13 @@
 package com.comp2042.controller.classicBattle;
 
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
-import javafx.util.Duration;
+import com.comp2042.controller.gameLoop.GameLoop;
+import com.comp2042.controller.gameLoop.LoopTimer;
+
 import javafx.scene.layout.VBox;
 
 /**
  * Small service to update the "next" preview boxes periodically.
- * Encapsulates the Timeline used previously inside ClassicBattle.
+ * Runs as a {@link LoopTimer} on the shared {@link GameLoop}.
  */
 public class ClassicBattlePreviewService {
 
@@ -19,7 +19,7 @@ public class ClassicBattlePreviewService {
     private final com.comp2042.controller.guiControl.GuiController rightGui;
     private final VBox rightNextContent;
 
-    private Timeline poller;
+    private LoopTimer poller;
 
     public ClassicBattlePreviewService(com.comp2042.controller.gameControl.GameController leftController,
                                       com.comp2042.controller.guiControl.GuiController leftGui,
@@ -40,7 +40,7 @@ public class ClassicBattlePreviewService {
             try { poller.play(); } catch (Exception ignored) {}
             return;
         }
-        poller = new Timeline(new KeyFrame(Duration.millis(300), _ev -> {
+        poller = GameLoop.shared().timer(300, () -> {
             try {
                 if (leftController != null && leftGui != null) {
                     java.util.List<com.comp2042.logic.Brick> up = leftController.getUpcomingBricks(3);
@@ -65,8 +65,7 @@ public class ClassicBattlePreviewService {
             } catch (Exception e) {
                 e.printStackTrace();
             }
-        }));
-        poller.setCycleCount(Timeline.INDEFINITE);
+        });
         try { poller.play(); } catch (Exception ignored) {}
     }
 
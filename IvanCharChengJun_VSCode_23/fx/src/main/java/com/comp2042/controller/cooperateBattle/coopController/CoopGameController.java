@@ -45,8 +45,11 @@ public class CoopGameController {
     }
 
     public int[][] getBoardMatrix() { return MatrixOperations.copy(boardMatrix); }
-    public javafx.beans.property.IntegerProperty getLeftScoreProperty() { return leftPlayer.score.scoreProperty(); }
-    public javafx.beans.property.IntegerProperty getRightScoreProperty() { return rightPlayer.score.scoreProperty(); }
+    // FX views of the per-player core scores, created once
+    private final javafx.beans.property.IntegerProperty leftScoreProperty = com.comp2042.view.ScoreBinding.propertyOf(leftPlayer.score);
+    private final javafx.beans.property.IntegerProperty rightScoreProperty = com.comp2042.view.ScoreBinding.propertyOf(rightPlayer.score);
+    public javafx.beans.property.IntegerProperty getLeftScoreProperty() { return leftScoreProperty; }
+    public javafx.beans.property.IntegerProperty getRightScoreProperty() { return rightScoreProperty; }
     public java.util.List<com.comp2042.logic.Brick> getUpcomingLeft(int count) { return leftPlayer.getUpcoming(count); }
     public java.util.List<com.comp2042.logic.Brick> getUpcomingRight(int count) { return rightPlayer.getUpcoming(count); }
     public javafx.beans.property.IntegerProperty getTotalScoreProperty() { return totalScore.scoreProperty(); }
@@ -5,21 +5,21 @@ import java.util.logging.Level;
 
 import com.comp2042.controller.cooperateBattle.coopController.CoopGameController;
 import com.comp2042.controller.cooperateBattle.coopController.CoopTickResult;
+import com.comp2042.controller.gameLoop.GameLoop;
+import com.comp2042.controller.gameLoop.LoopTimer;
 import com.comp2042.controller.guiControl.GuiController;
+import com.comp2042.engine.GravityCurve;
 import com.comp2042.model.ViewData;
 import com.comp2042.model.DownData;
 import com.comp2042.view.NotificationPanel;
 import com.comp2042.input.InputEventListener;
 import com.comp2042.input.MoveEvent;
 
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Pane;
 import javafx.scene.Scene;
 import javafx.scene.text.Text;
-import javafx.util.Duration;
 
 public class CoopGuiController extends GuiController {
 
@@ -35,7 +35,7 @@ public class CoopGuiController extends GuiController {
     private CoopGameController coop;
     private static final Logger LOGGER = Logger.getLogger(CoopGuiController.class.getName());
     private CoopKeyBindings keyBindings = new CoopKeyBindings();
-    private Timeline coopTimeline = null;
+    private LoopTimer coopTimeline = null;
     private CoopInputHandler coopInputHandler = null;
     private Scene coopScene = null;
     private CoopMusicManager coopMusicManager = new CoopMusicManager();
@@ -251,12 +251,10 @@ public class CoopGuiController extends GuiController {
     }
 
     private void setupTimeline() {
+        // coop keeps its own row-per-tick loop at level 1 gravity
+        double intervalMs = GravityCurve.millisPerRow(1);
         try { if (timeLine != null) { timeLine.stop(); timeLine = null; } } catch (Exception ignored) {}
-        double intervalMs = 1000.0;
-        try { if (timeLine != null && !timeLine.getKeyFrames().isEmpty()) intervalMs = timeLine.getKeyFrames().get(0).getTime().toMillis(); } catch (Exception ignored) {}
-        final double usedInterval = intervalMs;
-        coopTimeline = new Timeline(new KeyFrame(Duration.millis(usedInterval), ae -> {
-            ae.consume();
+        coopTimeline = GameLoop.shared().timer(intervalMs, () -> {
             ViewData beforeLeft = coop.getViewDataLeft();
             ViewData beforeRight = coop.getViewDataRight();
             CoopTickResult result = coop.tick();
@@ -290,8 +288,7 @@ public class CoopGuiController extends GuiController {
                 } catch (Exception ignored) {}
                 refreshPreviews();
             }
-        }));
-        coopTimeline.setCycleCount(Timeline.INDEFINITE);
+        });
     }
 
     private void setupEventListener() {
@@ -638,7 +635,7 @@ public class CoopGuiController extends GuiController {
 
     @Override
     protected void onSceneDetach() {
-    LOGGER.fine("[CoopGuiController] onSceneDetach invoked for scene=" + (coopScene != null ? coopScene.hashCode() : "null"));
+    LOGGER.log(Level.FINE, "[CoopGuiController] onSceneDetach invoked for scene={0}", (coopScene != null ? coopScene.hashCode() : "null"));
         try {
             if (coopScene != null) {
                 try { if (coopInputHandler != null) coopInputHandler.detach(); } catch (Exception ignored) {}
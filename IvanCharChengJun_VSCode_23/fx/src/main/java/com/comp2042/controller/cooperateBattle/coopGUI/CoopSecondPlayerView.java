@@ -14,6 +14,10 @@ import javafx.scene.shape.Rectangle;
 /**
  * Encapsulates the second player's brick and ghost panels and
  * provides build/refresh methods formerly present in the controller.
+ *
+ * <p>Once the shared {@link BoardView} has its board canvas the second piece
+ * is drawn there as well and the rectangles built here are dropped; the
+ * panels' visibility still shows and hides it.</p>
  */
 public class CoopSecondPlayerView {
     private static final Logger LOGGER = Logger.getLogger(CoopSecondPlayerView.class.getName());
@@ -22,6 +26,7 @@ public class CoopSecondPlayerView {
     private final Pane secondGhostPanel;
     private Rectangle[][] rectangles;
     private Rectangle[][] ghostRectangles;
+    private BoardView canvasView;
 
     public CoopSecondPlayerView(Pane secondBrickPanel, Pane secondGhostPanel) {
         this.secondBrickPanel = secondBrickPanel;
@@ -76,8 +81,14 @@ public class CoopSecondPlayerView {
      * - baseOffsetX/baseOffsetY: fallback base offset used when scene coordinates are not available
      */
     public void refresh(ViewData v, int[][] boardMatrix, BoardView boardView, ViewData currentViewData, double cellW, double cellH, double baseOffsetX, double baseOffsetY) {
-        if (v == null || rectangles == null) return;
+        if (v == null) return;
         try {
+            if (boardView != null && boardView.isCanvasReady()) {
+                drawOnCanvas(boardView);
+                boardView.refreshSecondBrick(v, computeLandingY(v, boardMatrix, currentViewData));
+                return;
+            }
+            if (rectangles == null) return;
             int offsetX = v.getxPosition();
             int offsetY = v.getyPosition() - 2;
 
@@ -119,22 +130,7 @@ public class CoopSecondPlayerView {
 
             int[][] shape = v.getBrickData();
             int startX = v.getxPosition();
-            int startY = v.getyPosition();
-            int landingY = startY;
-            int effectiveBrickHeight = shape.length;
-            for (int i = shape.length - 1; i >= 0; i--) {
-                boolean rowHas = false;
-                for (int j = 0; j < shape[i].length; j++) if (shape[i][j] != 0) { rowHas = true; break; }
-                if (rowHas) { effectiveBrickHeight = i + 1; break; }
-            }
-            int maxY = (boardMatrix != null ? boardMatrix.length : 0) - effectiveBrickHeight;
-            for (int y = startY; y <= maxY; y++) {
-                int[][] tmp = MatrixOperations.copy(boardMatrix != null ? boardMatrix : new int[0][0]);
-                try { tmp = MatrixOperations.merge(tmp, currentViewData != null ? currentViewData.getBrickData() : new int[0][0], currentViewData != null ? currentViewData.getxPosition() : 0, currentViewData != null ? currentViewData.getyPosition() : 0); } catch (Exception ignored) {}
-                boolean conflict = MatrixOperations.intersectForGhost(tmp, shape, startX, y);
-                if (conflict) { landingY = y - 1; break; }
-                if (y == maxY) landingY = y;
-            }
+            int landingY = computeLandingY(v, boardMatrix, currentViewData);
 
             try {
                 javafx.geometry.Point2D scenePt = null;
@@ -177,6 +173,43 @@ public class CoopSecondPlayerView {
         }
     }
 
+    // landing row of the second piece with the first piece treated as settled
+    private static int computeLandingY(ViewData v, int[][] boardMatrix, ViewData currentViewData) {
+        int[][] shape = v.getBrickData();
+        int startX = v.getxPosition();
+        int startY = v.getyPosition();
+        int landingY = startY;
+        int effectiveBrickHeight = shape.length;
+        for (int i = shape.length - 1; i >= 0; i--) {
+            boolean rowHas = false;
+            for (int j = 0; j < shape[i].length; j++) if (shape[i][j] != 0) { rowHas = true; break; }
+            if (rowHas) { effectiveBrickHeight = i + 1; break; }
+        }
+        int maxY = (boardMatrix != null ? boardMatrix.length : 0) - effectiveBrickHeight;
+        for (int y = startY; y <= maxY; y++) {
+            int[][] tmp = MatrixOperations.copy(boardMatrix != null ? boardMatrix : new int[0][0]);
+            try { tmp = MatrixOperations.merge(tmp, currentViewData != null ? currentViewData.getBrickData() : new int[0][0], currentViewData != null ? currentViewData.getxPosition() : 0, currentViewData != null ? currentViewData.getyPosition() : 0); } catch (Exception ignored) {}
+            boolean conflict = MatrixOperations.intersectForGhost(tmp, shape, startX, y);
+            if (conflict) { landingY = y - 1; break; }
+            if (y == maxY) landingY = y;
+        }
+        return landingY;
+    }
+
+    // switch to drawing on the board canvas; the panel nodes are no longer needed
+    private void drawOnCanvas(BoardView boardView) {
+        if (canvasView == boardView) return;
+        canvasView = boardView;
+        rectangles = null;
+        ghostRectangles = null;
+        if (secondBrickPanel != null) {
+            secondBrickPanel.getChildren().clear();
+            boardView.setSecondBrickVisible(secondBrickPanel.isVisible());
+            secondBrickPanel.visibleProperty().addListener((obs, was, visible) -> boardView.setSecondBrickVisible(visible));
+        }
+        if (secondGhostPanel != null) secondGhostPanel.getChildren().clear();
+    }
+
     private javafx.geometry.Point2D boardToPixelLocal(int boardX, int boardY, double cellW, double cellH, double baseOffsetX, double baseOffsetY) {
         double x = baseOffsetX + (boardX * cellW);
         double y = baseOffsetY + (boardY * cellH);
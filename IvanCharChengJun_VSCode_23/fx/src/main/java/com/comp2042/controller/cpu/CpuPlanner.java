@@ -0,0 +1,73 @@
+package com.comp2042.controller.cpu;
+
+import com.comp2042.ai.BeamSearch;
+import com.comp2042.ai.Difficulty;
+import com.comp2042.ai.MoveGenerator;
+import com.comp2042.ai.PathFollower;
+import com.comp2042.ai.Placement;
+import com.comp2042.ai.SearchBoard;
+import com.comp2042.ai.WeightedEvaluator;
+import com.comp2042.logic.Brick;
+import com.comp2042.logic.BrickShape;
+import com.comp2042.model.ViewData;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Turns a snapshot of a CPU player's board into a plan. The snapshot is
+ * taken on the FX thread by {@link #prepare}; the returned task only touches
+ * its own copies and runs on the planner thread.
+ */
+final class CpuPlanner {
+    private final Difficulty difficulty;
+    private final BeamSearch search;
+    // only used on the planner thread
+    private final Random random;
+
+    CpuPlanner(Difficulty difficulty, ForkJoinPool pool, long seed) {
+        this.difficulty = difficulty;
+        this.search = new BeamSearch(WeightedEvaluator.DEFAULT, difficulty.getBeamWidth(), difficulty.getLookahead(), pool);
+        this.random = new Random(seed);
+    }
+
+    /**
+     * Copy what the search needs out of the live game.
+     *
+     * @param matrix   background matrix (read now, not kept)
+     * @param view     active piece
+     * @param upcoming preview queue
+     * @return a task producing a follower for the piece, or {@code null}
+     *         when the active piece cannot be searched
+     */
+    Callable<PathFollower> prepare(int[][] matrix, ViewData view, List<Brick> upcoming) {
+        if (view == null || view.getPiece() == null) return null;
+        SearchBoard board = SearchBoard.of(matrix);
+        BrickShape shape = view.getPiece().shape();
+        int x = view.getxPosition();
+        int y = view.getyPosition();
+        int rotation = view.getRotation();
+        List<BrickShape> preview = new ArrayList<>();
+        if (upcoming != null) {
+            for (Brick brick : upcoming) {
+                if (brick == null || brick.getBrickShape() == null) break;
+                preview.add(brick.getBrickShape());
+            }
+        }
+        return () -> {
+            long deadline = System.nanoTime() + difficulty.getThinkMillis() * 1_000_000L;
+            Placement placement = (random.nextDouble() < difficulty.getMistakeRate())
+                    ? randomPlacement(board, shape, x, y, rotation)
+                    : search.findBest(board, shape, x, y, rotation, preview, deadline);
+            return (placement == null) ? null : new PathFollower(placement, x, y, rotation);
+        };
+    }
+
+    private Placement randomPlacement(SearchBoard board, BrickShape shape, int x, int y, int rotation) {
+        List<Placement> all = new MoveGenerator(board.getWidth(), board.getHeight()).generate(board, shape, x, y, rotation);
+        return all.isEmpty() ? null : all.get(random.nextInt(all.size()));
+    }
+}
@@ -0,0 +1,160 @@
+package com.comp2042.controller.cpu;
+
+import com.comp2042.ai.Difficulty;
+import com.comp2042.ai.PathFollower;
+import com.comp2042.controller.gameControl.GameController;
+import com.comp2042.controller.gameLoop.GameLoop;
+import com.comp2042.controller.gameLoop.LoopTimer;
+import com.comp2042.controller.guiControl.GuiController;
+import com.comp2042.input.EventType;
+import com.comp2042.model.ViewData;
+import com.comp2042.replay.Replay;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Computer opponent that plays one board of a versus match.
+ *
+ * <p>Planning happens off the FX thread: when a new piece appears the
+ * player copies the board and hands it to a background planner, which runs
+ * a {@link com.comp2042.ai.BeamSearch} with a per-piece deadline taken from
+ * the {@link Difficulty}. A {@link LoopTimer} ticking at the difficulty's
+ * input rate polls the result and, once a plan is ready, enters one move per
+ * tick through {@link GuiController#applyInput} and
+ * {@link GuiController#applyHardDrop}, i.e. the same
+ * {@link com.comp2042.input.InputEventListener} calls a key press makes.
+ * The FX thread never waits on the planner; a plan made stale by a lock,
+ * swap, garbage or gravity is discarded and the piece is planned again.
+ */
+public final class CpuPlayer {
+    private static final Logger LOGGER = Logger.getLogger(CpuPlayer.class.getName());
+    // a held soft drop moves at most this many rows per tick
+    private static final int MAX_SOFT_DROP_ROWS = 30;
+
+    private final GuiController gui;
+    private final GameController controller;
+    private final Difficulty difficulty;
+    private final CpuPlanner planner;
+    private final ExecutorService executor;
+    private final LoopTimer ticker;
+
+    private Future<PathFollower> pending;
+    private int pendingSerial;
+    private PathFollower follower;
+    private int followerSerial;
+
+    /**
+     * Take over {@code gui}'s board; its movement keys are switched off.
+     * Call {@link #start()} to begin playing.
+     *
+     * @param gui        view of the CPU's board
+     * @param controller game of the CPU's board
+     * @param difficulty strength of play
+     */
+    public CpuPlayer(GuiController gui, GameController controller, Difficulty difficulty) {
+        this.gui = gui;
+        this.controller = controller;
+        this.difficulty = difficulty;
+        this.planner = new CpuPlanner(difficulty, ForkJoinPool.commonPool(), Replay.newSeed());
+        this.executor = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "cpu-planner");
+            t.setDaemon(true);
+            return t;
+        });
+        this.ticker = GameLoop.shared().timer(difficulty.getInputIntervalMillis(), this::tick);
+        gui.setKeyboardEnabled(false);
+    }
+
+    /** @return the difficulty this player was created with */
+    public Difficulty getDifficulty() {
+        return difficulty;
+    }
+
+    /** Start entering moves; they only take effect while the game accepts input. */
+    public void start() {
+        ticker.play();
+    }
+
+    /** Stop playing for good and release the planner thread. */
+    public void stop() {
+        ticker.stop();
+        if (pending != null) pending.cancel(true);
+        pending = null;
+        follower = null;
+        executor.shutdownNow();
+    }
+
+    private void tick() {
+        try {
+            if (!gui.isAcceptingInput()) return;
+            int serial = controller.getPieceSerial();
+            if (follower != null && followerSerial != serial) follower = null;
+            if (follower == null && !collectPlan(serial)) return;
+
+            ViewData view = controller.getViewData();
+            PathFollower.Action action = follower.next(view.getxPosition(), view.getyPosition(), view.getRotation());
+            for (int rows = 0; action == PathFollower.Action.SOFT_DROP && rows < MAX_SOFT_DROP_ROWS; rows++) {
+                gui.applyInput(EventType.DOWN);
+                if (controller.getPieceSerial() != serial) return;
+                view = controller.getViewData();
+                action = follower.next(view.getxPosition(), view.getyPosition(), view.getRotation());
+            }
+            switch (action) {
+                case LEFT: gui.applyInput(EventType.LEFT); break;
+                case RIGHT: gui.applyInput(EventType.RIGHT); break;
+                case ROTATE: gui.applyInput(EventType.ROTATE); break;
+                case HARD_DROP: drop(); break;
+                case REPLAN: follower = null; break;
+                default: break;
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "CPU player tick failed", e);
+        }
+    }
+
+    // true once a plan for the current piece is ready in follower
+    private boolean collectPlan(int serial) {
+        if (pending != null && pendingSerial != serial) {
+            pending.cancel(true);
+            pending = null;
+        }
+        if (pending == null) {
+            Callable<PathFollower> task = planner.prepare(controller.getBoardMatrix(), controller.getViewData(),
+                    controller.getUpcomingBricks(difficulty.getLookahead()));
+            if (task == null) return false;
+            pending = executor.submit(task);
+            pendingSerial = serial;
+            return false;
+        }
+        if (!pending.isDone()) return false;
+        PathFollower plan = null;
+        try {
+            plan = pending.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            LOGGER.log(Level.WARNING, "CPU planning failed", e.getCause());
+        }
+        pending = null;
+        if (plan == null) {
+            // nothing fits: let the piece fall where it is
+            drop();
+            return false;
+        }
+        follower = plan;
+        followerSerial = serial;
+        return true;
+    }
+
+    private void drop() {
+        if (gui.isHardDropAllowed()) gui.applyHardDrop();
+        else gui.applyInput(EventType.DOWN);
+    }
+}
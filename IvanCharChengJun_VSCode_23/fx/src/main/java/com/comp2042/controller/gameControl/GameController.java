@@ -0,0 +1,502 @@
+package com.comp2042.controller.gameControl;
+
+import com.comp2042.controller.guiControl.GuiController;
+import com.comp2042.diagnostics.GameSession;
+import com.comp2042.diagnostics.LatencyHistogram;
+import com.comp2042.engine.GameEngine;
+import com.comp2042.engine.MoveDownResult;
+import com.comp2042.input.EventSource;
+import com.comp2042.input.InputEventListener;
+import com.comp2042.input.MoveEvent;
+import com.comp2042.logic.BagBrickGenerator;
+import com.comp2042.model.DownData;
+import com.comp2042.model.ViewData;
+import com.comp2042.model.Board;
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.replay.Replay;
+import com.comp2042.replay.ReplayAction;
+import com.comp2042.replay.ReplayIO;
+import com.comp2042.replay.ReplayRecorder;
+import com.comp2042.view.ScoreBinding;
+
+import javafx.beans.property.IntegerProperty;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Adapter that connects the UI-level {@link com.comp2042.controller.guiControl.GuiController}
+ * with the core {@link GameEngine} logic from the headless core module.
+ *
+ * <p>This class implements {@link com.comp2042.input.InputEventListener} and translates
+ * UI events (move, rotate, drop, swap) into engine operations while keeping the
+ * view updated. It delegates rules/state changes to {@link GameEngine} and the
+ * underlying {@link com.comp2042.model.Board} for testability.
+ *
+ * <p>Controllers that build their own board seed its generator and record
+ * every action forwarded to the engine, gravity included, into a
+ * {@link Replay}; the recording is saved under {@link #REPLAY_DIRECTORY}
+ * when the game ends and can be played back with
+ * {@link com.comp2042.replay.ReplayPlayer}.
+ *
+ * <p>Each controller also creates a {@link GameSession} MBean for its view,
+ * exposing the engine counters and the time spent in down steps to JMX.
+ */
+public class GameController implements InputEventListener {
+    private final GameEngine engine;
+    private final GuiController viewGuiController;
+    // FX view of the engine's listener-based score
+    private final IntegerProperty scoreProperty;
+    private static final Logger LOGGER = Logger.getLogger(GameController.class.getName());
+    private Consumer<Integer> clearRowHandler = null;
+    // bumped whenever the active piece or the board under it is replaced
+    private int pieceSerial;
+    private int shownLevel;
+    // engine time of moveDown and gravity falls, read by the session MBean
+    private final LatencyHistogram moveDownTimes = new LatencyHistogram();
+    // board version the view last drew; unchanged versions skip the refresh
+    private long drawnBoardVersion = Board.UNVERSIONED;
+    private final BitSet changedRows = new BitSet();
+
+    /** Directory finished games are saved to. */
+    public static final Path REPLAY_DIRECTORY = Paths.get(System.getProperty("user.home"), ".tetris-nexus", "replays");
+    private static final DateTimeFormatter REPLAY_NAME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS");
+    private static final int BOARD_WIDTH = 10;
+    private static final int BOARD_HEIGHT = 25;
+
+    // null when the board was injected and its generator cannot be reproduced
+    private final ReplayRecorder recorder;
+    private final long recordingStart = System.nanoTime();
+    // the board id keeps the two recordings of a versus match, started in the same millisecond, apart
+    private final String replayName;
+
+    /**
+     * Primary constructor that uses a default SimpleBoard with a freshly
+     * seeded generator, recording the game for replay.
+     */
+    public GameController(GuiController c) {
+        this(c, new BagBrickGenerator(Replay.newSeed()));
+    }
+
+    /**
+     * Constructor for matched games: the board draws its pieces from
+     * {@code generator}, so two controllers given generators with the same
+     * seed (or derived with {@link BagBrickGenerator#split()}) play matched
+     * sequences. The generator must not have been drawn from yet, as the
+     * recording rebuilds it from its seed.
+     */
+    public GameController(GuiController c, BagBrickGenerator generator) {
+        this(c, new SimpleBoard(BOARD_WIDTH, BOARD_HEIGHT, generator),
+                new ReplayRecorder(generator.getSeed(), BOARD_WIDTH, BOARD_HEIGHT));
+    }
+
+    /**
+     * Constructor that accepts a Board instance — enables dependency injection for testing.
+     * Games on injected boards are not recorded.
+     */
+    public GameController(GuiController c, Board board) {
+        this(c, board, null);
+    }
+
+    private GameController(GuiController c, Board board, ReplayRecorder recorder) {
+        this.viewGuiController = Objects.requireNonNull(c, "GuiController must not be null");
+        this.engine = new GameEngine(Objects.requireNonNull(board, "Board must not be null"));
+        this.recorder = recorder;
+        this.replayName = "replay-" + LocalDateTime.now().format(REPLAY_NAME) + "-" + engine.getBoardId() + ReplayIO.EXTENSION;
+        this.scoreProperty = ScoreBinding.propertyOf(engine.getScore());
+
+        // initialize board and view in small helper methods for clarity and testability
+        engine.createNewBrick();
+        viewGuiController.setBoardId(engine.getBoardId());
+        viewGuiController.setEventListener(this);
+        viewGuiController.initGameView(engine.getBoardMatrix(), engine.getViewData());
+        viewGuiController.bindScore(scoreProperty);
+
+        setSwapKeySafe();
+        safeRefreshUpcomingBricks();
+        showLevelSafe();
+        try {
+            viewGuiController.setSession(new GameSession(this, viewGuiController));
+        } catch (Exception e) {
+            LOGGER.log(Level.FINER, "Failed to create session MBean", e);
+        }
+    }
+
+    /**
+     * Set the level the game starts at, which selects the gravity from
+     * {@link com.comp2042.engine.GravityCurve}. The level then rises with
+     * cleared lines.
+     *
+     * @param level start level (1 or higher)
+     */
+    public void setStartLevel(int level) {
+        engine.setStartLevel(level);
+        showLevelSafe();
+    }
+
+    /**
+     * @return current level of the engine
+     */
+    public int getLevel() {
+        return engine.getLevel();
+    }
+
+    /**
+     * @return id of the engine board, as tagged on flight recorder events
+     */
+    public int getBoardId() {
+        return engine.getBoardId();
+    }
+
+    /**
+     * @return pieces locked since the game started
+     */
+    public int getPiecesLocked() {
+        return engine.getPiecesLocked();
+    }
+
+    /**
+     * @return lines cleared since the game started
+     */
+    public int getLinesCleared() {
+        return engine.getLinesCleared();
+    }
+
+    /**
+     * @return engine time of each {@code moveDown} and gravity fall so far
+     */
+    public LatencyHistogram getMoveDownTimes() {
+        return moveDownTimes;
+    }
+
+    /**
+     * Provide a handler that will be called when rows are cleared as a result
+     * of a drop. The handler receives the number of forward (non-garbage)
+     * cleared rows.
+     *
+     * @param handler consumer receiving cleared-row count (may be {@code null})
+     */
+    public void setClearRowHandler(java.util.function.Consumer<Integer> handler) {
+        this.clearRowHandler = handler;
+    }
+
+    /**
+     * Add garbage rows to the current board and refresh the visible board.
+     * This method is safe to call from external systems (network/AI) and will
+     * log and ignore unexpected exceptions.
+     *
+     * @param count number of garbage rows to add
+     * @param holeColumn index of the hole column in the garbage rows
+     */
+    public void addGarbageRows(int count, int holeColumn) {
+        try {
+            if (recorder != null) recorder.recordGarbage(elapsedMillis(), count, holeColumn);
+            int[][] matrix = engine.addGarbageRows(count, holeColumn);
+            pieceSerial++;
+            refreshGameBackgroundSafe(matrix);
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Unexpected error while adding garbage rows", e);
+        }
+    }
+
+    public IntegerProperty getScoreProperty() {
+        return scoreProperty;
+    }
+
+    /**
+     * @return the game recorded so far, or {@code null} when this controller
+     *         was given its board and does not record
+     */
+    public Replay getReplay() {
+        return (recorder == null) ? null : recorder.toReplay();
+    }
+
+    /**
+     * Write the recording so far to {@link #REPLAY_DIRECTORY}. Called
+     * automatically on game over; failures are logged and otherwise ignored.
+     *
+     * @return the file written, or {@code null} if nothing was saved
+     */
+    public Path saveReplay() {
+        if (recorder == null || recorder.size() == 0) return null;
+        Path file = REPLAY_DIRECTORY.resolve(replayName);
+        try {
+            ReplayIO.write(recorder.toReplay(), file);
+            LOGGER.log(Level.FINE, "Saved replay to {0}", file);
+            return file;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Failed to save replay to " + file, e);
+            return null;
+        }
+    }
+
+    private void record(ReplayAction action, MoveEvent event) {
+        record(action, (event != null) ? event.getEventSource() : EventSource.USER);
+    }
+
+    private void record(ReplayAction action, EventSource source) {
+        if (recorder != null) recorder.record(elapsedMillis(), action, source);
+    }
+
+    private long elapsedMillis() {
+        return (System.nanoTime() - recordingStart) / 1_000_000L;
+    }
+
+    /**
+     * Counter that changes whenever the active piece is replaced (lock,
+     * swap, new game) or garbage shifts the board. A CPU player compares it
+     * with the value seen when it started planning to detect stale plans.
+     */
+    public int getPieceSerial() {
+        return pieceSerial;
+    }
+
+    /**
+     * @return the engine's live board matrix; callers must not mutate it
+     */
+    public int[][] getBoardMatrix() {
+        return engine.getBoardMatrix();
+    }
+
+    /**
+     * @return view data of the active piece
+     */
+    public ViewData getViewData() {
+        return engine.getViewData();
+    }
+
+    /**
+     * Return the upcoming bricks from the engine for preview purposes.
+     *
+     * @param count number of upcoming bricks to retrieve
+     * @return list of upcoming bricks (never {@code null})
+     */
+    public java.util.List<com.comp2042.logic.Brick> getUpcomingBricks(int count) {
+        return engine.getUpcoming(count);
+    }
+
+    @Override
+    public DownData onDownEvent(MoveEvent event) {
+        record(ReplayAction.DOWN, event);
+        // delegate main game logic to the engine
+        long start = System.nanoTime();
+        MoveDownResult result = engine.moveDown(event.getEventSource());
+        moveDownTimes.record(System.nanoTime() - start);
+        logMove("moveDown", event, true);
+        return publish(result);
+    }
+
+    /**
+     * Drop and lock the piece in one engine step so the view is refreshed
+     * once per hard drop.
+     */
+    @Override
+    public DownData onHardDropEvent(MoveEvent event) {
+        LOGGER.fine("onHardDropEvent");
+        record(ReplayAction.HARD_DROP, event);
+        return publish(engine.hardDrop());
+    }
+
+    /**
+     * Advance gravity through the engine. Falls of any number of rows only
+     * move the active piece, so the background and preview are refreshed
+     * only when the piece locks.
+     */
+    @Override
+    public DownData onGravityTick(long elapsedNanos) {
+        long start = System.nanoTime();
+        MoveDownResult result = engine.applyGravity(elapsedNanos);
+        if (result == null) return null;
+        moveDownTimes.record(System.nanoTime() - start);
+        // replays step gravity one row at a time, so record the fall and the
+        // lock as the equivalent thread DOWN actions
+        for (int i = 0; i < result.getRowsDropped(); i++) {
+            record(ReplayAction.DOWN, EventSource.THREAD);
+        }
+        if (result.getClearRow() == null && !result.isGameOver()) {
+            return new DownData(null, result.getViewData());
+        }
+        record(ReplayAction.DOWN, EventSource.THREAD);
+        return publish(result);
+    }
+
+    /**
+     * Multi-cell auto-repeat in one engine step. The replay records one
+     * single-cell action per cell actually moved, which replays identically.
+     */
+    @Override
+    public ViewData onRepeatEvent(MoveEvent event, int cells) {
+        if (event == null || cells <= 0) return null;
+        ReplayAction action;
+        int moved;
+        switch (event.getEventType()) {
+            case LEFT:
+                action = ReplayAction.LEFT;
+                moved = engine.shift(-cells);
+                break;
+            case RIGHT:
+                action = ReplayAction.RIGHT;
+                moved = engine.shift(cells);
+                break;
+            case DOWN:
+                action = ReplayAction.DOWN;
+                moved = engine.softDrop(cells, event.getEventSource());
+                break;
+            default:
+                return null;
+        }
+        if (moved == 0) return null;
+        for (int i = 0; i < moved; i++) record(action, event);
+        return engine.getViewData();
+    }
+
+    @Override
+    public ViewData onSonicDropEvent(MoveEvent event) {
+        LOGGER.fine("onSonicDropEvent");
+        record(ReplayAction.SONIC_DROP, event);
+        return engine.sonicDrop(event.getEventSource());
+    }
+
+    // moves arrive on every key press and gravity step, so nothing is
+    // formatted unless FINE is enabled
+    private void logMove(String move, MoveEvent event, boolean moved) {
+        if (!LOGGER.isLoggable(Level.FINE)) return;
+        try {
+            ViewData v = engine.getViewData();
+            LOGGER.log(Level.FINE, "{0} source={1} moved={2} offset={3},{4}", new Object[] {
+                    move, (event != null) ? event.getEventSource() : null, moved, v.getxPosition(), v.getyPosition()});
+        } catch (Exception e) {
+            LOGGER.log(Level.FINER, "Unable to log move offset", e);
+        }
+    }
+
+    // push an engine result to the view and wrap it for the input handler
+    private DownData publish(MoveDownResult result) {
+        if (result.getClearRow() != null || result.isGameOver()) pieceSerial++;
+        // update UI based on engine result
+        if (result.isGameOver()) {
+            viewGuiController.gameOver();
+            saveReplay();
+        }
+
+        if (result.getForwardCount() > 0 && clearRowHandler != null) {
+            try {
+                clearRowHandler.accept(result.getForwardCount());
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING, "Clear row handler threw", e);
+            }
+        }
+
+        refreshGameBackgroundSafe(result.getBoardMatrix());
+        safeRefreshUpcomingBricks();
+        if (result.getClearRow() != null) showLevelSafe();
+
+        return new DownData(result.getClearRow(), result.getViewData());
+    }
+
+    @Override
+    public ViewData onLeftEvent(MoveEvent event) {
+        record(ReplayAction.LEFT, event);
+        boolean moved = engine.moveLeft() != null;
+        logMove("moveLeft", event, moved);
+        return engine.getViewData();
+    }
+
+    @Override
+    public ViewData onRightEvent(MoveEvent event) {
+        record(ReplayAction.RIGHT, event);
+        boolean moved = engine.moveRight() != null;
+        logMove("moveRight", event, moved);
+        return engine.getViewData();
+    }
+
+    @Override
+    public ViewData onRotateEvent(MoveEvent event) {
+        record(ReplayAction.ROTATE, event);
+        boolean rotated = engine.rotate() != null;
+        logMove("rotate", event, rotated);
+        return engine.getViewData();
+    }
+
+    @Override
+    public void createNewGame() {
+        record(ReplayAction.NEW_GAME, EventSource.USER);
+        engine.newGame();
+        pieceSerial++;
+        refreshGameBackgroundSafe(engine.getBoardMatrix());
+        showLevelSafe();
+    }
+
+    @Override
+    public void onSwapEvent() {
+        try {
+            record(ReplayAction.SWAP, EventSource.USER);
+            boolean swapped = engine.swap();
+            if (swapped) {
+                pieceSerial++;
+                refreshGameBackgroundSafe(engine.getBoardMatrix());
+                viewGuiController.refreshCurrentView(engine.getViewData());
+                safeRefreshUpcomingBricks();
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Error during swap event", e);
+        }
+    }
+    private void showLevelSafe() {
+        int level = engine.getLevel();
+        if (level == shownLevel) return;
+        shownLevel = level;
+        try {
+            viewGuiController.setLevel(level);
+        } catch (Exception e) {
+            LOGGER.log(Level.FINER, "Failed to update level display", e);
+        }
+    }
+
+    private void safeRefreshUpcomingBricks() {
+        try {
+            List<com.comp2042.logic.Brick> upcoming = engine.getUpcoming(3);
+            viewGuiController.showNextBricks(upcoming);
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Failed to update upcoming bricks preview", e);
+        }
+    }
+
+    private void setSwapKeySafe() {
+        try {
+            viewGuiController.setSwapKey(javafx.scene.input.KeyCode.C);
+        } catch (Exception e) {
+            LOGGER.log(Level.FINER, "Failed to set swap key", e);
+        }
+    }
+
+    // gravity and moves call this every step; only merges, clears and
+    // garbage change the background, and only their rows are repainted
+    private void refreshGameBackgroundSafe(int[][] matrix) {
+        try {
+            long version = engine.getBoardVersion();
+            if (version == Board.UNVERSIONED || drawnBoardVersion == Board.UNVERSIONED) {
+                viewGuiController.refreshGameBackground(matrix);
+            } else if (version != drawnBoardVersion) {
+                changedRows.clear();
+                engine.collectChangedRows(drawnBoardVersion, changedRows);
+                viewGuiController.refreshGameBackground(matrix, changedRows);
+            }
+            drawnBoardVersion = version;
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Failed to refresh game background after update", e);
+        }
+    }
+
+    
+
+    
+}
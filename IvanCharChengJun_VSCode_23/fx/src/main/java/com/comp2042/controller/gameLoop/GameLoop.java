@@ -0,0 +1,211 @@
+package com.comp2042.controller.gameLoop;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * The application's single game clock.
+ *
+ * <p>One {@link AnimationTimer} feeds the pulse timestamps into a nanosecond
+ * accumulator that is drained in fixed simulation steps of
+ * {@link #STEP_NANOS}. Every running {@link LoopTimer} (board gravity,
+ * play clocks, match timers, preview pollers) advances by the same steps, so
+ * all boards of a versus match share one time base instead of drifting on
+ * separate {@code Timeline}s. A long stall (window drag, GC) is capped at
+ * {@link #MAX_FRAME_NANOS} so the game does not fast-forward afterwards.
+ * The pulse only runs while at least one timer does; pulse listeners observe
+ * it without keeping it running.
+ *
+ * <p>All methods must be called on the JavaFX application thread, as must
+ * the timers' actions, which run from the pulse.
+ */
+public final class GameLoop {
+    private static final Logger LOGGER = Logger.getLogger(GameLoop.class.getName());
+
+    /** Length of one simulation step: 1/240 s. */
+    public static final long STEP_NANOS = 1_000_000_000L / 240;
+    /** Longest frame gap that is simulated; anything beyond is dropped. */
+    public static final long MAX_FRAME_NANOS = 250_000_000L;
+
+    private static GameLoop shared;
+
+    private final long stepNanos;
+    private final boolean animated;
+    private AnimationTimer pulse;
+    private LoopTimer[] timers = new LoopTimer[0];
+    private LongConsumer[] pulseListeners = new LongConsumer[0];
+    private long lastNanos = Long.MIN_VALUE;
+    private long accumulator;
+    private long simulatedNanos;
+    private volatile long lastStepNanos;
+
+    /**
+     * @param stepNanos simulation step
+     * @param animated  {@code true} to drive the loop from an
+     *                  {@link AnimationTimer}; tests pass {@code false} and
+     *                  call {@link #advance(long)} themselves
+     */
+    GameLoop(long stepNanos, boolean animated) {
+        if (stepNanos <= 0) throw new IllegalArgumentException("stepNanos must be positive");
+        this.stepNanos = stepNanos;
+        this.animated = animated;
+    }
+
+    /** @return the loop shared by every game view */
+    public static GameLoop shared() {
+        if (shared == null) shared = new GameLoop(STEP_NANOS, true);
+        return shared;
+    }
+
+    /**
+     * Create a stopped timer on this loop.
+     *
+     * @param periodMillis time between actions at rate 1
+     * @param action       run on each period
+     * @return the timer; call {@link LoopTimer#play()} to start it
+     */
+    public LoopTimer timer(double periodMillis, Runnable action) {
+        return new LoopTimer(this, periodMillis, action);
+    }
+
+    /** @return simulated time since the loop started, in nanoseconds */
+    public long getSimulatedNanos() {
+        return simulatedNanos;
+    }
+
+    /**
+     * @return wall time the last pulse spent running timer actions (engine
+     *         steps and the view updates they trigger), in nanoseconds
+     */
+    public long getLastStepNanos() {
+        return lastStepNanos;
+    }
+
+    /** @return number of running timers */
+    public int getRunningTimers() {
+        return timers.length;
+    }
+
+    /**
+     * Call {@code listener} with the timestamp of every pulse, before the
+     * pulse's steps run. Listening does not start the pulse.
+     *
+     * @param listener receives pulse times on the {@link System#nanoTime()} scale
+     */
+    public void addPulseListener(LongConsumer listener) {
+        for (LongConsumer l : pulseListeners) {
+            if (l == listener) return;
+        }
+        LongConsumer[] next = Arrays.copyOf(pulseListeners, pulseListeners.length + 1);
+        next[pulseListeners.length] = listener;
+        pulseListeners = next;
+    }
+
+    /** Stop calling {@code listener} (no-op when absent). */
+    public void removePulseListener(LongConsumer listener) {
+        for (int i = 0; i < pulseListeners.length; i++) {
+            if (pulseListeners[i] == listener) {
+                LongConsumer[] next = new LongConsumer[pulseListeners.length - 1];
+                System.arraycopy(pulseListeners, 0, next, 0, i);
+                System.arraycopy(pulseListeners, i + 1, next, i, pulseListeners.length - i - 1);
+                pulseListeners = next;
+                return;
+            }
+        }
+    }
+
+    void register(LoopTimer timer) {
+        for (LoopTimer t : timers) {
+            if (t == timer) return;
+        }
+        // copy on write: actions may start or stop timers while the loop iterates
+        LoopTimer[] next = Arrays.copyOf(timers, timers.length + 1);
+        next[timers.length] = timer;
+        timers = next;
+        ensurePulse();
+    }
+
+    void unregister(LoopTimer timer) {
+        for (int i = 0; i < timers.length; i++) {
+            if (timers[i] == timer) {
+                LoopTimer[] next = new LoopTimer[timers.length - 1];
+                System.arraycopy(timers, 0, next, 0, i);
+                System.arraycopy(timers, i + 1, next, i, timers.length - i - 1);
+                timers = next;
+                if (next.length == 0) stopPulse();
+                return;
+            }
+        }
+    }
+
+    private void ensurePulse() {
+        if (!animated || pulse != null || timers.length == 0) return;
+        if (!Platform.isFxApplicationThread()) {
+            Platform.runLater(this::ensurePulse);
+            return;
+        }
+        // time while the pulse was stopped is idle, not a stall to catch up on
+        lastNanos = System.nanoTime();
+        pulse = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                long start = System.nanoTime();
+                advance(now);
+                lastStepNanos = System.nanoTime() - start;
+            }
+        };
+        pulse.start();
+    }
+
+    private void stopPulse() {
+        if (pulse == null) return;
+        pulse.stop();
+        pulse = null;
+    }
+
+    /**
+     * Feed one pulse timestamp and run every whole step it completes.
+     *
+     * @param nowNanos pulse time on the {@link System#nanoTime()} scale
+     * @return steps simulated
+     */
+    int advance(long nowNanos) {
+        for (LongConsumer listener : pulseListeners) {
+            try {
+                listener.accept(nowNanos);
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING, "Game loop pulse listener failed", e);
+            }
+        }
+        if (lastNanos == Long.MIN_VALUE || timers.length == 0) {
+            // idle: nothing to catch up on when a timer starts later
+            lastNanos = nowNanos;
+            accumulator = 0;
+            return 0;
+        }
+        long frame = nowNanos - lastNanos;
+        lastNanos = nowNanos;
+        if (frame <= 0) return 0;
+        accumulator += Math.min(frame, MAX_FRAME_NANOS);
+
+        int steps = 0;
+        while (accumulator >= stepNanos) {
+            accumulator -= stepNanos;
+            simulatedNanos += stepNanos;
+            steps++;
+            for (LoopTimer timer : timers) {
+                try {
+                    timer.step(stepNanos);
+                } catch (Exception e) {
+                    LOGGER.log(Level.WARNING, "Game loop timer failed", e);
+                }
+            }
+        }
+        return steps;
+    }
+}
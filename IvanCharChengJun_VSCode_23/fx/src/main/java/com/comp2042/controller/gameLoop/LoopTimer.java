@@ -0,0 +1,91 @@
+package com.comp2042.controller.gameLoop;
+
+/**
+ * A repeating action driven by a {@link GameLoop}, used instead of an
+ * indefinite {@code Timeline}.
+ *
+ * <p>Like a {@code Timeline} with one key frame, the first action runs one
+ * period after {@link #play()}; {@link #pause()} keeps the progress into the
+ * current period so the next {@link #play()} resumes exactly where it left
+ * off, while {@link #stop()} starts the next run from the beginning. The
+ * {@link #setRate(double) rate} scales how fast the timer advances. Only
+ * running timers are held by the loop, so a stopped timer can be dropped
+ * without further cleanup.
+ */
+public final class LoopTimer {
+    private final GameLoop loop;
+    private final Runnable action;
+    private long periodNanos;
+    private double rate = 1.0;
+    private long phase;
+    private boolean running;
+
+    LoopTimer(GameLoop loop, double periodMillis, Runnable action) {
+        this.loop = loop;
+        this.action = action;
+        setPeriodMillis(periodMillis);
+    }
+
+    /** Start or resume the timer. */
+    public void play() {
+        if (running) return;
+        running = true;
+        loop.register(this);
+    }
+
+    /** Halt the timer, keeping its progress into the current period. */
+    public void pause() {
+        if (!running) return;
+        running = false;
+        loop.unregister(this);
+    }
+
+    /** Halt the timer and reset its progress. */
+    public void stop() {
+        pause();
+        phase = 0;
+    }
+
+    /** @return {@code true} between {@link #play()} and {@link #pause()}/{@link #stop()} */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /** @param rate speed multiplier; must be positive */
+    public void setRate(double rate) {
+        if (!(rate > 0)) throw new IllegalArgumentException("rate must be positive");
+        this.rate = rate;
+    }
+
+    /** @return current speed multiplier */
+    public double getRate() {
+        return rate;
+    }
+
+    /**
+     * Change the period. Progress into the current period is kept, so a
+     * shorter period may fire on the next step.
+     *
+     * @param periodMillis time between actions at rate 1; must be positive
+     */
+    public void setPeriodMillis(double periodMillis) {
+        if (!(periodMillis > 0)) throw new IllegalArgumentException("period must be positive");
+        this.periodNanos = Math.max(1L, Math.round(periodMillis * 1_000_000.0));
+    }
+
+    /** @return time between actions at rate 1, in milliseconds */
+    public double getPeriodMillis() {
+        return periodNanos / 1_000_000.0;
+    }
+
+    // called by the loop for every simulation step while running
+    void step(long stepNanos) {
+        // an earlier timer's action may have stopped this one during the step
+        if (!running) return;
+        phase += (rate == 1.0) ? stepNanos : Math.round(stepNanos * rate);
+        while (running && phase >= periodNanos) {
+            phase -= periodNanos;
+            action.run();
+        }
+    }
+}
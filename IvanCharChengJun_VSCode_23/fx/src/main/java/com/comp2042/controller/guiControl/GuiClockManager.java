@@ -0,0 +1,73 @@
+package com.comp2042.controller.guiControl;
+
+import com.comp2042.controller.gameLoop.GameLoop;
+import com.comp2042.controller.gameLoop.LoopTimer;
+
+/**
+ * Lightweight clock manager used by {@link GuiController} to track and display
+ * elapsed play time.
+ *
+ * <p>The clock is a one-second {@link LoopTimer} on the shared
+ * {@link GameLoop}, so it counts simulated play time rather than wall-clock
+ * time: pausing keeps the progress into the current second and resuming
+ * continues from it, and the displayed time never includes paused
+ * intervals.</p>
+ */
+class GuiClockManager {
+    private final GuiController owner;
+    private LoopTimer clock = null;
+    private long elapsedSeconds = 0;
+    private boolean started = false;
+
+    GuiClockManager(GuiController owner) {
+        this.owner = owner;
+    }
+
+    /** Start or resume the clock. Safe to call from the JavaFX thread. */
+    void startClock() {
+        if (clock == null) clock = GameLoop.shared().timer(1000, this::tick);
+        started = true;
+        clock.play();
+    }
+
+    /** Stop the running clock without resetting elapsed time. */
+    void stopClock() {
+        if (clock != null) clock.pause();
+    }
+
+    /** Reset the recorded time to zero and update the UI to show "00:00". */
+    void resetClock() {
+        elapsedSeconds = 0;
+        if (clock != null) {
+            boolean running = clock.isRunning();
+            clock.stop();
+            if (running) clock.play();
+        }
+        try { if (owner.timeValue != null) owner.timeValue.setText("00:00"); } catch (Exception ignored) {}
+    }
+
+    /** Update the controller's time label from the elapsed play time. */
+    void updateClock() {
+        if (!started) return;
+        long mins = elapsedSeconds / 60;
+        long secs = elapsedSeconds % 60;
+        if (owner.timeValue != null) {
+            try { owner.timeValue.setText(String.format("%02d:%02d", mins, secs)); } catch (Exception ignored) {}
+        }
+    }
+
+    /** Pause the clock, keeping the progress into the current second. */
+    void pauseAndRecord() {
+        if (clock != null) clock.pause();
+    }
+
+    /** @return whole seconds of play counted so far */
+    long getElapsedSeconds() {
+        return elapsedSeconds;
+    }
+
+    private void tick() {
+        elapsedSeconds++;
+        updateClock();
+    }
+}
@@ -2,8 +2,14 @@ package com.comp2042.controller.guiControl;
 
 import com.comp2042.audio.soundManager.SoundManager;
 import com.comp2042.controller.controls.ControlsController;
+import com.comp2042.controller.gameLoop.GameLoop;
+import com.comp2042.controller.gameLoop.LoopTimer;
 import com.comp2042.controller.gameOver.GameOverPanel;
-import com.comp2042.input.EventSource;
+import com.comp2042.diagnostics.GameSession;
+import com.comp2042.diagnostics.InputLatencyTracker;
+import com.comp2042.diagnostics.LatencyHistogram;
+import com.comp2042.diagnostics.jfr.GravityTickEvent;
+import com.comp2042.engine.GravityCurve;
 import com.comp2042.input.EventType;
 import com.comp2042.input.InputEventListener;
 import com.comp2042.input.MoveEvent;
@@ -13,8 +19,8 @@ import com.comp2042.model.ViewData;
 import com.comp2042.view.BoardView;
 import com.comp2042.view.NotificationPanel;
 import com.comp2042.view.ParticleHelper;
+import com.comp2042.view.ParticleSystem;
 
-import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.IntegerProperty;
@@ -33,7 +39,6 @@ import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.VBox;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Text;
-import javafx.util.Duration;
    
 import javafx.scene.layout.StackPane;
 import javafx.fxml.FXMLLoader;
@@ -63,8 +68,12 @@ import java.util.ResourceBundle;
 public class GuiController implements Initializable {
 
     private static final int BRICK_SIZE = 24;
-    private static final int DROP_INTERVAL_MS = 1000;
-    private int dropIntervalMs = DROP_INTERVAL_MS;
+    // gravity runs once per 60 Hz frame; the engine turns the level into rows
+    private static final double GRAVITY_FRAME_MS = 1000.0 / GravityCurve.FRAMES_PER_SECOND;
+    private String levelName = "";
+    private int level;
+    // engine board shown here; tags flight recorder events
+    private int boardId;
 
     @FXML protected GridPane gamePanel;
     @FXML protected BorderPane gameBoard;
@@ -94,8 +103,7 @@ public class GuiController implements Initializable {
     protected Rectangle[][] ghostRectangles;
     protected int[][] currentBoardMatrix;
     protected ViewData currentViewData;
-    protected Timeline timeLine;
-    protected Timeline clockTimeline;
+    protected LoopTimer timeLine;
     protected GuiClockManager clockManager;
     protected GuiHighScoreManager highScoreManager;
     protected double cellW = BRICK_SIZE;
@@ -105,6 +113,7 @@ public class GuiController implements Initializable {
     private boolean isMultiplayer = false;
     private boolean lastWasHardDrop = false;
     private boolean hardDropAllowed = true;
+    private boolean keyboardEnabled = true;
     private Runnable multiplayerRestartHandler = null;
     private Runnable multiplayerExitToMenuHandler = null;
     private java.util.function.Consumer<Boolean> multiplayerPauseHandler = null;
@@ -155,6 +164,10 @@ public class GuiController implements Initializable {
 
     // helper collaborators extracted to smaller classes
     private GuiInputHandler inputHandler;
+    private final InputLatencyTracker inputLatency = new InputLatencyTracker();
+    private final LatencyHistogram refreshTimes = new LatencyHistogram();
+    // JMX view of this game, registered while attached to a scene
+    private GameSession session;
 
     void togglePauseOverlay() {
         if (isGameOver.getValue() == Boolean.TRUE) return;
@@ -220,6 +233,7 @@ public class GuiController implements Initializable {
     // pause timelines and record pausedElapsedMs
     void pauseTimelinesInternal() {
         if (timeLine != null) timeLine.pause();
+        try { if (inputHandler != null) inputHandler.resetHandling(); } catch (Exception ignored) {}
         try { if (clockManager != null) clockManager.pauseAndRecord(); } catch (Exception ignored) {}
     }
 
@@ -285,29 +299,25 @@ public class GuiController implements Initializable {
             
             // stop timelines
             try { if (timeLine != null) timeLine.stop(); } catch (Exception ignored) {}
-            try { if (clockTimeline != null) clockTimeline.stop(); } catch (Exception ignored) {}
+            try { if (clockManager != null) clockManager.stopClock(); } catch (Exception ignored) {}
             // stop music (background + any one-shot game-over tune) and any countdown audio
             try { stopSingleplayerMusic(); } catch (Exception ignored) {}
             try { stopGameOverMusic(); } catch (Exception ignored) {}
             try { stopCountdownMusic(); } catch (Exception ignored) {}
             // detach handlers and allow subclasses to remove filters
             try { detachSceneKeyHandlers(); } catch (Exception ignored) {}
+            try { unregisterSession(); } catch (Exception ignored) {}
             
         } catch (Exception ignored) {}
     }
 
     public void initGameView(int[][] boardMatrix, ViewData brick) {
         if (boardView == null) boardView = new BoardView(gamePanel, brickPanel, ghostPanel, bgCanvas);
+        boardView.setBoardId(boardId);
         boardView.initGameView(boardMatrix, brick);
 
-        timeLine = new Timeline(new KeyFrame(
-            Duration.millis(dropIntervalMs),
-            ae -> {
-                ae.consume();
-                moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD));
-            }
-        ));
-        timeLine.setCycleCount(Timeline.INDEFINITE);
+        if (timeLine != null) timeLine.stop();
+        timeLine = GameLoop.shared().timer(GRAVITY_FRAME_MS, this::gravityTick);
         javafx.application.Platform.runLater(() -> updateGhost(brick, boardMatrix));
     }
 
@@ -362,27 +372,6 @@ public class GuiController implements Initializable {
         return isGameOver;
     }
 
-    public void setDropIntervalMs(int ms) {
-        if (ms <= 0) return;
-        this.dropIntervalMs = ms;
-        try {
-            boolean running = false;
-            if (timeLine != null) {
-                running = timeLine.getStatus() == Timeline.Status.RUNNING;
-                timeLine.stop();
-            }
-            timeLine = new Timeline(new KeyFrame(
-                    Duration.millis(dropIntervalMs),
-                    ae -> {
-                        ae.consume();
-                        moveDown(new MoveEvent(EventType.DOWN, EventSource.THREAD));
-                    }
-            ));
-            timeLine.setCycleCount(Timeline.INDEFINITE);
-            if (running) timeLine.play();
-        } catch (Exception ignored) {}
-    }
-
     private void updateGhost(ViewData brick, int[][] boardMatrix) {
         GuiRenderingHelpers.updateGhost(this, brick, boardMatrix);
     }
@@ -414,7 +403,12 @@ public class GuiController implements Initializable {
 
     
     public void refreshGameBackground(int[][] board) {
-        if (boardView != null) { boardView.refreshGameBackground(board); return; }
+        if (boardView != null) {
+            long start = System.nanoTime();
+            boardView.refreshGameBackground(board);
+            refreshTimes.record(System.nanoTime() - start);
+            return;
+        }
         this.currentBoardMatrix = board;
         for (int i = 2; i < board.length; i++) {
             for (int j = 0; j < board[i].length; j++) {
@@ -423,6 +417,20 @@ public class GuiController implements Initializable {
         }
     }
 
+    /**
+     * Repaint only {@code rows} of the board background; the other rows are
+     * unchanged since the previous refresh.
+     */
+    public void refreshGameBackground(int[][] board, java.util.BitSet rows) {
+        if (boardView == null) {
+            refreshGameBackground(board);
+            return;
+        }
+        long start = System.nanoTime();
+        boardView.refreshGameBackground(board, rows);
+        refreshTimes.record(System.nanoTime() - start);
+    }
+
     private void setRectangleData(int color, Rectangle rectangle) {
         GuiRenderingHelpers.setRectangleData(this, color, rectangle);
     }
@@ -469,28 +477,71 @@ public class GuiController implements Initializable {
 
         if (isPause.getValue() == Boolean.FALSE) {
             ViewData startViewForEffect = this.currentViewData;
-            DownData downData = eventListener.onDownEvent(event);
-            if (downData.getClearRow() != null && downData.getClearRow().getLinesRemoved() > 0) {
-                NotificationPanel notificationPanel = new NotificationPanel("+" + downData.getClearRow().getScoreBonus());
-                groupNotification.getChildren().add(notificationPanel);
-                notificationPanel.showScore(groupNotification.getChildren());
+            showDownData(startViewForEffect, eventListener.onDownEvent(event));
+        }
+        gamePanel.requestFocus();
+    }
+
+    // one gravity frame: the engine may move the piece several rows or lock
+    // it after its lock delay; frames where nothing changed touch no nodes
+    private void gravityTick() {
+        try {
+            if (Boolean.TRUE.equals(isGameOver.getValue())) {
+                try { if (timeLine != null) timeLine.stop(); } catch (Exception ignored) {}
+                return;
             }
-            refreshBrick(downData.getViewData());
-                if (downData.getClearRow() != null) {
-                    try {
-                        if (lastWasHardDrop) {
-                            try { playHardDropSound(); } catch (Exception ignored) {}
-                            playLockEffect(startViewForEffect, downData.getViewData(), false);
-                        }
-                    } catch (Exception ignored) {}
-                    // reset after using
-                    lastWasHardDrop = false;
-                    if (downData.getClearRow().getLinesRemoved() > 0) {
-                        try { spawnExplosion(downData.getClearRow(), downData.getViewData()); } catch (Exception ignored) {}
+        } catch (Exception ignored) {}
+        GravityTickEvent tickEvent = new GravityTickEvent();
+        tickEvent.begin();
+        boolean stepped = false;
+        ViewData startViewForEffect = null;
+        DownData downData = null;
+        try {
+            // held keys are sampled before gravity, as the frame's input; a
+            // paused frame still samples so held keys are forgotten
+            try { if (inputHandler != null) inputHandler.sampleHandling(); } catch (Exception ignored) {}
+            if (isPause.getValue() != Boolean.FALSE || eventListener == null) return;
+            stepped = true;
+            startViewForEffect = this.currentViewData;
+            downData = eventListener.onGravityTick(GravityCurve.FRAME_NANOS);
+            if (downData != null) showDownData(startViewForEffect, downData);
+        } finally {
+            // every event begun is ended; only frames that ran gravity are recorded
+            tickEvent.end();
+            if (stepped && tickEvent.shouldCommit()) {
+                tickEvent.boardId = boardId;
+                tickEvent.level = level;
+                if (downData != null) {
+                    tickEvent.locked = downData.getClearRow() != null;
+                    if (!tickEvent.locked && startViewForEffect != null && downData.getViewData() != null) {
+                        tickEvent.rowsDropped = downData.getViewData().getyPosition() - startViewForEffect.getyPosition();
                     }
                 }
+                tickEvent.commit();
+            }
+        }
+    }
+
+    private void showDownData(ViewData startViewForEffect, DownData downData) {
+        if (downData.getClearRow() != null && downData.getClearRow().getLinesRemoved() > 0) {
+            NotificationPanel notificationPanel = new NotificationPanel("+" + downData.getClearRow().getScoreBonus());
+            groupNotification.getChildren().add(notificationPanel);
+            notificationPanel.showScore(groupNotification.getChildren());
+        }
+        refreshBrick(downData.getViewData());
+        if (downData.getClearRow() != null) {
+            try {
+                if (lastWasHardDrop) {
+                    try { playHardDropSound(); } catch (Exception ignored) {}
+                    playLockEffect(startViewForEffect, downData.getViewData(), false);
+                }
+            } catch (Exception ignored) {}
+            // reset after using
+            lastWasHardDrop = false;
+            if (downData.getClearRow().getLinesRemoved() > 0) {
+                try { spawnExplosion(downData.getClearRow(), downData.getViewData()); } catch (Exception ignored) {}
+            }
         }
-        gamePanel.requestFocus();
     }
 
     /**
@@ -556,6 +607,107 @@ public class GuiController implements Initializable {
         }
     }
 
+    /**
+     * @return key-press-to-screen latency histograms of this view
+     */
+    public InputLatencyTracker getInputLatency() {
+        return inputLatency;
+    }
+
+    /**
+     * @return time spent refreshing the board background, per refresh
+     */
+    public LatencyHistogram getRefreshTimes() {
+        return refreshTimes;
+    }
+
+    /**
+     * Set the id of the engine board this view shows (see
+     * {@link com.comp2042.engine.GameEngine#getBoardId()}).
+     */
+    public void setBoardId(int boardId) {
+        this.boardId = boardId;
+        if (boardView != null) boardView.setBoardId(boardId);
+    }
+
+    public int getBoardId() {
+        return boardId;
+    }
+
+    /**
+     * Give this view the JMX session of the game it shows. The session is
+     * registered while the view is attached to a scene.
+     */
+    public void setSession(GameSession session) {
+        unregisterSession();
+        this.session = session;
+        if (attachedScene != null) registerSession();
+    }
+
+    public GameSession getSession() {
+        return session;
+    }
+
+    void registerSession() {
+        if (session != null) session.register();
+    }
+
+    void unregisterSession() {
+        if (session != null) session.unregister();
+    }
+
+    /**
+     * @return live particles plus effect nodes in the particle layer
+     */
+    public int getParticleCount() {
+        return ParticleSystem.count(particlePane);
+    }
+
+    /**
+     * @return nodes currently in the notification group
+     */
+    public int getNotificationCount() {
+        return (groupNotification != null) ? groupNotification.getChildren().size() : 0;
+    }
+
+    /**
+     * @return status of the gravity timer: {@code RUNNING}, {@code PAUSED}
+     *         (pause overlay shown), {@code STOPPED} or {@code NONE}
+     */
+    public String getTimelineStatus() {
+        if (timeLine == null) return "NONE";
+        if (timeLine.isRunning()) return "RUNNING";
+        return isPauseOverlayVisible ? "PAUSED" : "STOPPED";
+    }
+
+    /**
+     * @return {@code true} while the pause overlay is shown
+     */
+    public boolean isPaused() {
+        return isPauseOverlayVisible;
+    }
+
+    /**
+     * Show or hide the pause overlay as if the player pressed ESC. Does
+     * nothing when already in the requested state or after game over.
+     */
+    public void setPaused(boolean paused) {
+        if (paused == isPauseOverlayVisible) return;
+        try { togglePauseOverlay(); } catch (Exception ignored) {}
+    }
+
+    /**
+     * Apply the player's handling settings (see the Handling screen).
+     *
+     * @param arrMs auto-repeat interval; {@code 0} shifts straight to the wall
+     * @param dasMs delay before auto-repeat starts
+     * @param dcdMs auto-shift pause after a rotation or hard drop
+     * @param sdf   soft-drop factor
+     */
+    public void setHandling(int arrMs, int dasMs, int dcdMs, double sdf) {
+        try { if (inputHandler != null) inputHandler.configureHandling(arrMs, dasMs, dcdMs, sdf); } catch (Exception ignored) {}
+    }
+
     public void setHardDropEnabled(boolean enabled) {
         this.hardDropAllowed = enabled;
     }
@@ -563,7 +715,7 @@ public class GuiController implements Initializable {
     protected boolean shouldStartSingleplayerMusic() { return !isMultiplayer; }
 
     boolean isMultiplayerMode() { return this.isMultiplayer; }
-    String getMultiplayerPlayerId() { return this.multiplayerPlayerId; }
+    public String getMultiplayerPlayerId() { return this.multiplayerPlayerId; }
 
     void setLastWasHardDrop(boolean v) { this.lastWasHardDrop = v; }
     boolean isLastWasHardDrop() { return this.lastWasHardDrop; }
@@ -579,6 +731,44 @@ public class GuiController implements Initializable {
 
     public boolean isHardDropAllowed() { return this.hardDropAllowed; }
 
+    /**
+     * Turn the movement keys for this board on or off; a CPU-controlled
+     * board ignores them. Pause and new-game keys keep working.
+     */
+    public void setKeyboardEnabled(boolean enabled) { this.keyboardEnabled = enabled; }
+    boolean isKeyboardEnabled() { return this.keyboardEnabled; }
+
+    /**
+     * @return {@code true} while the game takes moves: not paused, not
+     *         counting down and not over
+     */
+    public boolean isAcceptingInput() {
+        return inputHandler != null && inputHandler.acceptsInput();
+    }
+
+    /**
+     * Apply one move for a player that is not on the keyboard (a CPU), with
+     * the same checks and view updates as the matching key press. Ignored
+     * while {@link #isAcceptingInput()} is {@code false}.
+     *
+     * @param type move to apply; {@code DOWN} moves a single row
+     */
+    public void applyInput(EventType type) {
+        try { if (inputHandler != null && type != null) inputHandler.applyMove(type); } catch (Exception ignored) {}
+    }
+
+    /**
+     * Hard drop for a player that is not on the keyboard; ignored when hard
+     * drop is disabled in the handling settings, exactly as the key is.
+     */
+    public void applyHardDrop() {
+        try {
+            if (inputHandler == null || !hardDropAllowed) return;
+            setLastWasHardDrop(true);
+            inputHandler.hardDrop();
+        } catch (Exception ignored) {}
+    }
+
     public void applyExternalPause(boolean paused) {
         if (paused == isPauseOverlayVisible) return;
         try {
@@ -729,9 +919,23 @@ public class GuiController implements Initializable {
     }
 
     public void setLevelText(String text) {
-        if (levelValue != null) {
-            javafx.application.Platform.runLater(() -> levelValue.setText(text));
-        }
+        this.levelName = (text != null) ? text : "";
+        showLevelText();
+    }
+
+    /**
+     * Show the current gravity level next to the mode name set with
+     * {@link #setLevelText(String)}.
+     */
+    public void setLevel(int level) {
+        this.level = level;
+        showLevelText();
+    }
+
+    private void showLevelText() {
+        if (levelValue == null) return;
+        String text = (level > 0) ? (levelName.isEmpty() ? "Lv " + level : levelName + " Lv " + level) : levelName;
+        javafx.application.Platform.runLater(() -> levelValue.setText(text));
     }
 
     private void stopSingleplayerMusic() {
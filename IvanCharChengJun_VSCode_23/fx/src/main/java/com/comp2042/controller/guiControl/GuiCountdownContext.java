@@ -5,7 +5,7 @@ import javafx.scene.Group;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.GridPane;
-import javafx.animation.Timeline;
+import com.comp2042.controller.gameLoop.LoopTimer;
 
 import com.comp2042.model.ViewData;
 
@@ -24,7 +24,7 @@ public class GuiCountdownContext {
     public Pane brickPanel;
     public Pane ghostPanel;
     public Group groupNotification;
-    public Timeline timeLine;
+    public LoopTimer timeLine;
     /** Runnable to reset the internal clock display. */
     public Runnable resetClock;
     /** Runnable to start the internal clock. */
@@ -1,5 +1,7 @@
 package com.comp2042.controller.guiControl;
 
+import com.comp2042.diagnostics.jfr.SceneSwitchEvent;
+
 import javafx.scene.Scene;
 import javafx.scene.layout.StackPane;
 import javafx.fxml.FXMLLoader;
@@ -78,6 +80,7 @@ public final class GuiGameOverController {
                 try { controller.runMultiplayerExitToMenuHandler(); } catch (Exception ignored) {}
                 return;
             }
+            SceneSwitchEvent switchEvent = SceneSwitchEvent.start("Main Menu");
             try { controller.detachSceneKeyHandlersInternal(); } catch (Exception ignored) {}
             try { controller.stopSingleplayerMusicInternal(); } catch (Exception ignored) {}
             URL loc = controller.getClass().getClassLoader().getResource("mainMenu.fxml");
@@ -99,6 +102,7 @@ public final class GuiGameOverController {
                 } catch (Exception ignored) {}
                 stage.setScene(s2);
             }
+            switchEvent.commit();
         } catch (Exception ex) { ex.printStackTrace(); }
     }
 }
@@ -17,6 +17,8 @@ import javafx.scene.shape.Rectangle;
 import javafx.scene.layout.HBox;
 import javafx.scene.control.Button;
 
+import com.comp2042.view.EffectsGovernor;
+
 /**
  * Small UI helper that provides game-over title, pulse animation and subtitle builder.
  */
@@ -49,7 +51,9 @@ public final class GuiGameOverUI {
             glow.setColor(javafx.scene.paint.Color.web("#ffd166"));
             glow.setRadius(10);
             glow.setSpread(0.45);
-            title.setEffect(glow);
+            // the glow is skipped at low effects quality; the title still pulses
+            boolean shadows = EffectsGovernor.shared().getQuality().isShadows();
+            if (shadows) title.setEffect(glow);
 
             ScaleTransition scalePulse = new ScaleTransition(javafx.util.Duration.millis(900), title);
             scalePulse.setFromX(1.0); scalePulse.setFromY(1.0);
@@ -71,7 +75,9 @@ public final class GuiGameOverUI {
             );
             colorPulse.setCycleCount(javafx.animation.Animation.INDEFINITE);
 
-            ParallelTransition combined = new ParallelTransition(scalePulse, glowTimeline, colorPulse);
+            ParallelTransition combined = shadows
+                    ? new ParallelTransition(scalePulse, glowTimeline, colorPulse)
+                    : new ParallelTransition(scalePulse, colorPulse);
             combined.setCycleCount(javafx.animation.Animation.INDEFINITE);
             combined.play();
             return combined;
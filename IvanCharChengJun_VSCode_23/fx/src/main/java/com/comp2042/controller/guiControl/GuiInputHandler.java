@@ -0,0 +1,351 @@
+package com.comp2042.controller.guiControl;
+
+import com.comp2042.diagnostics.InputLatencyTracker;
+import com.comp2042.diagnostics.jfr.InputHandledEvent;
+import com.comp2042.input.EventSource;
+import com.comp2042.input.EventType;
+import com.comp2042.input.HandlingEngine;
+import com.comp2042.input.MoveEvent;
+import com.comp2042.model.DownData;
+import com.comp2042.model.ViewData;
+import com.comp2042.view.NotificationPanel;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
+import javafx.scene.Scene;
+
+/**
+ * Extracted input handling (key press/release and hard-drop logic) for GuiController.
+ *
+ * <p>Shift and soft-drop keys go through a {@link HandlingEngine}: the
+ * handler records press and release times, and the controller samples the
+ * engine once per frame via {@link #sampleHandling()}, so auto-repeat
+ * follows the DAS/ARR/DCD/SDF settings instead of the OS key-repeat.</p>
+ */
+class GuiInputHandler {
+    private final GuiController owner;
+    private final HandlingEngine handling;
+    // time of the key press being processed; moves issued while it is set carry it
+    private long pressStamp;
+    private javafx.event.EventHandler<KeyEvent> pressHandler;
+    private javafx.event.EventHandler<KeyEvent> releaseHandler;
+    private javafx.event.EventHandler<KeyEvent> escHandler;
+
+    GuiInputHandler(GuiController owner) {
+        this.owner = owner;
+        this.handling = new HandlingEngine(new HandlingEngine.Actions() {
+            @Override
+            public void shift(int direction, int cells) {
+                EventType type = (direction < 0) ? EventType.LEFT : EventType.RIGHT;
+                if (cells == 1) applyMove(type, pressStamp);
+                else applyRepeat(type, cells, pressStamp);
+            }
+
+            @Override
+            public void softDrop(int rows) {
+                applyRepeat(EventType.DOWN, rows, pressStamp);
+            }
+        });
+    }
+
+    /**
+     * Apply the player's handling settings.
+     *
+     * @see HandlingEngine#configure(int, int, int, double)
+     */
+    void configureHandling(int arrMs, int dasMs, int dcdMs, double sdf) {
+        handling.configure(arrMs, dasMs, dcdMs, sdf);
+    }
+
+    /**
+     * Issue the auto-repeats due this frame. Held keys are forgotten while
+     * input is not accepted, so a key held through a pause or countdown does
+     * not fire a burst of repeats afterwards.
+     */
+    void sampleHandling() {
+        if (acceptsInput() && owner.isKeyboardEnabled()) handling.update(System.nanoTime());
+        else handling.reset();
+    }
+
+    /** Forget held keys, e.g. when the game pauses. */
+    void resetHandling() {
+        handling.reset();
+    }
+    /**
+     * Attach key handlers to the provided scene and record the attached scene on the controller.
+     *
+     * <p>Handlers include press/release processing and an ESC handler which
+     * toggles the pause overlay (F3 toggles the performance HUD).</p>
+     */
+    void attachToScene(Scene s) {
+        if (s == null) return;
+        try {
+            this.pressHandler = (KeyEvent keyEvent) -> { this.processKeyPressed(keyEvent); };
+            this.releaseHandler = (KeyEvent keyEvent) -> { this.processKeyReleased(keyEvent); };
+            this.escHandler = (KeyEvent e) -> {
+                if (e.getCode() == KeyCode.ESCAPE) {
+                    try { owner.togglePauseOverlay(); } catch (Exception ignored) {}
+                    e.consume();
+                } else if (e.getCode() == KeyCode.F3) {
+                    GuiOverlays.togglePerfHud(owner, e);
+                    e.consume();
+                }
+            };
+
+            s.addEventFilter(KeyEvent.KEY_PRESSED, this.pressHandler);
+            s.addEventFilter(KeyEvent.KEY_RELEASED, this.releaseHandler);
+            s.addEventFilter(KeyEvent.KEY_PRESSED, this.escHandler);
+            owner.attachedScene = s;
+            owner.getInputLatency().attach(s);
+            owner.registerSession();
+        } catch (Exception ignored) {}
+    }
+
+    /**
+     * Remove previously attached handlers from the scene.
+     */
+    void detachFromScene(Scene s) {
+        if (s == null) return;
+        try {
+            if (this.pressHandler != null) s.removeEventFilter(KeyEvent.KEY_PRESSED, this.pressHandler);
+            if (this.releaseHandler != null) s.removeEventFilter(KeyEvent.KEY_RELEASED, this.releaseHandler);
+            if (this.escHandler != null) s.removeEventFilter(KeyEvent.KEY_PRESSED, this.escHandler);
+            if (owner.attachedScene == s) owner.attachedScene = null;
+            owner.getInputLatency().detach();
+            owner.unregisterSession();
+        } catch (Exception ignored) {}
+    }
+
+    /**
+     * Ensure the handlers are attached to the current gamePanel scene, and watch for scene changes.
+     */
+    void setupSceneKeyHandlers() {
+        javafx.application.Platform.runLater(() -> {
+            try {
+                if (owner.gamePanel != null && owner.gamePanel.getScene() != null) {
+                    Scene s = owner.gamePanel.getScene();
+                    attachToScene(s);
+                } else if (owner.gamePanel != null) {
+                    owner.gamePanel.sceneProperty().addListener(new javafx.beans.value.ChangeListener<>() {
+                        @Override
+                        public void changed(javafx.beans.value.ObservableValue<? extends javafx.scene.Scene> observable, javafx.scene.Scene oldScene, javafx.scene.Scene newScene) {
+                            try {
+                                if (oldScene != null) {
+                                    detachFromScene(oldScene);
+                                }
+                                if (newScene != null) {
+                                    attachToScene(newScene);
+                                }
+                            } catch (Exception ignored) {}
+                        }
+                    });
+                }
+            } catch (Exception ignored) {}
+        });
+    }
+
+    /**
+     * Handle key-press events and map them to game input actions via the
+     * controller's {@code eventListener}. This method implements default
+     * key bindings and honours any custom key assignments stored on the
+     * {@link GuiController} instance.
+     */
+    void processKeyPressed(KeyEvent keyEvent) {
+        try { if (this.owner instanceof com.comp2042.controller.cooperateBattle.coopGUI.CoopGuiController) return; } catch (Exception ignored) {}
+
+        try {
+            if (owner.isKeyboardEnabled() && acceptsInput()) {
+                InputHandledEvent inputEvent = new InputHandledEvent();
+                inputEvent.begin();
+                KeyCode code = keyEvent.getCode();
+                boolean handled = false;
+                pressStamp = System.nanoTime();
+
+                if (isLeftKey(code)) {
+                    handling.press(HandlingEngine.LEFT, pressStamp);
+                    handled = true;
+                } else if (isRightKey(code)) {
+                    handling.press(HandlingEngine.RIGHT, pressStamp);
+                    handled = true;
+                } else if ((owner.ctrlRotate != null && code == owner.ctrlRotate) || (owner.ctrlRotate == null && (code == KeyCode.UP || code == KeyCode.W))) {
+                    applyMove(EventType.ROTATE, pressStamp);
+                    handling.cut(pressStamp);
+                    handled = true;
+                } else if (isSoftDropKey(code)) {
+                    handling.press(HandlingEngine.SOFT_DROP, pressStamp);
+                    handled = true;
+                } else if ((owner.ctrlHardDrop != null && code == owner.ctrlHardDrop) || (owner.ctrlHardDrop == null && (code == KeyCode.SPACE || code == KeyCode.SHIFT))) {
+                    if (owner.isHardDropAllowed()) {
+                        owner.setLastWasHardDrop(true);
+                        hardDrop(pressStamp);
+                        handling.cut(pressStamp);
+                        handled = true;
+                    }
+                }
+
+                if (!handled && owner.ctrlSwap != null && code == owner.ctrlSwap) {
+                    try {
+                        if (owner.eventListener != null) {
+                            owner.eventListener.onSwapEvent();
+                            owner.getInputLatency().refreshed(InputLatencyTracker.Action.SWAP, pressStamp);
+                        }
+                    } catch (Exception ignored) {}
+                    handled = true;
+                }
+
+                if (handled) {
+                    keyEvent.consume();
+                    inputEvent.end();
+                    if (inputEvent.shouldCommit()) {
+                        inputEvent.boardId = owner.getBoardId();
+                        inputEvent.key = code.getName();
+                        inputEvent.commit();
+                    }
+                }
+            }
+        } catch (Exception ignored) {
+        } finally {
+            pressStamp = 0L;
+        }
+
+        if (keyEvent.getCode() == KeyCode.N) {
+            owner.newGame(null);
+        }
+    }
+
+    /**
+     * @return {@code true} while moves are accepted: the game is neither
+     *         paused (including the start countdown) nor over
+     */
+    boolean acceptsInput() {
+        return Boolean.FALSE.equals(owner.isPause.getValue()) && Boolean.FALSE.equals(owner.isGameOver.getValue())
+                && owner.eventListener != null;
+    }
+
+    /**
+     * Apply one move as the user and refresh the view. A soft drop moves a
+     * single row; held keys repeat through the handling engine.
+     */
+    void applyMove(EventType type) {
+        applyMove(type, 0L);
+    }
+
+    // stamp: System.nanoTime() of the key press, or 0 for untraced moves
+    private void applyMove(EventType type, long stamp) {
+        if (!acceptsInput()) return;
+        MoveEvent event = new MoveEvent(type, EventSource.USER, stamp);
+        ViewData before = owner.currentViewData;
+        ViewData v;
+        switch (type) {
+            case LEFT:
+                v = owner.eventListener.onLeftEvent(event);
+                owner.refreshBrick(v);
+                if (moved(before, v)) traceRefreshed(InputLatencyTracker.Action.LEFT, event);
+                break;
+            case RIGHT:
+                v = owner.eventListener.onRightEvent(event);
+                owner.refreshBrick(v);
+                if (moved(before, v)) traceRefreshed(InputLatencyTracker.Action.RIGHT, event);
+                break;
+            case ROTATE:
+                v = owner.eventListener.onRotateEvent(event);
+                owner.refreshBrick(v);
+                if (moved(before, v)) traceRefreshed(InputLatencyTracker.Action.ROTATE, event);
+                break;
+            default:
+                owner.moveDown(event);
+                traceRefreshed(InputLatencyTracker.Action.SOFT_DROP, event);
+                break;
+        }
+    }
+
+    // a blocked shift or rotation returns the piece where it was; nothing new is shown
+    private static boolean moved(ViewData before, ViewData after) {
+        if (after == null) return false;
+        return before == null || before.getxPosition() != after.getxPosition()
+                || before.getyPosition() != after.getyPosition() || before.getRotation() != after.getRotation();
+    }
+
+    private void traceRefreshed(InputLatencyTracker.Action action, MoveEvent event) {
+        if (event.isStamped()) owner.getInputLatency().refreshed(action, event.getTimestampNanos());
+    }
+
+    // several cells in one engine step; the view is only touched on a move
+    private void applyRepeat(EventType type, int cells, long stamp) {
+        if (!acceptsInput()) return;
+        MoveEvent event = new MoveEvent(type, EventSource.USER, stamp);
+        ViewData v = owner.eventListener.onRepeatEvent(event, cells);
+        if (v != null) {
+            owner.refreshBrick(v);
+            InputLatencyTracker.Action action = (type == EventType.LEFT) ? InputLatencyTracker.Action.LEFT
+                    : (type == EventType.RIGHT) ? InputLatencyTracker.Action.RIGHT : InputLatencyTracker.Action.SOFT_DROP;
+            traceRefreshed(action, event);
+        }
+    }
+
+    /**
+     * Handle key-release events: shift and soft-drop keys stop repeating.
+     */
+    void processKeyReleased(KeyEvent keyEvent) {
+        try { if (this.owner instanceof com.comp2042.controller.cooperateBattle.coopGUI.CoopGuiController) return; } catch (Exception ignored) {}
+        KeyCode code = keyEvent.getCode();
+        int key = 0;
+        if (isLeftKey(code)) key = HandlingEngine.LEFT;
+        else if (isRightKey(code)) key = HandlingEngine.RIGHT;
+        else if (isSoftDropKey(code)) key = HandlingEngine.SOFT_DROP;
+        if (key != 0) {
+            handling.release(key, System.nanoTime());
+            keyEvent.consume();
+        }
+    }
+
+    private boolean isLeftKey(KeyCode code) {
+        return (owner.ctrlMoveLeft != null && code == owner.ctrlMoveLeft) || (owner.ctrlMoveLeft == null && (code == KeyCode.LEFT || code == KeyCode.A));
+    }
+
+    private boolean isRightKey(KeyCode code) {
+        return (owner.ctrlMoveRight != null && code == owner.ctrlMoveRight) || (owner.ctrlMoveRight == null && (code == KeyCode.RIGHT || code == KeyCode.D));
+    }
+
+    private boolean isSoftDropKey(KeyCode code) {
+        return (owner.ctrlSoftDrop != null && code == owner.ctrlSoftDrop) || (owner.ctrlSoftDrop == null && (code == KeyCode.DOWN || code == KeyCode.S));
+    }
+
+    /**
+     * Execute a hard-drop: the listener drops and locks the piece in one
+     * step, then the single result is rendered and effects are played.
+     */
+    void hardDrop() {
+        hardDrop(0L);
+    }
+
+    private void hardDrop(long stamp) {
+        try {
+            if (Boolean.FALSE.equals(owner.isPause.getValue()) && Boolean.FALSE.equals(owner.isGameOver.getValue()) && owner.eventListener != null) {
+                if (owner.timeLine != null) owner.timeLine.pause();
+                ViewData startViewForEffect = owner.currentViewData;
+                MoveEvent event = new MoveEvent(EventType.DOWN, EventSource.USER, stamp);
+                DownData d = owner.eventListener.onHardDropEvent(event);
+                if (d != null) {
+                    if (d.getClearRow() != null && d.getClearRow().getLinesRemoved() > 0) {
+                        NotificationPanel notificationPanel = new NotificationPanel("+" + d.getClearRow().getScoreBonus());
+                        owner.groupNotification.getChildren().add(notificationPanel);
+                        notificationPanel.showScore(owner.groupNotification.getChildren());
+                    }
+                    owner.refreshBrick(d.getViewData());
+                    traceRefreshed(InputLatencyTracker.Action.HARD_DROP, event);
+                    try {
+                        if (owner.isLastWasHardDrop()) {
+                            try { owner.playHardDropSound(); } catch (Exception ignored) {}
+                            owner.playLockEffect(startViewForEffect, d.getViewData(), true);
+                        }
+                    } catch (Exception ignored) {}
+                    owner.setLastWasHardDrop(false);
+                    if (d.getClearRow() != null && d.getClearRow().getLinesRemoved() > 0) {
+                        try { owner.spawnExplosion(d.getClearRow(), d.getViewData()); } catch (Exception ignored) {}
+                    }
+                }
+                if (owner.timeLine != null) owner.timeLine.play();
+            }
+        } catch (Exception ignored) {}
+    }
+}
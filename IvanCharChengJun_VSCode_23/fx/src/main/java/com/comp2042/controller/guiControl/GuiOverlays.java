@@ -1,6 +1,7 @@
 package com.comp2042.controller.guiControl;
 
 import com.comp2042.controller.controls.ControlsController;
+import com.comp2042.diagnostics.PerfHud;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
@@ -18,7 +19,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 /**
- * UI builders for pause and controls overlays extracted from GuiController.
+ * UI builders for pause, controls and performance HUD overlays extracted from GuiController.
  */
 public final class GuiOverlays {
 
@@ -312,4 +313,34 @@ public final class GuiOverlays {
             try { hidePauseOverlay(controller, null); } catch (Exception ignored) {}
         }
     }
+
+    /**
+     * Show or hide the performance HUD in the top-left corner of the scene
+     * root. Boards sharing a scene all see the same key press, so a press
+     * that already toggled the HUD is ignored.
+     *
+     * @param trigger the key event that asked for the toggle (may be {@code null})
+     */
+    public static void togglePerfHud(GuiController controller, Object trigger) {
+        if (controller == null) return;
+        try {
+            Scene scene = (controller.gameBoard != null) ? controller.gameBoard.getScene() : null;
+            if (scene == null || !(scene.getRoot() instanceof javafx.scene.layout.Pane)) return;
+            if (trigger != null && scene.getProperties().get(PerfHud.ID) == trigger) return;
+            scene.getProperties().put(PerfHud.ID, trigger);
+
+            javafx.scene.layout.Pane root = (javafx.scene.layout.Pane) scene.getRoot();
+            for (Node n : new ArrayList<>(root.getChildren())) {
+                if (n instanceof PerfHud) {
+                    ((PerfHud) n).stop();
+                    root.getChildren().remove(n);
+                    return;
+                }
+            }
+            PerfHud hud = new PerfHud();
+            if (root instanceof StackPane) StackPane.setAlignment(hud, Pos.TOP_LEFT);
+            root.getChildren().add(hud);
+            hud.start(scene, controller.particlePane);
+        } catch (Exception ignored) {}
+    }
 }
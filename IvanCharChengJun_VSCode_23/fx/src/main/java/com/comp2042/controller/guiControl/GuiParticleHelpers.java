@@ -132,7 +132,7 @@ public class GuiParticleHelpers {
                     try { controller.gameBoard.setTranslateX(0); } catch (Exception ignored) {}
                 }
             }));
-            t.play();
+            com.comp2042.diagnostics.AnimationCounter.track(t).play();
         } catch (Exception ignored) {}
     }
 }
@@ -1,7 +1,6 @@
 package com.comp2042.controller.guiControl;
 
 import com.comp2042.model.ViewData;
-import com.comp2042.utils.MatrixOperations;
 import com.comp2042.view.BoardView;
 import javafx.geometry.Point2D;
 import javafx.scene.shape.Rectangle;
@@ -26,21 +25,10 @@ class GuiRenderingHelpers {
         if (brick == null || boardMatrix == null) return;
         int startX = brick.getxPosition();
         int startY = brick.getyPosition();
-        int[][] shape = brick.getBrickData();
-        int landingY = startY;
-        int effectiveBrickHeight = shape.length;
-        for (int i = shape.length - 1; i >= 0; i--) {
-            boolean rowHas = false;
-            for (int j = 0; j < shape[i].length; j++) {
-                if (shape[i][j] != 0) { rowHas = true; break; }
-            }
-            if (rowHas) { effectiveBrickHeight = i + 1; break; }
-        }
-        int maxY = boardMatrix.length - effectiveBrickHeight;
-        for (int y = startY; y <= maxY; y++) {
-            boolean conflict = MatrixOperations.intersectForGhost(boardMatrix, shape, startX, y);
-            if (conflict) { landingY = y - 1; break; }
-            if (y == maxY) landingY = y;
+        int[][] shape = BoardView.shapeOf(brick);
+        int landingY = brick.getLandingY();
+        if (landingY == ViewData.NO_LANDING_Y) {
+            landingY = BoardView.computeLandingY(startX, startY, shape, boardMatrix, BoardView.effectiveHeightOf(brick, shape));
         }
 
         Point2D pt = boardToPixel(owner, startX, landingY - 2);
@@ -97,7 +85,7 @@ class GuiRenderingHelpers {
             owner.brickPanel.setTranslateY(Math.round(pt.getY()));
         }
 
-        int[][] data = brick.getBrickData();
+        int[][] data = BoardView.shapeOf(brick);
         for (int i = 0; i < data.length; i++) {
             for (int j = 0; j < data[i].length; j++) {
                 Rectangle r = owner.rectangles[i][j];
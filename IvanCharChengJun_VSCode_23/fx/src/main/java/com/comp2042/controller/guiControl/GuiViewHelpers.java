@@ -1,6 +1,7 @@
 package com.comp2042.controller.guiControl;
 
 import com.comp2042.logic.Brick;
+import com.comp2042.logic.PieceTable;
 import com.comp2042.view.BoardView;
 import javafx.geometry.Pos;
 
@@ -32,7 +33,9 @@ public class GuiViewHelpers {
         int count = Math.min(upcoming.size(), 3);
         for (int i = 0; i < count; i++) {
             Brick b = upcoming.get(i);
-            int[][] shape = b.getShapeMatrix().get(0); // default orientation for preview
+            // default orientation for preview; standard pieces use the shared table
+            PieceTable.Piece piece = PieceTable.of(b);
+            int[][] shape = (piece != null) ? piece.matrix(0) : b.getShapeMatrix().get(0);
             int rows = shape.length;
             int cols = shape[0].length;
             javafx.scene.layout.StackPane slot = new javafx.scene.layout.StackPane();
@@ -41,13 +44,17 @@ public class GuiViewHelpers {
             slot.setStyle("-fx-background-color: transparent;");
 
             int minR = Integer.MAX_VALUE, minC = Integer.MAX_VALUE, maxR = Integer.MIN_VALUE, maxC = Integer.MIN_VALUE;
-            for (int r = 0; r < rows; r++) {
-                for (int c = 0; c < cols; c++) {
-                    if (shape[r][c] != 0) {
-                        minR = Math.min(minR, r);
-                        minC = Math.min(minC, c);
-                        maxR = Math.max(maxR, r);
-                        maxC = Math.max(maxC, c);
+            if (piece != null) {
+                minR = piece.minY(0); minC = piece.minX(0); maxR = piece.maxY(0); maxC = piece.maxX(0);
+            } else {
+                for (int r = 0; r < rows; r++) {
+                    for (int c = 0; c < cols; c++) {
+                        if (shape[r][c] != 0) {
+                            minR = Math.min(minR, r);
+                            minC = Math.min(minC, c);
+                            maxR = Math.max(maxR, r);
+                            maxC = Math.max(maxC, c);
+                        }
                     }
                 }
             }
@@ -207,7 +207,7 @@ public class HandlingController {
     public int getArrMs() { return arrMs; }
     /** Return the current DAS (delayed auto shift) value in milliseconds. */
     public int getDasMs() { return dasMs; }
-    /** Return the current DCD (delayed cancellable drop) value in milliseconds. */
+    /** Return the current DCD (DAS cut delay) value in milliseconds. */
     public int getDcdMs() { return dcdMs; }
     /** Return the configured soft-drop factor. */
     public double getSdf() { return sdf; }
@@ -1,7 +1,12 @@
 package com.comp2042.controller.mainMenu;
 
+import com.comp2042.ai.Difficulty;
 import com.comp2042.controller.gameControl.GameController;
 import com.comp2042.controller.guiControl.GuiController;
+import com.comp2042.diagnostics.jfr.SceneSwitchEvent;
+import com.comp2042.view.EffectsGovernor;
+import com.comp2042.view.EffectsQuality;
+import com.comp2042.view.GifBackgrounds;
 
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
@@ -14,6 +19,8 @@ import javafx.stage.Stage;
 
 import java.io.IOException;
 import java.net.URL;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import javafx.application.Platform;
 import javafx.scene.input.KeyCode;
 import javafx.scene.media.MediaPlayer;
@@ -35,6 +42,8 @@ import javafx.scene.layout.StackPane;
  */
 public class MainMenuController {
 
+    private static final Logger LOGGER = Logger.getLogger(MainMenuController.class.getName());
+
     @FXML private ImageView bgImage;
     @FXML private VBox mainButtons;
     @FXML private javafx.scene.text.Text titleText;
@@ -51,6 +60,8 @@ public class MainMenuController {
     @FXML private Button classicBattleBtn;
     @FXML private Button cooperateBattleBtn;
     @FXML private Button multiBackBtn;
+    @FXML private Button cpuOpponentBtn;
+    @FXML private javafx.scene.text.Text cpuOpponentSubtitle;
     @FXML private MediaView menuMediaView;
     @FXML private javafx.scene.layout.StackPane mediaContainer;
     @FXML private javafx.scene.layout.StackPane rootStack;
@@ -58,6 +69,8 @@ public class MainMenuController {
     @FXML private Button controlsBtn;
     @FXML private Button handlingBtn;
     @FXML private Button audioBtn;
+    @FXML private Button effectsBtn;
+    @FXML private javafx.scene.text.Text effectsSubtitle;
     @FXML private Button settingsBackBtn;
     @FXML private StackPane controlsOptions;
     @FXML private Button singlePlayerConfigBtn;
@@ -128,6 +141,69 @@ public class MainMenuController {
                 (scene) -> ensureMainMenuStylesheet(scene)
         );
             try { this.overlayHelper = r.overlayHelper; } catch (Exception ignored) {}
+        initCpuOpponentButton();
+        initEffectsButton();
+    }
+
+    /**
+     * Wire the Player 2 card: each press cycles the right-hand board of the
+     * two-player modes through Human, Easy, Normal and Hard CPU and stores
+     * the choice.
+     */
+    private void initCpuOpponentButton() {
+        if (cpuOpponentBtn == null) return;
+        MainMenuPreferences store = new MainMenuPreferences();
+        showCpuOpponent(store.loadCpuOpponent());
+        cpuOpponentBtn.setOnAction(ev -> {
+            try {
+                Difficulty current = store.loadCpuOpponent();
+                Difficulty[] all = Difficulty.values();
+                Difficulty next = (current == null) ? all[0]
+                        : (current.ordinal() + 1 < all.length) ? all[current.ordinal() + 1] : null;
+                store.saveCpuOpponent(next);
+                showCpuOpponent(next);
+            } catch (Exception ex) {
+                LOGGER.log(Level.WARNING, "Failed to change CPU opponent", ex);
+            }
+        });
+    }
+
+    /**
+     * Apply the stored effects quality preset and wire the Effects card:
+     * each press cycles Auto, Low, Medium and High and stores the choice.
+     */
+    private void initEffectsButton() {
+        MainMenuPreferences store = new MainMenuPreferences();
+        EffectsQuality stored = store.loadEffectsQuality();
+        // returning to the menu keeps what Auto has learned so far
+        if (stored != EffectsGovernor.shared().getPreset()) EffectsGovernor.shared().setPreset(stored);
+        showEffectsQuality(stored);
+        if (effectsBtn == null) return;
+        effectsBtn.setOnAction(ev -> {
+            try {
+                EffectsQuality current = store.loadEffectsQuality();
+                EffectsQuality[] all = EffectsQuality.values();
+                EffectsQuality next = (current == null) ? all[0]
+                        : (current.ordinal() + 1 < all.length) ? all[current.ordinal() + 1] : null;
+                store.saveEffectsQuality(next);
+                EffectsGovernor.shared().setPreset(next);
+                showEffectsQuality(next);
+            } catch (Exception ex) {
+                LOGGER.log(Level.WARNING, "Failed to change effects quality", ex);
+            }
+        });
+    }
+
+    private void showEffectsQuality(EffectsQuality quality) {
+        if (effectsSubtitle == null) return;
+        effectsSubtitle.setText(quality == null ? "Auto - adapts to the frame rate"
+                : quality.name().charAt(0) + quality.name().substring(1).toLowerCase());
+    }
+
+    private void showCpuOpponent(Difficulty difficulty) {
+        if (cpuOpponentSubtitle == null) return;
+        cpuOpponentSubtitle.setText(difficulty == null ? "Human"
+                : "CPU - " + difficulty.name().charAt(0) + difficulty.name().substring(1).toLowerCase());
     }
 
     private void loadAudioSettings() {
@@ -194,6 +270,7 @@ public class MainMenuController {
     }
 
     private void loadGame(String mode) {
+        SceneSwitchEvent switchEvent = SceneSwitchEvent.start(mode);
         stopMenuMusic();
         try {
             URL location = getClass().getClassLoader().getResource("gameLayout.fxml");
@@ -213,7 +290,7 @@ public class MainMenuController {
                 else bgName = "Normal.gif";
                 if (bgName != null) {
                     URL bgUrl = getClass().getClassLoader().getResource(bgName);
-                    if (bgUrl != null) root.setStyle("-fx-background-image: url('" + bgUrl.toExternalForm() + "'); -fx-background-size: cover; -fx-background-position: center center;");
+                    GifBackgrounds.apply(root, bgUrl);
                 }
             } catch (Exception ignored) {}
             if (stage.getScene() != null) {
@@ -231,18 +308,21 @@ public class MainMenuController {
                 controller.setControlKeys(spLeft, spRight, spRotate, spDown, spHard);
             } catch (Exception ignored) {}
             try { controller.setHardDropEnabled(settingHardDropEnabled); } catch (Exception ignored) {}
-            new GameController(controller);
+            try { controller.setHandling(settingArrMs, settingDasMs, settingDcdMs, settingSdf); } catch (Exception ignored) {}
+            GameController game = new GameController(controller);
             controller.setLevelText(mode);
             try {
+                // start levels whose gravity matches the old fixed drop intervals
                 if ("Easy".equalsIgnoreCase(mode)) {
-                    controller.setDropIntervalMs(800); 
+                    game.setStartLevel(2);
                 } else if ("Hard".equalsIgnoreCase(mode)) {
-                    controller.setDropIntervalMs(200); 
+                    game.setStartLevel(7);
                 } else {
-                    controller.setDropIntervalMs(500); 
+                    game.setStartLevel(4);
                 }
             } catch (Exception ignored) {}
             controller.startCountdown(3);
+            switchEvent.commit();
         } catch (IOException ex) {
             ex.printStackTrace();
         }
@@ -281,7 +361,7 @@ public class MainMenuController {
         } catch (Exception ignored) {}
 
         try {
-            Button[] btns = new Button[] { singlePlayerBtn, multiPlayerBtn, settingsBtn, easyBtn, normalBtn, hardBtn, backBtn, scoreBattleBtn, classicBattleBtn, cooperateBattleBtn, multiBackBtn, controlsBtn, handlingBtn, audioBtn, settingsBackBtn, singlePlayerConfigBtn, multiPlayerConfigBtn, controlsBackBtn };
+            Button[] btns = new Button[] { singlePlayerBtn, multiPlayerBtn, settingsBtn, easyBtn, normalBtn, hardBtn, backBtn, scoreBattleBtn, classicBattleBtn, cooperateBattleBtn, cpuOpponentBtn, multiBackBtn, controlsBtn, handlingBtn, audioBtn, effectsBtn, settingsBackBtn, singlePlayerConfigBtn, multiPlayerConfigBtn, controlsBackBtn };
             for (Button b : btns) {
                 if (b == null) continue;
                 try { b.setOnAction(null); } catch (Exception ignored) {}
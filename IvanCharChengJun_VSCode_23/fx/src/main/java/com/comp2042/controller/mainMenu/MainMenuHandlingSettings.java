@@ -1,5 +1,7 @@
 package com.comp2042.controller.mainMenu;
 
+import com.comp2042.controller.guiControl.GuiController;
+
 import javafx.fxml.FXMLLoader;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.BorderPane;
@@ -43,6 +45,14 @@ public class MainMenuHandlingSettings {
     public double settingSdf = 1.0;
     public boolean settingHardDropEnabled = true;
 
+    /**
+     * Apply the auto-repeat and soft-drop values to {@code gui}'s keyboard
+     * handling; a {@code null} GUI is ignored.
+     */
+    public void applyTo(GuiController gui) {
+        if (gui != null) gui.setHandling(settingArrMs, settingDasMs, settingDcdMs, settingSdf);
+    }
+
     /**
      * Display the handling settings overlay and invoke {@code onSave} when the
      * user presses Save.
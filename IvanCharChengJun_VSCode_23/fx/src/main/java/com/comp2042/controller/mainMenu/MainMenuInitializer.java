@@ -2,6 +2,8 @@ package com.comp2042.controller.mainMenu;
 
 import com.comp2042.controller.guiControl.GuiController;
 import com.comp2042.controller.cooperateBattle.coopGUI.CoopGuiController;
+import com.comp2042.diagnostics.jfr.SceneSwitchEvent;
+import com.comp2042.view.GifBackgrounds;
 import javafx.animation.FadeTransition;
 import javafx.animation.Interpolator;
 import javafx.animation.KeyFrame;
@@ -12,7 +14,6 @@ import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.fxml.FXMLLoader;
 import javafx.application.Platform;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
@@ -118,7 +119,7 @@ public class MainMenuInitializer {
         try { try { if (loadControlSettings != null) loadControlSettings.run(); } catch (Exception ignored) {} } catch (Exception ignored) {}
         try {
             URL bg = MainMenuInitializer.class.getResource("/GUI.gif");
-            if (bg != null && bgImage != null) bgImage.setImage(new Image(bg.toExternalForm(), true));
+            GifBackgrounds.apply(bgImage, bg);
         } catch (Exception ignored) {}
     }
 
@@ -310,6 +311,7 @@ public class MainMenuInitializer {
         if (scoreBattleBtn != null) {
             scoreBattleBtn.setOnAction(ev -> {
                 try {
+                    SceneSwitchEvent switchEvent = SceneSwitchEvent.start("Score Battle");
                     if (stopMenuMusic != null) stopMenuMusic.run();
                     URL location = MainMenuInitializer.class.getResource("/scoreBattleLayout.fxml");
                     if (location == null) return;
@@ -319,7 +321,7 @@ public class MainMenuInitializer {
                     Stage stage = (Stage) scoreBattleBtn.getScene().getWindow();
                     try {
                         URL mpBg = MainMenuInitializer.class.getResource("/Multiplayer.gif");
-                        if (mpBg != null) root.setStyle("-fx-background-image: url('" + mpBg.toExternalForm() + "'); -fx-background-size: cover; -fx-background-position: center center;");
+                        GifBackgrounds.apply(root, mpBg);
                     } catch (Exception ignored) {}
                     double w = stage.getWidth(); double h = stage.getHeight(); boolean full = stage.isFullScreen(); boolean max = stage.isMaximized();
                     if (stage.getScene() != null) {
@@ -334,6 +336,7 @@ public class MainMenuInitializer {
                         stage.show();
                     }
                     try { controller.initBothGames(null, null); } catch (Exception ignored) {}
+                    switchEvent.commit();
                 } catch (IOException ex) { ex.printStackTrace(); }
             });
         }
@@ -341,6 +344,7 @@ public class MainMenuInitializer {
         if (classicBattleBtn != null) {
             classicBattleBtn.setOnAction(ev -> {
                 try {
+                    SceneSwitchEvent switchEvent = SceneSwitchEvent.start("Classic Battle");
                     if (stopMenuMusic != null) stopMenuMusic.run();
                     URL location = MainMenuInitializer.class.getResource("/classicBattleLayout.fxml");
                     if (location == null) return;
@@ -350,7 +354,7 @@ public class MainMenuInitializer {
                     Stage stage = (Stage) classicBattleBtn.getScene().getWindow();
                     try {
                         URL mpBg = MainMenuInitializer.class.getResource("/Multiplayer.gif");
-                        if (mpBg != null) root.setStyle("-fx-background-image: url('" + mpBg.toExternalForm() + "'); -fx-background-size: cover; -fx-background-position: center center;");
+                        GifBackgrounds.apply(root, mpBg);
                     } catch (Exception ignored) {}
                     double w = stage.getWidth(); double h = stage.getHeight(); boolean full = stage.isFullScreen(); boolean max = stage.isMaximized();
                     if (stage.getScene() != null) {
@@ -365,6 +369,7 @@ public class MainMenuInitializer {
                         stage.show();
                     }
                     try { controller.initBothGames(null, null); } catch (Exception ignored) {}
+                    switchEvent.commit();
                 } catch (IOException ex) { ex.printStackTrace(); }
             });
         }
@@ -372,6 +377,7 @@ public class MainMenuInitializer {
         if (cooperateBattleBtn != null) {
             cooperateBattleBtn.setOnAction(ev -> {
                 try {
+                    SceneSwitchEvent switchEvent = SceneSwitchEvent.start("Cooperate Battle");
                     if (stopMenuMusic != null) stopMenuMusic.run();
                     URL location = MainMenuInitializer.class.getResource("/gameLayout.fxml");
                     if (location == null) return;
@@ -384,7 +390,7 @@ public class MainMenuInitializer {
                     Parent root = fxmlLoader.load();
                     Stage stage = (Stage) cooperateBattleBtn.getScene().getWindow();
                     double w = stage.getWidth(); double h = stage.getHeight(); boolean full = stage.isFullScreen(); boolean max = stage.isMaximized();
-                    try { URL mpBg = MainMenuInitializer.class.getResource("/Multiplayer.gif"); if (mpBg != null) root.setStyle("-fx-background-image: url('" + mpBg.toExternalForm() + "'); -fx-background-size: cover; -fx-background-position: center center;"); } catch (Exception ignored) {}
+                    try { URL mpBg = MainMenuInitializer.class.getResource("/Multiplayer.gif"); GifBackgrounds.apply(root, mpBg); } catch (Exception ignored) {}
                     if (stage.getScene() != null) {
                         stage.getScene().setRoot(root);
                         stage.setMaximized(max);
@@ -401,6 +407,7 @@ public class MainMenuInitializer {
                     try { coopGui.setHardDropEnabled(true); } catch (Exception ignored) {}
                     coopGui.initCoop(coopModel);
                     try { coopGui.setLevelText("Cooperate"); } catch (Exception ignored) {}
+                    switchEvent.commit();
                 } catch (IOException ex) { ex.printStackTrace(); }
             });
         }
@@ -410,6 +417,7 @@ public class MainMenuInitializer {
         if (normalBtn != null) {
             normalBtn.setOnAction(ev -> {
                 try {
+                    SceneSwitchEvent switchEvent = SceneSwitchEvent.start("Normal");
                     if (stopMenuMusic != null) stopMenuMusic.run();
                     URL location = MainMenuInitializer.class.getResource("/gameLayout.fxml");
                     FXMLLoader fxmlLoader = new FXMLLoader(location);
@@ -417,7 +425,7 @@ public class MainMenuInitializer {
                     com.comp2042.controller.guiControl.GuiController controller = fxmlLoader.getController();
                     Stage stage = (Stage) normalBtn.getScene().getWindow();
                     double w = stage.getWidth(); double h = stage.getHeight(); boolean full = stage.isFullScreen(); boolean max = stage.isMaximized();
-                    try { URL normalBg = MainMenuInitializer.class.getResource("/Normal.gif"); if (normalBg != null) root.setStyle("-fx-background-image: url('" + normalBg.toExternalForm() + "'); -fx-background-size: cover; -fx-background-position: center center;"); } catch (Exception ignored) {}
+                    try { URL normalBg = MainMenuInitializer.class.getResource("/Normal.gif"); GifBackgrounds.apply(root, normalBg); } catch (Exception ignored) {}
                     if (stage.getScene() != null) {
                         stage.getScene().setRoot(root);
                         stage.setMaximized(max);
@@ -433,8 +441,8 @@ public class MainMenuInitializer {
                     try { controller.setHardDropEnabled(true); } catch (Exception ignored) {}
                     new com.comp2042.controller.gameControl.GameController(controller);
                     controller.setLevelText("Normal");
-                    try { controller.setDropIntervalMs(1000); } catch (Exception ignored) {}
                     controller.startCountdown(3);
+                    switchEvent.commit();
                 } catch (IOException ex) { ex.printStackTrace(); }
             });
         }
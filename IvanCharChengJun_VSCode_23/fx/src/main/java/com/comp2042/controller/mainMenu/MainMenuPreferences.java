@@ -1,6 +1,9 @@
 package com.comp2042.controller.mainMenu;
 
 import java.util.prefs.Preferences;
+
+import com.comp2042.ai.Difficulty;
+import com.comp2042.view.EffectsQuality;
 import javafx.scene.input.KeyCode;
 
 /**
@@ -10,6 +13,9 @@ import javafx.scene.input.KeyCode;
  * <p>Responsibilities:
  * - Read and write control key bindings (single-player and two-player keys).
  * - Read and write handling settings (timings and gameplay toggles).
+ * - Read and write the CPU opponent used for the right-hand board of
+ *   two-player modes.
+ * - Read and write the visual effects quality preset.
  *
  * <p>Notes:
  * - All persistence is stored in a {@code Preferences} node scoped to
@@ -127,6 +133,45 @@ public class MainMenuPreferences {
         prefs.putBoolean("settingHardDropEnabled", hs.settingHardDropEnabled);
     }
 
+    /**
+     * Load the CPU opponent chosen for two-player modes.
+     *
+     * @return the stored {@link Difficulty}, or {@code null} when the right
+     *         board is played by a person (the default)
+     */
+    public Difficulty loadCpuOpponent() {
+        return Difficulty.fromName(prefs.get("cpuOpponent", ""));
+    }
+
+    /**
+     * Persist the CPU opponent for two-player modes.
+     *
+     * @param difficulty the opponent's strength, or {@code null} for a human
+     *                   right-hand player
+     */
+    public void saveCpuOpponent(Difficulty difficulty) {
+        prefs.put("cpuOpponent", difficulty == null ? "" : difficulty.name());
+    }
+
+    /**
+     * Load the visual effects quality preset.
+     *
+     * @return the stored {@link EffectsQuality}, or {@code null} for Auto
+     *         (the default), where the quality follows the frame rate
+     */
+    public EffectsQuality loadEffectsQuality() {
+        return EffectsQuality.fromName(prefs.get("effectsQuality", ""));
+    }
+
+    /**
+     * Persist the visual effects quality preset.
+     *
+     * @param quality the fixed quality, or {@code null} for Auto
+     */
+    public void saveEffectsQuality(EffectsQuality quality) {
+        prefs.put("effectsQuality", quality == null ? "" : quality.name());
+    }
+
     /**
      * Parse a {@link KeyCode} from its name in a null-safe way.
      *
@@ -1,8 +1,11 @@
 package com.comp2042.controller.scoreBattle;
 
 import com.comp2042.audio.soundManager.SoundManager;
+import com.comp2042.controller.cpu.CpuPlayer;
 import com.comp2042.controller.gameControl.GameController;
+import com.comp2042.controller.gameLoop.LoopTimer;
 import com.comp2042.controller.guiControl.GuiController;
+import com.comp2042.view.EffectsGovernor;
 
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
@@ -56,14 +59,16 @@ public class ScoreBattleController implements Initializable {
     GuiController rightGui;
     GameController leftController;
     GameController rightController;
+    // plays the right board when a CPU opponent is selected; null otherwise
+    CpuPlayer rightCpu;
 
     javafx.scene.layout.StackPane centerOverlay;
 
     javafx.scene.text.Text matchTimerText;
     javafx.scene.text.Text matchScoreText;
-    javafx.animation.Timeline matchTimer;
+    LoopTimer matchTimer;
     int remainingSeconds = 300; 
-    javafx.animation.Timeline previewPoller;
+    LoopTimer previewPoller;
     MediaPlayer scoreBattleMusicPlayer = null;
     MediaPlayer matchCountdownPlayer = null;
     MediaPlayer matchGameOverPlayer = null;
@@ -369,6 +374,7 @@ public class ScoreBattleController implements Initializable {
      * collected. This method is idempotent and safe to call multiple times.
      */
     public void cleanup() {
+        try { if (rightCpu != null) { rightCpu.stop(); rightCpu = null; } } catch (Exception ignored) {}
         try { if (matchTimer != null) { matchTimer.stop(); matchTimer = null; } } catch (Exception ignored) {}
         try { if (previewPoller != null) { previewPoller.stop(); previewPoller = null; } } catch (Exception ignored) {}
         try { stopMatchCountdownSound(); } catch (Exception ignored) {}
@@ -483,7 +489,7 @@ public class ScoreBattleController implements Initializable {
     private void onBothCountdownsFinished() {
         try {
             try {
-                if (matchTimer != null && matchTimer.getStatus() != javafx.animation.Animation.Status.RUNNING) {
+                if (matchTimer != null && !matchTimer.isRunning()) {
                     matchTimer.play();
                 }
             } catch (Exception ignored) {}
@@ -638,6 +644,7 @@ public class ScoreBattleController implements Initializable {
                         FXMLLoader loader = new FXMLLoader(loc);
                         Parent menuRoot = loader.load();
                         Stage stage = (Stage) scene.getWindow();
+                        try { if (rightCpu != null) { rightCpu.stop(); rightCpu = null; } } catch (Exception ignored) {}
                         if (stage.getScene() != null) {
                             try { if (leftGui != null) leftGui.cleanup(); } catch (Exception ignored) {}
                             try { if (rightGui != null) rightGui.cleanup(); } catch (Exception ignored) {}
@@ -686,7 +693,7 @@ public class ScoreBattleController implements Initializable {
                                     glow.setColor(javafx.scene.paint.Color.web("#ffd166"));
                                     glow.setRadius(18);
                                     glow.setSpread(0.55);
-                                    matchTitle.setEffect(glow);
+                                    if (EffectsGovernor.shared().getQuality().isShadows()) matchTitle.setEffect(glow);
                                     javafx.animation.ScaleTransition pulse = new javafx.animation.ScaleTransition(javafx.util.Duration.millis(800), matchTitle);
                                     pulse.setFromX(1.0); pulse.setFromY(1.0);
                                     pulse.setToX(1.06); pulse.setToY(1.06);
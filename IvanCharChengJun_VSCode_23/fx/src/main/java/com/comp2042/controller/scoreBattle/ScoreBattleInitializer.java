@@ -1,7 +1,15 @@
 package com.comp2042.controller.scoreBattle;
 
+import com.comp2042.ai.Difficulty;
+import com.comp2042.controller.cpu.CpuPlayer;
 import com.comp2042.controller.gameControl.GameController;
+import com.comp2042.controller.gameLoop.GameLoop;
+import com.comp2042.controller.gameLoop.LoopTimer;
 import com.comp2042.controller.guiControl.GuiController;
+import com.comp2042.controller.mainMenu.MainMenuHandlingSettings;
+import com.comp2042.controller.mainMenu.MainMenuPreferences;
+import com.comp2042.logic.BagBrickGenerator;
+import com.comp2042.replay.Replay;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
@@ -11,15 +19,14 @@ import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
 import javafx.scene.layout.VBox;
 import javafx.scene.text.Text;
-import javafx.animation.Timeline;
-import javafx.animation.KeyFrame;
-import javafx.util.Duration;
 import javafx.scene.input.KeyCode;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
 import java.net.URL;
 import java.util.prefs.Preferences;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 /**
  * Extracted initializer for ScoreBattleController.initBothGames.
@@ -29,6 +36,8 @@ import java.util.prefs.Preferences;
  
 public final class ScoreBattleInitializer {
 
+    private static final Logger LOGGER = Logger.getLogger(ScoreBattleInitializer.class.getName());
+
     private ScoreBattleInitializer() {}
 
     public static void initBothGames(ScoreBattleController ctrl, KeyCode leftSwap, KeyCode rightSwap) throws IOException {
@@ -117,8 +126,18 @@ public final class ScoreBattleInitializer {
         } catch (Exception ignored) {}
 
         // start controllers
-        GameController leftController = new GameController(leftGui);
-        GameController rightController = new GameController(rightGui);
+        // both players draw the same piece sequence so scores are directly comparable
+        long seed = Replay.newSeed();
+        GameController leftController = new GameController(leftGui, new BagBrickGenerator(seed));
+        GameController rightController = new GameController(rightGui, new BagBrickGenerator(seed));
+        try {
+            // both players share the keyboard and the Handling screen's settings
+            MainMenuHandlingSettings handling = new MainMenuPreferences().loadHandlingSettings();
+            handling.applyTo(leftGui);
+            handling.applyTo(rightGui);
+        } catch (Exception ex) {
+            LOGGER.log(Level.FINE, "Failed to apply handling settings", ex);
+        }
 
         // write core GUI/controller references back to the ScoreBattleController early so
         // any background pollers or listeners can access them reliably
@@ -129,6 +148,16 @@ public final class ScoreBattleInitializer {
             ctrl.rightController = rightController;
         } catch (Exception ignored) {}
 
+        try {
+            Difficulty cpu = new MainMenuPreferences().loadCpuOpponent();
+            if (cpu != null) {
+                ctrl.rightCpu = new CpuPlayer(rightGui, rightController, cpu);
+                ctrl.rightCpu.start();
+            }
+        } catch (Exception ex) {
+            LOGGER.log(Level.WARNING, "Failed to start CPU opponent", ex);
+        }
+
         // create listener placeholders and attach them to GUI properties as before
         javafx.beans.value.ChangeListener<Boolean> leftIsGameOverListener = (obs, oldV, newV) -> {
             try {
@@ -143,8 +172,8 @@ public final class ScoreBattleInitializer {
                     try { setField(ctrl, "matchEnded", true); } catch (Exception ignored) {}
 
                     // stop timers and pollers
-                    try { Timeline mt = (Timeline) getField(ctrl, "matchTimer"); if (mt != null) mt.stop(); } catch (Exception ignored) {}
-                    try { Timeline pp = (Timeline) getField(ctrl, "previewPoller"); if (pp != null) pp.stop(); } catch (Exception ignored) {}
+                    try { LoopTimer mt = (LoopTimer) getField(ctrl, "matchTimer"); if (mt != null) mt.stop(); } catch (Exception ignored) {}
+                    try { LoopTimer pp = (LoopTimer) getField(ctrl, "previewPoller"); if (pp != null) pp.stop(); } catch (Exception ignored) {}
 
                     // ensure both GUIs enter game-over state
                     try { if (leftGui != null) leftGui.gameOver(); } catch (Exception ignored) {}
@@ -187,8 +216,8 @@ public final class ScoreBattleInitializer {
                     if (ended) return;
                     try { setField(ctrl, "matchEnded", true); } catch (Exception ignored) {}
 
-                    try { Timeline mt = (Timeline) getField(ctrl, "matchTimer"); if (mt != null) mt.stop(); } catch (Exception ignored) {}
-                    try { Timeline pp = (Timeline) getField(ctrl, "previewPoller"); if (pp != null) pp.stop(); } catch (Exception ignored) {}
+                    try { LoopTimer mt = (LoopTimer) getField(ctrl, "matchTimer"); if (mt != null) mt.stop(); } catch (Exception ignored) {}
+                    try { LoopTimer pp = (LoopTimer) getField(ctrl, "previewPoller"); if (pp != null) pp.stop(); } catch (Exception ignored) {}
 
                     try { if (leftGui != null) leftGui.gameOver(); } catch (Exception ignored) {}
                     try { if (rightGui != null) rightGui.gameOver(); } catch (Exception ignored) {}
@@ -286,8 +315,6 @@ public final class ScoreBattleInitializer {
             // set level text and drop intervals
             leftGui.setLevelText("Score Battle");
             rightGui.setLevelText("Score Battle");
-            leftGui.setDropIntervalMs(1000);
-            rightGui.setDropIntervalMs(1000);
         } catch (Exception ignored) {}
 
         // set controls from preferences
@@ -358,8 +385,8 @@ public final class ScoreBattleInitializer {
         } catch (Exception ignored) {}
 
         // create matchTimer (use reference array to allow lambda to stop it)
-        final Timeline[] matchTimerRef = new Timeline[1];
-        Timeline matchTimerLocal = new Timeline(new KeyFrame(Duration.seconds(1), _e -> {
+        final LoopTimer[] matchTimerRef = new LoopTimer[1];
+        LoopTimer matchTimerLocal = GameLoop.shared().timer(1000, () -> {
             try {
                 Field remF = ctrl.getClass().getDeclaredField("remainingSeconds"); remF.setAccessible(true);
                 int remaining = remF.getInt(ctrl);
@@ -372,15 +399,14 @@ public final class ScoreBattleInitializer {
                     runMethod(ctrl, "endMatchAndAnnounceWinner");
                 }
             } catch (Exception ignored) {}
-        }));
-        matchTimerLocal.setCycleCount(javafx.animation.Animation.INDEFINITE);
+        });
         matchTimerRef[0] = matchTimerLocal;
 
         // schedule music start listener wiring (reuse controller method)
         try { runMethod(ctrl, "scheduleStartMusicWhenCountdownsDone"); } catch (Exception ignored) {}
 
         // create previewPoller
-        Timeline previewPoller = new Timeline(new KeyFrame(Duration.millis(300), _ev -> {
+        LoopTimer previewPoller = GameLoop.shared().timer(300, () -> {
             try {
                 Object lCtrlObj = getField(ctrl, "leftController");
                 Object lGuiObj = getField(ctrl, "leftGui");
@@ -409,8 +435,7 @@ public final class ScoreBattleInitializer {
                     }
                 }
             } catch (Exception e) { e.printStackTrace(); }
-        }));
-        previewPoller.setCycleCount(javafx.animation.Animation.INDEFINITE);
+        });
 
         // finally, write back timer/poller fields onto the ScoreBattleController and
         // start the preview poller now that controllers are registered.
@@ -0,0 +1,39 @@
+package com.comp2042.diagnostics;
+
+import javafx.animation.Animation;
+
+/**
+ * Count of running effect animations.
+ *
+ * <p>JavaFX offers no public way to enumerate running animations, so the
+ * effect helpers pass the animations they create through {@link #track}, which
+ * follows each one's status. The performance HUD reads {@link #getRunning()}.
+ * Only touched on the JavaFX application thread.</p>
+ */
+public final class AnimationCounter {
+    private static int running;
+
+    private AnimationCounter() {
+    }
+
+    /**
+     * Follow {@code animation}'s status so it is counted while running.
+     * Call before {@code play()}.
+     *
+     * @return {@code animation}, for chaining
+     */
+    public static <T extends Animation> T track(T animation) {
+        if (animation == null) return null;
+        if (animation.getStatus() == Animation.Status.RUNNING) running++;
+        animation.statusProperty().addListener((obs, oldStatus, newStatus) -> {
+            if (newStatus == Animation.Status.RUNNING && oldStatus != Animation.Status.RUNNING) running++;
+            else if (oldStatus == Animation.Status.RUNNING && newStatus != Animation.Status.RUNNING) running--;
+        });
+        return animation;
+    }
+
+    /** @return tracked animations currently running */
+    public static int getRunning() {
+        return running;
+    }
+}
@@ -0,0 +1,81 @@
+package com.comp2042.diagnostics;
+
+/**
+ * Ring buffer of recent frame times for the performance HUD.
+ *
+ * <p>Holds the last {@code capacity} frame durations; the HUD draws them as a
+ * sparkline and derives the frame rate from their mean. Recording does not
+ * allocate.</p>
+ */
+public final class FrameStats {
+    private final long[] frames;
+    private int next;
+    private int size;
+    private long lastPulse = Long.MIN_VALUE;
+
+    /** @param capacity number of frames kept */
+    public FrameStats(int capacity) {
+        if (capacity <= 0) throw new IllegalArgumentException("capacity must be positive");
+        this.frames = new long[capacity];
+    }
+
+    /**
+     * Record a pulse timestamp; the gap since the previous pulse becomes one
+     * frame time.
+     */
+    public void pulse(long nowNanos) {
+        if (lastPulse != Long.MIN_VALUE && nowNanos > lastPulse) record(nowNanos - lastPulse);
+        lastPulse = nowNanos;
+    }
+
+    /** Record one frame time. */
+    public void record(long frameNanos) {
+        frames[next] = frameNanos;
+        next = (next + 1) % frames.length;
+        if (size < frames.length) size++;
+    }
+
+    /** @return number of frames held */
+    public int size() {
+        return size;
+    }
+
+    /** @return mean frame time in nanoseconds, or {@code 0} when empty */
+    public double getMeanNanos() {
+        if (size == 0) return 0;
+        long sum = 0;
+        for (int i = 0; i < size; i++) sum += frames[i];
+        return (double) sum / size;
+    }
+
+    /** @return frames per second over the held frames, or {@code 0} when empty */
+    public double getFps() {
+        double mean = getMeanNanos();
+        return (mean <= 0) ? 0 : 1e9 / mean;
+    }
+
+    /** @return longest held frame time in nanoseconds */
+    public long getMaxNanos() {
+        long max = 0;
+        for (int i = 0; i < size; i++) max = Math.max(max, frames[i]);
+        return max;
+    }
+
+    /**
+     * Frame time {@code index} frames after the oldest held one.
+     *
+     * @param index {@code 0} for the oldest, {@code size() - 1} for the newest
+     */
+    public long get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("index " + index + " of " + size);
+        int oldest = (size < frames.length) ? 0 : next;
+        return frames[(oldest + index) % frames.length];
+    }
+
+    /** Forget all frames, e.g. after the HUD was hidden. */
+    public void reset() {
+        size = 0;
+        next = 0;
+        lastPulse = Long.MIN_VALUE;
+    }
+}
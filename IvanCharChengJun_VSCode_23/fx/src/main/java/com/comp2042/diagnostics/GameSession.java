@@ -0,0 +1,253 @@
+package com.comp2042.diagnostics;
+
+import com.comp2042.controller.gameControl.GameController;
+import com.comp2042.controller.guiControl.GuiController;
+import com.comp2042.engine.GravityCurve;
+import com.comp2042.model.ViewData;
+
+import javafx.application.Platform;
+
+import java.lang.management.ManagementFactory;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * JMX view of one game: the engine behind a {@link GameController} and the
+ * {@link GuiController} showing it.
+ *
+ * <p>The game controller creates the session and hands it to its view, which
+ * registers it while attached to a scene and unregisters it when the scene is
+ * left or the view is cleaned up. JMX calls arrive on RMI threads, so game
+ * and scene-graph state is read on the JavaFX application thread (waiting at
+ * most {@link #FX_TIMEOUT_MS}); the timing histograms are synchronized and
+ * read directly.</p>
+ */
+public final class GameSession implements GameSessionMXBean {
+    private static final Logger LOGGER = Logger.getLogger(GameSession.class.getName());
+
+    /** JMX domain of the game's MBeans. */
+    public static final String DOMAIN = "com.comp2042";
+
+    /** Longest a JMX call waits for the JavaFX application thread. */
+    public static final long FX_TIMEOUT_MS = 2000;
+
+    private static final AtomicInteger IDS = new AtomicInteger();
+
+    private final GameController game;
+    private final GuiController view;
+    private final Executor fx;
+    private final ObjectName name;
+    private boolean registered;
+
+    public GameSession(GameController game, GuiController view) {
+        this(game, view, GameSession::runOnFxThread);
+    }
+
+    // tests pass a direct executor instead of the FX thread
+    GameSession(GameController game, GuiController view, Executor fx) {
+        this.game = Objects.requireNonNull(game, "game must not be null");
+        this.view = Objects.requireNonNull(view, "view must not be null");
+        this.fx = fx;
+        this.name = objectName(IDS.incrementAndGet());
+    }
+
+    private static ObjectName objectName(int id) {
+        try {
+            return new ObjectName(DOMAIN + ":type=GameSession,id=" + id);
+        } catch (JMException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void runOnFxThread(Runnable r) {
+        if (Platform.isFxApplicationThread()) r.run();
+        else Platform.runLater(r);
+    }
+
+    /** @return the name this session is registered under */
+    public ObjectName getObjectName() {
+        return name;
+    }
+
+    /**
+     * Register with the platform MBean server; does nothing when already
+     * registered. Failures are logged and otherwise ignored.
+     */
+    public synchronized void register() {
+        if (registered) return;
+        try {
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+            registered = true;
+        } catch (JMException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Failed to register " + name, e);
+        }
+    }
+
+    /** Unregister from the platform MBean server if registered. */
+    public synchronized void unregister() {
+        if (!registered) return;
+        registered = false;
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            if (server.isRegistered(name)) server.unregisterMBean(name);
+        } catch (JMException | RuntimeException e) {
+            LOGGER.log(Level.FINER, "Failed to unregister " + name, e);
+        }
+    }
+
+    /** @return {@code true} between {@link #register()} and {@link #unregister()} */
+    public synchronized boolean isRegistered() {
+        return registered;
+    }
+
+    @Override
+    public String getPlayer() {
+        String id = onFx(view::getMultiplayerPlayerId, null);
+        return (id != null) ? id : "single";
+    }
+
+    @Override
+    public int getBoardId() {
+        return game.getBoardId();
+    }
+
+    @Override
+    public int getPiecesLocked() {
+        return onFx(game::getPiecesLocked, 0);
+    }
+
+    @Override
+    public int getLinesCleared() {
+        return onFx(game::getLinesCleared, 0);
+    }
+
+    @Override
+    public int getScore() {
+        return onFx(() -> game.getScoreProperty().get(), 0);
+    }
+
+    @Override
+    public int getLevel() {
+        return onFx(game::getLevel, 0);
+    }
+
+    @Override
+    public double getGravity() {
+        return GravityCurve.cellsPerFrame(getLevel());
+    }
+
+    @Override
+    public long getMoveDownCount() {
+        return game.getMoveDownTimes().getCount();
+    }
+
+    @Override
+    public double getMoveDownMeanMicros() {
+        return game.getMoveDownTimes().getMeanNanos() / 1e3;
+    }
+
+    @Override
+    public double getMoveDownMaxMicros() {
+        return game.getMoveDownTimes().getMaxNanos() / 1e3;
+    }
+
+    @Override
+    public double getRefreshMeanMicros() {
+        return view.getRefreshTimes().getMeanNanos() / 1e3;
+    }
+
+    @Override
+    public double getRefreshMaxMicros() {
+        return view.getRefreshTimes().getMaxNanos() / 1e3;
+    }
+
+    @Override
+    public int getParticleNodes() {
+        return onFx(view::getParticleCount, 0);
+    }
+
+    @Override
+    public int getNotificationNodes() {
+        return onFx(view::getNotificationCount, 0);
+    }
+
+    @Override
+    public String getTimelineStatus() {
+        return onFx(view::getTimelineStatus, "UNKNOWN");
+    }
+
+    @Override
+    public boolean isPaused() {
+        return onFx(view::isPaused, Boolean.FALSE);
+    }
+
+    @Override
+    public void pause() {
+        fx.execute(() -> view.setPaused(true));
+    }
+
+    @Override
+    public void resume() {
+        fx.execute(() -> view.setPaused(false));
+    }
+
+    @Override
+    public String dumpBoard() {
+        return onFx(() -> formatBoard(game.getBoardMatrix(), game.getViewData()), "");
+    }
+
+    /**
+     * Render {@code board} with {@code piece} on top as text; see
+     * {@link #dumpBoard()}.
+     */
+    static String formatBoard(int[][] board, ViewData piece) {
+        if (board == null) return "";
+        char[][] cells = new char[board.length][];
+        for (int y = 0; y < board.length; y++) {
+            cells[y] = new char[board[y].length];
+            for (int x = 0; x < board[y].length; x++) {
+                int code = board[y][x];
+                cells[y][x] = (code == 0) ? '.' : Character.forDigit(code, Character.MAX_RADIX);
+            }
+        }
+        if (piece != null && piece.getBrickData() != null) {
+            int[][] shape = piece.getBrickData();
+            for (int i = 0; i < shape.length; i++) {
+                for (int j = 0; j < shape[i].length; j++) {
+                    int y = piece.getyPosition() + i;
+                    int x = piece.getxPosition() + j;
+                    if (shape[i][j] == 0 || y < 0 || y >= cells.length || x < 0 || x >= cells[y].length) continue;
+                    cells[y][x] = '@';
+                }
+            }
+        }
+        StringBuilder sb = new StringBuilder();
+        for (char[] row : cells) sb.append(row).append('\n');
+        return sb.toString();
+    }
+
+    private <T> T onFx(Callable<T> read, T fallback) {
+        FutureTask<T> task = new FutureTask<>(read);
+        try {
+            fx.execute(task);
+            T value = task.get(FX_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            return (value != null) ? value : fallback;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return fallback;
+        } catch (Exception e) {
+            LOGGER.log(Level.FINER, "JMX read failed", e);
+            return fallback;
+        }
+    }
+}
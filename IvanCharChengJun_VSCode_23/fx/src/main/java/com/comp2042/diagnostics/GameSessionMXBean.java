@@ -0,0 +1,73 @@
+package com.comp2042.diagnostics;
+
+/**
+ * Management interface of one running game session, registered with the
+ * platform MBean server under {@code com.comp2042:type=GameSession,id=N}
+ * so unattended games can be watched with JConsole, VisualVM or any other
+ * JMX client.
+ *
+ * <p>Timings are in microseconds and cover the session so far.</p>
+ */
+public interface GameSessionMXBean {
+
+    /** @return player id for multiplayer boards, or {@code "single"} */
+    String getPlayer();
+
+    /** @return engine board id, as tagged on flight recorder events */
+    int getBoardId();
+
+    /** @return pieces locked since the game started */
+    int getPiecesLocked();
+
+    /** @return lines cleared since the game started */
+    int getLinesCleared();
+
+    /** @return current score */
+    int getScore();
+
+    /** @return current gravity level */
+    int getLevel();
+
+    /** @return gravity of the current level in cells per 60 Hz frame */
+    double getGravity();
+
+    /** @return number of timed engine down steps */
+    long getMoveDownCount();
+
+    /** @return mean time of an engine down step (move down or gravity fall) */
+    double getMoveDownMeanMicros();
+
+    /** @return slowest engine down step */
+    double getMoveDownMaxMicros();
+
+    /** @return mean time to refresh the board background */
+    double getRefreshMeanMicros();
+
+    /** @return slowest board background refresh */
+    double getRefreshMaxMicros();
+
+    /** @return live particles plus effect nodes in the particle layer */
+    int getParticleNodes();
+
+    /** @return nodes in the notification group (score popups, overlays) */
+    int getNotificationNodes();
+
+    /** @return gravity timer status: {@code RUNNING}, {@code PAUSED}, {@code STOPPED} or {@code NONE} */
+    String getTimelineStatus();
+
+    /** @return {@code true} while the pause overlay is shown */
+    boolean isPaused();
+
+    /** Pause the session as if the player pressed ESC. */
+    void pause();
+
+    /** Resume a paused session. */
+    void resume();
+
+    /**
+     * @return the board as text, one line per row: {@code .} for an empty
+     *         cell, the colour code for a settled cell and {@code @} for the
+     *         active piece
+     */
+    String dumpBoard();
+}
@@ -0,0 +1,133 @@
+package com.comp2042.diagnostics;
+
+import javafx.scene.Scene;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Key-press-to-screen latency tracing for one game view.
+ *
+ * <p>The input handler stamps each key press with {@link System#nanoTime()}
+ * and passes the stamp along in the {@link com.comp2042.input.MoveEvent}.
+ * Once the engine has applied the move and the board view has repositioned
+ * the brick, the handler reports the stamp with {@link #refreshed}. The stamp
+ * is then held until the scene's next post-layout pulse completes, which is
+ * the point where JavaFX hands the changed scene graph to the render thread;
+ * only the render thread and the display's vsync remain after it.</p>
+ *
+ * <p>Two figures are kept: per action, the total from key press to the end
+ * of the pulse; and, over all actions, the part spent before the view was
+ * updated (handler, engine and any {@code Platform.runLater} hops). The
+ * difference between them is the wait for the next pulse.</p>
+ *
+ * <p>All recording happens on the JavaFX application thread; the
+ * histograms may be read from any thread.</p>
+ */
+public final class InputLatencyTracker {
+    private static final Logger LOGGER = Logger.getLogger(InputLatencyTracker.class.getName());
+
+    /** Key actions that are traced. */
+    public enum Action {
+        LEFT, RIGHT, ROTATE, SOFT_DROP, HARD_DROP, SWAP
+    }
+
+    // presses waiting for a pulse; beyond this many in one pulse the rest are dropped
+    private static final int MAX_PENDING = 64;
+
+    private final Map<Action, LatencyHistogram> total = new EnumMap<>(Action.class);
+    private final LatencyHistogram toRefresh = new LatencyHistogram();
+    private final long[] pendingStamps = new long[MAX_PENDING];
+    private final Action[] pendingActions = new Action[MAX_PENDING];
+    private int pending;
+    private final Runnable pulseListener = () -> pulseCompleted(System.nanoTime());
+    private Scene scene;
+
+    public InputLatencyTracker() {
+        for (Action a : Action.values()) total.put(a, new LatencyHistogram());
+    }
+
+    /**
+     * Listen for the pulses of {@code scene}, detaching from any previous one.
+     */
+    public void attach(Scene scene) {
+        if (scene == this.scene) return;
+        detach();
+        this.scene = scene;
+        if (scene != null) scene.addPostLayoutPulseListener(pulseListener);
+    }
+
+    /**
+     * Stop listening for pulses and log the summary when anything was
+     * recorded.
+     */
+    public void detach() {
+        if (scene == null) return;
+        try {
+            scene.removePostLayoutPulseListener(pulseListener);
+        } catch (Exception e) {
+            LOGGER.log(Level.FINER, "Failed to remove pulse listener", e);
+        }
+        scene = null;
+        pending = 0;
+        if (toRefresh.getCount() > 0 && LOGGER.isLoggable(Level.INFO)) {
+            LOGGER.info("Input latency\n" + format());
+        }
+    }
+
+    /**
+     * Report that the move caused by a key press at {@code stampNanos} is now
+     * shown by the board view. Unstamped events ({@code 0}) are ignored.
+     */
+    public void refreshed(Action action, long stampNanos) {
+        refreshed(action, stampNanos, System.nanoTime());
+    }
+
+    void refreshed(Action action, long stampNanos, long nowNanos) {
+        if (action == null || stampNanos == 0L) return;
+        toRefresh.record(nowNanos - stampNanos);
+        if (pending < MAX_PENDING) {
+            pendingStamps[pending] = stampNanos;
+            pendingActions[pending] = action;
+            pending++;
+        }
+    }
+
+    void pulseCompleted(long nowNanos) {
+        for (int i = 0; i < pending; i++) {
+            total.get(pendingActions[i]).record(nowNanos - pendingStamps[i]);
+            pendingActions[i] = null;
+        }
+        pending = 0;
+    }
+
+    /**
+     * @return key press to end of the displaying pulse, for {@code action}
+     */
+    public LatencyHistogram getTotal(Action action) {
+        return total.get(action);
+    }
+
+    /**
+     * @return key press to board view updated, over all actions
+     */
+    public LatencyHistogram getToRefresh() {
+        return toRefresh;
+    }
+
+    /**
+     * @return one line per action with samples, then the pre-refresh line
+     */
+    public String format() {
+        StringBuilder sb = new StringBuilder();
+        for (Action a : Action.values()) {
+            LatencyHistogram h = total.get(a);
+            if (h.getCount() == 0) continue;
+            sb.append(String.format("  %-10s %s%n", a, h.format()));
+        }
+        sb.append(String.format("  %-10s %s", "to-refresh", toRefresh.format()));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,95 @@
+package com.comp2042.diagnostics;
+
+/**
+ * Fixed-bucket latency histogram.
+ *
+ * <p>Samples are counted in {@link #BUCKET_NANOS} (0.1 ms) buckets up to
+ * {@link #RANGE_NANOS}; anything slower lands in one overflow bucket. Recording
+ * is a single array increment, so the histogram can be fed from the FX thread
+ * on every key press without allocating. Percentiles are reported as the upper
+ * edge of the bucket they fall in, i.e. to within 0.1 ms.</p>
+ *
+ * <p>Methods are synchronized so a monitoring thread (JMX, a HUD) can read
+ * while the FX thread records.</p>
+ */
+public final class LatencyHistogram {
+
+    /** Width of one bucket. */
+    public static final long BUCKET_NANOS = 100_000L;
+    /** Upper end of the bucketed range; slower samples share one bucket. */
+    public static final long RANGE_NANOS = 500_000_000L;
+
+    private static final int BUCKETS = (int) (RANGE_NANOS / BUCKET_NANOS);
+
+    private final long[] counts = new long[BUCKETS + 1];
+    private long count;
+    private long sumNanos;
+    private long maxNanos;
+
+    /**
+     * Add one sample. Negative samples (clock misuse) are ignored.
+     */
+    public synchronized void record(long nanos) {
+        if (nanos < 0) return;
+        // bucket i holds (i, i + 1] * BUCKET_NANOS so edges report exactly
+        int bucket = (int) Math.min(BUCKETS, Math.max(0, nanos - 1) / BUCKET_NANOS);
+        counts[bucket]++;
+        count++;
+        sumNanos += nanos;
+        if (nanos > maxNanos) maxNanos = nanos;
+    }
+
+    /** @return number of samples */
+    public synchronized long getCount() {
+        return count;
+    }
+
+    /** @return mean sample in nanoseconds, or {@code 0} when empty */
+    public synchronized double getMeanNanos() {
+        return (count == 0) ? 0 : (double) sumNanos / count;
+    }
+
+    /** @return largest sample in nanoseconds */
+    public synchronized long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * Nearest-rank percentile, rounded up to its bucket edge.
+     *
+     * @param percent value in {@code [0, 100]}
+     * @return the latency in nanoseconds at or below which {@code percent}% of
+     *         samples fall; {@code 0} when empty. Samples in the overflow
+     *         bucket report the maximum.
+     */
+    public synchronized long percentileNanos(double percent) {
+        if (percent < 0 || percent > 100) throw new IllegalArgumentException("percent must be in [0, 100]");
+        if (count == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(percent / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) return Math.min(maxNanos, (i + 1) * BUCKET_NANOS);
+        }
+        return maxNanos;
+    }
+
+    /** Discard all samples. */
+    public synchronized void reset() {
+        java.util.Arrays.fill(counts, 0L);
+        count = 0;
+        sumNanos = 0;
+        maxNanos = 0;
+    }
+
+    /** @return one-line summary: count, p50, p95, p99 and max in milliseconds */
+    public synchronized String format() {
+        return String.format("n=%d  p50 %.1f ms  p95 %.1f ms  p99 %.1f ms  max %.1f ms",
+                count, millis(percentileNanos(50)), millis(percentileNanos(95)),
+                millis(percentileNanos(99)), millis(maxNanos));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+}
@@ -0,0 +1,187 @@
+package com.comp2042.diagnostics;
+
+import com.comp2042.controller.gameLoop.GameLoop;
+import com.comp2042.view.EffectsGovernor;
+import com.comp2042.view.ParticleSystem;
+
+import javafx.animation.AnimationTimer;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
+/**
+ * Performance overlay for a game scene.
+ *
+ * <p>Shows the frame rate with a frame-time sparkline, the time the game loop
+ * spent in timer actions (engine steps and the view updates they trigger)
+ * against the scene's CSS and layout pass, the live scene-graph node count
+ * including the particle layer, running effect animations, the effects
+ * quality, heap use and GC count. Frame times are sampled every pulse; the
+ * text and the node walk are refreshed a few times per second so the HUD
+ * itself stays cheap.</p>
+ *
+ * <p>Build one per game view, add it to the scene and call
+ * {@link #start(Scene, Pane)}; {@link #stop()} releases the pulse hooks. All
+ * methods run on the JavaFX application thread.</p>
+ */
+public final class PerfHud extends VBox {
+
+    /** Node id used to find the HUD in a scene. */
+    public static final String ID = "PERF_HUD_OVERLAY";
+
+    private static final int FRAMES = 120;
+    private static final long TEXT_INTERVAL_NANOS = 250_000_000L;
+    private static final double SPARK_W = FRAMES * 2;
+    private static final double SPARK_H = 40;
+    // sparkline full scale: two 60 Hz frames
+    private static final double SPARK_SCALE_NANOS = 2 * 16_666_667.0;
+
+    private long layoutStart;
+    private long layoutNanos;
+    private long lastText = Long.MIN_VALUE;
+
+    private final FrameStats frames = new FrameStats(FRAMES);
+    private final Label text = new Label();
+    private final Canvas spark = new Canvas(SPARK_W, SPARK_H);
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    private final Runnable preLayout = () -> layoutStart = System.nanoTime();
+    private final Runnable postLayout = () -> {
+        if (layoutStart != 0L) layoutNanos = System.nanoTime() - layoutStart;
+    };
+
+    private AnimationTimer timer;
+    private Scene scene;
+    private Pane particlePane;
+
+    public PerfHud() {
+        setId(ID);
+        setMouseTransparent(true);
+        setSpacing(4);
+        setMaxSize(USE_PREF_SIZE, USE_PREF_SIZE);
+        setStyle("-fx-background-color: rgba(0,0,0,0.65); -fx-padding: 8px; -fx-background-radius: 6px;");
+        text.setStyle("-fx-text-fill: #9eff9e; -fx-font-family: monospace; -fx-font-size: 12px;");
+        getChildren().addAll(text, spark);
+        // leaving the scene (root replaced on a mode switch) releases the hooks
+        sceneProperty().addListener((obs, oldScene, newScene) -> {
+            if (newScene == null) stop();
+        });
+    }
+
+    /**
+     * Start sampling.
+     *
+     * @param scene        scene whose pulses and nodes are measured
+     * @param particlePane particle layer counted separately (may be {@code null})
+     */
+    public void start(Scene scene, Pane particlePane) {
+        stop();
+        this.scene = scene;
+        this.particlePane = particlePane;
+        frames.reset();
+        if (scene != null) {
+            scene.addPreLayoutPulseListener(preLayout);
+            scene.addPostLayoutPulseListener(postLayout);
+        }
+        timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                sample(now);
+            }
+        };
+        timer.start();
+    }
+
+    /** Stop sampling and detach from the scene. */
+    public void stop() {
+        if (timer != null) {
+            timer.stop();
+            timer = null;
+        }
+        if (scene != null) {
+            scene.removePreLayoutPulseListener(preLayout);
+            scene.removePostLayoutPulseListener(postLayout);
+            scene = null;
+        }
+        particlePane = null;
+    }
+
+    private void sample(long now) {
+        frames.pulse(now);
+        if (lastText != Long.MIN_VALUE && now - lastText < TEXT_INTERVAL_NANOS) return;
+        lastText = now;
+        text.setText(describe());
+        drawSparkline();
+    }
+
+    private String describe() {
+        long heapUsed = memory.getHeapMemoryUsage().getUsed();
+        long heapMax = memory.getHeapMemoryUsage().getMax();
+        long gcCount = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            gcCount += Math.max(0, gc.getCollectionCount());
+        }
+        int nodes = (scene != null) ? countNodes(scene.getRoot()) : 0;
+        int particles = ParticleSystem.count(particlePane);
+        GameLoop loop = GameLoop.shared();
+        return String.format("FPS %5.1f  frame %4.1f ms  max %4.1f ms%n"
+                        + "step %5.2f ms  layout %5.2f ms%n"
+                        + "nodes %d  particles %d%n"
+                        + "animations %d  loop timers %d%n"
+                        + "effects %s%n"
+                        + "heap %d / %d MB  GC %d",
+                frames.getFps(), frames.getMeanNanos() / 1e6, frames.getMaxNanos() / 1e6,
+                loop.getLastStepNanos() / 1e6, layoutNanos / 1e6,
+                nodes, particles,
+                AnimationCounter.getRunning(), loop.getRunningTimers(),
+                EffectsGovernor.shared().describe(),
+                heapUsed >> 20, (heapMax > 0 ? heapMax : Runtime.getRuntime().maxMemory()) >> 20, gcCount);
+    }
+
+    private void drawSparkline() {
+        GraphicsContext g = spark.getGraphicsContext2D();
+        g.clearRect(0, 0, SPARK_W, SPARK_H);
+        // reference line at one 60 Hz frame
+        g.setStroke(Color.rgb(255, 255, 255, 0.3));
+        double ref = SPARK_H - SPARK_H * (16_666_667.0 / SPARK_SCALE_NANOS);
+        g.strokeLine(0, ref, SPARK_W, ref);
+        int n = frames.size();
+        if (n < 2) return;
+        g.setStroke(Color.rgb(158, 255, 158));
+        double step = SPARK_W / (FRAMES - 1);
+        double x0 = SPARK_W - (n - 1) * step;
+        double prevX = x0;
+        double prevY = sparkY(frames.get(0));
+        for (int i = 1; i < n; i++) {
+            double x = x0 + i * step;
+            double y = sparkY(frames.get(i));
+            g.strokeLine(prevX, prevY, x, y);
+            prevX = x;
+            prevY = y;
+        }
+    }
+
+    private static double sparkY(long frameNanos) {
+        double v = Math.min(1.0, frameNanos / SPARK_SCALE_NANOS);
+        return SPARK_H - v * SPARK_H;
+    }
+
+    // the HUD's own nodes are included; they are a handful
+    static int countNodes(Node node) {
+        if (node == null) return 0;
+        int count = 1;
+        if (node instanceof Parent) {
+            for (Node child : ((Parent) node).getChildrenUnmodifiable()) count += countNodes(child);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,32 @@
+package com.comp2042.diagnostics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One 60 Hz gravity step of a game view. The duration covers the input
+ * sample, the engine step and the view update it caused.
+ */
+@Name("com.comp2042.GravityTick")
+@Label("Gravity Tick")
+@Category({"Tetris Nexus", "Game Loop"})
+@Description("One gravity frame: handling sample, engine step and view update")
+@StackTrace(false)
+public class GravityTickEvent extends jdk.jfr.Event {
+
+    @Label("Board")
+    public int boardId;
+
+    @Label("Level")
+    public int level;
+
+    @Label("Rows Dropped")
+    @Description("Rows the piece fell; 0 on the frame it locked")
+    public int rowsDropped;
+
+    @Label("Locked")
+    public boolean locked;
+}
@@ -0,0 +1,23 @@
+package com.comp2042.diagnostics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A key press was handled by a game view. The duration runs from the key
+ * event to the view update; presses the view ignores are not recorded.
+ */
+@Name("com.comp2042.InputHandled")
+@Label("Input Handled")
+@Category({"Tetris Nexus", "Input"})
+@StackTrace(false)
+public class InputHandledEvent extends jdk.jfr.Event {
+
+    @Label("Board")
+    public int boardId;
+
+    @Label("Key")
+    public String key;
+}
@@ -0,0 +1,29 @@
+package com.comp2042.diagnostics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A particle effect was spawned. The duration covers creating the nodes and
+ * starting their animations, not the animations themselves.
+ */
+@Name("com.comp2042.ParticleBurst")
+@Label("Particle Burst")
+@Category({"Tetris Nexus", "View"})
+@Description("Particle nodes were created and their animations started")
+@StackTrace(false)
+public class ParticleBurstEvent extends jdk.jfr.Event {
+
+    @Label("Board")
+    @Description("Board the effect belongs to, or 0 when not known")
+    public int boardId;
+
+    @Label("Effect")
+    public String effect;
+
+    @Label("Particles")
+    public int particles;
+}
@@ -0,0 +1,22 @@
+package com.comp2042.diagnostics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The board background (settled cells) was redrawn.
+ */
+@Name("com.comp2042.RenderRefresh")
+@Label("Render Refresh")
+@Category({"Tetris Nexus", "View"})
+@StackTrace(false)
+public class RenderRefreshEvent extends jdk.jfr.Event {
+
+    @Label("Board")
+    public int boardId;
+
+    @Label("Rows")
+    public int rows;
+}
@@ -0,0 +1,32 @@
+package com.comp2042.diagnostics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * The window switched to another screen. The duration covers loading the
+ * layout, swapping the scene root and setting up the games it holds.
+ */
+@Name("com.comp2042.SceneSwitch")
+@Label("Scene Switch")
+@Category({"Tetris Nexus", "View"})
+@Description("Layout load, root swap and game set-up when entering a screen")
+@StackTrace(false)
+public class SceneSwitchEvent extends jdk.jfr.Event {
+
+    @Label("Screen")
+    public String screen;
+
+    /**
+     * Create an event for entering {@code screen} and start its timer.
+     */
+    public static SceneSwitchEvent start(String screen) {
+        SceneSwitchEvent event = new SceneSwitchEvent();
+        event.screen = screen;
+        event.begin();
+        return event;
+    }
+}
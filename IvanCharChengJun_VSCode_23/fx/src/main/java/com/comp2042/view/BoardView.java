@@ -1,5 +1,6 @@
 package com.comp2042.view;
 
+import com.comp2042.diagnostics.jfr.RenderRefreshEvent;
 import com.comp2042.model.ViewData;
 import com.comp2042.utils.MatrixOperations;
 
@@ -11,7 +12,7 @@ import javafx.scene.layout.GridPane;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.Paint;
-import javafx.scene.shape.Rectangle;
+import java.util.BitSet;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -19,6 +20,12 @@ import java.util.logging.Logger;
  * Small helper that owns board rendering/layout concerns extracted from GuiController.
  * This is a focused, low-risk extraction: it mirrors the existing behaviour but
  * encapsulates the grid, ghost, and coordinate math so the controller can delegate to it.
+ *
+ * <p>The grid, stack, ghost and active piece are drawn by a
+ * {@link CanvasBoardRenderer} into one canvas placed in the game panel. The
+ * brick and ghost panels hold no nodes any more; they are still positioned
+ * over the piece and ghost so effects can anchor to them, and hiding either
+ * panel hides the matching layer on the canvas.</p>
  */
 
 public class BoardView {
@@ -31,11 +38,9 @@ public class BoardView {
     private final Pane ghostPanel;
     private final Canvas bgCanvas;
 
-    private Rectangle[][] displayMatrix;
-    private Rectangle[][] rectangles;
-    private Rectangle[][] ghostRectangles;
+    private CanvasBoardRenderer renderer;
     private int[][] currentBoardMatrix;
-    
+    private int boardId;
 
     private double cellW = BRICK_SIZE;
     private double cellH = BRICK_SIZE;
@@ -52,8 +57,8 @@ public class BoardView {
     /**
      * Initialize the visual board representation from a board matrix and an
      * optional initial {@link ViewData} describing the active piece. This will
-     * create the grid cells, brick nodes and ghost nodes and schedule a layout
-     * pass on the JavaFX Application Thread.
+     * create the board canvas on first use and schedule a layout pass on the
+     * JavaFX Application Thread.
      *
      * @param boardMatrix the board matrix (rows x cols) used to build the grid
      * @param brick       optional snapshot of the active piece; may be {@code null}
@@ -62,101 +67,54 @@ public class BoardView {
         if (boardMatrix == null || gamePanel == null) return;
         this.currentBoardMatrix = boardMatrix;
 
-        createDisplayMatrix(boardMatrix);
+        createBoardCanvas(boardMatrix);
 
         if (brick == null) return;
 
-        createRectanglesForBrick(brick);
-        createGhostRectanglesForBrick(brick);
         scheduleInitLayout(boardMatrix, brick);
     }
 
     // --- Helper methods extracted from initGameView to improve OOP / readability ---
-    private void createDisplayMatrix(int[][] boardMatrix) {
-        displayMatrix = new Rectangle[boardMatrix.length][boardMatrix[0].length];
-        for (int i = 2; i < boardMatrix.length; i++) {
-            for (int j = 0; j < boardMatrix[i].length; j++) {
-                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                // show a faint cell border so the grid is visible behind bricks
-                rectangle.setFill(Color.TRANSPARENT);
-                rectangle.setStroke(Color.rgb(255, 255, 255, 0.06));
-                rectangle.setStrokeWidth(0.8);
-                rectangle.setArcWidth(8);
-                rectangle.setArcHeight(8);
-                displayMatrix[i][j] = rectangle;
-                gamePanel.add(rectangle, j, i - 2);
-            }
-        }
-    }
-
-    private double initialCellW() {
-        return BRICK_SIZE + (gamePanel == null ? 0 : gamePanel.getHgap());
-    }
-
-    private double initialCellH() {
-        return BRICK_SIZE + (gamePanel == null ? 0 : gamePanel.getVgap());
-    }
-
-    private void createRectanglesForBrick(ViewData brick) {
-        int[][] brickData = brick.getBrickData();
-        rectangles = new Rectangle[brickData.length][brickData[0].length];
-        double initialCellW = initialCellW();
-        double initialCellH = initialCellH();
-        for (int i = 0; i < brickData.length; i++) {
-            for (int j = 0; j < brickData[i].length; j++) {
-                Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                // bricks get a solid-ish fill and a subtle stroke to pop against the grid
-                rectangle.setFill(getFillColor(brickData[i][j]));
-                rectangle.setStroke(Color.rgb(0,0,0,0.35));
-                rectangle.setStrokeWidth(1.0);
-                rectangles[i][j] = rectangle;
-                rectangle.setLayoutX(j * initialCellW);
-                rectangle.setLayoutY(i * initialCellH);
-                if (brickPanel != null) brickPanel.getChildren().add(rectangle);
+    private void createBoardCanvas(int[][] boardMatrix) {
+        if (renderer == null) {
+            cellW = BRICK_SIZE + gamePanel.getHgap();
+            cellH = BRICK_SIZE + gamePanel.getVgap();
+            Canvas canvas = new Canvas();
+            canvas.setMouseTransparent(true);
+            renderer = new CanvasBoardRenderer(canvas, cellW, cellH, gamePanel.getHgap());
+            gamePanel.add(canvas, 0, 0);
+            if (brickPanel != null) {
+                renderer.setPieceVisible(brickPanel.isVisible());
+                brickPanel.visibleProperty().addListener((obs, was, visible) -> {
+                    renderer.setPieceVisible(visible);
+                    renderer.render();
+                });
             }
-        }
-    }
-
-    private void createGhostRectanglesForBrick(ViewData brick) {
-        int[][] brickData = brick.getBrickData();
-        ghostRectangles = new Rectangle[brickData.length][brickData[0].length];
-        double initialCellW = initialCellW();
-        double initialCellH = initialCellH();
-        for (int i = 0; i < ghostRectangles.length; i++) {
-            for (int j = 0; j < ghostRectangles[i].length; j++) {
-                Rectangle r = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                r.setFill(Color.rgb(200, 200, 200, 0.25));
-                r.setStroke(Color.rgb(0,0,0,0.25));
-                r.setStrokeWidth(0.8);
-                r.setVisible(false);
-                ghostRectangles[i][j] = r;
-                r.setLayoutX(j * initialCellW);
-                r.setLayoutY(i * initialCellH);
-                if (ghostPanel != null) ghostPanel.getChildren().add(r);
+            if (ghostPanel != null) {
+                renderer.setGhostVisible(ghostPanel.isVisible());
+                ghostPanel.visibleProperty().addListener((obs, was, visible) -> {
+                    renderer.setGhostVisible(visible);
+                    renderer.render();
+                });
             }
         }
+        renderer.setBoard(boardMatrix);
+        renderer.render();
     }
 
     private void scheduleInitLayout(final int[][] boardMatrix, final ViewData brick) {
         Platform.runLater(() -> {
             try {
-                // Measure grid origin using first non-null reference cell if possible
-                Rectangle ref = findFirstDisplayRectangle();
-                if (ref != null) {
-                    baseOffsetX = ref.getBoundsInParent().getMinX();
-                    baseOffsetY = ref.getBoundsInParent().getMinY();
+                // Measure the grid origin from the board canvas
+                Canvas canvas = (renderer != null) ? renderer.getCanvas() : null;
+                if (canvas != null) {
+                    baseOffsetX = canvas.getBoundsInParent().getMinX();
+                    baseOffsetY = canvas.getBoundsInParent().getMinY();
                 } else {
                     baseOffsetX = 0;
                     baseOffsetY = 0;
                 }
 
-                // Recompute cell sizes if possible (keep previous values on failure)
-                recomputeCellSizes();
-
-                // snap rectangles to measured grid
-                snapRectanglesToCellSize();
-                snapGhostRectanglesToCellSize();
-
                 if (bgCanvas != null) {
                     bgCanvas.setTranslateX(Math.round(baseOffsetX));
                     bgCanvas.setTranslateY(Math.round(baseOffsetY));
@@ -176,55 +134,6 @@ public class BoardView {
         });
     }
 
-    private Rectangle findFirstDisplayRectangle() {
-        if (displayMatrix == null) return null;
-        for (int r = 2; r < displayMatrix.length; r++) {
-            for (int c = 0; c < displayMatrix[r].length; c++) {
-                if (displayMatrix[r][c] != null) return displayMatrix[r][c];
-            }
-        }
-        return null;
-    }
-
-    private void recomputeCellSizes() {
-        try {
-            double measuredW = (rectangles != null && rectangles.length > 0 && rectangles[0].length > 0)
-                    ? rectangles[0][0].getBoundsInParent().getWidth() : BRICK_SIZE;
-            double measuredH = (rectangles != null && rectangles.length > 0 && rectangles[0].length > 0)
-                    ? rectangles[0][0].getBoundsInParent().getHeight() : BRICK_SIZE;
-            cellW = Math.max(4.0, measuredW + (gamePanel == null ? 0 : gamePanel.getHgap()));
-            cellH = Math.max(4.0, measuredH + (gamePanel == null ? 0 : gamePanel.getVgap()));
-        } catch (Exception ex) {
-            LOGGER.log(Level.FINER, "Failed to measure rectangle sizes, keeping defaults", ex);
-        }
-    }
-
-    private void snapRectanglesToCellSize() {
-        if (rectangles == null) return;
-        for (int i = 0; i < rectangles.length; i++) {
-            for (int j = 0; j < rectangles[i].length; j++) {
-                Rectangle rect = rectangles[i][j];
-                if (rect != null) {
-                    rect.setLayoutX(Math.round(j * cellW));
-                    rect.setLayoutY(Math.round(i * cellH));
-                }
-            }
-        }
-    }
-
-    private void snapGhostRectanglesToCellSize() {
-        if (ghostRectangles == null) return;
-        for (int i = 0; i < ghostRectangles.length; i++) {
-            for (int j = 0; j < ghostRectangles[i].length; j++) {
-                Rectangle rect = ghostRectangles[i][j];
-                if (rect != null) {
-                    rect.setLayoutX(Math.round(j * cellW));
-                    rect.setLayoutY(Math.round(i * cellH));
-                }
-            }
-        }
-    }
-
     private void drawBackgroundGrid(Canvas canvas, int[][] boardMatrix) {
         if (canvas == null || boardMatrix == null) return;
         GraphicsContext g = canvas.getGraphicsContext2D();
@@ -270,14 +179,53 @@ public class BoardView {
          * @param board the current board matrix (rows x cols)
          */
         this.currentBoardMatrix = board;
-        if (board == null || displayMatrix == null) return;
-        for (int i = 2; i < board.length; i++) {
-            for (int j = 0; j < board[i].length; j++) {
-                setRectangleData(board[i][j], displayMatrix[i][j]);
-            }
+        if (board == null || renderer == null) return;
+        RenderRefreshEvent event = new RenderRefreshEvent();
+        event.begin();
+        renderer.setBoard(board);
+        renderer.render();
+        event.end();
+        if (event.shouldCommit()) {
+            event.boardId = boardId;
+            event.rows = Math.max(0, board.length - 2);
+            event.commit();
         }
     }
 
+    /**
+     * Repaint only the given rows of the board background; the caller knows
+     * the other rows are unchanged since the last refresh.
+     *
+     * @param board the current board matrix (rows x cols)
+     * @param rows  indices of the changed rows
+     */
+    public void refreshGameBackground(int[][] board, BitSet rows) {
+        this.currentBoardMatrix = board;
+        if (board == null || renderer == null) return;
+        RenderRefreshEvent event = new RenderRefreshEvent();
+        event.begin();
+        renderer.setBoard(board, rows);
+        renderer.render();
+        event.end();
+        if (event.shouldCommit()) {
+            event.boardId = boardId;
+            event.rows = (rows != null) ? rows.cardinality() : Math.max(0, board.length - 2);
+            event.commit();
+        }
+    }
+
+    /**
+     * Set the engine board id this view shows; it tags the view's flight
+     * recorder events.
+     */
+    public void setBoardId(int boardId) {
+        this.boardId = boardId;
+    }
+
+    public int getBoardId() {
+        return boardId;
+    }
+
     /**
      * Map a numeric board color code to a Paint instance. Public so other controllers
      * can reuse the canonical mapping and avoid duplication.
@@ -297,18 +245,6 @@ public class BoardView {
         }
     }
 
-    // keep an instance-level helper for internal usage that delegates to the static mapper
-    private Paint getFillColor(int i) {
-        return mapCodeToPaint(i);
-    }
-
-    private void setRectangleData(int color, Rectangle rectangle) {
-        if (rectangle == null) return;
-        rectangle.setFill(getFillColor(color));
-        rectangle.setArcHeight(9);
-        rectangle.setArcWidth(9);
-    }
-
     public void refreshBrick(ViewData brick) {
         /**
          * Update the on-screen representation of the active piece using the
@@ -317,7 +253,7 @@ public class BoardView {
          *
          * @param brick snapshot describing the active piece position and shape
          */
-        if (brick == null || brickPanel == null) return;
+        if (brick == null || renderer == null) return;
         doRefreshBrick(brick);
     }
 
@@ -325,15 +261,8 @@ public class BoardView {
         if (brick == null) return;
         int offsetX = brick.getxPosition();
         int offsetY = brick.getyPosition() - 2;
-        // prefer converting using an actual cell node if available to avoid coordinate drift
-        Point2D scenePt = null;
-        try {
-            if (offsetY + 2 >= 0 && offsetY + 2 < displayMatrix.length && offsetX >= 0 && offsetX < displayMatrix[0].length) {
-                Rectangle ref = displayMatrix[offsetY + 2][offsetX];
-                if (ref != null) scenePt = ref.localToScene(0.0, 0.0);
-            }
-        } catch (Exception ignored) {}
-        if (scenePt == null) scenePt = (gamePanel != null && gamePanel.getParent() != null) ? gamePanel.localToScene(boardToPixel(offsetX, offsetY)) : boardToPixel(offsetX, offsetY);
+        // keep the brick panel over the piece; effects anchor to it
+        Point2D scenePt = boardCellScenePoint(offsetX, offsetY + 2);
 
         try {
             if (brickPanel != null && brickPanel.getParent() != null) {
@@ -354,20 +283,9 @@ public class BoardView {
             LOGGER.log(Level.FINER, "Failed to position brickPanel precisely, falling back", ex);
         }
 
-        int[][] data = brick.getBrickData();
-        if (rectangles == null) return;
-        for (int i = 0; i < data.length; i++) {
-            for (int j = 0; j < data[i].length; j++) {
-                Rectangle r = rectangles[i][j];
-                int val = data[i][j];
-                setRectangleData(val, r);
-                if (r != null) r.setVisible(val != 0);
-                if (r != null) r.setLayoutX(Math.round(j * cellW));
-                if (r != null) r.setLayoutY(Math.round(i * cellH));
-            }
-        }
-
+        renderer.setPiece(shapeOf(brick), brick.getxPosition(), brick.getyPosition());
         updateGhost(brick, currentBoardMatrix);
+        renderer.render();
     }
 
     public void updateGhost(ViewData brick, int[][] boardMatrix) {
@@ -378,18 +296,65 @@ public class BoardView {
          * @param brick       snapshot describing active piece and position
          * @param boardMatrix the current board matrix used for collision checks
          */
-        if (brick == null || boardMatrix == null || ghostPanel == null || ghostRectangles == null) return;
+        if (brick == null || boardMatrix == null || renderer == null) return;
         int startX = brick.getxPosition();
         int startY = brick.getyPosition();
-        int[][] shape = brick.getBrickData();
+        int[][] shape = shapeOf(brick);
 
-        int effectiveBrickHeight = computeEffectiveBrickHeight(shape);
-        int landingY = computeLandingY(startX, startY, shape, boardMatrix, effectiveBrickHeight);
+        // boards supply the landing row from their column heights; scan only for raw snapshots
+        int landingY = brick.getLandingY();
+        if (landingY == ViewData.NO_LANDING_Y) {
+            landingY = computeLandingY(startX, startY, shape, boardMatrix, effectiveHeightOf(brick, shape));
+        }
 
-        Point2D scenePt = computeScenePointForLanding(startX, landingY);
-        positionPanelAtScenePoint(ghostPanel, scenePt, startX, landingY - 2);
+        positionPanelAtScenePoint(ghostPanel, boardCellScenePoint(startX, landingY), startX, landingY - 2);
 
-        updateGhostRectanglesVisibility(shape, landingY, startX, boardMatrix);
+        renderer.setGhost(shape, startX, landingY);
+        renderer.render();
+    }
+
+    /**
+     * Draw the second player's piece of a cooperative board.
+     *
+     * @param brick    snapshot of the second piece; {@code null} removes it
+     * @param landingY board row the piece's top edge lands on
+     */
+    public void refreshSecondBrick(ViewData brick, int landingY) {
+        if (renderer == null) return;
+        if (brick == null) renderer.setSecondPiece(null, 0, 0, CanvasBoardRenderer.NO_GHOST);
+        else renderer.setSecondPiece(shapeOf(brick), brick.getxPosition(), brick.getyPosition(), landingY);
+        renderer.render();
+    }
+
+    /** Show or hide the second player's piece and ghost. */
+    public void setSecondBrickVisible(boolean visible) {
+        if (renderer == null) return;
+        renderer.setSecondPieceVisible(visible);
+        renderer.render();
+    }
+
+    /** @return {@code true} once the board canvas exists and pieces are drawn on it */
+    public boolean isCanvasReady() {
+        return renderer != null;
+    }
+
+    /**
+     * Read-only brick matrix for rendering. Standard pieces return the shared
+     * {@link com.comp2042.logic.PieceTable} matrix instead of a defensive copy;
+     * callers MUST NOT mutate the result.
+     */
+    public static int[][] shapeOf(ViewData brick) {
+        com.comp2042.logic.PieceTable.Piece piece = brick.getPiece();
+        return (piece != null) ? piece.matrix(brick.getRotation()) : brick.getBrickData();
+    }
+
+    /**
+     * Effective height of the active brick, taken from the precomputed
+     * bounding box when available.
+     */
+    public static int effectiveHeightOf(ViewData brick, int[][] shape) {
+        com.comp2042.logic.PieceTable.Piece piece = brick.getPiece();
+        return (piece != null) ? piece.maxY(brick.getRotation()) + 1 : computeEffectiveBrickHeight(shape);
     }
 
     public static int computeEffectiveBrickHeight(int[][] shape) {
@@ -435,19 +400,6 @@ public class BoardView {
         return landingY;
     }
 
-    private Point2D computeScenePointForLanding(int startX, int landingY) {
-        Point2D scenePt = null;
-        try {
-            int refRow = landingY; // landingY matches the boardMatrix/displayMatrix row index
-            if (refRow >= 0 && displayMatrix != null && refRow < displayMatrix.length && startX >= 0 && startX < displayMatrix[0].length) {
-                Rectangle ref = displayMatrix[refRow][startX];
-                if (ref != null) scenePt = ref.localToScene(0.0, 0.0);
-            }
-        } catch (Exception ignored) {}
-        if (scenePt == null) scenePt = (gamePanel != null && gamePanel.getParent() != null) ? gamePanel.localToScene(boardToPixel(startX, landingY - 2)) : boardToPixel(startX, landingY - 2);
-        return scenePt;
-    }
-
     private void positionPanelAtScenePoint(Pane panel, Point2D scenePt, int fallbackBoardX, int fallbackBoardY) {
         if (panel == null) return;
         try {
@@ -468,23 +420,6 @@ public class BoardView {
         }
     }
 
-    private void updateGhostRectanglesVisibility(int[][] shape, int landingY, int startX, int[][] boardMatrix) {
-        for (int i = 0; i < shape.length; i++) {
-            for (int j = 0; j < shape[i].length; j++) {
-                Rectangle r = ghostRectangles[i][j];
-                if (r == null) continue;
-                if (shape[i][j] == 0) { r.setVisible(false); continue; }
-                int boardY = landingY + i;
-                int boardX = startX + j;
-                boolean visible = true;
-                if (boardX < 0 || boardX >= boardMatrix[0].length) visible = false;
-                if (boardY < 2) visible = false;
-                if (boardY >= 0 && boardY < boardMatrix.length && boardMatrix[boardY][boardX] != 0) visible = false;
-                r.setVisible(visible);
-            }
-        }
-    }
-
     // small utility used by callers that may need measured sizes
     /** @return measured cell width in pixels (may be recomputed after layout). */
     public double getCellWidth() { return cellW; }
@@ -503,7 +438,8 @@ public class BoardView {
      * @return number of columns in the visible grid (defaults to 10 when unknown)
      */
     public int getColumns() {
-        try { return (displayMatrix != null && displayMatrix.length > 0) ? displayMatrix[0].length : 10; } catch (Exception ignored) { return 10; }
+        int[][] board = (renderer != null) ? renderer.getBoard() : null;
+        return (board != null && board.length > 0) ? board[0].length : 10;
     }
 
     // safely return the fill Paint for a given board cell (row, col)
@@ -517,24 +453,14 @@ public class BoardView {
      * @return the Paint used to fill the cell
      */
     public Paint getCellFill(int boardRow, int boardCol) {
-        try {
-            if (displayMatrix != null && boardRow >= 0 && boardRow < displayMatrix.length && boardCol >= 0 && boardCol < displayMatrix[0].length) {
-                Rectangle r = displayMatrix[boardRow][boardCol];
-                if (r != null) return r.getFill();
-            }
-        } catch (Exception ignored) {}
-        return Color.TRANSPARENT;
+        if (renderer == null || boardRow < CanvasBoardRenderer.HIDDEN_ROWS) return Color.TRANSPARENT;
+        return mapCodeToPaint(renderer.codeAt(boardRow, boardCol));
     }
 
     /**
      * Returns the scene coordinates of the top-left corner of the given board cell.
-     * If an actual display Rectangle is available it's used for exact positioning,
-     * otherwise falls back to converting the computed boardToPixel point via the gamePanel.
-     */
-    /**
-     * Returns the scene coordinates of the top-left corner of the given board cell.
-     * If an actual display Rectangle is available it's used for exact positioning,
-     * otherwise falls back to converting the computed boardToPixel point via the gamePanel.
+     * The board canvas is used for exact positioning when it exists, otherwise
+     * falls back to converting the computed boardToPixel point via the gamePanel.
      *
      * @param boardX column index
      * @param boardY row index
@@ -542,9 +468,8 @@ public class BoardView {
      */
     public javafx.geometry.Point2D boardCellScenePoint(int boardX, int boardY) {
         try {
-            if (displayMatrix != null && boardY >= 0 && boardY < displayMatrix.length && boardX >= 0 && boardX < displayMatrix[0].length) {
-                Rectangle ref = displayMatrix[boardY][boardX];
-                if (ref != null) return ref.localToScene(0.0, 0.0);
+            if (renderer != null) {
+                return renderer.getCanvas().localToScene(boardX * cellW, (boardY - CanvasBoardRenderer.HIDDEN_ROWS) * cellH);
             }
         } catch (Exception ignored) {}
         try {
@@ -0,0 +1,41 @@
+package com.comp2042.view;
+
+import com.comp2042.logic.BrickShape;
+import javafx.scene.paint.Color;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Display colour of each {@link BrickShape}.
+ *
+ * <p>Lives in the FX module so the core brick types stay free of JavaFX.
+ */
+public final class BrickColors {
+
+    private static final Map<BrickShape, Color> COLORS = new EnumMap<>(BrickShape.class);
+
+    static {
+        COLORS.put(BrickShape.I, Color.CYAN);
+        COLORS.put(BrickShape.J, Color.BLUE);
+        COLORS.put(BrickShape.L, Color.ORANGE);
+        COLORS.put(BrickShape.O, Color.YELLOW);
+        COLORS.put(BrickShape.S, Color.GREEN);
+        COLORS.put(BrickShape.T, Color.PURPLE);
+        COLORS.put(BrickShape.Z, Color.RED);
+    }
+
+    // We don't want to instantiate this utility class
+    private BrickColors() {
+    }
+
+    /**
+     * Return the display colour associated with a shape.
+     *
+     * @param shape the brick identity
+     * @return non-null {@link Color} used for rendering
+     */
+    public static Color of(BrickShape shape) {
+        return COLORS.get(shape);
+    }
+}
@@ -0,0 +1,274 @@
+package com.comp2042.view;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+
+import java.util.BitSet;
+
+/**
+ * Draws a board into a single {@link Canvas}: grid, settled stack, ghost and
+ * active piece, plus the second piece of a cooperative board.
+ *
+ * <p>Replaces the rectangle-per-cell grid so a board is one node instead of a
+ * few hundred for layout and CSS to walk. Setters record the new state and
+ * mark the rows it touches; {@link #render()} repaints only those rows, so a
+ * piece step redraws the few rows the piece and its ghost left and entered.
+ * Colours come from {@link BoardView#mapCodeToPaint(int)}.</p>
+ *
+ * <p>Board rows above {@link #HIDDEN_ROWS} are the spawn area and are not
+ * drawn: canvas row 0 shows board row {@code HIDDEN_ROWS}. Use on the JavaFX
+ * application thread only.</p>
+ */
+public final class CanvasBoardRenderer {
+
+    /** Spawn rows at the top of the board that are never drawn. */
+    public static final int HIDDEN_ROWS = 2;
+
+    /** Landing row meaning "no ghost". */
+    public static final int NO_GHOST = Integer.MIN_VALUE;
+
+    private static final Color GRID_STROKE = Color.rgb(255, 255, 255, 0.06);
+    private static final Color PIECE_STROKE = Color.rgb(0, 0, 0, 0.35);
+    private static final Color GHOST_FILL = Color.rgb(200, 200, 200, 0.25);
+    private static final Color GHOST_STROKE = Color.rgb(0, 0, 0, 0.25);
+    private static final double EMPTY_ARC = 8;
+    private static final double CELL_ARC = 9;
+
+    private final Canvas canvas;
+    private final double cellW;
+    private final double cellH;
+    private final double gap;
+    private final Layer piece = new Layer();
+    private final Layer second = new Layer();
+    private final BitSet dirty = new BitSet();
+    private int[][] board;
+
+    /**
+     * @param canvas canvas to draw into; it is resized to fit the board
+     * @param cellW  horizontal distance between cell origins in pixels
+     * @param cellH  vertical distance between cell origins in pixels
+     * @param gap    space left between neighbouring cells
+     */
+    public CanvasBoardRenderer(Canvas canvas, double cellW, double cellH, double gap) {
+        this.canvas = canvas;
+        this.cellW = cellW;
+        this.cellH = cellH;
+        this.gap = gap;
+    }
+
+    public Canvas getCanvas() {
+        return canvas;
+    }
+
+    /**
+     * Show {@code board}. The matrix is read on every render rather than
+     * copied, so callers must pass it again after changing it.
+     */
+    public void setBoard(int[][] board) {
+        boolean resized = this.board == null || board == null
+                || this.board.length != board.length || this.board[0].length != board[0].length;
+        this.board = board;
+        if (resized && board != null) {
+            int rows = Math.max(0, board.length - HIDDEN_ROWS);
+            canvas.setWidth(Math.max(0, board[0].length * cellW - gap));
+            canvas.setHeight(Math.max(0, rows * cellH - gap));
+        }
+        invalidate();
+    }
+
+    /**
+     * Show {@code board} where only {@code rows} changed since the last call.
+     * A different matrix or size falls back to {@link #setBoard(int[][])}.
+     */
+    public void setBoard(int[][] board, BitSet rows) {
+        if (board == null || board != this.board || rows == null) {
+            setBoard(board);
+            return;
+        }
+        dirty.or(rows);
+    }
+
+    /** @return the board passed to {@link #setBoard(int[][])}, or {@code null} */
+    public int[][] getBoard() {
+        return board;
+    }
+
+    /** @return colour code of a board cell, {@code 0} outside the board */
+    public int codeAt(int row, int col) {
+        if (board == null || row < 0 || row >= board.length || col < 0 || col >= board[row].length) return 0;
+        return board[row][col];
+    }
+
+    /**
+     * Place the active piece.
+     *
+     * @param shape piece matrix (read, not copied); {@code null} hides the piece
+     * @param x     board column of the shape's left edge
+     * @param y     board row of the shape's top edge
+     */
+    public void setPiece(int[][] shape, int x, int y) {
+        piece.move(shape, x, y, dirty);
+    }
+
+    /**
+     * Place the active piece's ghost.
+     *
+     * @param shape    piece matrix (read, not copied)
+     * @param x        board column of the shape's left edge
+     * @param landingY board row the shape's top edge lands on, or {@link #NO_GHOST}
+     */
+    public void setGhost(int[][] shape, int x, int landingY) {
+        piece.moveGhost(shape, x, landingY, dirty);
+    }
+
+    public void setPieceVisible(boolean visible) {
+        piece.setPieceVisible(visible, dirty);
+    }
+
+    public void setGhostVisible(boolean visible) {
+        piece.setGhostVisible(visible, dirty);
+    }
+
+    /** Place the second player's piece and ghost on a cooperative board. */
+    public void setSecondPiece(int[][] shape, int x, int y, int landingY) {
+        second.move(shape, x, y, dirty);
+        second.moveGhost(shape, x, landingY, dirty);
+    }
+
+    public void setSecondPieceVisible(boolean visible) {
+        second.setPieceVisible(visible, dirty);
+        second.setGhostVisible(visible, dirty);
+    }
+
+    /** Mark every row for the next {@link #render()}. */
+    public void invalidate() {
+        if (board != null) dirty.set(0, board.length);
+    }
+
+    /** Repaint the rows changed since the last render. */
+    public void render() {
+        if (board == null || dirty.isEmpty()) return;
+        GraphicsContext g = canvas.getGraphicsContext2D();
+        for (int row = dirty.nextSetBit(HIDDEN_ROWS); row >= 0 && row < board.length; row = dirty.nextSetBit(row + 1)) {
+            drawRow(g, row);
+        }
+        dirty.clear();
+    }
+
+    // rows waiting for the next render
+    BitSet dirtyRows() {
+        return (BitSet) dirty.clone();
+    }
+
+    private void drawRow(GraphicsContext g, int row) {
+        double top = (row - HIDDEN_ROWS) * cellH;
+        g.clearRect(0, top, canvas.getWidth(), cellH);
+        // cells are inset by half a pixel so their strokes stay inside the row
+        double w = cellW - gap - 1;
+        double h = cellH - gap - 1;
+        double y = top + 0.5;
+        for (int col = 0; col < board[row].length; col++) {
+            double x = col * cellW + 0.5;
+            int code = board[row][col];
+            if (code == 0) {
+                if (piece.ghostAt(row, col) || second.ghostAt(row, col)) {
+                    g.setFill(GHOST_FILL);
+                    g.fillRect(x, y, w, h);
+                    g.setStroke(GHOST_STROKE);
+                    g.setLineWidth(0.8);
+                    g.strokeRect(x, y, w, h);
+                }
+                g.setStroke(GRID_STROKE);
+                g.setLineWidth(0.8);
+                g.strokeRoundRect(x, y, w, h, EMPTY_ARC, EMPTY_ARC);
+            } else {
+                g.setFill(BoardView.mapCodeToPaint(code));
+                g.fillRoundRect(x, y, w, h, CELL_ARC, CELL_ARC);
+                g.setStroke(GRID_STROKE);
+                g.setLineWidth(0.8);
+                g.strokeRoundRect(x, y, w, h, CELL_ARC, CELL_ARC);
+            }
+            int pieceCode = piece.pieceAt(row, col);
+            if (pieceCode != 0) {
+                g.setFill(BoardView.mapCodeToPaint(pieceCode));
+                g.fillRoundRect(x, y, w, h, CELL_ARC, CELL_ARC);
+                g.setStroke(PIECE_STROKE);
+                g.setLineWidth(1.0);
+                g.strokeRoundRect(x, y, w, h, CELL_ARC, CELL_ARC);
+            }
+            int secondCode = second.pieceAt(row, col);
+            if (secondCode != 0) {
+                g.setFill(BoardView.mapCodeToPaint(secondCode));
+                g.fillRect(x, y, w, h);
+            }
+        }
+    }
+
+    private boolean emptyCell(int row, int col) {
+        return board != null && row >= HIDDEN_ROWS && row < board.length
+                && col >= 0 && col < board[row].length && board[row][col] == 0;
+    }
+
+    /** A piece with its ghost; marks the rows it covers whenever it changes. */
+    private final class Layer {
+        private int[][] shape;
+        private int x;
+        private int y;
+        private int[][] ghostShape;
+        private int ghostX;
+        private int ghostY = NO_GHOST;
+        private boolean pieceVisible = true;
+        private boolean ghostVisible = true;
+
+        void move(int[][] newShape, int newX, int newY, BitSet rows) {
+            markRows(shape, y, rows);
+            shape = newShape;
+            x = newX;
+            y = newY;
+            markRows(shape, y, rows);
+        }
+
+        void moveGhost(int[][] newShape, int newX, int newY, BitSet rows) {
+            if (ghostY != NO_GHOST) markRows(ghostShape, ghostY, rows);
+            ghostShape = newShape;
+            ghostX = newX;
+            ghostY = newY;
+            if (ghostY != NO_GHOST) markRows(ghostShape, ghostY, rows);
+        }
+
+        void setPieceVisible(boolean visible, BitSet rows) {
+            if (pieceVisible == visible) return;
+            pieceVisible = visible;
+            markRows(shape, y, rows);
+        }
+
+        void setGhostVisible(boolean visible, BitSet rows) {
+            if (ghostVisible == visible) return;
+            ghostVisible = visible;
+            if (ghostY != NO_GHOST) markRows(ghostShape, ghostY, rows);
+        }
+
+        int pieceAt(int row, int col) {
+            if (!pieceVisible) return 0;
+            return cell(shape, row - y, col - x);
+        }
+
+        boolean ghostAt(int row, int col) {
+            if (!ghostVisible || ghostY == NO_GHOST) return false;
+            return cell(ghostShape, row - ghostY, col - ghostX) != 0 && emptyCell(row, col);
+        }
+
+        private int cell(int[][] m, int i, int j) {
+            if (m == null || i < 0 || i >= m.length || j < 0 || j >= m[i].length) return 0;
+            return m[i][j];
+        }
+
+        private void markRows(int[][] m, int top, BitSet rows) {
+            if (m == null) return;
+            int from = Math.max(0, top);
+            int to = top + m.length;
+            if (to > from) rows.set(from, to);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.comp2042.view;
+
+import com.comp2042.controller.gameLoop.GameLoop;
+import com.comp2042.diagnostics.FrameStats;
+
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+
+import java.util.function.LongConsumer;
+
+/**
+ * Chooses the {@link EffectsQuality} the effect helpers draw at.
+ *
+ * <p>With a fixed preset the quality is simply that preset. In Auto mode (a
+ * {@code null} preset) the governor listens to the shared {@link GameLoop}
+ * pulse, measures the mean frame time over the last {@link #WINDOW} frames
+ * and steps the quality down one level once frames have stayed slower than
+ * {@link #DEGRADE_FRAME_NANOS} for {@link #DEGRADE_HOLD_NANOS}, and back up
+ * once they have stayed faster than {@link #UPGRADE_FRAME_NANOS} for the
+ * upgrade hold. The pulse only runs while game timers do, so Auto adds no
+ * frames of its own to menus or finished games.</p>
+ *
+ * <p>The gap between the two thresholds and the much longer upgrade hold keep
+ * the level from flapping. When a level has to be dropped again soon after
+ * it was raised, the upgrade hold doubles (up to
+ * {@link #MAX_UPGRADE_HOLD_NANOS}), so a machine that cannot sustain a level
+ * stops retrying it every few seconds. Gaps longer than {@link #MAX_GAP_NANOS}
+ * (window drags, scene switches) are not counted as frames.</p>
+ *
+ * <p>All methods must be called on the JavaFX application thread.</p>
+ */
+public final class EffectsGovernor {
+
+    /** Mean frame time above which Auto lowers the quality: about 45 FPS. */
+    public static final long DEGRADE_FRAME_NANOS = 22_000_000L;
+    /** Mean frame time below which Auto raises the quality: about 55 FPS. */
+    public static final long UPGRADE_FRAME_NANOS = 18_000_000L;
+    /** How long frames must stay slow before the quality drops. */
+    public static final long DEGRADE_HOLD_NANOS = 1_000_000_000L;
+    /** How long frames must stay fast before the quality is first raised. */
+    public static final long UPGRADE_HOLD_NANOS = 10_000_000_000L;
+    /** Longest upgrade hold after repeated drops. */
+    public static final long MAX_UPGRADE_HOLD_NANOS = 160_000_000_000L;
+    /** Longest gap between pulses that is counted as a frame. */
+    public static final long MAX_GAP_NANOS = 250_000_000L;
+    /** Frames averaged for each decision. */
+    public static final int WINDOW = 30;
+
+    private static EffectsGovernor shared;
+
+    private final boolean animated;
+    private final FrameStats frames = new FrameStats(WINDOW);
+    private final ReadOnlyObjectWrapper<EffectsQuality> quality =
+            new ReadOnlyObjectWrapper<>(this, "quality", EffectsQuality.HIGH);
+    private EffectsQuality preset = EffectsQuality.HIGH;
+    private final LongConsumer sampler = this::frame;
+    private boolean sampling;
+    private long lastNanos = Long.MIN_VALUE;
+    private long slowSince = Long.MIN_VALUE;
+    private long fastSince = Long.MIN_VALUE;
+    private long lastUpgrade = Long.MIN_VALUE;
+    private long upgradeHold = UPGRADE_HOLD_NANOS;
+
+    /**
+     * @param animated {@code true} to sample frames from the shared
+     *                 {@link GameLoop} pulse in Auto mode; tests pass
+     *                 {@code false} and call {@link #frame(long)} themselves
+     */
+    EffectsGovernor(boolean animated) {
+        this.animated = animated;
+    }
+
+    /** @return the governor every effect helper consults */
+    public static EffectsGovernor shared() {
+        if (shared == null) shared = new EffectsGovernor(true);
+        return shared;
+    }
+
+    /** @return the quality effects should be drawn at now */
+    public EffectsQuality getQuality() {
+        return quality.get();
+    }
+
+    /** @return the current quality, for views that restyle when it changes */
+    public ReadOnlyObjectProperty<EffectsQuality> qualityProperty() {
+        return quality.getReadOnlyProperty();
+    }
+
+    /** @return the fixed preset, or {@code null} in Auto mode */
+    public EffectsQuality getPreset() {
+        return preset;
+    }
+
+    /** @return {@code true} when the quality follows the frame rate */
+    public boolean isAuto() {
+        return preset == null;
+    }
+
+    /**
+     * Fix the quality at {@code preset}, or pass {@code null} for Auto,
+     * which starts again from {@link EffectsQuality#HIGH}.
+     */
+    public void setPreset(EffectsQuality preset) {
+        this.preset = preset;
+        resetMeasurements();
+        upgradeHold = UPGRADE_HOLD_NANOS;
+        lastUpgrade = Long.MIN_VALUE;
+        quality.set((preset != null) ? preset : EffectsQuality.HIGH);
+        if (preset == null) startSampling();
+        else stopSampling();
+    }
+
+    /** @return the quality and mode for the performance HUD, e.g. {@code "MEDIUM (auto)"} */
+    public String describe() {
+        return getQuality().name() + (isAuto() ? " (auto)" : "");
+    }
+
+    /**
+     * Feed one pulse timestamp and adjust the quality in Auto mode.
+     *
+     * @param nowNanos pulse time on the {@link System#nanoTime()} scale
+     * @return the quality after this frame
+     */
+    EffectsQuality frame(long nowNanos) {
+        if (preset != null) return getQuality();
+        long gap = (lastNanos == Long.MIN_VALUE) ? -1 : nowNanos - lastNanos;
+        lastNanos = nowNanos;
+        if (gap > MAX_GAP_NANOS) {
+            // a stall says nothing about how fast the current level renders
+            slowSince = Long.MIN_VALUE;
+            fastSince = Long.MIN_VALUE;
+            return getQuality();
+        }
+        if (gap > 0) frames.record(gap);
+        if (frames.size() < WINDOW) return getQuality();
+
+        double mean = frames.getMeanNanos();
+        EffectsQuality current = getQuality();
+        if (mean > DEGRADE_FRAME_NANOS) {
+            fastSince = Long.MIN_VALUE;
+            if (slowSince == Long.MIN_VALUE) slowSince = nowNanos;
+            if (nowNanos - slowSince >= DEGRADE_HOLD_NANOS && current != EffectsQuality.LOW) {
+                if (lastUpgrade != Long.MIN_VALUE && nowNanos - lastUpgrade < upgradeHold) {
+                    upgradeHold = Math.min(upgradeHold * 2, MAX_UPGRADE_HOLD_NANOS);
+                }
+                change(current.lower());
+            }
+        } else if (mean < UPGRADE_FRAME_NANOS) {
+            slowSince = Long.MIN_VALUE;
+            if (fastSince == Long.MIN_VALUE) fastSince = nowNanos;
+            if (nowNanos - fastSince >= upgradeHold && current != EffectsQuality.HIGH) {
+                lastUpgrade = nowNanos;
+                change(current.higher());
+            }
+        } else {
+            slowSince = Long.MIN_VALUE;
+            fastSince = Long.MIN_VALUE;
+        }
+        return getQuality();
+    }
+
+    // current upgrade hold, for tests
+    long getUpgradeHoldNanos() {
+        return upgradeHold;
+    }
+
+    private void change(EffectsQuality next) {
+        // judge the new level on its own frames
+        long now = lastNanos;
+        resetMeasurements();
+        lastNanos = now;
+        quality.set(next);
+    }
+
+    private void resetMeasurements() {
+        frames.reset();
+        lastNanos = Long.MIN_VALUE;
+        slowSince = Long.MIN_VALUE;
+        fastSince = Long.MIN_VALUE;
+    }
+
+    private void startSampling() {
+        if (!animated || sampling) return;
+        GameLoop.shared().addPulseListener(sampler);
+        sampling = true;
+    }
+
+    private void stopSampling() {
+        if (!sampling) return;
+        GameLoop.shared().removePulseListener(sampler);
+        sampling = false;
+    }
+}
@@ -0,0 +1,82 @@
+package com.comp2042.view;
+
+/**
+ * How much visual decoration the effect helpers draw. Each level scales the
+ * particle counts and switches the more expensive effects on or off; the
+ * {@link EffectsGovernor} picks the level in Auto mode.
+ */
+public enum EffectsQuality {
+    /** A few particles; no shadows, row flashes or animated backgrounds. */
+    LOW(0.2, false, false, false),
+
+    /** Half the particles and still backgrounds. */
+    MEDIUM(0.5, true, true, false),
+
+    /** Every effect at full strength. */
+    HIGH(1.0, true, true, true);
+
+    private final double particleScale;
+    private final boolean shadows;
+    private final boolean flashes;
+    private final boolean animatedBackgrounds;
+
+    EffectsQuality(double particleScale, boolean shadows, boolean flashes, boolean animatedBackgrounds) {
+        this.particleScale = particleScale;
+        this.shadows = shadows;
+        this.flashes = flashes;
+        this.animatedBackgrounds = animatedBackgrounds;
+    }
+
+    /** @return fraction of the full particle count that is spawned */
+    public double getParticleScale() {
+        return particleScale;
+    }
+
+    /** @return {@code true} to give effect nodes and titles a {@code DropShadow} */
+    public boolean isShadows() {
+        return shadows;
+    }
+
+    /** @return {@code true} to flash cleared rows */
+    public boolean isFlashes() {
+        return flashes;
+    }
+
+    /** @return {@code true} to play the GIF backgrounds; otherwise their first frame is shown */
+    public boolean isAnimatedBackgrounds() {
+        return animatedBackgrounds;
+    }
+
+    /**
+     * Scale a full-quality particle count to this level, keeping at least
+     * one particle for a non-zero count.
+     */
+    public int scaleCount(int count) {
+        if (count <= 0) return 0;
+        return Math.max(1, (int) Math.round(count * particleScale));
+    }
+
+    /** @return the next lower level, or this one at {@link #LOW} */
+    public EffectsQuality lower() {
+        return (ordinal() == 0) ? this : values()[ordinal() - 1];
+    }
+
+    /** @return the next higher level, or this one at {@link #HIGH} */
+    public EffectsQuality higher() {
+        EffectsQuality[] all = values();
+        return (ordinal() == all.length - 1) ? this : all[ordinal() + 1];
+    }
+
+    /**
+     * Parse a quality from a case-insensitive name. Returns {@code null}
+     * for unknown or null inputs.
+     */
+    public static EffectsQuality fromName(String name) {
+        if (name == null) return null;
+        try {
+            return valueOf(name.trim().toUpperCase());
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.comp2042.view;
+
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.WeakChangeListener;
+import javafx.scene.Parent;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.net.URL;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.imageio.ImageIO;
+
+/**
+ * The animated GIF backgrounds of the menu and game screens, played or held
+ * on their first frame depending on the {@link EffectsGovernor}'s quality.
+ *
+ * <p>A full-window GIF is decoded and uploaded every frame it changes, which
+ * is a steady cost on integrated GPUs. Below the quality that animates
+ * backgrounds the first frame is shown instead, as a PNG data URI decoded
+ * once per resource. Backgrounds follow later quality changes until their
+ * node is discarded. Use on the JavaFX application thread only.</p>
+ */
+public final class GifBackgrounds {
+    private static final Logger LOGGER = Logger.getLogger(GifBackgrounds.class.getName());
+
+    private static final String KEY = GifBackgrounds.class.getName();
+    private static final Map<String, String> STILLS = new HashMap<>();
+
+    private GifBackgrounds() {
+    }
+
+    /**
+     * Cover {@code root}'s background with {@code gif}. Replaces the root's
+     * inline style, as the screens did before.
+     */
+    public static void apply(Parent root, URL gif) {
+        if (root == null || gif == null) return;
+        EffectsGovernor governor = EffectsGovernor.shared();
+        root.setStyle(style(gif, governor.getQuality().isAnimatedBackgrounds()));
+        ChangeListener<EffectsQuality> listener = (obs, oldQuality, newQuality) -> {
+            if (oldQuality.isAnimatedBackgrounds() != newQuality.isAnimatedBackgrounds()) {
+                root.setStyle(style(gif, newQuality.isAnimatedBackgrounds()));
+            }
+        };
+        // the root holds the listener; the governor only a weak reference to it
+        root.getProperties().put(KEY, listener);
+        governor.qualityProperty().addListener(new WeakChangeListener<>(listener));
+    }
+
+    /** Show {@code gif} in {@code view}, following the quality like {@link #apply}. */
+    public static void apply(ImageView view, URL gif) {
+        if (view == null || gif == null) return;
+        EffectsGovernor governor = EffectsGovernor.shared();
+        view.setImage(image(gif, governor.getQuality().isAnimatedBackgrounds()));
+        ChangeListener<EffectsQuality> listener = (obs, oldQuality, newQuality) -> {
+            if (oldQuality.isAnimatedBackgrounds() != newQuality.isAnimatedBackgrounds()) {
+                view.setImage(image(gif, newQuality.isAnimatedBackgrounds()));
+            }
+        };
+        view.getProperties().put(KEY, listener);
+        governor.qualityProperty().addListener(new WeakChangeListener<>(listener));
+    }
+
+    /** @return inline style covering a region's background with {@code gif} or its first frame */
+    public static String style(URL gif, boolean animated) {
+        String url = animated ? gif.toExternalForm() : stillUrl(gif);
+        return "-fx-background-image: url('" + url + "'); -fx-background-size: cover; -fx-background-position: center center;";
+    }
+
+    private static Image image(URL gif, boolean animated) {
+        return new Image(animated ? gif.toExternalForm() : stillUrl(gif), true);
+    }
+
+    /**
+     * @return a PNG data URI of {@code gif}'s first frame, or the GIF's own
+     *         URL when it cannot be decoded
+     */
+    static String stillUrl(URL gif) {
+        String key = gif.toExternalForm();
+        String cached = STILLS.get(key);
+        if (cached != null) return cached;
+        String still = key;
+        try {
+            // ImageIO reads the first frame of an animated GIF
+            BufferedImage frame = ImageIO.read(gif);
+            if (frame != null) {
+                ByteArrayOutputStream png = new ByteArrayOutputStream();
+                ImageIO.write(frame, "png", png);
+                still = "data:image/png;base64," + Base64.getEncoder().encodeToString(png.toByteArray());
+            }
+        } catch (Exception ex) {
+            LOGGER.log(Level.FINER, "Could not decode the first frame of " + key, ex);
+        }
+        STILLS.put(key, still);
+        return still;
+    }
+}
@@ -1,15 +1,15 @@
 package com.comp2042.view;
 
+import com.comp2042.diagnostics.AnimationCounter;
+import com.comp2042.diagnostics.jfr.ParticleBurstEvent;
 import com.comp2042.model.ClearRow;
 import com.comp2042.model.ViewData;
 import javafx.animation.FadeTransition;
 import javafx.animation.ParallelTransition;
-import javafx.animation.ScaleTransition;
 import javafx.animation.TranslateTransition;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.Paint;
-import javafx.scene.shape.Circle;
 import javafx.scene.shape.Rectangle;
 import javafx.util.Duration;
 import javafx.geometry.Point2D;
@@ -20,18 +20,25 @@ import java.util.logging.Logger;
 
 /**
  * Small helper to centralize particle creation and flash effects so controllers can delegate to it.
+ *
+ * <p>Row-clear and burst particles are simulated and drawn by the pane's
+ * {@link ParticleSystem}; flashes and the lock effect remain nodes.</p>
  */
 public class ParticleHelper {
 
     private static final Logger LOGGER = Logger.getLogger(ParticleHelper.class.getName());
     // Ensure the particles stylesheet is loaded once per JVM run
     private static volatile boolean PARTICLE_STYLES_LOADED = false;
+    // particle colours when the cell or brick gives none
+    private static final int SQUARE_DEFAULT_ARGB = 0xffffffff;
+    private static final int CIRCLE_DEFAULT_ARGB = 0xffffd166;
 
     public static void flashRowAt(Pane particlePane, double leftXLocal, double topYLocal, double width, double height) {
         /**
          * Flash a rectangular row highlight at the specified local coordinates
          * inside the given particle pane. The flash is created and animated on
-         * the JavaFX thread and removed after the animation completes.
+         * the JavaFX thread and removed after the animation completes. Nothing
+         * is flashed at an {@link EffectsQuality} without flashes.
          *
          * @param particlePane pane to place the flash into
          * @param leftXLocal   local X coordinate for the top-left of the flash
@@ -39,7 +46,7 @@ public class ParticleHelper {
          * @param width        width of the flash rectangle in pixels
          * @param height       height of the flash rectangle in pixels
          */
-        if (particlePane == null) return;
+        if (particlePane == null || !EffectsGovernor.shared().getQuality().isFlashes()) return;
         ensureParticleStyles(particlePane);
         try {
             Rectangle flash = new Rectangle(Math.round(width), Math.round(height));
@@ -59,20 +66,22 @@ public class ParticleHelper {
             out.setToValue(0.0);
             out.setDelay(Duration.millis(80));
             out.setOnFinished(event -> particlePane.getChildren().remove(flash));
-            in.play();
-            out.play();
+            AnimationCounter.track(in).play();
+            AnimationCounter.track(out).play();
         } catch (Exception ex) { LOGGER.log(Level.FINER, "flashRowAt failed", ex); }
     }
 
     public static void spawnRowClearParticles(Pane particlePane, ClearRow clearRow, Rectangle[][] displayMatrix, BoardView bv, double baseOffsetX, double baseOffsetY, double cellW, double cellH, javafx.scene.Scene gameScene) {
         /**
          * Spawn decorative particles for each cleared cell described by
-         * {@code clearRow}. Particles are added to {@code particlePane} and
-         * removed when their animations complete.
+         * {@code clearRow}. Particles go into the pane's {@link ParticleSystem}
+         * and fall off the bottom of the scene while fading out; their number
+         * follows the {@link EffectsGovernor}'s quality.
          *
-         * @param particlePane  pane to host particle nodes
+         * @param particlePane  pane whose particle system hosts the particles
          * @param clearRow      the ClearRow result describing cleared rows
-         * @param displayMatrix the grid rectangles used for color lookup
+         * @param displayMatrix grid rectangles used for color lookup when
+         *                      {@code bv} is {@code null}
          * @param bv            optional BoardView used for precise positioning
          * @param baseOffsetX   fallback X offset when BoardView is unavailable
          * @param baseOffsetY   fallback Y offset when BoardView is unavailable
@@ -80,12 +89,20 @@ public class ParticleHelper {
          * @param cellH         cell height in pixels
          * @param gameScene     optional scene used to compute fall distances
          */
-        if (clearRow == null || particlePane == null || displayMatrix == null) return;
-        ensureParticleStyles(particlePane);
+        if (clearRow == null || particlePane == null || (bv == null && displayMatrix == null)) return;
+        ParticleBurstEvent burst = new ParticleBurstEvent();
+        burst.begin();
+        int spawned = 0;
         try {
             int[] rows = clearRow.getClearedRows();
             if (rows == null || rows.length == 0) return;
-            int cols = displayMatrix[0].length;
+            ParticleSystem system = ParticleSystem.forPane(particlePane);
+            system.cover(particlePane);
+            int cols = (bv != null) ? bv.getColumns() : displayMatrix[0].length;
+            EffectsQuality quality = EffectsGovernor.shared().getQuality();
+            double size = Math.max(3.0, Math.round(Math.min(cellW, cellH) / 3.0));
+            double sceneHeight = 800.0;
+            try { if (gameScene != null) sceneHeight = gameScene.getHeight(); } catch (Exception ex) { LOGGER.log(Level.FINER, "Failed to get gameScene height", ex); }
             for (int r : rows) {
                 // compute top-left Y for this board row (visible coords)
                 double rowTopY = Math.round(baseOffsetY + (r - 2) * cellH);
@@ -94,30 +111,24 @@ public class ParticleHelper {
                         javafx.scene.paint.Paint fill = resolveCellFill(bv, displayMatrix, r, c);
                         if (fill == null) continue;
                         if (fill == javafx.scene.paint.Color.TRANSPARENT) continue;
-                        javafx.scene.paint.Color color = (fill instanceof javafx.scene.paint.Color) ? (javafx.scene.paint.Color) fill : null;
+                        int colour = toArgb(fill, SQUARE_DEFAULT_ARGB);
 
-                        int particles = 4 + (int)(Math.random() * 6); // 4..9
+                        int particles = quality.scaleCount(4 + (int)(Math.random() * 6)); // 4..9 at full quality
                         for (int p = 0; p < particles; p++) {
-                            double pw = Math.max(3.0, Math.round(cellW / 3.0));
-                            double ph = Math.max(3.0, Math.round(cellH / 3.0));
-                            Rectangle sq = createParticleSquare(color, pw, ph);
-
-                            Point2D local = computeParticleStartLocal(particlePane, bv, c, r, baseOffsetX, rowTopY, cellW, cellH, pw, ph);
-                            sq.setTranslateX(local.getX());
-                            sq.setTranslateY(local.getY());
-                            particlePane.getChildren().add(sq);
-
-                            double sceneHeight = 800.0;
-                            try { if (gameScene != null) sceneHeight = gameScene.getHeight(); } catch (Exception ex) { LOGGER.log(Level.FINER, "Failed to get gameScene height", ex); }
+                            Point2D local = computeParticleStartLocal(particlePane, bv, c, r, baseOffsetX, rowTopY, cellW, cellH);
+                            double seconds = 2.0 + Math.random() * 1.5; // 2..3.5s
+                            // accelerate so the particle clears the bottom of the scene by the end of its life
                             double fallBy = sceneHeight - local.getY() + 80 + Math.random() * 120;
-                            double durationMs = 2000 + Math.random() * 1500; // 2000..3500ms
-
-                            playParticleTransitions(particlePane, sq, fallBy, durationMs);
+                            double gravity = 2.0 * fallBy / (seconds * seconds);
+                            double drift = (Math.random() - 0.5) * 40.0 / seconds;
+                            system.spawn(local.getX(), local.getY(), drift, 0, gravity, 0, seconds, size, 1.0, colour, ParticleSystem.SQUARE);
+                            spawned++;
                         }
                     } catch (Exception ex) { LOGGER.log(Level.FINER, "spawnRowClearParticles particle creation failed", ex); }
                 }
             }
         } catch (Exception ex) { LOGGER.log(Level.FINER, "spawnRowClearParticles failed", ex); }
+        commitBurst(burst, bv, "rowClear", spawned);
     }
 
     // Resolve the paint for a board cell, preferring BoardView.getCellFill when available
@@ -133,20 +144,18 @@ public class ParticleHelper {
         return fill;
     }
 
-    private static Rectangle createParticleSquare(javafx.scene.paint.Color color, double pw, double ph) {
-        Rectangle sq = new Rectangle(pw, ph);
-        sq.setArcWidth(2);
-        sq.setArcHeight(2);
-        if (color != null) {
-            sq.setFill(color);
-        } else {
-            sq.getStyleClass().add("particle-square-default");
-        }
-        sq.setMouseTransparent(true);
-        return sq;
+
+    // opaque 0xAARRGGBB of a colour paint; gradients and patterns use the fallback
+    private static int toArgb(Paint paint, int fallback) {
+        if (!(paint instanceof Color)) return fallback;
+        Color c = (Color) paint;
+        return 0xff000000
+                | ((int) Math.round(c.getRed() * 255) << 16)
+                | ((int) Math.round(c.getGreen() * 255) << 8)
+                | (int) Math.round(c.getBlue() * 255);
     }
 
-    private static Point2D computeParticleStartLocal(Pane particlePane, BoardView bv, int c, int r, double baseOffsetX, double rowTopY, double cellW, double cellH, double pw, double ph) {
+    private static Point2D computeParticleStartLocal(Pane particlePane, BoardView bv, int c, int r, double baseOffsetX, double rowTopY, double cellW, double cellH) {
         Point2D local = null;
         if (bv != null) {
             try {
@@ -164,8 +173,8 @@ public class ParticleHelper {
             double cellY = rowTopY;
             double jitterX = (Math.random() - 0.5) * (cellW * 0.4);
             double jitterY = (Math.random() - 0.5) * (cellH * 0.4);
-            double startX = Math.round(cellX + cellW * 0.5 + jitterX - pw * 0.5);
-            double startY = Math.round(cellY + cellH * 0.5 + jitterY - ph * 0.5);
+            double startX = Math.round(cellX + cellW * 0.5 + jitterX);
+            double startY = Math.round(cellY + cellH * 0.5 + jitterY);
             javafx.geometry.Point2D parentPt = new javafx.geometry.Point2D(startX, startY);
             javafx.geometry.Point2D scenePt = parentPt;
             local = (particlePane != null) ? particlePane.sceneToLocal(scenePt) : scenePt;
@@ -173,33 +182,15 @@ public class ParticleHelper {
         return local;
     }
 
-    private static void playParticleTransitions(Pane particlePane, Rectangle sq, double fallBy, double durationMs) {
-        TranslateTransition tt = new TranslateTransition(Duration.millis(durationMs), sq);
-        tt.setByY(fallBy);
-        tt.setInterpolator(javafx.animation.Interpolator.EASE_IN);
-
-        FadeTransition ft = new FadeTransition(Duration.millis(durationMs), sq);
-        ft.setFromValue(1.0);
-        ft.setToValue(0.0);
-
-        double sideBy = (Math.random() - 0.5) * 40.0;
-        TranslateTransition ttx = new TranslateTransition(Duration.millis(durationMs * 0.75), sq);
-        ttx.setByX(sideBy);
-        ttx.setInterpolator(javafx.animation.Interpolator.EASE_OUT);
-
-        ParallelTransition pt = new ParallelTransition(ttx, tt, ft);
-        final Rectangle node = sq;
-        pt.setOnFinished(e -> { try { if (e != null) e.consume(); particlePane.getChildren().remove(node); } catch (Exception ex) { LOGGER.log(Level.FINER, "Failed to cleanup particle node", ex); } });
-        pt.play();
-    }
 
     public static void flashRow(Pane particlePane, double baseOffsetX, double topY, double width, double height) {
         /**
          * Flash a solid white rectangle at the given coordinates inside
          * {@code particlePane}. This is a simpler variant used when BoardView
-         * positioning is already available.
+         * positioning is already available. Like {@link #flashRowAt}, it is
+         * skipped at an {@link EffectsQuality} without flashes.
          */
-        if (particlePane == null) return;
+        if (particlePane == null || !EffectsGovernor.shared().getQuality().isFlashes()) return;
         ensureParticleStyles(particlePane);
         try {
             Rectangle flash = new Rectangle(Math.round(width), Math.round(height));
@@ -218,8 +209,8 @@ public class ParticleHelper {
             out.setToValue(0.0);
             out.setDelay(Duration.millis(80));
             out.setOnFinished(event -> particlePane.getChildren().remove(flash));
-            in.play();
-            out.play();
+            AnimationCounter.track(in).play();
+            AnimationCounter.track(out).play();
         } catch (Exception ex) { LOGGER.log(Level.FINER, "flashRow failed", ex); }
     }
 
@@ -227,68 +218,47 @@ public class ParticleHelper {
         /**
          * Spawn a burst of short-lived circular particles centered around the
          * given coordinates. Colors are sampled from {@link BoardView#mapCodeToPaint}
-         * when a {@code brickShape} is provided; otherwise a default CSS style
-         * is applied.
+         * when a {@code brickShape} is provided; otherwise they are gold.
          *
-         * @param particlePane pane to add particle nodes to
+         * @param particlePane pane whose particle system hosts the particles
          * @param centerX      center X coordinate in local coordinates
          * @param centerY      center Y coordinate in local coordinates
          * @param brickShape   optional shape matrix used to sample colors
          */
         if (particlePane == null) return;
-        ensureParticleStyles(particlePane);
-        final int PARTICLE_COUNT = 18;
-        final double MAX_SPEED = 220.0; // px/sec
-        final double DURATION_MS = 600.0;
-
-        for (int i = 0; i < PARTICLE_COUNT; i++) {
-            Circle c = new Circle(4 + Math.random() * 4);
-            // random color sampled from brick colors (if available) or default gold
-            Paint p = null; // default color is provided by CSS unless brickShape supplies fills
-            if (brickShape != null) {
-                java.util.List<Paint> fills = new java.util.ArrayList<>();
-                for (int r = 0; r < brickShape.length; r++) {
-                    for (int col = 0; col < brickShape[r].length; col++) {
-                        int v = brickShape[r][col];
-                        if (v != 0) fills.add(BoardView.mapCodeToPaint(v));
-                    }
+        final int PARTICLE_COUNT = EffectsGovernor.shared().getQuality().scaleCount(18);
+        final double MAX_SPEED = 220.0; // px travelled over the lifetime
+        final double DURATION_S = 0.6;
+        final double DRAG = 4.0; // per second: the burst slows down as it spreads
+        ParticleBurstEvent burst = new ParticleBurstEvent();
+        burst.begin();
+        ParticleSystem system = ParticleSystem.forPane(particlePane);
+        system.cover(particlePane);
+
+        int[] colours = null;
+        int colourCount = 0;
+        if (brickShape != null) {
+            colours = new int[16];
+            for (int r = 0; r < brickShape.length; r++) {
+                for (int col = 0; col < brickShape[r].length; col++) {
+                    int v = brickShape[r][col];
+                    if (v == 0) continue;
+                    if (colourCount == colours.length) colours = java.util.Arrays.copyOf(colours, colourCount * 2);
+                    colours[colourCount++] = toArgb(BoardView.mapCodeToPaint(v), CIRCLE_DEFAULT_ARGB);
                 }
-                if (!fills.isEmpty()) p = fills.get((int) (Math.random() * fills.size()));
-            }
-            if (p != null) {
-                c.setFill(p);
-            } else {
-                c.getStyleClass().add("particle-circle-default");
             }
-            c.setOpacity(1.0);
-            c.setTranslateX(centerX + (Math.random() - 0.5) * 6);
-            c.setTranslateY(centerY + (Math.random() - 0.5) * 6);
-            particlePane.getChildren().add(c);
-
-            // random direction
+        }
+        for (int i = 0; i < PARTICLE_COUNT; i++) {
+            int colour = (colourCount > 0) ? colours[(int) (Math.random() * colourCount)] : CIRCLE_DEFAULT_ARGB;
+            // random direction; the initial speed is chosen so drag stops it about MAX_SPEED px out
             double angle = Math.random() * Math.PI * 2.0;
-            double speed = 40 + Math.random() * MAX_SPEED; // px/sec
-            double dx = Math.cos(angle) * speed;
-            double dy = Math.sin(angle) * speed;
-
-            // animate translation and fade
-            TranslateTransition tt = new TranslateTransition(Duration.millis(DURATION_MS), c);
-            tt.setByX(dx);
-            tt.setByY(dy);
-            tt.setInterpolator(javafx.animation.Interpolator.EASE_OUT);
-
-            FadeTransition ft = new FadeTransition(Duration.millis(DURATION_MS), c);
-            ft.setFromValue(1.0);
-            ft.setToValue(0.0);
-
-            ScaleTransition st = new ScaleTransition(Duration.millis(DURATION_MS), c);
-            st.setToX(0.3);
-            st.setToY(0.3);
-
-            ParallelTransition pt = new ParallelTransition(tt, ft, st);
-            pt.setOnFinished(event -> { try { particlePane.getChildren().remove(c); } catch (Exception ex) { LOGGER.log(Level.FINER, "Failed to remove particle", ex); } });
-            pt.play();
+            double distance = 40 + Math.random() * MAX_SPEED;
+            double speed = distance * DRAG / (1.0 - Math.exp(-DRAG * DURATION_S));
+            system.spawn(centerX + (Math.random() - 0.5) * 6, centerY + (Math.random() - 0.5) * 6,
+                    Math.cos(angle) * speed, Math.sin(angle) * speed, 0, DRAG,
+                    DURATION_S, 4 + Math.random() * 4, 0.3, colour, ParticleSystem.CIRCLE);
         }
+        commitBurst(burst, null, "burst", PARTICLE_COUNT);
     }
 
     /**
@@ -314,6 +284,8 @@ public class ParticleHelper {
          */
         if (start == null || end == null || particlePane == null) return;
         ensureParticleStyles(particlePane);
+        ParticleBurstEvent burst = new ParticleBurstEvent();
+        burst.begin();
         try {
             int[][] shape = start.getBrickData();
             if (shape == null) return;
@@ -347,8 +319,7 @@ public class ParticleHelper {
                     cellRect.setLayoutX(x);
                     cellRect.setLayoutY(y);
 
-                    DropShadow ds = createDropShadow(intense);
-                    cellRect.setEffect(ds);
+                    if (EffectsGovernor.shared().getQuality().isShadows()) cellRect.setEffect(createDropShadow(intense));
 
                     if (particlePane != null) particlePane.getChildren().add(cellRect);
 
@@ -359,11 +330,22 @@ public class ParticleHelper {
             }
 
             javafx.application.Platform.runLater(() -> {
-                for (ParallelTransition pt : running) pt.play();
+                for (ParallelTransition pt : running) AnimationCounter.track(pt).play();
             });
+            commitBurst(burst, bv, "lock", running.size());
         } catch (Exception ex) { LOGGER.log(Level.FINER, "playLockEffect failed", ex); }
     }
 
+    // board id is 0 for effects spawned without a BoardView
+    private static void commitBurst(ParticleBurstEvent burst, BoardView bv, String effect, int particles) {
+        burst.end();
+        if (!burst.shouldCommit()) return;
+        burst.boardId = (bv != null) ? bv.getBoardId() : 0;
+        burst.effect = effect;
+        burst.particles = particles;
+        burst.commit();
+    }
+
     private static int computeMinRow(int[][] shape) {
         int minR = Integer.MAX_VALUE;
         for (int rr = 0; rr < shape.length; rr++) {
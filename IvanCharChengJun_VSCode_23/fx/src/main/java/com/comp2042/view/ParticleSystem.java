@@ -0,0 +1,283 @@
+package com.comp2042.view;
+
+import javafx.animation.AnimationTimer;
+import javafx.geometry.Point2D;
+import javafx.scene.Scene;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+
+/**
+ * Effect particles of one particle pane, simulated in preallocated arrays and
+ * drawn onto a single overlay {@link Canvas}.
+ *
+ * <p>Position, velocity, colour and lifetime live in parallel primitive
+ * arrays of a fixed {@link #DEFAULT_CAPACITY}, so a row clear adds no nodes,
+ * transitions or per-particle objects. Slots are handed out round-robin: when
+ * every slot is taken the next spawn overwrites the particle spawned longest
+ * ago, so a burst of clears stays within budget by dropping the oldest, mostly
+ * faded particles first. One {@link AnimationTimer} steps and redraws the
+ * particles and runs only while any are alive.</p>
+ *
+ * <p>Coordinates are local to the pane. The canvas is unmanaged and covers
+ * the whole scene, so particles falling off the board stay visible as they did
+ * as nodes. Use on the JavaFX application thread only.</p>
+ */
+public final class ParticleSystem {
+
+    /** Particles kept per pane; further spawns recycle the oldest. */
+    public static final int DEFAULT_CAPACITY = 1024;
+
+    /** Shape drawn as a small rounded square. */
+    static final byte SQUARE = 0;
+    /** Shape drawn as a circle; size is the radius. */
+    static final byte CIRCLE = 1;
+
+    /** Longest frame gap that is simulated; anything beyond is dropped. */
+    static final double MAX_STEP_SECONDS = 0.05;
+
+    private static final String KEY = ParticleSystem.class.getName();
+
+    private final int capacity;
+    private final float[] x;
+    private final float[] y;
+    private final float[] vx;
+    private final float[] vy;
+    private final float[] gravity;
+    private final float[] drag;
+    private final float[] age;
+    private final float[] life;
+    private final float[] size;
+    private final float[] endScale;
+    private final int[] argb;
+    private final byte[] shape;
+
+    private final Canvas canvas;
+    private final boolean animated;
+    private AnimationTimer timer;
+    private long lastNanos = Long.MIN_VALUE;
+    private int next;
+    private int live;
+
+    /**
+     * @param capacity particles kept at once
+     * @param canvas   canvas to draw into, or {@code null} to only simulate
+     * @param animated {@code true} to advance from an {@link AnimationTimer};
+     *                 tests pass {@code false} and call {@link #step(double)}
+     */
+    ParticleSystem(int capacity, Canvas canvas, boolean animated) {
+        if (capacity <= 0) throw new IllegalArgumentException("capacity must be positive");
+        this.capacity = capacity;
+        this.canvas = canvas;
+        this.animated = animated;
+        x = new float[capacity];
+        y = new float[capacity];
+        vx = new float[capacity];
+        vy = new float[capacity];
+        gravity = new float[capacity];
+        drag = new float[capacity];
+        age = new float[capacity];
+        life = new float[capacity];
+        size = new float[capacity];
+        endScale = new float[capacity];
+        argb = new int[capacity];
+        shape = new byte[capacity];
+    }
+
+    /**
+     * @return the particle system drawing into {@code pane}, adding its canvas
+     *         to the pane on first use
+     */
+    public static ParticleSystem forPane(Pane pane) {
+        Object existing = pane.getProperties().get(KEY);
+        if (existing instanceof ParticleSystem) return (ParticleSystem) existing;
+        Canvas canvas = new Canvas();
+        canvas.setManaged(false);
+        canvas.setMouseTransparent(true);
+        pane.getChildren().add(canvas);
+        ParticleSystem system = new ParticleSystem(DEFAULT_CAPACITY, canvas, true);
+        pane.getProperties().put(KEY, system);
+        return system;
+    }
+
+    /**
+     * @return particles alive in {@code pane}'s system plus the pane's other
+     *         effect nodes; {@code 0} for a {@code null} pane
+     */
+    public static int count(Pane pane) {
+        if (pane == null) return 0;
+        Object existing = pane.getProperties().get(KEY);
+        if (!(existing instanceof ParticleSystem)) return pane.getChildren().size();
+        return pane.getChildren().size() - 1 + ((ParticleSystem) existing).size();
+    }
+
+    /** @return particles currently alive */
+    public int size() {
+        return live;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    Canvas getCanvas() {
+        return canvas;
+    }
+
+    /**
+     * Add one particle, overwriting the oldest when full.
+     *
+     * @param px       start X in pane coordinates (the particle's centre)
+     * @param py       start Y in pane coordinates
+     * @param pvx      horizontal velocity in px/s
+     * @param pvy      vertical velocity in px/s
+     * @param pgravity downward acceleration in px/s²
+     * @param pdrag    fraction of velocity lost per second, applied continuously
+     * @param seconds  lifetime; the particle fades out linearly over it
+     * @param psize    square side or circle radius in pixels
+     * @param pend     scale reached at the end of the lifetime
+     * @param colour   opaque colour as {@code 0xAARRGGBB}
+     * @param kind     {@link #SQUARE} or {@link #CIRCLE}
+     * @return the slot used
+     */
+    int spawn(double px, double py, double pvx, double pvy, double pgravity, double pdrag,
+              double seconds, double psize, double pend, int colour, byte kind) {
+        int i = next;
+        next = (next + 1) % capacity;
+        if (life[i] <= 0) live++;
+        x[i] = (float) px;
+        y[i] = (float) py;
+        vx[i] = (float) pvx;
+        vy[i] = (float) pvy;
+        gravity[i] = (float) pgravity;
+        drag[i] = (float) pdrag;
+        age[i] = 0;
+        life[i] = (float) Math.max(1e-3, seconds);
+        size[i] = (float) psize;
+        endScale[i] = (float) pend;
+        argb[i] = colour;
+        shape[i] = kind;
+        ensureRunning();
+        return i;
+    }
+
+    /**
+     * Advance every live particle by {@code seconds}, retiring the expired.
+     *
+     * @return particles still alive
+     */
+    int step(double seconds) {
+        float dt = (float) Math.min(Math.max(0, seconds), MAX_STEP_SECONDS);
+        for (int i = 0; i < capacity; i++) {
+            if (life[i] <= 0) continue;
+            age[i] += dt;
+            if (age[i] >= life[i]) {
+                life[i] = 0;
+                live--;
+                continue;
+            }
+            float keep = Math.max(0f, 1f - drag[i] * dt);
+            vx[i] *= keep;
+            vy[i] = vy[i] * keep + gravity[i] * dt;
+            x[i] += vx[i] * dt;
+            y[i] += vy[i] * dt;
+        }
+        return live;
+    }
+
+    /** Remove every particle and clear the canvas. */
+    public void clear() {
+        for (int i = 0; i < capacity; i++) life[i] = 0;
+        live = 0;
+        stopTimer();
+        render();
+    }
+
+    // position of a slot, for tests
+    double xAt(int i) {
+        return x[i];
+    }
+
+    double yAt(int i) {
+        return y[i];
+    }
+
+    boolean aliveAt(int i) {
+        return life[i] > 0;
+    }
+
+    /** Redraw every live particle onto the canvas. */
+    void render() {
+        if (canvas == null) return;
+        GraphicsContext g = canvas.getGraphicsContext2D();
+        g.setGlobalAlpha(1.0);
+        g.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        if (live == 0) return;
+        double ox = canvas.getLayoutX();
+        double oy = canvas.getLayoutY();
+        int lastArgb = 0;
+        Color fill = null;
+        for (int i = 0; i < capacity; i++) {
+            if (life[i] <= 0) continue;
+            float t = age[i] / life[i];
+            if (fill == null || argb[i] != lastArgb) {
+                lastArgb = argb[i];
+                fill = Color.rgb((lastArgb >> 16) & 0xff, (lastArgb >> 8) & 0xff, lastArgb & 0xff);
+                g.setFill(fill);
+            }
+            g.setGlobalAlpha(1.0 - t);
+            double s = size[i] * (1.0 + (endScale[i] - 1.0) * t);
+            double cx = x[i] - ox;
+            double cy = y[i] - oy;
+            if (shape[i] == CIRCLE) {
+                g.fillOval(cx - s, cy - s, s * 2, s * 2);
+            } else {
+                g.fillRoundRect(cx - s * 0.5, cy - s * 0.5, s, s, 2, 2);
+            }
+        }
+        g.setGlobalAlpha(1.0);
+    }
+
+    /**
+     * Stretch the canvas over {@code pane}'s scene, or over the pane itself
+     * while it is not in a scene. Call before spawning so new particles land
+     * on the canvas.
+     */
+    void cover(Pane pane) {
+        if (canvas == null || pane == null) return;
+        Scene scene = pane.getScene();
+        if (scene != null) {
+            Point2D origin = pane.sceneToLocal(0, 0);
+            if (origin != null) canvas.relocate(origin.getX(), origin.getY());
+            canvas.setWidth(scene.getWidth());
+            canvas.setHeight(scene.getHeight());
+        } else {
+            canvas.relocate(0, 0);
+            canvas.setWidth(pane.getWidth());
+            canvas.setHeight(pane.getHeight());
+        }
+    }
+
+    private void ensureRunning() {
+        if (!animated || timer != null) return;
+        lastNanos = Long.MIN_VALUE;
+        timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                double seconds = (lastNanos == Long.MIN_VALUE) ? 0 : (now - lastNanos) / 1e9;
+                lastNanos = now;
+                int remaining = step(seconds);
+                render();
+                if (remaining == 0) stopTimer();
+            }
+        };
+        timer.start();
+    }
+
+    private void stopTimer() {
+        if (timer == null) return;
+        timer.stop();
+        timer = null;
+    }
+}
@@ -0,0 +1,32 @@
+package com.comp2042.view;
+
+import com.comp2042.model.Score;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+
+/**
+ * Adapts the core's listener-based {@link Score} to a JavaFX
+ * {@link IntegerProperty} for UI binding.
+ *
+ * <p>The property is updated on the thread that changes the score, exactly as
+ * the old property-backed score behaved; callers that change the score from
+ * background threads should hop to the FX thread themselves.
+ */
+public final class ScoreBinding {
+
+    // We don't want to instantiate this utility class
+    private ScoreBinding() {
+    }
+
+    /**
+     * Create a property that mirrors {@code score} from now on.
+     *
+     * @param score the score to observe
+     * @return a property holding the current value and tracking every change
+     */
+    public static IntegerProperty propertyOf(Score score) {
+        IntegerProperty property = new SimpleIntegerProperty(score.getScore());
+        score.addListener((oldValue, newValue) -> property.set(newValue));
+        return property;
+    }
+}
@@ -0,0 +1,48 @@
+package com.comp2042.app;
+
+import com.comp2042.ai.BeamSearchBot;
+import com.comp2042.ai.RandomBot;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Option parsing of {@link SimulationMain}; no games are played and no
+ * JavaFX runtime is needed.
+ */
+public class SimulationMainTest {
+
+    @Test
+    public void parsesAllOptions() {
+        SimulationMain.Options o = SimulationMain.Options.parse(new String[]{
+                "--games", "50", "--pieces", "200", "--bot", "random", "--lookahead", "0", "--beam", "8",
+                "--seed", "-3", "--threads", "2", "--virtual", "--width", "8", "--height", "20"});
+        assertEquals(50, o.games);
+        assertEquals(200, o.maxPieces);
+        assertEquals("random", o.bot);
+        assertEquals(0, o.lookahead);
+        assertEquals(8, o.beamWidth);
+        assertEquals(-3L, o.seed);
+        assertEquals(2, o.threads);
+        assertTrue(o.virtual);
+        assertEquals(8, o.width);
+        assertEquals(20, o.height);
+        assertInstanceOf(RandomBot.class, o.botFactory().apply(1L));
+    }
+
+    @Test
+    public void defaultsToBeamBot() {
+        SimulationMain.Options o = SimulationMain.Options.parse(new String[0]);
+        assertFalse(o.help);
+        assertInstanceOf(BeamSearchBot.class, o.botFactory().apply(1L));
+    }
+
+    @Test
+    public void rejectsBadInput() {
+        assertThrows(IllegalArgumentException.class, () -> SimulationMain.Options.parse(new String[]{"--games"}));
+        assertThrows(IllegalArgumentException.class, () -> SimulationMain.Options.parse(new String[]{"--games", "0"}));
+        assertThrows(IllegalArgumentException.class, () -> SimulationMain.Options.parse(new String[]{"--games", "x"}));
+        assertThrows(IllegalArgumentException.class, () -> SimulationMain.Options.parse(new String[]{"--bot", "x"}));
+        assertThrows(IllegalArgumentException.class, () -> SimulationMain.Options.parse(new String[]{"--fast"}));
+    }
+}
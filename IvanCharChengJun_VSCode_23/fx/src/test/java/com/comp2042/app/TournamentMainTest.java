@@ -0,0 +1,49 @@
+package com.comp2042.app;
+
+import com.comp2042.simulation.Tournament;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Option parsing of {@link TournamentMain}; no matches are played and no
+ * JavaFX runtime is needed.
+ */
+public class TournamentMainTest {
+
+    @Test
+    public void parsesAllOptions() {
+        TournamentMain.Options o = TournamentMain.Options.parse(new String[]{
+                "--bots", "beam:2:8,random", "--rounds", "10", "--pieces", "300", "--seed", "4",
+                "--threads", "3", "--width", "8", "--height", "20"});
+        assertEquals(List.of("beam:2:8", "random"), o.bots);
+        assertEquals(10, o.rounds);
+        assertEquals(300, o.maxPieces);
+        assertEquals(4L, o.seed);
+        assertEquals(3, o.threads);
+        assertEquals(8, o.width);
+        assertEquals(20, o.height);
+        List<Tournament.Entrant> entrants = o.entrants();
+        assertEquals("beam:2:8", entrants.get(0).getName());
+        assertEquals("random", entrants.get(1).getName());
+    }
+
+    @Test
+    public void defaultsToThreeBots() {
+        TournamentMain.Options o = TournamentMain.Options.parse(new String[0]);
+        assertFalse(o.help);
+        assertEquals(3, o.entrants().size());
+    }
+
+    @Test
+    public void rejectsBadInput() {
+        assertThrows(IllegalArgumentException.class, () -> TournamentMain.Options.parse(new String[]{"--bots", "beam"}));
+        assertThrows(IllegalArgumentException.class, () -> TournamentMain.Options.parse(new String[]{"--bots", "beam,beam"}));
+        assertThrows(IllegalArgumentException.class, () -> TournamentMain.Options.parse(new String[]{"--bots", "beam,alpha"}));
+        assertThrows(IllegalArgumentException.class, () -> TournamentMain.Options.parse(new String[]{"--bots", "beam:x,random"}));
+        assertThrows(IllegalArgumentException.class, () -> TournamentMain.Options.parse(new String[]{"--rounds", "0"}));
+        assertThrows(IllegalArgumentException.class, () -> TournamentMain.Options.parse(new String[]{"--fast"}));
+    }
+}
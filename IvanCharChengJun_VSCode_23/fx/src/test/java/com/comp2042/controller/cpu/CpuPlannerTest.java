@@ -0,0 +1,90 @@
+package com.comp2042.controller.cpu;
+
+import com.comp2042.ai.Difficulty;
+import com.comp2042.ai.PathFollower;
+import com.comp2042.ai.Placement;
+import com.comp2042.input.EventType;
+import com.comp2042.logic.BagBrickGenerator;
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.model.ViewData;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CpuPlannerTest {
+
+    @Test
+    void planFollowsOnTheLiveBoard() throws Exception {
+        SimpleBoard board = new SimpleBoard(10, 25, new BagBrickGenerator(7L));
+        assertFalse(board.createNewBrick());
+        CpuPlanner planner = new CpuPlanner(Difficulty.HARD, null, 1L);
+
+        Callable<PathFollower> task = planner.prepare(board.getBoardMatrix(), board.getViewData(), List.of());
+        assertNotNull(task);
+        PathFollower follower = task.call();
+        assertNotNull(follower);
+
+        Placement target = follower.getPlacement();
+        for (int guard = 0; guard < 50; guard++) {
+            ViewData v = board.getViewData();
+            PathFollower.Action action = follower.next(v.getxPosition(), v.getyPosition(), v.getRotation());
+            if (action == PathFollower.Action.HARD_DROP) break;
+            switch (action) {
+                case LEFT: assertTrue(board.moveBrickLeft()); break;
+                case RIGHT: assertTrue(board.moveBrickRight()); break;
+                case ROTATE: assertTrue(board.rotateLeftBrick()); break;
+                case SOFT_DROP: assertTrue(board.moveBrickDown()); break;
+                default: fail("unexpected " + action);
+            }
+        }
+        board.hardDrop();
+        ViewData landed = board.getViewData();
+        assertEquals(target.getX(), landed.getxPosition());
+        assertEquals(target.getY(), landed.getyPosition());
+        assertEquals(target.getRotation(), landed.getRotation());
+    }
+
+    @Test
+    void snapshotIsIndependentOfLaterMoves() throws Exception {
+        SimpleBoard board = new SimpleBoard(10, 25, new BagBrickGenerator(11L));
+        assertFalse(board.createNewBrick());
+        CpuPlanner planner = new CpuPlanner(Difficulty.HARD, null, 1L);
+        Callable<PathFollower> task = planner.prepare(board.getBoardMatrix(), board.getViewData(), List.of());
+        Placement before = task.call().getPlacement();
+
+        // the game moves on while the planner has not run yet
+        Callable<PathFollower> again = planner.prepare(board.getBoardMatrix(), board.getViewData(), List.of());
+        board.moveBrickLeft();
+        assertEquals(before, again.call().getPlacement());
+    }
+
+    @Test
+    void pieceWithoutShapeIsNotPlanned() {
+        CpuPlanner planner = new CpuPlanner(Difficulty.EASY, null, 1L);
+        ViewData bare = new ViewData(new int[4][4], 3, 2, new int[4][4]);
+        assertNull(planner.prepare(new int[25][10], bare, List.of()));
+        assertNull(planner.prepare(new int[25][10], null, List.of()));
+    }
+
+    @Test
+    void everyDifficultyProducesALegalPath() throws Exception {
+        for (Difficulty d : Difficulty.values()) {
+            SimpleBoard board = new SimpleBoard(10, 25, new BagBrickGenerator(3L));
+            assertFalse(board.createNewBrick());
+            PathFollower f = new CpuPlanner(d, null, 5L)
+                    .prepare(board.getBoardMatrix(), board.getViewData(), List.of()).call();
+            assertNotNull(f, d.name());
+            for (EventType move : f.getPlacement().getPath()) {
+                switch (move) {
+                    case LEFT: assertTrue(board.moveBrickLeft(), d.name()); break;
+                    case RIGHT: assertTrue(board.moveBrickRight(), d.name()); break;
+                    case ROTATE: assertTrue(board.rotateLeftBrick(), d.name()); break;
+                    default: assertTrue(board.moveBrickDown(), d.name()); break;
+                }
+            }
+        }
+    }
+}
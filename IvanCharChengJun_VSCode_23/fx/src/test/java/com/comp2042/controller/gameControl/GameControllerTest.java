@@ -11,6 +11,7 @@ import com.comp2042.model.ViewData;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.BitSet;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -20,12 +21,15 @@ class GameControllerTest {
     static class StubGui extends GuiController {
         boolean gameOverCalled = false;
         MoveEvent lastEvent;
+        int fullRefreshes;
+        BitSet refreshedRows;
 
     @Override public void setEventListener(com.comp2042.input.InputEventListener listener) {}
     @Override public void initGameView(int[][] matrix, ViewData viewData) {}
     @Override public void bindScore(javafx.beans.property.IntegerProperty score) {}
     @Override public void setSwapKey(javafx.scene.input.KeyCode keyCode) {}
-    @Override public void refreshGameBackground(int[][] matrix) {}
+    @Override public void refreshGameBackground(int[][] matrix) { fullRefreshes++; }
+    @Override public void refreshGameBackground(int[][] matrix, BitSet rows) { refreshedRows = (BitSet) rows.clone(); }
     @Override public void refreshCurrentView(ViewData viewData) {}
     @Override public void showNextBricks(List<com.comp2042.logic.Brick> bricks) {}
     @Override public void gameOver() { gameOverCalled = true; }
@@ -85,4 +89,23 @@ class GameControllerTest {
     controller.onDownEvent(new MoveEvent(EventType.DOWN, EventSource.THREAD));
         assertEquals(1, captured[0]);
     }
+
+    @Test
+    void backgroundIsRepaintedOnlyWhenTheBoardChanges() {
+        StubGui gui = new StubGui();
+        GameController controller = new GameController(gui, new com.comp2042.model.SimpleBoard(10, 25));
+        MoveEvent down = new MoveEvent(EventType.DOWN, EventSource.USER);
+
+        controller.onDownEvent(down);
+        controller.onDownEvent(down);
+        controller.onDownEvent(down);
+        assertEquals(1, gui.fullRefreshes, "piece moves after the first refresh are skipped");
+        assertNull(gui.refreshedRows);
+
+        controller.onHardDropEvent(down);
+        assertNotNull(gui.refreshedRows);
+        assertFalse(gui.refreshedRows.isEmpty());
+        assertTrue(gui.refreshedRows.nextSetBit(0) >= 20, "only the rows the piece landed in");
+        assertEquals(1, gui.fullRefreshes);
+    }
 }
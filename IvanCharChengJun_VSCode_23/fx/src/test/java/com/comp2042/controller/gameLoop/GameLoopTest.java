@@ -0,0 +1,108 @@
+package com.comp2042.controller.gameLoop;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives a {@link GameLoop} by hand with synthetic pulse times; no JavaFX
+ * runtime is needed.
+ */
+class GameLoopTest {
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void drainsWholeStepsAndCarriesTheRemainder() {
+        GameLoop loop = new GameLoop(4 * MS, false);
+        loop.timer(1000, () -> { }).play();
+        assertEquals(0, loop.advance(0));
+        assertEquals(2, loop.advance(10 * MS));
+        // 2 ms left over from the first frame
+        assertEquals(1, loop.advance(12 * MS));
+        assertEquals(12 * MS, loop.getSimulatedNanos());
+    }
+
+    @Test
+    void longStallsAreCapped() {
+        GameLoop loop = new GameLoop(MS, false);
+        loop.timer(1000, () -> { }).play();
+        loop.advance(0);
+        assertEquals(GameLoop.MAX_FRAME_NANOS / MS, loop.advance(5_000 * MS));
+    }
+
+    @Test
+    void timersShareOneTimeBase() {
+        GameLoop loop = new GameLoop(MS, false);
+        List<String> fired = new ArrayList<>();
+        loop.timer(100, () -> fired.add("left")).play();
+        loop.timer(100, () -> fired.add("right")).play();
+        loop.advance(0);
+        for (long t = 1; t <= 300; t++) loop.advance(t * MS);
+        assertEquals(List.of("left", "right", "left", "right", "left", "right"), fired);
+    }
+
+    @Test
+    void idleLoopDoesNotCatchUp() {
+        GameLoop loop = new GameLoop(MS, false);
+        int[] count = {0};
+        LoopTimer timer = loop.timer(10, () -> count[0]++);
+        loop.advance(0);
+        loop.advance(1_000 * MS);
+        timer.play();
+        loop.advance(1_005 * MS);
+        assertEquals(0, count[0]);
+        loop.advance(1_015 * MS);
+        assertEquals(1, count[0]);
+    }
+
+    @Test
+    void failingTimerDoesNotStopTheOthers() {
+        GameLoop loop = new GameLoop(MS, false);
+        int[] count = {0};
+        loop.timer(1, () -> { throw new IllegalStateException("boom"); }).play();
+        loop.timer(1, () -> count[0]++).play();
+        loop.advance(0);
+        loop.advance(5 * MS);
+        assertEquals(5, count[0]);
+    }
+
+    @Test
+    void timerStoppedByAnEarlierTimerDoesNotFire() {
+        GameLoop loop = new GameLoop(MS, false);
+        int[] count = {0};
+        LoopTimer victim = loop.timer(10, () -> count[0]++);
+        loop.timer(10, victim::stop).play();
+        victim.play();
+        loop.advance(0);
+        loop.advance(10 * MS);
+        assertEquals(0, count[0]);
+        assertFalse(victim.isRunning());
+        assertEquals(1, loop.getRunningTimers());
+    }
+
+    @Test
+    void pulseListenersSeeEveryPulseWithoutKeepingTheLoopBusy() {
+        GameLoop loop = new GameLoop(MS, false);
+        List<Long> pulses = new ArrayList<>();
+        LongConsumer listener = pulses::add;
+        loop.addPulseListener(listener);
+        loop.addPulseListener(listener);
+        assertEquals(0, loop.getRunningTimers());
+
+        loop.advance(0);
+        loop.advance(16 * MS);
+        loop.removePulseListener(listener);
+        loop.advance(32 * MS);
+
+        assertEquals(List.of(0L, 16 * MS), pulses);
+    }
+
+    @Test
+    void rejectsNonPositiveStep() {
+        assertThrows(IllegalArgumentException.class, () -> new GameLoop(0, false));
+    }
+}
@@ -0,0 +1,103 @@
+package com.comp2042.controller.gameLoop;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoopTimerTest {
+    private static final long MS = 1_000_000L;
+
+    private final GameLoop loop = new GameLoop(MS, false);
+    private long now;
+    private final int[] count = {0};
+
+    private void run(long millis) {
+        for (long i = 0; i < millis; i++) {
+            now += MS;
+            loop.advance(now);
+        }
+    }
+
+    private LoopTimer started(double periodMillis) {
+        LoopTimer timer = loop.timer(periodMillis, () -> count[0]++);
+        loop.advance(now);
+        timer.play();
+        return timer;
+    }
+
+    @Test
+    void firstActionComesOnePeriodAfterPlay() {
+        started(100);
+        run(99);
+        assertEquals(0, count[0]);
+        run(1);
+        assertEquals(1, count[0]);
+        run(1000);
+        assertEquals(11, count[0]);
+    }
+
+    @Test
+    void pauseResumesExactlyWhereItLeftOff() {
+        LoopTimer timer = started(100);
+        run(60);
+        timer.pause();
+        run(5000);
+        assertEquals(0, count[0]);
+        timer.play();
+        run(39);
+        assertEquals(0, count[0]);
+        run(1);
+        assertEquals(1, count[0]);
+    }
+
+    @Test
+    void stopStartsOverFromZero() {
+        LoopTimer timer = started(100);
+        run(60);
+        timer.stop();
+        timer.play();
+        run(99);
+        assertEquals(0, count[0]);
+        run(1);
+        assertEquals(1, count[0]);
+    }
+
+    @Test
+    void rateScalesTheSpeed() {
+        LoopTimer timer = started(100);
+        timer.setRate(4.0);
+        run(400);
+        assertEquals(16, count[0]);
+        timer.setRate(1.0);
+        run(400);
+        assertEquals(20, count[0]);
+    }
+
+    @Test
+    void periodChangeKeepsProgress() {
+        LoopTimer timer = started(100);
+        run(80);
+        timer.setPeriodMillis(50);
+        run(1);
+        assertEquals(1, count[0]);
+        assertEquals(50.0, timer.getPeriodMillis());
+    }
+
+    @Test
+    void onlyRunningTimersAreHeldByTheLoop() {
+        LoopTimer timer = started(100);
+        assertEquals(1, loop.getRunningTimers());
+        timer.play();
+        assertEquals(1, loop.getRunningTimers());
+        timer.pause();
+        assertEquals(0, loop.getRunningTimers());
+    }
+
+    @Test
+    void rejectsBadArguments() {
+        LoopTimer timer = loop.timer(100, () -> { });
+        assertThrows(IllegalArgumentException.class, () -> timer.setRate(0));
+        assertThrows(IllegalArgumentException.class, () -> timer.setPeriodMillis(-1));
+        assertThrows(IllegalArgumentException.class, () -> loop.timer(0, () -> { }));
+    }
+}
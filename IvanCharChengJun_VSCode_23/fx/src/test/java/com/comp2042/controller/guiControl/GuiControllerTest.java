@@ -15,7 +15,7 @@ class GuiControllerTest {
         assertTrue(c.isMultiplayerMode());
         c.setLastWasHardDrop(true);
         assertTrue(c.isLastWasHardDrop());
-        c.setDropIntervalMs(200);
+        c.setLevel(3);
         // current score defaults to -1 when not bound
         assertTrue(c.getCurrentScore() <= 0);
     }
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import static org.junit.jupiter.api.Assertions.*;
 import javafx.scene.input.KeyCode;
+import com.comp2042.view.EffectsQuality;
 
 public class MainMenuPreferencesTest {
 
@@ -37,4 +38,18 @@ public class MainMenuPreferencesTest {
         assertEquals(0.42, loaded.settingSdf, 0.0001);
         assertEquals(false, loaded.settingHardDropEnabled);
     }
+
+    @Test
+    public void saveAndLoadEffectsQuality_roundTrip() {
+        MainMenuPreferences p = new MainMenuPreferences();
+        EffectsQuality original = p.loadEffectsQuality();
+        try {
+            p.saveEffectsQuality(EffectsQuality.MEDIUM);
+            assertEquals(EffectsQuality.MEDIUM, p.loadEffectsQuality());
+            p.saveEffectsQuality(null);
+            assertNull(p.loadEffectsQuality(), "null stands for Auto");
+        } finally {
+            p.saveEffectsQuality(original);
+        }
+    }
 }
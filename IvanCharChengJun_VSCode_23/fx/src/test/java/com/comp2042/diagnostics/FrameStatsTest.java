@@ -0,0 +1,39 @@
+package com.comp2042.diagnostics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrameStatsTest {
+
+    @Test
+    void pulsesBecomeFrameTimes() {
+        FrameStats stats = new FrameStats(4);
+        assertEquals(0, stats.getFps());
+        stats.pulse(1_000_000_000L);
+        assertEquals(0, stats.size());
+        stats.pulse(1_020_000_000L);
+        stats.pulse(1_030_000_000L);
+
+        assertEquals(2, stats.size());
+        assertEquals(15_000_000.0, stats.getMeanNanos(), 1e-6);
+        assertEquals(1e9 / 15_000_000.0, stats.getFps(), 1e-9);
+        assertEquals(20_000_000L, stats.getMaxNanos());
+        assertEquals(20_000_000L, stats.get(0));
+        assertEquals(10_000_000L, stats.get(1));
+    }
+
+    @Test
+    void ringKeepsNewestFramesInOrder() {
+        FrameStats stats = new FrameStats(3);
+        for (long f = 1; f <= 5; f++) stats.record(f);
+        assertEquals(3, stats.size());
+        assertEquals(3, stats.get(0));
+        assertEquals(5, stats.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> stats.get(3));
+
+        stats.reset();
+        assertEquals(0, stats.size());
+        assertThrows(IllegalArgumentException.class, () -> new FrameStats(0));
+    }
+}
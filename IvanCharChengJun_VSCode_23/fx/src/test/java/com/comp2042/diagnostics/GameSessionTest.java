@@ -0,0 +1,98 @@
+package com.comp2042.diagnostics;
+
+import com.comp2042.controller.gameControl.GameController;
+import com.comp2042.controller.guiControl.GuiController;
+import com.comp2042.input.EventSource;
+import com.comp2042.input.EventType;
+import com.comp2042.input.MoveEvent;
+import com.comp2042.model.SimpleBoard;
+import com.comp2042.model.ViewData;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import javax.management.MBeanServer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameSessionTest {
+
+    static class StubGui extends GuiController {
+        Boolean pausedRequest;
+
+        @Override public void setEventListener(com.comp2042.input.InputEventListener listener) {}
+        @Override public void initGameView(int[][] matrix, ViewData viewData) {}
+        @Override public void bindScore(javafx.beans.property.IntegerProperty score) {}
+        @Override public void setSwapKey(javafx.scene.input.KeyCode keyCode) {}
+        @Override public void refreshGameBackground(int[][] matrix) {}
+        @Override public void refreshCurrentView(ViewData viewData) {}
+        @Override public void showNextBricks(List<com.comp2042.logic.Brick> bricks) {}
+        @Override public void setLevel(int level) {}
+        @Override public void gameOver() {}
+        @Override public void setPaused(boolean paused) { pausedRequest = paused; }
+    }
+
+    @Test
+    void attributesReflectTheGame() {
+        StubGui gui = new StubGui();
+        GameController game = new GameController(gui, new SimpleBoard(10, 25));
+        GameSession session = new GameSession(game, gui, Runnable::run);
+
+        game.onHardDropEvent(new MoveEvent(EventType.DOWN, EventSource.USER));
+        game.onDownEvent(new MoveEvent(EventType.DOWN, EventSource.USER));
+
+        assertEquals(1, session.getPiecesLocked());
+        assertEquals(0, session.getLinesCleared());
+        assertEquals(game.getScoreProperty().get(), session.getScore());
+        assertTrue(session.getScore() > 0);
+        assertEquals(1, session.getLevel());
+        assertEquals(1, session.getMoveDownCount());
+        assertTrue(session.getMoveDownMaxMicros() >= session.getMoveDownMeanMicros());
+        assertEquals("NONE", session.getTimelineStatus());
+        assertEquals("single", session.getPlayer());
+        assertEquals(0, session.getParticleNodes());
+    }
+
+    @Test
+    void pauseAndResumeGoToTheView() {
+        StubGui gui = new StubGui();
+        GameSession session = new GameSession(new GameController(gui, new SimpleBoard(10, 25)), gui, Runnable::run);
+
+        session.pause();
+        assertEquals(Boolean.TRUE, gui.pausedRequest);
+        session.resume();
+        assertEquals(Boolean.FALSE, gui.pausedRequest);
+    }
+
+    @Test
+    void registersWithThePlatformServer() throws Exception {
+        StubGui gui = new StubGui();
+        GameSession session = new GameSession(new GameController(gui, new SimpleBoard(10, 25)), gui, Runnable::run);
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        session.register();
+        try {
+            assertTrue(server.isRegistered(session.getObjectName()));
+            assertEquals(0, server.getAttribute(session.getObjectName(), "PiecesLocked"));
+            String board = (String) server.invoke(session.getObjectName(), "dumpBoard", null, null);
+            assertTrue(board.contains("@"));
+        } finally {
+            session.unregister();
+        }
+        assertFalse(server.isRegistered(session.getObjectName()));
+        assertFalse(session.isRegistered());
+    }
+
+    @Test
+    void formatBoardOverlaysThePiece() {
+        int[][] board = new int[3][4];
+        board[2][0] = 8;
+        board[2][3] = 3;
+        ViewData piece = new ViewData(new int[][] {{1, 1}, {0, 1}}, 1, 0, new int[][] {{0}});
+
+        assertEquals(".@@.\n..@.\n8..3\n", GameSession.formatBoard(board, piece));
+        assertEquals("", GameSession.formatBoard(null, piece));
+    }
+}
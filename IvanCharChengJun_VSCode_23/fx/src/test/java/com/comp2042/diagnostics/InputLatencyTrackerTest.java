@@ -0,0 +1,36 @@
+package com.comp2042.diagnostics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InputLatencyTrackerTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void totalRunsFromPressToEndOfNextPulse() {
+        InputLatencyTracker t = new InputLatencyTracker();
+        t.refreshed(InputLatencyTracker.Action.LEFT, 100 * MS, 102 * MS);
+        t.refreshed(InputLatencyTracker.Action.ROTATE, 101 * MS, 103 * MS);
+        t.pulseCompleted(110 * MS);
+        // a second pulse without presses records nothing
+        t.pulseCompleted(126 * MS);
+
+        assertEquals(1, t.getTotal(InputLatencyTracker.Action.LEFT).getCount());
+        assertEquals(10 * MS, t.getTotal(InputLatencyTracker.Action.LEFT).getMaxNanos());
+        assertEquals(9 * MS, t.getTotal(InputLatencyTracker.Action.ROTATE).getMaxNanos());
+        assertEquals(0, t.getTotal(InputLatencyTracker.Action.HARD_DROP).getCount());
+        assertEquals(2, t.getToRefresh().getCount());
+        assertEquals(2 * MS, t.getToRefresh().getMaxNanos());
+    }
+
+    @Test
+    void unstampedMovesAreIgnored() {
+        InputLatencyTracker t = new InputLatencyTracker();
+        t.refreshed(InputLatencyTracker.Action.SOFT_DROP, 0L, 5 * MS);
+        t.pulseCompleted(6 * MS);
+        assertEquals(0, t.getToRefresh().getCount());
+        assertFalse(t.format().contains("SOFT_DROP"));
+    }
+}
@@ -0,0 +1,44 @@
+package com.comp2042.diagnostics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void percentilesRoundUpToBucketEdge() {
+        LatencyHistogram h = new LatencyHistogram();
+        assertEquals(0, h.percentileNanos(50));
+        for (int i = 1; i <= 100; i++) h.record(i * MS);
+
+        assertEquals(100, h.getCount());
+        assertEquals(50 * MS, h.percentileNanos(50));
+        assertEquals(95 * MS, h.percentileNanos(95));
+        assertEquals(99 * MS, h.percentileNanos(99));
+        assertEquals(100 * MS, h.getMaxNanos());
+        assertEquals(50.5 * MS, h.getMeanNanos(), 1.0);
+        // 1.23 ms is reported as the 1.3 ms bucket edge
+        LatencyHistogram fine = new LatencyHistogram();
+        fine.record(1_230_000L);
+        fine.record(9 * MS);
+        assertEquals(1_300_000L, fine.percentileNanos(50));
+    }
+
+    @Test
+    void overflowReportsMaximumAndResetClears() {
+        LatencyHistogram h = new LatencyHistogram();
+        h.record(2 * LatencyHistogram.RANGE_NANOS);
+        h.record(-5);
+        assertEquals(1, h.getCount());
+        assertEquals(2 * LatencyHistogram.RANGE_NANOS, h.percentileNanos(99));
+        assertThrows(IllegalArgumentException.class, () -> h.percentileNanos(101));
+
+        h.reset();
+        assertEquals(0, h.getCount());
+        assertEquals(0, h.getMaxNanos());
+        assertTrue(h.format().startsWith("n=0"));
+    }
+}
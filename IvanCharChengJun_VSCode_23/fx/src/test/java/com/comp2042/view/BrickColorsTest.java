@@ -0,0 +1,22 @@
+package com.comp2042.view;
+
+import com.comp2042.logic.BrickShape;
+
+import javafx.scene.paint.Color;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BrickColorsTest {
+
+    @Test
+    void testGetColor() {
+        assertEquals(Color.CYAN, BrickColors.of(BrickShape.I));
+        assertEquals(Color.BLUE, BrickColors.of(BrickShape.J));
+        assertEquals(Color.ORANGE, BrickColors.of(BrickShape.L));
+        assertEquals(Color.YELLOW, BrickColors.of(BrickShape.O));
+        assertEquals(Color.GREEN, BrickColors.of(BrickShape.S));
+        assertEquals(Color.PURPLE, BrickColors.of(BrickShape.T));
+        assertEquals(Color.RED, BrickColors.of(BrickShape.Z));
+    }
+}
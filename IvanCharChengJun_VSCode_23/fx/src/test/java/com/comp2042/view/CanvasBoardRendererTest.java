@@ -0,0 +1,97 @@
+package com.comp2042.view;
+
+import javafx.scene.canvas.Canvas;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Row invalidation and sizing of {@link CanvasBoardRenderer}. Drawing only
+ * records canvas commands, so no FX toolkit is needed.
+ */
+class CanvasBoardRendererTest {
+
+    private static final int[][] T = {{0, 2, 0}, {2, 2, 2}, {0, 0, 0}};
+
+    private static CanvasBoardRenderer renderer(int[][] board) {
+        CanvasBoardRenderer r = new CanvasBoardRenderer(new Canvas(), 25, 25, 1);
+        r.setBoard(board);
+        return r;
+    }
+
+    private static BitSet rows(int... rows) {
+        BitSet set = new BitSet();
+        for (int row : rows) set.set(row);
+        return set;
+    }
+
+    @Test
+    void canvasIsSizedToTheVisibleRows() {
+        CanvasBoardRenderer r = renderer(new int[22][10]);
+
+        assertEquals(10 * 25 - 1, r.getCanvas().getWidth());
+        assertEquals(20 * 25 - 1, r.getCanvas().getHeight());
+        assertEquals(22, r.dirtyRows().cardinality());
+        r.render();
+        assertTrue(r.dirtyRows().isEmpty());
+    }
+
+    @Test
+    void movingThePieceMarksOldAndNewRows() {
+        CanvasBoardRenderer r = renderer(new int[22][10]);
+        r.setPiece(T, 3, 4);
+        r.render();
+
+        r.setPiece(T, 3, 5);
+
+        assertEquals(rows(4, 5, 6, 7), r.dirtyRows());
+    }
+
+    @Test
+    void ghostAndVisibilityMarkOnlyTheirRows() {
+        CanvasBoardRenderer r = renderer(new int[22][10]);
+        r.setPiece(T, 3, 2);
+        r.setGhost(T, 3, 19);
+        r.render();
+
+        r.setGhostVisible(false);
+        assertEquals(rows(19, 20, 21), r.dirtyRows());
+        r.render();
+
+        r.setGhostVisible(false);
+        assertTrue(r.dirtyRows().isEmpty());
+
+        r.setPieceVisible(false);
+        assertEquals(rows(2, 3, 4), r.dirtyRows());
+    }
+
+    @Test
+    void codeAtReadsTheBoard() {
+        int[][] board = new int[22][10];
+        board[21][0] = 5;
+        CanvasBoardRenderer r = renderer(board);
+
+        assertEquals(5, r.codeAt(21, 0));
+        assertEquals(0, r.codeAt(21, 1));
+        assertEquals(0, r.codeAt(22, 0));
+        assertEquals(0, r.codeAt(-1, 0));
+    }
+
+    @Test
+    void changedRowsOfTheSameBoardAreAllThatIsRepainted() {
+        int[][] board = new int[22][10];
+        CanvasBoardRenderer r = renderer(board);
+        r.render();
+
+        board[21][4] = 3;
+        r.setBoard(board, rows(21));
+        assertEquals(rows(21), r.dirtyRows());
+        r.render();
+
+        r.setBoard(new int[22][10], rows(21));
+        assertEquals(22, r.dirtyRows().cardinality(), "a new matrix is repainted in full");
+    }
+}
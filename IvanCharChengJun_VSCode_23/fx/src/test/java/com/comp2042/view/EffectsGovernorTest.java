@@ -0,0 +1,114 @@
+package com.comp2042.view;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Auto quality decisions of {@link EffectsGovernor}, fed synthetic pulse
+ * timestamps.
+ */
+class EffectsGovernorTest {
+
+    private static final long MS = 1_000_000L;
+    private static final long SECOND = 1_000 * MS;
+    private static final long FAST = 16_667_000L;
+    private static final long SLOW = 30 * MS;
+
+    private long now = 1_000 * SECOND;
+
+    private static EffectsGovernor auto() {
+        EffectsGovernor g = new EffectsGovernor(false);
+        g.setPreset(null);
+        return g;
+    }
+
+    // feed frames of one length for a while and return the quality reached
+    private EffectsQuality run(EffectsGovernor g, long frameNanos, long forNanos) {
+        EffectsQuality q = g.getQuality();
+        for (long end = now + forNanos; now < end; ) {
+            now += frameNanos;
+            q = g.frame(now);
+        }
+        return q;
+    }
+
+    @Test
+    void fixedPresetIgnoresFrameTimes() {
+        EffectsGovernor g = new EffectsGovernor(false);
+        g.setPreset(EffectsQuality.LOW);
+
+        assertFalse(g.isAuto());
+        assertEquals(EffectsQuality.LOW, run(g, FAST, 30 * SECOND));
+        assertEquals("LOW", g.describe());
+    }
+
+    @Test
+    void sustainedSlowFramesStepDownOneLevelAtATime() {
+        EffectsGovernor g = auto();
+        assertEquals(EffectsQuality.HIGH, g.getQuality());
+        assertEquals("HIGH (auto)", g.describe());
+
+        assertEquals(EffectsQuality.HIGH, run(g, SLOW, 1500 * MS), "slow frames must persist before dropping");
+        assertEquals(EffectsQuality.MEDIUM, run(g, SLOW, 1 * SECOND));
+        assertEquals(EffectsQuality.LOW, run(g, SLOW, 3 * SECOND));
+        assertEquals(EffectsQuality.LOW, run(g, SLOW, 10 * SECOND));
+    }
+
+    @Test
+    void briefSpikeKeepsTheLevel() {
+        EffectsGovernor g = auto();
+        run(g, FAST, 2 * SECOND);
+
+        run(g, 40 * MS, 300 * MS);
+
+        assertEquals(EffectsQuality.HIGH, run(g, FAST, 5 * SECOND));
+    }
+
+    @Test
+    void stallsAreNotCountedAsFrames() {
+        EffectsGovernor g = auto();
+        for (int i = 0; i < 20; i++) {
+            run(g, FAST, 150 * MS);
+            now += 300 * MS;
+            g.frame(now);
+        }
+        assertEquals(EffectsQuality.HIGH, g.getQuality());
+    }
+
+    @Test
+    void framesBetweenTheThresholdsHoldTheLevel() {
+        EffectsGovernor g = auto();
+        run(g, SLOW, 2500 * MS);
+        assertEquals(EffectsQuality.MEDIUM, g.getQuality());
+
+        assertEquals(EffectsQuality.MEDIUM, run(g, 20 * MS, 60 * SECOND));
+    }
+
+    @Test
+    void recoveryWaitsLongerAndBacksOffAfterAFailedUpgrade() {
+        EffectsGovernor g = auto();
+        run(g, SLOW, 2500 * MS);
+        assertEquals(EffectsQuality.MEDIUM, g.getQuality());
+
+        assertEquals(EffectsQuality.MEDIUM, run(g, FAST, 8 * SECOND), "raising waits for the longer hold");
+        assertEquals(EffectsQuality.HIGH, run(g, FAST, 4 * SECOND));
+
+        // the raised level cannot be sustained
+        assertEquals(EffectsQuality.MEDIUM, run(g, SLOW, 2500 * MS));
+        assertEquals(2 * EffectsGovernor.UPGRADE_HOLD_NANOS, g.getUpgradeHoldNanos());
+        assertEquals(EffectsQuality.MEDIUM, run(g, FAST, 15 * SECOND));
+        assertEquals(EffectsQuality.HIGH, run(g, FAST, 10 * SECOND));
+    }
+
+    @Test
+    void choosingAutoStartsAgainFromHigh() {
+        EffectsGovernor g = new EffectsGovernor(false);
+        g.setPreset(EffectsQuality.LOW);
+
+        g.setPreset(null);
+
+        assertTrue(g.isAuto());
+        assertEquals(EffectsQuality.HIGH, g.getQuality());
+    }
+}
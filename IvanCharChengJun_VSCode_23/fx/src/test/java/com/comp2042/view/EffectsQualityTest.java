@@ -0,0 +1,39 @@
+package com.comp2042.view;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EffectsQualityTest {
+
+    @Test
+    void higherLevelsDrawMore() {
+        EffectsQuality[] all = EffectsQuality.values();
+        for (int i = 1; i < all.length; i++) {
+            assertTrue(all[i].getParticleScale() > all[i - 1].getParticleScale());
+            assertTrue(all[i].scaleCount(18) > all[i - 1].scaleCount(18));
+        }
+        assertEquals(18, EffectsQuality.HIGH.scaleCount(18));
+        assertEquals(1, EffectsQuality.LOW.scaleCount(4), "a non-zero count keeps one particle");
+        assertEquals(0, EffectsQuality.LOW.scaleCount(0));
+        assertFalse(EffectsQuality.LOW.isShadows());
+        assertFalse(EffectsQuality.MEDIUM.isAnimatedBackgrounds());
+        assertTrue(EffectsQuality.HIGH.isAnimatedBackgrounds());
+    }
+
+    @Test
+    void stepsStopAtTheEnds() {
+        assertEquals(EffectsQuality.LOW, EffectsQuality.LOW.lower());
+        assertEquals(EffectsQuality.LOW, EffectsQuality.MEDIUM.lower());
+        assertEquals(EffectsQuality.HIGH, EffectsQuality.MEDIUM.higher());
+        assertEquals(EffectsQuality.HIGH, EffectsQuality.HIGH.higher());
+    }
+
+    @Test
+    void fromNameIsLenient() {
+        assertEquals(EffectsQuality.MEDIUM, EffectsQuality.fromName(" medium "));
+        assertNull(EffectsQuality.fromName(""));
+        assertNull(EffectsQuality.fromName("ultra"));
+        assertNull(EffectsQuality.fromName(null));
+    }
+}
@@ -0,0 +1,23 @@
+package com.comp2042.view;
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GifBackgroundsTest {
+
+    @Test
+    void stillBackgroundIsTheFirstFrameAsPng() {
+        URL gif = GifBackgrounds.class.getResource("/Multiplayer.gif");
+        assertNotNull(gif);
+
+        String still = GifBackgrounds.style(gif, false);
+        String animated = GifBackgrounds.style(gif, true);
+
+        assertTrue(still.contains("url('data:image/png;base64,"), still.substring(0, Math.min(80, still.length())));
+        assertTrue(animated.contains(gif.toExternalForm()));
+        assertSame(GifBackgrounds.stillUrl(gif), GifBackgrounds.stillUrl(gif), "decoded once per resource");
+    }
+}
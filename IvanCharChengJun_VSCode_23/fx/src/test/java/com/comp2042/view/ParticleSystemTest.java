@@ -0,0 +1,108 @@
+package com.comp2042.view;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.layout.Pane;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Simulation, expiry and recycling of {@link ParticleSystem}. Systems are
+ * built unanimated and stepped by hand; drawing only records canvas
+ * commands, so no FX toolkit is needed.
+ */
+class ParticleSystemTest {
+
+    private static int spawn(ParticleSystem s, double x, double life) {
+        return s.spawn(x, 0, 0, 0, 0, 0, life, 4, 1, 0xffffffff, ParticleSystem.SQUARE);
+    }
+
+    @Test
+    void particlesMoveUnderVelocityAndGravity() {
+        ParticleSystem s = new ParticleSystem(8, null, false);
+        int i = s.spawn(10, 20, 100, 0, 200, 0, 1.0, 4, 1, 0xffffffff, ParticleSystem.SQUARE);
+
+        s.step(0.01);
+        s.step(0.01);
+
+        assertEquals(12, s.xAt(i), 1e-3);
+        assertTrue(s.yAt(i) > 20, "gravity pulls the particle down");
+    }
+
+    @Test
+    void dragSlowsParticlesDown() {
+        ParticleSystem s = new ParticleSystem(8, null, false);
+        int free = s.spawn(0, 0, 100, 0, 0, 0, 1.0, 4, 1, 0xffffffff, ParticleSystem.CIRCLE);
+        int dragged = s.spawn(0, 0, 100, 0, 0, 4, 1.0, 4, 1, 0xffffffff, ParticleSystem.CIRCLE);
+
+        for (int k = 0; k < 10; k++) s.step(0.02);
+
+        assertTrue(s.xAt(dragged) < s.xAt(free));
+    }
+
+    @Test
+    void expiredParticlesAreRetired() {
+        ParticleSystem s = new ParticleSystem(8, null, false);
+        int shortLived = spawn(s, 0, 0.1);
+        int longLived = spawn(s, 0, 1.0);
+        assertEquals(2, s.size());
+
+        for (int k = 0; k < 3; k++) s.step(0.05);
+
+        assertEquals(1, s.size());
+        assertFalse(s.aliveAt(shortLived));
+        assertTrue(s.aliveAt(longLived));
+    }
+
+    @Test
+    void largeFrameGapsAreCapped() {
+        ParticleSystem s = new ParticleSystem(8, null, false);
+        int i = s.spawn(0, 0, 100, 0, 0, 0, 1.0, 4, 1, 0xffffffff, ParticleSystem.SQUARE);
+
+        s.step(10);
+
+        assertTrue(s.aliveAt(i), "a stall must not expire every particle at once");
+        assertEquals(100 * ParticleSystem.MAX_STEP_SECONDS, s.xAt(i), 1e-3);
+    }
+
+    @Test
+    void fullSystemRecyclesTheOldestParticle() {
+        ParticleSystem s = new ParticleSystem(4, null, false);
+        int oldest = spawn(s, 1, 1.0);
+        for (int k = 2; k <= 4; k++) spawn(s, k, 1.0);
+
+        int slot = spawn(s, 5, 1.0);
+
+        assertEquals(oldest, slot);
+        assertEquals(4, s.size());
+        assertEquals(5, s.xAt(slot), 1e-6);
+    }
+
+    @Test
+    void clearRemovesEveryParticle() {
+        ParticleSystem s = new ParticleSystem(4, new Canvas(100, 100), false);
+        spawn(s, 1, 1.0);
+        spawn(s, 2, 1.0);
+        s.render();
+
+        s.clear();
+
+        assertEquals(0, s.size());
+        assertEquals(0, s.step(0.01));
+    }
+
+    @Test
+    void forPaneSharesOneCanvasPerPane() {
+        Pane pane = new Pane();
+
+        ParticleSystem s = ParticleSystem.forPane(pane);
+
+        assertSame(s, ParticleSystem.forPane(pane));
+        assertEquals(1, pane.getChildren().size());
+        assertSame(s.getCanvas(), pane.getChildren().get(0));
+        assertFalse(s.getCanvas().isManaged());
+        assertEquals(0, ParticleSystem.count(pane), "the canvas itself is not a particle");
+        assertEquals(0, ParticleSystem.count(null));
+    }
+}
@@ -0,0 +1,22 @@
+package com.comp2042.view;
+
+import com.comp2042.model.Score;
+import javafx.beans.property.IntegerProperty;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ScoreBindingTest {
+
+    @Test
+    void propertyTracksScore() {
+        Score s = new Score();
+        s.add(2);
+        IntegerProperty p = ScoreBinding.propertyOf(s);
+        assertEquals(2, p.get());
+        s.add(5);
+        assertEquals(7, p.get());
+        s.reset();
+        assertEquals(0, p.get());
+    }
+}